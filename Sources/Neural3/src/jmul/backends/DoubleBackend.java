@@ -0,0 +1,283 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.backends;
+
+
+import jmul.math.numbers.Number;
+
+import jmul.neural.GlobalSettings;
+import jmul.neural.NumberConversionHelper;
+
+
+/**
+ * An implementation of a numeric backend with double precision floating point values.
+ *
+ * @author Kristian Kutin
+ */
+public class DoubleBackend implements NumericBackend<Double> {
+
+    /**
+     * The value zero.
+     */
+    private static final Double ZERO;
+
+    /**
+     * The value one.
+     */
+    private static final Double ONE;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        ZERO = 0.0d;
+        ONE = 1.0d;
+    }
+
+    /**
+     * The default constructor.
+     */
+    public DoubleBackend() {
+
+        super();
+    }
+
+    /**
+     * Returns the value zero.
+     *
+     * @return zero
+     */
+    @Override
+    public Double zero() {
+
+        return ZERO;
+    }
+
+    /**
+     * Returns the value one.
+     *
+     * @return one
+     */
+    @Override
+    public Double one() {
+
+        return ONE;
+    }
+
+    /**
+     * Converts the specified number into a value of this backend.
+     *
+     * @param number
+     *        a number
+     *
+     * @return a value
+     */
+    @Override
+    public Double valueOf(Number number) {
+
+        return number.toPrimitiveDouble();
+    }
+
+    /**
+     * Converts the specified primitive value into a value of this backend.
+     *
+     * @param value
+     *        a primitive value
+     *
+     * @return a value
+     */
+    @Override
+    public Double valueOf(double value) {
+
+        return value;
+    }
+
+    /**
+     * Converts the specified value into a number.
+     *
+     * @param value
+     *        a value
+     *
+     * @return a number
+     */
+    @Override
+    public Number toNumber(Double value) {
+
+        return NumberConversionHelper.toNumber(GlobalSettings.DEFAULT_NUMBER_BASE, value);
+    }
+
+    /**
+     * Converts the specified value into a primitive value.
+     *
+     * @param value
+     *        a value
+     *
+     * @return a primitive value
+     */
+    @Override
+    public double toDouble(Double value) {
+
+        return value;
+    }
+
+    /**
+     * Adds the specified values.
+     *
+     * @param augend
+     *        a value
+     * @param addend
+     *        a value
+     *
+     * @return the sum
+     */
+    @Override
+    public Double add(Double augend, Double addend) {
+
+        return augend + addend;
+    }
+
+    /**
+     * Subtracts the specified values.
+     *
+     * @param minuend
+     *        a value
+     * @param subtrahend
+     *        a value
+     *
+     * @return the difference
+     */
+    @Override
+    public Double subtract(Double minuend, Double subtrahend) {
+
+        return minuend - subtrahend;
+    }
+
+    /**
+     * Multiplies the specified values.
+     *
+     * @param multiplicand
+     *        a value
+     * @param multiplier
+     *        a value
+     *
+     * @return the product
+     */
+    @Override
+    public Double multiply(Double multiplicand, Double multiplier) {
+
+        return multiplicand * multiplier;
+    }
+
+    /**
+     * Divides the specified values.
+     *
+     * @param dividend
+     *        a value
+     * @param divisor
+     *        a value
+     *
+     * @return the quotient
+     */
+    @Override
+    public Double divide(Double dividend, Double divisor) {
+
+        return dividend / divisor;
+    }
+
+    /**
+     * Compares the specified values.
+     *
+     * @param value1
+     *        a value
+     * @param value2
+     *        a value
+     *
+     * @return a negative integer, zero or a positive integer if the first value is lesser than, equal to or
+     *         greater than the second value
+     */
+    @Override
+    public int compare(Double value1, Double value2) {
+
+        return Double.compare(value1, value2);
+    }
+
+    /**
+     * Returns a hash code for this backend.
+     *
+     * @return a hash code
+     */
+    @Override
+    public int hashCode() {
+
+        return getClass().hashCode();
+    }
+
+    /**
+     * Checks if the specified object is an equivalent backend (i.e. backends which are equal share converted
+     * values, e.g. the coefficients of a polynomial function).
+     *
+     * @param o
+     *        an object
+     *
+     * @return <code>true</code> if the object is a double backend, else <code>false</code>
+     */
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+
+            return true;
+        }
+
+        if ((o == null) || (o.getClass() != getClass())) {
+
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns a string representation for this backend.
+     *
+     * @return a string representation
+     */
+    @Override
+    public String toString() {
+
+        return "double";
+    }
+
+}
@@ -0,0 +1,316 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.backends;
+
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import jmul.math.numbers.Number;
+
+import jmul.neural.GlobalSettings;
+import jmul.neural.NumberConversionHelper;
+
+
+/**
+ * An implementation of a numeric backend with fixed point values. A value is stored as long value which is scaled by
+ * 2<sup>fraction bits</sup>.
+ *
+ * @author Kristian Kutin
+ */
+public class FixedPointBackend implements NumericBackend<Long> {
+
+    /**
+     * The number of fraction bits.
+     */
+    private final int fractionBits;
+
+    /**
+     * The scale (i.e. the value one).
+     */
+    private final long scale;
+
+    /**
+     * A bit mask for the fraction part.
+     */
+    private final long fractionMask;
+
+    /**
+     * Creates a new backend according to the specified parameters.
+     *
+     * @param fractionBits
+     *        the number of fraction bits
+     */
+    public FixedPointBackend(int fractionBits) {
+
+        super();
+
+        if ((fractionBits < 1) || (fractionBits > 62)) {
+
+            throw new IllegalArgumentException("No valid number of fraction bits (x < 1 or x > 62) was specified!");
+        }
+
+        this.fractionBits = fractionBits;
+        this.scale = 1L << fractionBits;
+        this.fractionMask = scale - 1L;
+    }
+
+    /**
+     * Returns the number of fraction bits.
+     *
+     * @return the number of fraction bits
+     */
+    public int fractionBits() {
+
+        return fractionBits;
+    }
+
+    /**
+     * Returns the value zero.
+     *
+     * @return zero
+     */
+    @Override
+    public Long zero() {
+
+        return 0L;
+    }
+
+    /**
+     * Returns the value one.
+     *
+     * @return one
+     */
+    @Override
+    public Long one() {
+
+        return scale;
+    }
+
+    /**
+     * Converts the specified number into a value of this backend.
+     *
+     * @param number
+     *        a number
+     *
+     * @return a value
+     */
+    @Override
+    public Long valueOf(Number number) {
+
+        return valueOf(number.toPrimitiveDouble());
+    }
+
+    /**
+     * Converts the specified primitive value into a value of this backend.
+     *
+     * @param value
+     *        a primitive value
+     *
+     * @return a value
+     */
+    @Override
+    public Long valueOf(double value) {
+
+        return Math.round(value * scale);
+    }
+
+    /**
+     * Converts the specified value into a number.
+     *
+     * @param value
+     *        a value
+     *
+     * @return a number
+     */
+    @Override
+    public Number toNumber(Long value) {
+
+        BigDecimal decimalValue = new BigDecimal(value).divide(new BigDecimal(scale));
+
+        return NumberConversionHelper.toNumber(GlobalSettings.DEFAULT_NUMBER_BASE, decimalValue);
+    }
+
+    /**
+     * Converts the specified value into a primitive value.
+     *
+     * @param value
+     *        a value
+     *
+     * @return a primitive value
+     */
+    @Override
+    public double toDouble(Long value) {
+
+        return (double) value / scale;
+    }
+
+    /**
+     * Adds the specified values.
+     *
+     * @param augend
+     *        a value
+     * @param addend
+     *        a value
+     *
+     * @return the sum
+     */
+    @Override
+    public Long add(Long augend, Long addend) {
+
+        return augend + addend;
+    }
+
+    /**
+     * Subtracts the specified values.
+     *
+     * @param minuend
+     *        a value
+     * @param subtrahend
+     *        a value
+     *
+     * @return the difference
+     */
+    @Override
+    public Long subtract(Long minuend, Long subtrahend) {
+
+        return minuend - subtrahend;
+    }
+
+    /**
+     * Multiplies the specified values. The multiplicand is split into an integer part and a fraction part in order
+     * to avoid an overflow of the intermediate product.
+     *
+     * @param multiplicand
+     *        a value
+     * @param multiplier
+     *        a value
+     *
+     * @return the product
+     */
+    @Override
+    public Long multiply(Long multiplicand, Long multiplier) {
+
+        long integerPart = multiplicand >> fractionBits;
+        long fractionPart = multiplicand & fractionMask;
+
+        return (integerPart * multiplier) + ((fractionPart * multiplier) >> fractionBits);
+    }
+
+    /**
+     * Divides the specified values.
+     *
+     * @param dividend
+     *        a value
+     * @param divisor
+     *        a value
+     *
+     * @return the quotient
+     */
+    @Override
+    public Long divide(Long dividend, Long divisor) {
+
+        BigInteger result = BigInteger.valueOf(dividend)
+                                      .shiftLeft(fractionBits)
+                                      .divide(BigInteger.valueOf(divisor));
+
+        return result.longValue();
+    }
+
+    /**
+     * Compares the specified values.
+     *
+     * @param value1
+     *        a value
+     * @param value2
+     *        a value
+     *
+     * @return a negative integer, zero or a positive integer if the first value is lesser than, equal to or
+     *         greater than the second value
+     */
+    @Override
+    public int compare(Long value1, Long value2) {
+
+        return Long.compare(value1, value2);
+    }
+
+    /**
+     * Returns a hash code for this backend.
+     *
+     * @return a hash code
+     */
+    @Override
+    public int hashCode() {
+
+        return fractionBits;
+    }
+
+    /**
+     * Checks if the specified object is an equivalent backend (i.e. backends which are equal share converted
+     * values, e.g. the coefficients of a polynomial function).
+     *
+     * @param o
+     *        an object
+     *
+     * @return <code>true</code> if the object is a fixed point backend with the same number of fraction bits, else
+     *         <code>false</code>
+     */
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+
+            return true;
+        }
+
+        if ((o == null) || (o.getClass() != getClass())) {
+
+            return false;
+        }
+
+        return (fractionBits == ((FixedPointBackend) o).fractionBits);
+    }
+
+    /**
+     * Returns a string representation for this backend.
+     *
+     * @return a string representation
+     */
+    @Override
+    public String toString() {
+
+        return String.format("fixed point (%d fraction bits)", fractionBits);
+    }
+
+}
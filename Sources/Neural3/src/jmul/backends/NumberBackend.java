@@ -0,0 +1,312 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.backends;
+
+
+import jmul.math.numbers.Number;
+import static jmul.math.numbers.NumberHelper.createNumber;
+
+import jmul.neural.NumberConversionHelper;
+
+
+/**
+ * An implementation of a numeric backend with arbitrary precision numbers.
+ *
+ * @author Kristian Kutin
+ */
+public class NumberBackend implements NumericBackend<Number> {
+
+    /**
+     * The number base.
+     */
+    private final int base;
+
+    /**
+     * The value zero.
+     */
+    private final Number zero;
+
+    /**
+     * The value one.
+     */
+    private final Number one;
+
+    /**
+     * Creates a new backend according to the specified parameters.
+     *
+     * @param base
+     *        a number base
+     */
+    public NumberBackend(int base) {
+
+        super();
+
+        this.base = base;
+        this.zero = createNumber(base, "0");
+        this.one = createNumber(base, "1");
+    }
+
+    /**
+     * Returns the number base of this backend.
+     *
+     * @return a number base
+     */
+    public int base() {
+
+        return base;
+    }
+
+    /**
+     * Returns the value zero.
+     *
+     * @return zero
+     */
+    @Override
+    public Number zero() {
+
+        return zero;
+    }
+
+    /**
+     * Returns the value one.
+     *
+     * @return one
+     */
+    @Override
+    public Number one() {
+
+        return one;
+    }
+
+    /**
+     * Converts the specified number into a value of this backend.
+     *
+     * @param number
+     *        a number
+     *
+     * @return a value
+     */
+    @Override
+    public Number valueOf(Number number) {
+
+        if (number.base() == base) {
+
+            return number;
+        }
+
+        return number.rebase(base);
+    }
+
+    /**
+     * Converts the specified primitive value into a value of this backend.
+     *
+     * @param value
+     *        a primitive value
+     *
+     * @return a value
+     */
+    @Override
+    public Number valueOf(double value) {
+
+        return NumberConversionHelper.toNumber(base, value);
+    }
+
+    /**
+     * Converts the specified value into a number.
+     *
+     * @param value
+     *        a value
+     *
+     * @return a number
+     */
+    @Override
+    public Number toNumber(Number value) {
+
+        return value;
+    }
+
+    /**
+     * Converts the specified value into a primitive value.
+     *
+     * @param value
+     *        a value
+     *
+     * @return a primitive value
+     */
+    @Override
+    public double toDouble(Number value) {
+
+        return value.toPrimitiveDouble();
+    }
+
+    /**
+     * Adds the specified values.
+     *
+     * @param augend
+     *        a value
+     * @param addend
+     *        a value
+     *
+     * @return the sum
+     */
+    @Override
+    public Number add(Number augend, Number addend) {
+
+        return augend.add(addend);
+    }
+
+    /**
+     * Subtracts the specified values.
+     *
+     * @param minuend
+     *        a value
+     * @param subtrahend
+     *        a value
+     *
+     * @return the difference
+     */
+    @Override
+    public Number subtract(Number minuend, Number subtrahend) {
+
+        return minuend.subtract(subtrahend);
+    }
+
+    /**
+     * Multiplies the specified values.
+     *
+     * @param multiplicand
+     *        a value
+     * @param multiplier
+     *        a value
+     *
+     * @return the product
+     */
+    @Override
+    public Number multiply(Number multiplicand, Number multiplier) {
+
+        return multiplicand.multiply(multiplier);
+    }
+
+    /**
+     * Divides the specified values.
+     *
+     * @param dividend
+     *        a value
+     * @param divisor
+     *        a value
+     *
+     * @return the quotient
+     */
+    @Override
+    public Number divide(Number dividend, Number divisor) {
+
+        return dividend.divide(divisor);
+    }
+
+    /**
+     * Compares the specified values.
+     *
+     * @param value1
+     *        a value
+     * @param value2
+     *        a value
+     *
+     * @return a negative integer, zero or a positive integer if the first value is lesser than, equal to or
+     *         greater than the second value
+     */
+    @Override
+    public int compare(Number value1, Number value2) {
+
+        if (value1.isLesser(value2)) {
+
+            return -1;
+        }
+
+        if (value1.isGreater(value2)) {
+
+            return 1;
+        }
+
+        return 0;
+    }
+
+    /**
+     * Returns a hash code for this backend.
+     *
+     * @return a hash code
+     */
+    @Override
+    public int hashCode() {
+
+        return base;
+    }
+
+    /**
+     * Checks if the specified object is an equivalent backend (i.e. backends which are equal share converted
+     * values, e.g. the coefficients of a polynomial function).
+     *
+     * @param o
+     *        an object
+     *
+     * @return <code>true</code> if the object is a number backend with the same number base, else
+     *         <code>false</code>
+     */
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+
+            return true;
+        }
+
+        if ((o == null) || (o.getClass() != getClass())) {
+
+            return false;
+        }
+
+        return (base == ((NumberBackend) o).base);
+    }
+
+    /**
+     * Returns a string representation for this backend.
+     *
+     * @return a string representation
+     */
+    @Override
+    public String toString() {
+
+        return String.format("number (base %d)", base);
+    }
+
+}
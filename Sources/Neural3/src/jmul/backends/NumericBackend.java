@@ -0,0 +1,170 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.backends;
+
+
+import jmul.math.numbers.Number;
+
+
+/**
+ * This interface describes a numeric backend (i.e. the representation of values and the arithmetic which is used
+ * to evaluate functions and neural networks).<br>
+ * <br>
+ * Functions cache values which are converted for a backend and use the backend as key. An implementation which is
+ * instantiated repeatedly should therefore define {@link Object#equals(Object)} and {@link Object#hashCode()} by its
+ * configuration, otherwise every instance adds cache entries.
+ *
+ * @author Kristian Kutin
+ *
+ * @param <T>
+ *        the value type of this backend
+ */
+public interface NumericBackend<T> {
+
+    /**
+     * Returns the value zero.
+     *
+     * @return zero
+     */
+    T zero();
+
+    /**
+     * Returns the value one.
+     *
+     * @return one
+     */
+    T one();
+
+    /**
+     * Converts the specified number into a value of this backend.
+     *
+     * @param number
+     *        a number
+     *
+     * @return a value
+     */
+    T valueOf(Number number);
+
+    /**
+     * Converts the specified primitive value into a value of this backend.
+     *
+     * @param value
+     *        a primitive value
+     *
+     * @return a value
+     */
+    T valueOf(double value);
+
+    /**
+     * Converts the specified value into a number.
+     *
+     * @param value
+     *        a value
+     *
+     * @return a number
+     */
+    Number toNumber(T value);
+
+    /**
+     * Converts the specified value into a primitive value.
+     *
+     * @param value
+     *        a value
+     *
+     * @return a primitive value
+     */
+    double toDouble(T value);
+
+    /**
+     * Adds the specified values.
+     *
+     * @param augend
+     *        a value
+     * @param addend
+     *        a value
+     *
+     * @return the sum
+     */
+    T add(T augend, T addend);
+
+    /**
+     * Subtracts the specified values.
+     *
+     * @param minuend
+     *        a value
+     * @param subtrahend
+     *        a value
+     *
+     * @return the difference
+     */
+    T subtract(T minuend, T subtrahend);
+
+    /**
+     * Multiplies the specified values.
+     *
+     * @param multiplicand
+     *        a value
+     * @param multiplier
+     *        a value
+     *
+     * @return the product
+     */
+    T multiply(T multiplicand, T multiplier);
+
+    /**
+     * Divides the specified values.
+     *
+     * @param dividend
+     *        a value
+     * @param divisor
+     *        a value
+     *
+     * @return the quotient
+     */
+    T divide(T dividend, T divisor);
+
+    /**
+     * Compares the specified values.
+     *
+     * @param value1
+     *        a value
+     * @param value2
+     *        a value
+     *
+     * @return a negative integer, zero or a positive integer if the first value is lesser than, equal to or
+     *         greater than the second value
+     */
+    int compare(T value1, T value2);
+
+}
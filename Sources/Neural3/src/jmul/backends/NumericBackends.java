@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.backends;
+
+
+import jmul.math.numbers.Number;
+
+import jmul.neural.GlobalSettings;
+
+
+/**
+ * A central class which contains the default numeric backends.
+ *
+ * @author Kristian Kutin
+ */
+public final class NumericBackends {
+
+    /**
+     * A backend with arbitrary precision numbers (default number base).
+     */
+    public static final NumericBackend<Number> NUMBER;
+
+    /**
+     * A backend with double precision floating point values.
+     */
+    public static final NumericBackend<Double> DOUBLE;
+
+    /**
+     * A backend with single precision floating point values.
+     */
+    public static final NumericBackend<Float> FLOAT;
+
+    /**
+     * A backend with fixed point values (default number of fraction bits).
+     */
+    public static final NumericBackend<Long> FIXED_POINT;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        NUMBER = new NumberBackend(GlobalSettings.DEFAULT_NUMBER_BASE);
+        DOUBLE = new DoubleBackend();
+        FLOAT = new FloatBackend();
+        FIXED_POINT = new FixedPointBackend(GlobalSettings.DEFAULT_FRACTION_BITS);
+    }
+
+    /**
+     * The default constructor.
+     */
+    private NumericBackends() {
+
+        throw new UnsupportedOperationException();
+    }
+
+}
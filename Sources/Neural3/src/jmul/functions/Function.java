@@ -34,6 +34,8 @@
 package jmul.functions;
 
 
+import jmul.backends.NumericBackend;
+
 import jmul.math.numbers.Number;
 
 
@@ -54,6 +56,30 @@ public interface Function {
      */
     Number calculate(Number number);
 
+    /**
+     * Calculates the output value for the specified primitive value.
+     *
+     * @param number
+     *        a value
+     *
+     * @return an output value
+     */
+    double calculate(double number);
+
+    /**
+     * Calculates the output value with the specified numeric backend.
+     *
+     * @param <T>
+     *        the value type of the numeric backend
+     * @param backend
+     *        a numeric backend
+     * @param value
+     *        a value
+     *
+     * @return an output value
+     */
+    <T> T calculate(NumericBackend<T> backend, T value);
+
     /**
      * Returns the derivative function for this function.
      *
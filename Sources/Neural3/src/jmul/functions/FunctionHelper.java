@@ -37,6 +37,7 @@ package jmul.functions;
 import jmul.functions.conditions.ConditionFunctionEntry;
 import jmul.functions.conditions.GreaterOrEqualCondition;
 import jmul.functions.conditions.LesserThanCondition;
+import jmul.functions.conditions.RangeCondition;
 
 import jmul.math.Math;
 import jmul.math.numbers.Number;
@@ -147,6 +148,16 @@ public final class FunctionHelper {
         return new PolynomialFunctionImpl(coefficients);
     }
 
+    /**
+     * Creates the hyperbolic tangent f(x) = tanh(x).
+     *
+     * @return a function
+     */
+    public static Function createHyperbolicTangentFunction() {
+
+        return new HyperbolicTangentFunctionImpl(0.0d, 1.0d);
+    }
+
     /**
      * Creates a threshold function according to the specified parameters.
      *
@@ -165,6 +176,59 @@ public final class FunctionHelper {
         return new ThresholdFunctionImpl(entries);
     }
 
+    /**
+     * Creates a piecewise function according to the specified parameters. The function at index 0 is used for all
+     * values lesser than the first breakpoint, the function at index i is used for all values between breakpoint i - 1
+     * (inclusive) and breakpoint i (exclusive) and the last function is used for all values greater or equal the last
+     * breakpoint.
+     *
+     * @param breakpoints
+     *        all breakpoints in ascending order
+     * @param functions
+     *        all functions (i.e. one function more than breakpoints)
+     *
+     * @return a piecewise function
+     */
+    public static Function createPiecewiseFunction(Number[] breakpoints, Function... functions) {
+
+        if (breakpoints == null) {
+
+            throw new IllegalArgumentException("No breakpoints (null) were specified!");
+        }
+
+        if (functions == null) {
+
+            throw new IllegalArgumentException("No functions (null) were specified!");
+        }
+
+        if (functions.length != breakpoints.length + 1) {
+
+            throw new IllegalArgumentException("The number of functions (" + functions.length +
+                                               ") doesn't match the number of breakpoints (" + breakpoints.length +
+                                               ")!");
+        }
+
+        if (breakpoints.length == 0) {
+
+            return functions[0];
+        }
+
+        int last = breakpoints.length;
+        ConditionFunctionEntry[] entries = new ConditionFunctionEntry[functions.length];
+
+        entries[0] = new ConditionFunctionEntry(new LesserThanCondition(breakpoints[0]), functions[0]);
+
+        for (int index = 1; index < last; index++) {
+
+            RangeCondition condition = new RangeCondition(breakpoints[index - 1], breakpoints[index]);
+            entries[index] = new ConditionFunctionEntry(condition, functions[index]);
+        }
+
+        entries[last] = new ConditionFunctionEntry(new GreaterOrEqualCondition(breakpoints[last - 1]), functions[last]);
+
+        return new ThresholdFunctionImpl(entries);
+    }
+
     /**
      * Creates a threshold function with two functions.
      *
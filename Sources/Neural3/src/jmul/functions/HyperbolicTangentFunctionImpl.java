@@ -0,0 +1,228 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.functions;
+
+
+import jmul.backends.NumericBackend;
+
+import jmul.math.numbers.Number;
+
+import jmul.neural.NumberConversionHelper;
+
+
+/**
+ * An implementation of a function f(x) = c<sub>n</sub> * t<sup>n</sup> + ... + c<sub>1</sub> * t + c<sub>0</sub> with
+ * t = tanh(x), i.e. a polynomial of the hyperbolic tangent. The hyperbolic tangent itself is the polynomial with the
+ * coefficients 0 and 1. Since tanh'(x) = 1 - tanh(x)<sup>2</sup> every derivative is again a polynomial of the
+ * hyperbolic tangent. The function is evaluated with primitive values.
+ *
+ * @author Kristian Kutin
+ */
+public final class HyperbolicTangentFunctionImpl implements Function {
+
+    /**
+     * All coefficients of the polynomial (in ascending order c<sub>0</sub>, c<sub>1</sub>, c<sub>2</sub>, ...,
+     * c<sub>n</sub>).
+     */
+    private final double[] coefficients;
+
+    /**
+     * The derivative function (lazily created).
+     */
+    private volatile Function derivativeFunction;
+
+    /**
+     * Creates a new instance according to the specified parameters.
+     *
+     * @param coefficients
+     *        all coefficients of the polynomial (in ascending order c<sub>0</sub>, c<sub>1</sub>, c<sub>2</sub>, ...,
+     *        c<sub>n</sub>)
+     */
+    HyperbolicTangentFunctionImpl(double... coefficients) {
+
+        super();
+
+        if (coefficients == null) {
+
+            throw new IllegalArgumentException("No coefficients (null) were specified!");
+        }
+
+        this.coefficients = coefficients.clone();
+        this.derivativeFunction = null;
+    }
+
+    /**
+     * Evaluate the function.
+     *
+     * @param number
+     *        the input value
+     *
+     * @return the output value
+     */
+    @Override
+    public Number calculate(Number number) {
+
+        return NumberConversionHelper.toNumber(number.base(), calculate(number.toPrimitiveDouble()));
+    }
+
+    /**
+     * Evaluate the function for the specified primitive value (see Horner's method).
+     *
+     * @param number
+     *        the input value
+     *
+     * @return the output value
+     */
+    @Override
+    public double calculate(double number) {
+
+        if (coefficients.length == 0) {
+
+            return 0.0d;
+        }
+
+        double t = Math.tanh(number);
+        double sum = coefficients[coefficients.length - 1];
+
+        for (int index = coefficients.length - 2; index >= 0; index--) {
+
+            sum = sum * t + coefficients[index];
+        }
+
+        return sum;
+    }
+
+    /**
+     * Evaluate the function with the specified numeric backend.
+     *
+     * @param <T>
+     *        the value type of the numeric backend
+     * @param backend
+     *        a numeric backend
+     * @param value
+     *        the input value
+     *
+     * @return the output value
+     */
+    @Override
+    public <T> T calculate(NumericBackend<T> backend, T value) {
+
+        return backend.valueOf(calculate(backend.toDouble(value)));
+    }
+
+    /**
+     * Returns the derivative function for this function.
+     *
+     * @return a derivative function
+     */
+    @Override
+    public Function derivativeFunction() {
+
+        Function function = derivativeFunction;
+
+        if (function == null) {
+
+            function = createDerivativeFunction();
+            derivativeFunction = function;
+        }
+
+        return function;
+    }
+
+    /**
+     * Creates the derivative function for this function, i.e. f'(x) = p'(t) * (1 - t<sup>2</sup>).
+     *
+     * @return a derivative function
+     */
+    private Function createDerivativeFunction() {
+
+        int degree = coefficients.length - 1;
+
+        if (degree < 1) {
+
+            return new HyperbolicTangentFunctionImpl();
+        }
+
+        double[] newCoefficients = new double[degree + 2];
+
+        for (int index = 1; index <= degree; index++) {
+
+            double coefficient = coefficients[index] * index;
+
+            newCoefficients[index - 1] += coefficient;
+            newCoefficients[index + 1] -= coefficient;
+        }
+
+        return new HyperbolicTangentFunctionImpl(newCoefficients);
+    }
+
+    /**
+     * Returns a string representation for this function.
+     *
+     * @return a string representation
+     */
+    @Override
+    public String toString() {
+
+        if (coefficients.length == 0) {
+
+            return "f(x) = 0";
+        }
+
+        StringBuilder buffer = new StringBuilder();
+
+        buffer.append("f(x) = ");
+
+        for (int index = coefficients.length - 1; index >= 0; index--) {
+
+            buffer.append(coefficients[index]);
+
+            if (index > 0) {
+
+                buffer.append(" * tanh(x)");
+
+                if (index > 1) {
+
+                    buffer.append("^");
+                    buffer.append(index);
+                }
+
+                buffer.append(" + ");
+            }
+        }
+
+        return buffer.toString();
+    }
+
+}
@@ -49,4 +49,15 @@ public class MissingConditionCaseException extends RuntimeException {
         super("A condition case is missing!");
     }
 
+    /**
+     * Creates a new exception according to the specified parameters.
+     *
+     * @param message
+     *        a message which describes the missing condition case
+     */
+    public MissingConditionCaseException(String message) {
+
+        super(message);
+    }
+
 }
@@ -38,6 +38,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jmul.backends.NumericBackend;
 
 import jmul.math.numbers.Number;
 import static jmul.math.numbers.NumberHelper.createNumber;
@@ -53,6 +57,19 @@ import jmul.neural.GlobalSettings;
  */
 public class PolynomialFunctionImpl implements Function {
 
+    /**
+     * The value of a function without coefficients.
+     */
+    private static final Number ZERO;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        ZERO = createNumber(GlobalSettings.DEFAULT_NUMBER_BASE, "0");
+    }
+
     /**
      * All coefficients of the function. The index position determines the position within the formula (see class
      * description; in ascending order c<sub>0</sub>, c<sub>1</sub>, c<sub>2</sub>, ..., c<sub>n</sub>).
@@ -61,6 +78,32 @@ public class PolynomialFunctionImpl implements Function {
      */
     private final List<Number> coefficients;
 
+    /**
+     * All coefficients of the function as primitive values (same order as {@link #coefficients}).
+     */
+    private final double[] primitiveCoefficients;
+
+    /**
+     * All coefficients of the function converted for a specific numeric backend (i.e. backend -&gt; coefficients).
+     * Equal backends share an entry (see {@link NumericBackend}).
+     */
+    private final Map<NumericBackend<?>, Object[]> convertedCoefficients;
+
+    /**
+     * Flags which coefficients are zero (same order as {@link #coefficients}). Adding a zero coefficient is skipped.
+     */
+    private final boolean[] zeroCoefficients;
+
+    /**
+     * Flags if the coefficient with the highest exponent is one. Multiplying with this coefficient is skipped.
+     */
+    private final boolean leadingOne;
+
+    /**
+     * The derivative function (lazily created).
+     */
+    private volatile Function derivativeFunction;
+
     /**
      * Creates a new instance according to the specified parameters.
      *
@@ -78,6 +121,11 @@ public class PolynomialFunctionImpl implements Function {
         }
 
         this.coefficients = Collections.unmodifiableList(Arrays.asList(coefficients));
+        this.primitiveCoefficients = toPrimitiveCoefficients(this.coefficients);
+        this.convertedCoefficients = new ConcurrentHashMap<>();
+        this.zeroCoefficients = toZeroFlags(this.coefficients);
+        this.leadingOne = isLeadingOne(this.coefficients);
+        this.derivativeFunction = null;
     }
 
     /**
@@ -89,10 +137,77 @@ public class PolynomialFunctionImpl implements Function {
     private PolynomialFunctionImpl(List<Number> coefficients) {
 
         this.coefficients = coefficients;
+        this.primitiveCoefficients = toPrimitiveCoefficients(coefficients);
+        this.convertedCoefficients = new ConcurrentHashMap<>();
+        this.zeroCoefficients = toZeroFlags(coefficients);
+        this.leadingOne = isLeadingOne(coefficients);
+        this.derivativeFunction = null;
+    }
+
+    /**
+     * Converts the specified coefficients into primitive values.
+     *
+     * @param coefficients
+     *        all coefficients
+     *
+     * @return all coefficients as primitive values
+     */
+    private static double[] toPrimitiveCoefficients(List<Number> coefficients) {
+
+        double[] result = new double[coefficients.size()];
+
+        for (int index = 0; index < result.length; index++) {
+
+            result[index] = coefficients.get(index).toPrimitiveDouble();
+        }
+
+        return result;
+    }
+
+    /**
+     * Determines which of the specified coefficients are zero.
+     *
+     * @param coefficients
+     *        all coefficients
+     *
+     * @return a flag for each coefficient
+     */
+    private static boolean[] toZeroFlags(List<Number> coefficients) {
+
+        boolean[] result = new boolean[coefficients.size()];
+
+        for (int index = 0; index < result.length; index++) {
+
+            result[index] = coefficients.get(index).isZero();
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks if the coefficient with the highest exponent is one.
+     *
+     * @param coefficients
+     *        all coefficients
+     *
+     * @return <code>true</code> if the coefficient with the highest exponent is one, else <code>false</code>
+     */
+    private static boolean isLeadingOne(List<Number> coefficients) {
+
+        if (coefficients.isEmpty()) {
+
+            return false;
+        }
+
+        Number leadingCoefficient = coefficients.get(coefficients.size() - 1);
+        Number one = createNumber(leadingCoefficient.base(), "1");
+
+        return leadingCoefficient.equals(one);
     }
 
     /**
-     * Evaluate the function.
+     * Evaluate the function (see Horner's method). A polynomial of degree n is evaluated with at most n
+     * multiplications.
      *
      * @param number
      *        the input value
@@ -102,28 +217,129 @@ public class PolynomialFunctionImpl implements Function {
     @Override
     public Number calculate(Number number) {
 
-        final Number ZERO = createNumber(GlobalSettings.DEFAULT_NUMBER_BASE, "0");
-        final Number ONE = createNumber(GlobalSettings.DEFAULT_NUMBER_BASE, "1");
+        int degree = coefficients.size() - 1;
 
-        Number sum = ZERO;
+        if (degree < 0) {
 
-        for (int index = 0; index < coefficients.size(); index++) {
+            return ZERO;
+        }
 
-            Number coefficient = coefficients.get(index);
+        if (degree == 0) {
+
+            return coefficients.get(0);
+        }
+
+        Number sum;
+
+        if (leadingOne) {
+
+            sum = number;
+
+        } else {
+
+            sum = coefficients.get(degree).multiply(number);
+        }
+
+        for (int index = degree - 1; index >= 0; index--) {
 
-            Number x = ONE;
-            for (int exponent = 1; exponent <= index; exponent++) {
+            if (!zeroCoefficients[index]) {
 
-                x = x.multiply(number);
+                sum = sum.add(coefficients.get(index));
             }
 
-            Number term = coefficient.multiply(x);
-            sum = sum.add(term);
+            if (index > 0) {
+
+                sum = sum.multiply(number);
+            }
+        }
+
+        return sum;
+    }
+
+    /**
+     * Evaluate the function for the specified primitive value (see Horner's method).
+     *
+     * @param number
+     *        the input value
+     *
+     * @return the output value
+     */
+    @Override
+    public double calculate(double number) {
+
+        if (primitiveCoefficients.length == 0) {
+
+            return 0.0d;
+        }
+
+        double sum = primitiveCoefficients[primitiveCoefficients.length - 1];
+
+        for (int index = primitiveCoefficients.length - 2; index >= 0; index--) {
+
+            sum = sum * number + primitiveCoefficients[index];
+        }
+
+        return sum;
+    }
+
+    /**
+     * Evaluate the function with the specified numeric backend (see Horner's method).
+     *
+     * @param <T>
+     *        the value type of the numeric backend
+     * @param backend
+     *        a numeric backend
+     * @param value
+     *        the input value
+     *
+     * @return the output value
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T calculate(NumericBackend<T> backend, T value) {
+
+        Object[] converted = convertedCoefficients.computeIfAbsent(backend, this::convertCoefficients);
+
+        if (converted.length == 0) {
+
+            return backend.zero();
+        }
+
+        T sum = (T) converted[converted.length - 1];
+
+        for (int index = converted.length - 2; index >= 0; index--) {
+
+            sum = backend.multiply(sum, value);
+
+            if (!zeroCoefficients[index]) {
+
+                sum = backend.add(sum, (T) converted[index]);
+            }
         }
 
         return sum;
     }
 
+    /**
+     * Converts all coefficients for the specified numeric backend.
+     *
+     * @param backend
+     *        a numeric backend
+     *
+     * @return all converted coefficients
+     */
+    private Object[] convertCoefficients(NumericBackend<?> backend) {
+
+        Object[] result = new Object[coefficients.size()];
+
+        for (int index = 0; index < result.length; index++) {
+
+            result[index] = backend.valueOf(coefficients.get(index));
+        }
+
+        return result;
+    }
+
     /**
      * Returns the derivative function for this function.
      *
@@ -132,6 +348,24 @@ public class PolynomialFunctionImpl implements Function {
     @Override
     public Function derivativeFunction() {
 
+        Function function = derivativeFunction;
+
+        if (function == null) {
+
+            function = createDerivativeFunction();
+            derivativeFunction = function;
+        }
+
+        return function;
+    }
+
+    /**
+     * Creates the derivative function for this function.
+     *
+     * @return a derivative function
+     */
+    private Function createDerivativeFunction() {
+
         List<Number> newCoefficients = new ArrayList<>();
 
         for (int index = 1; index < coefficients.size(); index++) {
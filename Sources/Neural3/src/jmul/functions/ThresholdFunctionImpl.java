@@ -34,34 +34,67 @@
 package jmul.functions;
 
 
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jmul.backends.NumericBackend;
 
 import jmul.functions.conditions.Condition;
 import jmul.functions.conditions.ConditionFunctionEntry;
+import jmul.functions.conditions.IntervalCondition;
 
 import jmul.math.numbers.Number;
 
 
 /**
- * Implements a function with a threshold (i.e. function1 &lt; threshold &lt;= function2).
+ * Implements a piecewise function (e.g. function1 for x &lt; threshold and function2 for threshold &lt;= x). Every
+ * piece is defined by an interval condition. The pieces are sorted by their lower bound when the function is
+ * created, i.e. the piece for an input value is found with a binary search over all breakpoints.
  *
  * @author Kristian Kutin
  */
 public class ThresholdFunctionImpl implements Function {
 
     /**
-     * A map containing all functions and conditions.
+     * All entries (i.e. pieces) sorted by their lower bound.
+     */
+    private final ConditionFunctionEntry[] entries;
+
+    /**
+     * The functions of all pieces (same order as {@link #entries}).
+     */
+    private final Function[] functions;
+
+    /**
+     * All breakpoints in ascending order. The breakpoint at index i is the lower bound of the piece at index i + 1.
+     */
+    private final Number[] breakpoints;
+
+    /**
+     * All breakpoints as primitive values (same order as {@link #breakpoints}).
      */
-    private Map<Condition<Number>, Function> functionMap;
+    private final double[] primitiveBreakpoints;
 
     /**
-     * Creates a new threshold function.
+     * All breakpoints converted for a specific numeric backend (i.e. backend -&gt; breakpoints). Equal backends share
+     * an entry (see {@link NumericBackend}).
+     */
+    private final Map<NumericBackend<?>, Object[]> convertedBreakpoints;
+
+    /**
+     * The derivative function (lazily created).
+     */
+    private volatile Function derivativeFunction;
+
+    /**
+     * Creates a new threshold function. The intervals of all conditions must not overlap and must cover all values.
      *
      * @param entries
      *        all condition-&gt;function entries
      */
-     ThresholdFunctionImpl(ConditionFunctionEntry... entries) {
+    ThresholdFunctionImpl(ConditionFunctionEntry... entries) {
 
         super();
 
@@ -70,14 +103,270 @@ public class ThresholdFunctionImpl implements Function {
             throw new IllegalArgumentException("No entries (null) were specified!");
         }
 
-        this.functionMap = new HashMap<>();
+        if (entries.length == 0) {
 
-        for (ConditionFunctionEntry entry : entries) {
+            throw new MissingConditionCaseException("No condition cases were specified!");
+        }
+
+        this.entries = sortEntries(entries);
+        checkIntervals(this.entries);
+
+        int length = this.entries.length;
+
+        this.functions = new Function[length];
+        this.breakpoints = new Number[length - 1];
+        this.primitiveBreakpoints = new double[length - 1];
+        this.convertedBreakpoints = new ConcurrentHashMap<>();
+        this.derivativeFunction = null;
+
+        for (int index = 0; index < length; index++) {
+
+            functions[index] = this.entries[index].function;
+
+            if (index > 0) {
+
+                Number breakpoint = interval(this.entries[index]).lowerBound();
+
+                breakpoints[index - 1] = breakpoint;
+                primitiveBreakpoints[index - 1] = breakpoint.toPrimitiveDouble();
+            }
+        }
+    }
+
+    /**
+     * Returns the interval condition of the specified entry.
+     *
+     * @param entry
+     *        an entry
+     *
+     * @return an interval condition
+     */
+    private static IntervalCondition interval(ConditionFunctionEntry entry) {
+
+        Condition<Number> condition = entry.condition;
+
+        if (condition instanceof IntervalCondition) {
+
+            return (IntervalCondition) condition;
+        }
+
+        throw new IllegalArgumentException("The condition \"" + condition + "\" doesn't describe an interval!");
+    }
+
+    /**
+     * Sorts the specified entries by the lower bound of their intervals. An interval without lower bound comes first.
+     *
+     * @param entries
+     *        all entries
+     *
+     * @return all entries in ascending order
+     */
+    private static ConditionFunctionEntry[] sortEntries(ConditionFunctionEntry[] entries) {
 
-            functionMap.put(entry.condition, entry.function);
+        ConditionFunctionEntry[] sortedEntries = entries.clone();
+
+        for (ConditionFunctionEntry entry : sortedEntries) {
+
+            if (entry == null) {
+
+                throw new IllegalArgumentException("No entry (null) was specified!");
+            }
+
+            interval(entry);
+        }
+
+        Comparator<ConditionFunctionEntry> comparator = (entry1, entry2) -> {
+
+            Number bound1 = interval(entry1).lowerBound();
+            Number bound2 = interval(entry2).lowerBound();
+
+            if (bound1 == null) {
+
+                return (bound2 == null) ? 0 : -1;
+            }
+
+            if (bound2 == null) {
+
+                return 1;
+            }
+
+            if (bound1.isLesser(bound2)) {
+
+                return -1;
+            }
+
+            return bound1.isGreater(bound2) ? 1 : 0;
+        };
+
+        Arrays.sort(sortedEntries, comparator);
+
+        return sortedEntries;
+    }
+
+    /**
+     * Checks that the intervals of the specified entries cover all values and don't overlap.
+     *
+     * @param sortedEntries
+     *        all entries sorted by their lower bound
+     */
+    private static void checkIntervals(ConditionFunctionEntry[] sortedEntries) {
+
+        IntervalCondition first = interval(sortedEntries[0]);
+
+        if (first.lowerBound() != null) {
+
+            throw new MissingConditionCaseException("No condition covers values lesser than " + first.lowerBound() +
+                                                    "!");
+        }
+
+        for (int index = 1; index < sortedEntries.length; index++) {
+
+            IntervalCondition previous = interval(sortedEntries[index - 1]);
+            IntervalCondition current = interval(sortedEntries[index]);
+
+            Number upperBound = previous.upperBound();
+            Number lowerBound = current.lowerBound();
+
+            if ((upperBound == null) || (lowerBound == null) || upperBound.isGreater(lowerBound)) {
+
+                throw new IllegalArgumentException("The conditions \"" + previous + "\" and \"" + current +
+                                                   "\" overlap!");
+            }
+
+            if (upperBound.isLesser(lowerBound)) {
+
+                throw new MissingConditionCaseException("No condition covers values between " + upperBound +
+                                                        " and " + lowerBound + "!");
+            }
+        }
+
+        IntervalCondition last = interval(sortedEntries[sortedEntries.length - 1]);
+
+        if (last.upperBound() != null) {
+
+            throw new MissingConditionCaseException("No condition covers values greater or equal " +
+                                                    last.upperBound() + "!");
         }
     }
 
+    /**
+     * Determines the index of the piece which contains the specified value (i.e. the number of breakpoints which
+     * are lesser or equal the specified value).
+     *
+     * @param number
+     *        a value
+     *
+     * @return an index
+     */
+    private int indexOf(Number number) {
+
+        int low = 0;
+        int high = breakpoints.length;
+
+        while (low < high) {
+
+            int middle = (low + high) >>> 1;
+
+            if (breakpoints[middle].isLesserOrEqual(number)) {
+
+                low = middle + 1;
+
+            } else {
+
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Determines the index of the piece which contains the specified primitive value.
+     *
+     * @param number
+     *        a value
+     *
+     * @return an index
+     */
+    private int indexOf(double number) {
+
+        int low = 0;
+        int high = primitiveBreakpoints.length;
+
+        while (low < high) {
+
+            int middle = (low + high) >>> 1;
+
+            if (primitiveBreakpoints[middle] <= number) {
+
+                low = middle + 1;
+
+            } else {
+
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Determines the index of the piece which contains the specified value of a numeric backend.
+     *
+     * @param <T>
+     *        the value type of the numeric backend
+     * @param backend
+     *        a numeric backend
+     * @param value
+     *        a value
+     *
+     * @return an index
+     */
+    @SuppressWarnings("unchecked")
+    private <T> int indexOf(NumericBackend<T> backend, T value) {
+
+        Object[] converted = convertedBreakpoints.computeIfAbsent(backend, this::convertBreakpoints);
+
+        int low = 0;
+        int high = converted.length;
+
+        while (low < high) {
+
+            int middle = (low + high) >>> 1;
+
+            if (backend.compare((T) converted[middle], value) <= 0) {
+
+                low = middle + 1;
+
+            } else {
+
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Converts all breakpoints for the specified numeric backend.
+     *
+     * @param backend
+     *        a numeric backend
+     *
+     * @return all converted breakpoints
+     */
+    private Object[] convertBreakpoints(NumericBackend<?> backend) {
+
+        Object[] result = new Object[breakpoints.length];
+
+        for (int index = 0; index < result.length; index++) {
+
+            result[index] = backend.valueOf(breakpoints[index]);
+        }
+
+        return result;
+    }
+
     /**
      * Calculates the output value.
      *
@@ -89,18 +378,44 @@ public class ThresholdFunctionImpl implements Function {
     @Override
     public Number calculate(Number number) {
 
-        for (Map.Entry<Condition<Number>, Function> entry : functionMap.entrySet()) {
+        if (number == null) {
 
-            Condition<Number> condition = entry.getKey();
-            Function function = entry.getValue();
+            throw new IllegalArgumentException("No number (null) was specified!");
+        }
 
-            if (condition.meetsCondition(number)) {
+        return functions[indexOf(number)].calculate(number);
+    }
 
-                return function.calculate(number);
-            }
-        }
+    /**
+     * Calculates the output value for the specified primitive value.
+     *
+     * @param number
+     *        a value
+     *
+     * @return an output value
+     */
+    @Override
+    public double calculate(double number) {
+
+        return functions[indexOf(number)].calculate(number);
+    }
+
+    /**
+     * Calculates the output value with the specified numeric backend.
+     *
+     * @param <T>
+     *        the value type of the numeric backend
+     * @param backend
+     *        a numeric backend
+     * @param value
+     *        a value
+     *
+     * @return an output value
+     */
+    @Override
+    public <T> T calculate(NumericBackend<T> backend, T value) {
 
-        throw new MissingConditionCaseException();
+        return functions[indexOf(backend, value)].calculate(backend, value);
     }
 
     /**
@@ -111,20 +426,24 @@ public class ThresholdFunctionImpl implements Function {
     @Override
     public Function derivativeFunction() {
 
-        int length = functionMap.size();
-        ConditionFunctionEntry[] entries = new ConditionFunctionEntry[length];
+        Function function = derivativeFunction;
 
-        int index = 0;
-        for (Map.Entry<Condition<Number>, Function> entry : functionMap.entrySet()) {
+        if (function == null) {
 
-            Condition<Number> condition = entry.getKey();
-            Function function = entry.getValue();
+            ConditionFunctionEntry[] derivativeEntries = new ConditionFunctionEntry[entries.length];
 
-            entries[index] = new ConditionFunctionEntry(condition, function.derivativeFunction());
-            index++;
+            for (int index = 0; index < entries.length; index++) {
+
+                ConditionFunctionEntry entry = entries[index];
+                derivativeEntries[index] =
+                    new ConditionFunctionEntry(entry.condition, entry.function.derivativeFunction());
+            }
+
+            function = new ThresholdFunctionImpl(derivativeEntries);
+            derivativeFunction = function;
         }
 
-        return new ThresholdFunctionImpl(entries);
+        return function;
     }
 
     /**
@@ -140,7 +459,7 @@ public class ThresholdFunctionImpl implements Function {
         buffer.append("f(x) = { ");
 
         boolean first = true;
-        for (Map.Entry<Condition<Number>, Function> entry : functionMap.entrySet()) {
+        for (ConditionFunctionEntry entry : entries) {
 
             if (first) {
 
@@ -151,12 +470,9 @@ public class ThresholdFunctionImpl implements Function {
                 buffer.append("; ");
             }
 
-            Condition<Number> condition = entry.getKey();
-            Function function = entry.getValue();
-
-            buffer.append(condition);
+            buffer.append(entry.condition);
             buffer.append(" : ");
-            buffer.append(function);
+            buffer.append(entry.function);
         }
 
         buffer.append(" }");
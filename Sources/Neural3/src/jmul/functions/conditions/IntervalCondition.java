@@ -0,0 +1,62 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.functions.conditions;
+
+
+import jmul.math.numbers.Number;
+
+
+/**
+ * This interface describes a condition which is met by all values within an interval. The lower bound belongs to
+ * the interval, the upper bound doesn't (i.e. lower bound &lt;= x &lt; upper bound).
+ *
+ * @author Kristian Kutin
+ */
+public interface IntervalCondition extends NumberCondition {
+
+    /**
+     * Returns the lower bound of the interval.
+     *
+     * @return a lower bound or <code>null</code> if the interval has no lower bound
+     */
+    Number lowerBound();
+
+    /**
+     * Returns the upper bound of the interval.
+     *
+     * @return an upper bound or <code>null</code> if the interval has no upper bound
+     */
+    Number upperBound();
+
+}
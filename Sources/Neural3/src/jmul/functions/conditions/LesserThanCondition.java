@@ -34,6 +34,8 @@
 package jmul.functions.conditions;
 
 
+import jmul.backends.NumericBackend;
+
 import jmul.math.numbers.Number;
 
 
@@ -55,6 +57,28 @@ public class LesserThanCondition extends ThresholdConditionBase {
         super(threshold);
     }
 
+    /**
+     * Returns the lower bound of the interval.
+     *
+     * @return a lower bound or <code>null</code> if the interval has no lower bound
+     */
+    @Override
+    public Number lowerBound() {
+
+        return null;
+    }
+
+    /**
+     * Returns the upper bound of the interval.
+     *
+     * @return an upper bound
+     */
+    @Override
+    public Number upperBound() {
+
+        return threshold;
+    }
+
     /**
      * Checks if the specified parameter is lesser than the threshold.
      *
@@ -74,6 +98,38 @@ public class LesserThanCondition extends ThresholdConditionBase {
         return number.isLesser(threshold);
     }
 
+    /**
+     * Checks if the specified primitive value is lesser than the threshold.
+     *
+     * @param value
+     *        a primitive value
+     *
+     * @return <code>true</code> if the specified value is lesser than the threshold, else <code>false</code>
+     */
+    @Override
+    public boolean meetsCondition(double value) {
+
+        return value < primitiveThreshold;
+    }
+
+    /**
+     * Checks if the specified value of a numeric backend is lesser than the threshold.
+     *
+     * @param <T>
+     *        the value type of the numeric backend
+     * @param backend
+     *        a numeric backend
+     * @param value
+     *        a value
+     *
+     * @return <code>true</code> if the specified value is lesser than the threshold, else <code>false</code>
+     */
+    @Override
+    public <T> boolean meetsCondition(NumericBackend<T> backend, T value) {
+
+        return backend.compare(value, threshold(backend)) < 0;
+    }
+
     /**
      * Returns a string representation for this condition.
      *
@@ -0,0 +1,74 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.functions.conditions;
+
+
+import jmul.backends.NumericBackend;
+
+import jmul.math.numbers.Number;
+
+
+/**
+ * This interface describes a condition on numbers which can also be checked against primitive values and values of
+ * a numeric backend.
+ *
+ * @author Kristian Kutin
+ */
+public interface NumberCondition extends Condition<Number> {
+
+    /**
+     * Checks if the specified primitive value meets the required condition.
+     *
+     * @param value
+     *        a primitive value
+     *
+     * @return <code>true</code> if the specified value meets the required condition, else <code>false</code>
+     */
+    boolean meetsCondition(double value);
+
+    /**
+     * Checks if the specified value of a numeric backend meets the required condition.
+     *
+     * @param <T>
+     *        the value type of the numeric backend
+     * @param backend
+     *        a numeric backend
+     * @param value
+     *        a value
+     *
+     * @return <code>true</code> if the specified value meets the required condition, else <code>false</code>
+     */
+    <T> boolean meetsCondition(NumericBackend<T> backend, T value);
+
+}
@@ -0,0 +1,202 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.functions.conditions;
+
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jmul.backends.NumericBackend;
+
+import jmul.math.numbers.Number;
+
+
+/**
+ * An implementation of a condition that checks that a number is within a range (i.e. lower bound &lt;= x &lt; upper
+ * bound).
+ *
+ * @author Kristian Kutin
+ */
+public class RangeCondition implements IntervalCondition {
+
+    /**
+     * The lower bound.
+     */
+    private final Number lowerBound;
+
+    /**
+     * The upper bound.
+     */
+    private final Number upperBound;
+
+    /**
+     * The lower bound as primitive value.
+     */
+    private final double primitiveLowerBound;
+
+    /**
+     * The upper bound as primitive value.
+     */
+    private final double primitiveUpperBound;
+
+    /**
+     * The bounds converted for a specific numeric backend (i.e. backend -&gt; lower bound and upper bound). Equal
+     * backends share an entry (see {@link NumericBackend}).
+     */
+    private final Map<NumericBackend<?>, Object[]> convertedBounds;
+
+    /**
+     * Creates a new condition according to the specified parameters.
+     *
+     * @param lowerBound
+     *        a lower bound
+     * @param upperBound
+     *        an upper bound
+     */
+    public RangeCondition(Number lowerBound, Number upperBound) {
+
+        super();
+
+        if (lowerBound == null) {
+
+            throw new IllegalArgumentException("No lower bound (null) was specified!");
+        }
+
+        if (upperBound == null) {
+
+            throw new IllegalArgumentException("No upper bound (null) was specified!");
+        }
+
+        if (!lowerBound.isLesser(upperBound)) {
+
+            throw new IllegalArgumentException("The lower bound (" + lowerBound +
+                                               ") has to be lesser than the upper bound (" + upperBound + ")!");
+        }
+
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+        this.primitiveLowerBound = lowerBound.toPrimitiveDouble();
+        this.primitiveUpperBound = upperBound.toPrimitiveDouble();
+        this.convertedBounds = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the lower bound of the interval.
+     *
+     * @return a lower bound
+     */
+    @Override
+    public Number lowerBound() {
+
+        return lowerBound;
+    }
+
+    /**
+     * Returns the upper bound of the interval.
+     *
+     * @return an upper bound
+     */
+    @Override
+    public Number upperBound() {
+
+        return upperBound;
+    }
+
+    /**
+     * Checks if the specified parameter is within the range.
+     *
+     * @param number
+     *        a parameter
+     *
+     * @return <code>true</code> if the specified parameter is within the range, else <code>false</code>
+     */
+    @Override
+    public boolean meetsCondition(Number number) {
+
+        if (number == null) {
+
+            throw new IllegalArgumentException("No number (null) was specified!");
+        }
+
+        return number.isGreaterOrEqual(lowerBound) && number.isLesser(upperBound);
+    }
+
+    /**
+     * Checks if the specified primitive value is within the range.
+     *
+     * @param value
+     *        a primitive value
+     *
+     * @return <code>true</code> if the specified value is within the range, else <code>false</code>
+     */
+    @Override
+    public boolean meetsCondition(double value) {
+
+        return (value >= primitiveLowerBound) && (value < primitiveUpperBound);
+    }
+
+    /**
+     * Checks if the specified value of a numeric backend is within the range.
+     *
+     * @param <T>
+     *        the value type of the numeric backend
+     * @param backend
+     *        a numeric backend
+     * @param value
+     *        a value
+     *
+     * @return <code>true</code> if the specified value is within the range, else <code>false</code>
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> boolean meetsCondition(NumericBackend<T> backend, T value) {
+
+        Object[] bounds = convertedBounds.computeIfAbsent(backend, b -> new Object[] {
+                                                          b.valueOf(lowerBound), b.valueOf(upperBound) });
+
+        return (backend.compare(value, (T) bounds[0]) >= 0) && (backend.compare(value, (T) bounds[1]) < 0);
+    }
+
+    /**
+     * Returns a string representation for this condition.
+     *
+     * @return a string representation
+     */
+    @Override
+    public String toString() {
+
+        return String.format("%s <= x < %s", lowerBound, upperBound);
+    }
+
+}
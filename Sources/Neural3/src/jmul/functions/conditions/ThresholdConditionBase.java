@@ -34,6 +34,11 @@
 package jmul.functions.conditions;
 
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jmul.backends.NumericBackend;
+
 import jmul.math.numbers.Number;
 
 
@@ -42,13 +47,24 @@ import jmul.math.numbers.Number;
  *
  * @author Kristian Kutin
  */
-abstract class ThresholdConditionBase implements Condition<Number> {
+abstract class ThresholdConditionBase implements IntervalCondition {
 
     /**
      * A threshold.
      */
     protected final Number threshold;
 
+    /**
+     * The threshold as primitive value.
+     */
+    protected final double primitiveThreshold;
+
+    /**
+     * The threshold converted for a specific numeric backend (i.e. backend -&gt; threshold). Equal backends share an
+     * entry (see {@link NumericBackend}).
+     */
+    private final Map<NumericBackend<?>, Object> convertedThresholds;
+
     /**
      * Creates a new condition according to the specified parmaeter.
      *
@@ -65,6 +81,24 @@ abstract class ThresholdConditionBase implements Condition<Number> {
         }
 
         this.threshold = threshold;
+        this.primitiveThreshold = threshold.toPrimitiveDouble();
+        this.convertedThresholds = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the threshold converted for the specified numeric backend.
+     *
+     * @param <T>
+     *        the value type of the numeric backend
+     * @param backend
+     *        a numeric backend
+     *
+     * @return a threshold
+     */
+    @SuppressWarnings("unchecked")
+    protected <T> T threshold(NumericBackend<T> backend) {
+
+        return (T) convertedThresholds.computeIfAbsent(backend, b -> b.valueOf(threshold));
     }
 
 }
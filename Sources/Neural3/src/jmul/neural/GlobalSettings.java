@@ -51,6 +51,16 @@ public final class GlobalSettings {
      */
     public static final long DEFAULT_SLEEP_TIME;
 
+    /**
+     * The default number of fraction bits for fixed point values.
+     */
+    public static final int DEFAULT_FRACTION_BITS;
+
+    /**
+     * The default time budget for training a network in milliseconds.
+     */
+    public static final long DEFAULT_TRAINING_TIME_BUDGET;
+
     /*
      * The static initializer.
      */
@@ -58,6 +68,8 @@ public final class GlobalSettings {
 
         DEFAULT_NUMBER_BASE = 10;
         DEFAULT_SLEEP_TIME = 10L;
+        DEFAULT_FRACTION_BITS = 24;
+        DEFAULT_TRAINING_TIME_BUDGET = 60000L;
     }
 
     /**
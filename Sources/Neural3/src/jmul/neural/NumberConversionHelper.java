@@ -0,0 +1,146 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural;
+
+
+import java.math.BigDecimal;
+
+import jmul.math.numbers.Number;
+import static jmul.math.numbers.NumberHelper.createInfinity;
+import static jmul.math.numbers.NumberHelper.createNegativeInfinity;
+import static jmul.math.numbers.NumberHelper.createNumber;
+
+
+/**
+ * A utility class for converting primitive values into numbers.
+ *
+ * @author Kristian Kutin
+ */
+public final class NumberConversionHelper {
+
+    /**
+     * The base of the number strings which are created for the conversion.
+     */
+    private static final int DECIMAL_BASE;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        DECIMAL_BASE = 10;
+    }
+
+    /**
+     * The default constructor.
+     */
+    private NumberConversionHelper() {
+
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Converts the specified primitive value into a number with the default number base.
+     *
+     * @param value
+     *        a primitive value
+     *
+     * @return a number
+     */
+    public static Number toNumber(double value) {
+
+        return toNumber(GlobalSettings.DEFAULT_NUMBER_BASE, value);
+    }
+
+    /**
+     * Converts the specified primitive value into a number with the specified number base. The number parser
+     * doesn't accept the scientific notation which is produced by {@link Double#toString(double)}, thus the
+     * value is converted into a plain decimal string first.
+     *
+     * @param base
+     *        a number base
+     * @param value
+     *        a primitive value
+     *
+     * @return a number
+     */
+    public static Number toNumber(int base, double value) {
+
+        if (Double.isNaN(value)) {
+
+            throw new IllegalArgumentException("No valid value (NaN) was specified!");
+        }
+
+        if (value == Double.POSITIVE_INFINITY) {
+
+            return createInfinity(base);
+        }
+
+        if (value == Double.NEGATIVE_INFINITY) {
+
+            return createNegativeInfinity(base);
+        }
+
+        return toNumber(base, BigDecimal.valueOf(value));
+    }
+
+    /**
+     * Converts the specified decimal value into a number with the specified number base.
+     *
+     * @param base
+     *        a number base
+     * @param value
+     *        a decimal value
+     *
+     * @return a number
+     */
+    public static Number toNumber(int base, BigDecimal value) {
+
+        if (value == null) {
+
+            throw new IllegalArgumentException("No value (null) was specified!");
+        }
+
+        String numberString = value.stripTrailingZeros().toPlainString();
+        Number number = createNumber(DECIMAL_BASE, numberString);
+
+        if (base != DECIMAL_BASE) {
+
+            number = number.rebase(base);
+        }
+
+        return number;
+    }
+
+}
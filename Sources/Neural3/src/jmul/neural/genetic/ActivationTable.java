@@ -0,0 +1,246 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.genetic;
+
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import jmul.functions.Function;
+import jmul.functions.FunctionHelper;
+
+
+/**
+ * A table of activation functions which are referenced by an id (see {@link Genome}). A genome stores one short id
+ * per neuron instead of a reference to a function object and all genomes of a population share the functions of
+ * one table. New random functions are added until the table is full, afterwards a random existing function is
+ * reused (see {@link #randomId()}), i.e. the number of function objects of a population is bounded.<br>
+ * <br>
+ * Functions are never removed, i.e. an id remains valid as long as the table exists. The table may be used
+ * concurrently.
+ *
+ * @author Kristian Kutin
+ */
+public final class ActivationTable {
+
+    /**
+     * The default capacity of a table.
+     */
+    public static final int DEFAULT_CAPACITY;
+
+    /**
+     * The maximum capacity of a table (i.e. the number of distinct short ids).
+     */
+    public static final int MAX_CAPACITY;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        DEFAULT_CAPACITY = 256;
+        MAX_CAPACITY = Short.MAX_VALUE + 1;
+    }
+
+    /**
+     * All functions (the index is the id).
+     */
+    private final Function[] functions;
+
+    /**
+     * The ids of all functions (guarded by this table).
+     */
+    private final Map<Function, Short> ids;
+
+    /**
+     * The number of functions. A function is stored before the size is increased, i.e. a reader never sees an
+     * empty slot.
+     */
+    private volatile int size;
+
+    /**
+     * Creates a new table with the default capacity.
+     */
+    public ActivationTable() {
+
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new table with the specified capacity.
+     *
+     * @param capacity
+     *        the maximum number of functions
+     */
+    public ActivationTable(int capacity) {
+
+        super();
+
+        if ((capacity < 1) || (capacity > MAX_CAPACITY)) {
+
+            String message =
+                String.format("An invalid capacity (x < 1 or x > %d) was specified (%d)!", MAX_CAPACITY, capacity);
+            throw new IllegalArgumentException(message);
+        }
+
+        this.functions = new Function[capacity];
+        this.ids = new IdentityHashMap<>();
+        this.size = 0;
+    }
+
+    /**
+     * Returns the id of the specified function. A function which isn't part of the table yet is added. Functions
+     * are compared by identity.
+     *
+     * @param function
+     *        an activation function
+     *
+     * @return an id
+     */
+    public synchronized short register(Function function) {
+
+        if (function == null) {
+
+            throw new IllegalArgumentException("No activation function (null) was specified!");
+        }
+
+        Short id = ids.get(function);
+
+        if (id != null) {
+
+            return id;
+        }
+
+        if (size == functions.length) {
+
+            throw new IllegalStateException("The activation table is full (" + functions.length + ")!");
+        }
+
+        return add(function);
+    }
+
+    /**
+     * Returns the id of a random activation function. A new random function (see
+     * {@link FunctionHelper#randomActivationFunction()}) is added as long as the table isn't full, afterwards a
+     * random existing function is chosen.
+     *
+     * @return an id
+     */
+    public short randomId() {
+
+        if (size < functions.length) {
+
+            Function function = FunctionHelper.randomActivationFunction();
+
+            synchronized (this) {
+
+                if (size < functions.length) {
+
+                    return add(function);
+                }
+            }
+        }
+
+        return (short) (Math.random() * functions.length);
+    }
+
+    /**
+     * Adds the specified function. The caller has to hold the lock of this table.
+     *
+     * @param function
+     *        an activation function
+     *
+     * @return the id of the function
+     */
+    private short add(Function function) {
+
+        short id = (short) size;
+
+        functions[id] = function;
+        ids.put(function, id);
+        size = id + 1;
+
+        return id;
+    }
+
+    /**
+     * Returns the function with the specified id.
+     *
+     * @param id
+     *        an id (see {@link #register(Function)} and {@link #randomId()})
+     *
+     * @return an activation function
+     */
+    public Function function(short id) {
+
+        if ((id < 0) || (id >= size)) {
+
+            throw new IllegalArgumentException("An unknown id was specified (" + id + ")!");
+        }
+
+        return functions[id];
+    }
+
+    /**
+     * Returns the number of functions.
+     *
+     * @return the number of functions
+     */
+    public int size() {
+
+        return size;
+    }
+
+    /**
+     * Returns the maximum number of functions.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+
+        return functions.length;
+    }
+
+    /**
+     * Returns a string representation of this table.
+     *
+     * @return a string representation
+     */
+    @Override
+    public String toString() {
+
+        return String.format("activation table %d/%d", size, functions.length);
+    }
+
+}
@@ -0,0 +1,266 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.genetic;
+
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+import jmul.data.DataEntry;
+import jmul.data.TrainingData;
+
+
+/**
+ * The order in which a racing evaluation (see {@link RacingEvaluator}) processes the entries of a set of training
+ * data. Entries with a high mean relative deviation come first, since they expose weak individuals early. Initially
+ * the entries are ordered by ascending absolute expected output (i.e. the relative deviation of these entries tends
+ * to be high). The order is updated periodically with the deviations which were observed so far. Entries which
+ * haven't been observed yet come first. The order can be used concurrently.
+ *
+ * @author Kristian Kutin
+ */
+final class EntryOrder {
+
+    /**
+     * All entries.
+     */
+    private final DataEntry[] entries;
+
+    /**
+     * The primitive inputs of all entries.
+     */
+    private final double[] inputs;
+
+    /**
+     * The primitive expected outputs of all entries.
+     */
+    private final double[] expectedOutputs;
+
+    /**
+     * The sum of the observed relative deviations per entry.
+     */
+    private final DoubleAdder[] deviations;
+
+    /**
+     * The number of observations per entry.
+     */
+    private final LongAdder[] observations;
+
+    /**
+     * The number of evaluations between two updates of the order.
+     */
+    private final int updateInterval;
+
+    /**
+     * The number of evaluations since the last update of the order.
+     */
+    private final AtomicInteger evaluations;
+
+    /**
+     * The indices of all entries in processing order. A new array is published on every update.
+     */
+    private volatile int[] order;
+
+    /**
+     * Creates a new order for the specified training data.
+     *
+     * @param trainingData
+     *        a set of training data
+     */
+    EntryOrder(TrainingData trainingData) {
+
+        super();
+
+        entries = new DataEntry[trainingData.size()];
+        inputs = new double[entries.length];
+        expectedOutputs = new double[entries.length];
+        deviations = new DoubleAdder[entries.length];
+        observations = new LongAdder[entries.length];
+
+        int index = 0;
+        for (DataEntry entry : trainingData) {
+
+            entries[index] = entry;
+            inputs[index] = entry.input.toPrimitiveDouble();
+            expectedOutputs[index] = entry.expectedOutput.toPrimitiveDouble();
+            deviations[index] = new DoubleAdder();
+            observations[index] = new LongAdder();
+            index++;
+        }
+
+        updateInterval = Math.max(entries.length, 16);
+        evaluations = new AtomicInteger();
+        double[] keys = new double[entries.length];
+        for (index = 0; index < keys.length; index++) {
+
+            keys[index] = Math.abs(expectedOutputs[index]);
+        }
+
+        order = sortedIndices(keys);
+    }
+
+    /**
+     * Returns the number of entries.
+     *
+     * @return the number of entries
+     */
+    int size() {
+
+        return entries.length;
+    }
+
+    /**
+     * Returns the indices of all entries in processing order. The array must not be modified.
+     *
+     * @return entry indices
+     */
+    int[] order() {
+
+        return order;
+    }
+
+    /**
+     * Returns the specified entry.
+     *
+     * @param index
+     *        the index of an entry
+     *
+     * @return an entry
+     */
+    DataEntry entry(int index) {
+
+        return entries[index];
+    }
+
+    /**
+     * Returns the primitive input of the specified entry.
+     *
+     * @param index
+     *        the index of an entry
+     *
+     * @return an input
+     */
+    double input(int index) {
+
+        return inputs[index];
+    }
+
+    /**
+     * Records the output of a network for the specified entry.
+     *
+     * @param index
+     *        the index of an entry
+     * @param output
+     *        the output of a network
+     *
+     * @return the relative deviation of the output
+     */
+    double record(int index, double output) {
+
+        double expectedOutput = expectedOutputs[index];
+        double deviation = Math.abs(expectedOutput - output) / Math.abs(expectedOutput);
+
+        deviations[index].add(deviation);
+        observations[index].increment();
+
+        return deviation;
+    }
+
+    /**
+     * Marks the end of an evaluation. The order is updated after a number of evaluations.
+     */
+    void evaluationFinished() {
+
+        // only the thread which completes an interval updates the order
+        int count = evaluations.getAndUpdate(previous -> (previous + 1) % updateInterval);
+
+        if (count == updateInterval - 1) {
+
+            // the deviations are updated concurrently, i.e. the sort keys are a snapshot
+            double[] keys = new double[entries.length];
+            for (int index = 0; index < keys.length; index++) {
+
+                keys[index] = -meanDeviation(index);
+            }
+
+            order = sortedIndices(keys);
+        }
+    }
+
+    /**
+     * Returns the mean relative deviation of the specified entry.
+     *
+     * @param index
+     *        the index of an entry
+     *
+     * @return a mean deviation (i.e. infinity if the entry hasn't been observed yet)
+     */
+    private double meanDeviation(int index) {
+
+        long count = observations[index].sum();
+
+        return (count == 0L) ? Double.POSITIVE_INFINITY : deviations[index].sum() / count;
+    }
+
+    /**
+     * Sorts the indices of all entries by ascending sort key.
+     *
+     * @param keys
+     *        the sort keys of all entries (i.e. they must not change while sorting)
+     *
+     * @return sorted entry indices
+     */
+    private int[] sortedIndices(double[] keys) {
+
+        Integer[] indices = new Integer[entries.length];
+        for (int index = 0; index < indices.length; index++) {
+
+            indices[index] = index;
+        }
+
+        Arrays.sort(indices, Comparator.comparingDouble(index -> keys[index]));
+
+        int[] result = new int[indices.length];
+        for (int index = 0; index < result.length; index++) {
+
+            result[index] = indices[index];
+        }
+
+        return result;
+    }
+
+}
@@ -0,0 +1,274 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.genetic;
+
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+
+/**
+ * A bounded cache for scores (i.e. the least recently used score is evicted if the cache is full). The cache can be
+ * used concurrently. If two threads look up the same missing key at the same time both calculate the score.
+ *
+ * @param <K>
+ *        the type of the keys
+ *
+ * @author Kristian Kutin
+ */
+public final class FitnessCache<K> {
+
+    /**
+     * The maximum number of scores.
+     */
+    private final int capacity;
+
+    /**
+     * All cached scores (in access order).
+     */
+    private final Map<K, Integer> scores;
+
+    /**
+     * The number of lookups which found a score.
+     */
+    private final LongAdder hits;
+
+    /**
+     * The number of lookups which didn't find a score.
+     */
+    private final LongAdder misses;
+
+    /**
+     * The number of evicted scores.
+     */
+    private final LongAdder evictions;
+
+    /**
+     * Creates a new cache according to the specified parameters.
+     *
+     * @param capacity
+     *        the maximum number of scores (i.e. 0 disables the cache)
+     */
+    public FitnessCache(int capacity) {
+
+        super();
+
+        if (capacity < 0) {
+
+            throw new IllegalArgumentException("No valid capacity (x < 0) was specified!");
+        }
+
+        this.capacity = capacity;
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+        this.scores = new LinkedHashMap<K, Integer>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Integer> eldest) {
+
+                boolean evict = size() > FitnessCache.this.capacity;
+
+                if (evict) {
+
+                    evictions.increment();
+                }
+
+                return evict;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached score of the specified key or calculates and caches it.
+     *
+     * @param key
+     *        a key
+     * @param calculation
+     *        calculates the score if the key is not cached
+     *
+     * @return a score
+     */
+    public int score(K key, IntSupplier calculation) {
+
+        return score(key, calculation, Integer.MIN_VALUE);
+    }
+
+    /**
+     * Returns the cached score of the specified key or calculates it. A calculated score is only cached if it isn't
+     * lower than the specified minimum (e.g. a score of an aborted evaluation is only an upper bound, see
+     * {@link RacingEvaluator}).
+     *
+     * @param key
+     *        a key
+     * @param calculation
+     *        calculates the score if the key is not cached
+     * @param minimum
+     *        the lowest score which is cached
+     *
+     * @return a score
+     */
+    public int score(K key, IntSupplier calculation, int minimum) {
+
+        if (key == null) {
+
+            throw new IllegalArgumentException("No key (null) was specified!");
+        }
+
+        if (calculation == null) {
+
+            throw new IllegalArgumentException("No calculation (null) was specified!");
+        }
+
+        Integer score;
+
+        synchronized (scores) {
+
+            score = scores.get(key);
+        }
+
+        if (score != null) {
+
+            hits.increment();
+
+            return score;
+        }
+
+        misses.increment();
+
+        int result = calculation.getAsInt();
+
+        if ((capacity > 0) && (result >= minimum)) {
+
+            synchronized (scores) {
+
+                scores.put(key, result);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the maximum number of scores.
+     *
+     * @return a capacity
+     */
+    public int capacity() {
+
+        return capacity;
+    }
+
+    /**
+     * Returns the number of cached scores.
+     *
+     * @return a size
+     */
+    public int size() {
+
+        synchronized (scores) {
+
+            return scores.size();
+        }
+    }
+
+    /**
+     * Returns the number of lookups which found a score.
+     *
+     * @return a number of hits
+     */
+    public long hits() {
+
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups which didn't find a score (i.e. the number of calculated scores).
+     *
+     * @return a number of misses
+     */
+    public long misses() {
+
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of evicted scores.
+     *
+     * @return a number of evictions
+     */
+    public long evictions() {
+
+        return evictions.sum();
+    }
+
+    /**
+     * Returns the fraction of lookups which found a score.
+     *
+     * @return a hit rate between 0 and 1
+     */
+    public double hitRate() {
+
+        long hitCount = hits.sum();
+        long lookups = hitCount + misses.sum();
+
+        return (lookups == 0L) ? 0.0d : (double) hitCount / lookups;
+    }
+
+    /**
+     * Removes all scores. The statistics are kept.
+     */
+    public void clear() {
+
+        synchronized (scores) {
+
+            scores.clear();
+        }
+    }
+
+    /**
+     * Returns a summary of the statistics.
+     *
+     * @return a string representation
+     */
+    @Override
+    public String toString() {
+
+        return String.format("fitness cache: %d/%d entries, %d hits, %d misses, %d evictions, hit rate %.3f", size(),
+                             capacity, hits(), misses(), evictions(), hitRate());
+    }
+
+}
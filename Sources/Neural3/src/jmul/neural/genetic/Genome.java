@@ -0,0 +1,407 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.genetic;
+
+
+import java.util.Arrays;
+import java.util.List;
+
+import jmul.functions.Function;
+
+import jmul.math.numbers.Number;
+
+import jmul.neural.neurons.Network;
+import jmul.neural.neurons.NetworkHelper;
+import jmul.neural.neurons.NetworkLayout;
+import jmul.neural.neurons.Neuron;
+import jmul.neural.neurons.OverlayNetwork;
+import jmul.neural.neurons.Synapse;
+
+
+/**
+ * A compact genome of a neural network, i.e. the layout, primitive weight and bias vectors and one activation
+ * function id per neuron (see {@link ActivationTable}). The vectors use the same index positions as
+ * {@link Network#synapses()} and {@link Network#neurons()}.<br>
+ * <br>
+ * A genome is immutable, i.e. a clone is the genome itself. Mutation (see {@link GenomeMutator}) and crossover (see
+ * {@link #crossover(Genome)}) create new genomes which share all unchanged vectors with their parents. A runnable
+ * network is only created on demand (see {@link #decode()}), usually when the genome is evaluated (see
+ * {@link GenomeEvaluator}).
+ *
+ * @author Kristian Kutin
+ */
+public final class Genome {
+
+    /**
+     * The topology of the network.
+     */
+    private final NetworkLayout layout;
+
+    /**
+     * The table which resolves the activation function ids.
+     */
+    private final ActivationTable activationTable;
+
+    /**
+     * All weights (see {@link Network#synapses()}).
+     */
+    private final double[] weights;
+
+    /**
+     * All biases (see {@link Network#neurons()}).
+     */
+    private final double[] biases;
+
+    /**
+     * The ids of all activation functions (see {@link Network#neurons()}).
+     */
+    private final short[] activationFunctionIds;
+
+    /**
+     * Creates the genome of the specified network. The activation functions of the network are registered with the
+     * specified table.
+     *
+     * @param network
+     *        a neural network
+     * @param activationTable
+     *        a table of activation functions
+     */
+    public Genome(Network network, ActivationTable activationTable) {
+
+        super();
+
+        if (network == null) {
+
+            throw new IllegalArgumentException("No network (null) was specified!");
+        }
+
+        if (activationTable == null) {
+
+            throw new IllegalArgumentException("No activation table (null) was specified!");
+        }
+
+        this.layout = NetworkHelper.layout(network);
+        this.activationTable = activationTable;
+
+        List<Synapse> synapses = network.synapses();
+        this.weights = new double[synapses.size()];
+
+        for (int index = 0; index < synapses.size(); index++) {
+
+            weights[index] = synapses.get(index).weight().toPrimitiveDouble();
+        }
+
+        List<Neuron> neurons = network.neurons();
+        this.biases = new double[neurons.size()];
+        this.activationFunctionIds = new short[neurons.size()];
+
+        for (int index = 0; index < neurons.size(); index++) {
+
+            Neuron neuron = neurons.get(index);
+            Number bias = neuron.bias();
+
+            biases[index] = (bias == null) ? 0.0d : bias.toPrimitiveDouble();
+            activationFunctionIds[index] = activationTable.register(neuron.activationFunction());
+        }
+    }
+
+    /**
+     * Creates a new genome according to the specified parameters. The genome takes ownership of the vectors, i.e.
+     * they must not be modified afterwards.
+     *
+     * @param layout
+     *        the topology of the network
+     * @param activationTable
+     *        a table of activation functions
+     * @param weights
+     *        all weights
+     * @param biases
+     *        all biases
+     * @param activationFunctionIds
+     *        the ids of all activation functions
+     */
+    Genome(NetworkLayout layout, ActivationTable activationTable, double[] weights, double[] biases,
+           short[] activationFunctionIds) {
+
+        super();
+
+        this.layout = layout;
+        this.activationTable = activationTable;
+        this.weights = weights;
+        this.biases = biases;
+        this.activationFunctionIds = activationFunctionIds;
+    }
+
+    /**
+     * Returns the topology of the network.
+     *
+     * @return a network layout
+     */
+    public NetworkLayout layout() {
+
+        return layout;
+    }
+
+    /**
+     * Returns the table which resolves the activation function ids.
+     *
+     * @return a table of activation functions
+     */
+    public ActivationTable activationTable() {
+
+        return activationTable;
+    }
+
+    /**
+     * Returns the weight of the specified synapse.
+     *
+     * @param synapseIndex
+     *        the index of a synapse (see {@link Network#synapses()})
+     *
+     * @return a weight
+     */
+    public double weight(int synapseIndex) {
+
+        return weights[synapseIndex];
+    }
+
+    /**
+     * Returns the bias of the specified neuron.
+     *
+     * @param neuronIndex
+     *        the index of a neuron (see {@link Network#neurons()})
+     *
+     * @return a bias
+     */
+    public double bias(int neuronIndex) {
+
+        return biases[neuronIndex];
+    }
+
+    /**
+     * Returns the activation function id of the specified neuron.
+     *
+     * @param neuronIndex
+     *        the index of a neuron (see {@link Network#neurons()})
+     *
+     * @return an id (see {@link ActivationTable})
+     */
+    public short activationFunctionId(int neuronIndex) {
+
+        return activationFunctionIds[neuronIndex];
+    }
+
+    /**
+     * Returns the activation function of the specified neuron.
+     *
+     * @param neuronIndex
+     *        the index of a neuron (see {@link Network#neurons()})
+     *
+     * @return an activation function
+     */
+    public Function activationFunction(int neuronIndex) {
+
+        return activationTable.function(activationFunctionIds[neuronIndex]);
+    }
+
+    /**
+     * Returns the weights. The array must not be modified.
+     *
+     * @return all weights
+     */
+    double[] weights() {
+
+        return weights;
+    }
+
+    /**
+     * Returns the biases. The array must not be modified.
+     *
+     * @return all biases
+     */
+    double[] biases() {
+
+        return biases;
+    }
+
+    /**
+     * Returns the activation function ids. The array must not be modified.
+     *
+     * @return the ids of all activation functions
+     */
+    short[] activationFunctionIds() {
+
+        return activationFunctionIds;
+    }
+
+    /**
+     * Creates an offspring of this genome and the specified genome (uniform crossover). Each weight, bias and
+     * activation function is taken from a random parent. A vector which is identical to the vector of a parent is
+     * shared with the parent.
+     *
+     * @param other
+     *        another genome with the same layout and activation table
+     *
+     * @return an offspring
+     */
+    public Genome crossover(Genome other) {
+
+        if (other == null) {
+
+            throw new IllegalArgumentException("No genome (null) was specified!");
+        }
+
+        if (!Arrays.equals(layout.configuration(), other.layout.configuration())) {
+
+            throw new IllegalArgumentException("The genomes have different layouts!");
+        }
+
+        if (activationTable != other.activationTable) {
+
+            throw new IllegalArgumentException("The genomes have different activation tables!");
+        }
+
+        double[] newWeights = weights.clone();
+        double[] newBiases = biases.clone();
+        short[] newIds = activationFunctionIds.clone();
+
+        for (int index = 0; index < newWeights.length; index++) {
+
+            if (Math.random() < 0.5d) {
+
+                newWeights[index] = other.weights[index];
+            }
+        }
+
+        for (int index = 0; index < newBiases.length; index++) {
+
+            if (Math.random() < 0.5d) {
+
+                newBiases[index] = other.biases[index];
+                newIds[index] = other.activationFunctionIds[index];
+            }
+        }
+
+        newWeights = share(newWeights, weights, other.weights);
+        newBiases = share(newBiases, biases, other.biases);
+        newIds = share(newIds, activationFunctionIds, other.activationFunctionIds);
+
+        return new Genome(layout, activationTable, newWeights, newBiases, newIds);
+    }
+
+    /**
+     * Returns a parent vector if it is identical to the specified vector, else the specified vector.
+     *
+     * @param vector
+     *        a new vector
+     * @param first
+     *        the vector of the first parent
+     * @param second
+     *        the vector of the second parent
+     *
+     * @return a vector
+     */
+    private static double[] share(double[] vector, double[] first, double[] second) {
+
+        if (Arrays.equals(vector, first)) {
+
+            return first;
+        }
+
+        if (Arrays.equals(vector, second)) {
+
+            return second;
+        }
+
+        return vector;
+    }
+
+    /**
+     * Returns a parent vector if it is identical to the specified vector, else the specified vector.
+     *
+     * @param vector
+     *        a new vector
+     * @param first
+     *        the vector of the first parent
+     * @param second
+     *        the vector of the second parent
+     *
+     * @return a vector
+     */
+    private static short[] share(short[] vector, short[] first, short[] second) {
+
+        if (Arrays.equals(vector, first)) {
+
+            return first;
+        }
+
+        if (Arrays.equals(vector, second)) {
+
+            return second;
+        }
+
+        return vector;
+    }
+
+    /**
+     * Decodes this genome into a runnable network. The network is a new object which isn't linked to this genome,
+     * i.e. it can be modified without affecting the genome.
+     *
+     * @return a neural network
+     */
+    public Network decode() {
+
+        Function[] activationFunctions = new Function[activationFunctionIds.length];
+
+        for (int index = 0; index < activationFunctionIds.length; index++) {
+
+            activationFunctions[index] = activationTable.function(activationFunctionIds[index]);
+        }
+
+        return new OverlayNetwork(layout, weights, biases, activationFunctions);
+    }
+
+    /**
+     * Returns a string representation of this genome.
+     *
+     * @return a string representation
+     */
+    @Override
+    public String toString() {
+
+        return String.format("genome %s (%d weights, %d biases)", Arrays.toString(layout.configuration()),
+                             weights.length, biases.length);
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.genetic;
+
+
+import jmul.data.TrainingData;
+
+
+/**
+ * An evaluator for compact genomes (see {@link Genome}). A genome is scored like its decoded network (see
+ * {@link NetworkEvaluator}), but it is only decoded if its score isn't cached already.
+ *
+ * @author Kristian Kutin
+ */
+public class GenomeEvaluator implements RacingEvaluator<Genome> {
+
+    /**
+     * The evaluator which scores the decoded networks.
+     */
+    private final NetworkEvaluator networkEvaluator;
+
+    /**
+     * Creates a new instance of the evaluator with the specified parameters and the default cache capacity.
+     *
+     * @param trainingData
+     *        the training data
+     */
+    public GenomeEvaluator(TrainingData trainingData) {
+
+        this(new NetworkEvaluator(trainingData));
+    }
+
+    /**
+     * Creates a new instance of the evaluator which shares the training data and the fitness cache of the specified
+     * network evaluator.
+     *
+     * @param networkEvaluator
+     *        an evaluator for neural networks
+     */
+    public GenomeEvaluator(NetworkEvaluator networkEvaluator) {
+
+        super();
+
+        if (networkEvaluator == null) {
+
+            throw new IllegalArgumentException("No network evaluator (null) was specified!");
+        }
+
+        this.networkEvaluator = networkEvaluator;
+    }
+
+    /**
+     * Returns the evaluator which scores the decoded networks.
+     *
+     * @return a network evaluator
+     */
+    public NetworkEvaluator networkEvaluator() {
+
+        return networkEvaluator;
+    }
+
+    /**
+     * Calculates a score for the specified genome. This method may be called concurrently (see
+     * {@link PopulationEvaluator}).
+     *
+     * @param genome
+     *        a genome
+     *
+     * @return a score
+     */
+    @Override
+    public int calculateScore(Genome genome) {
+
+        return networkEvaluator.calculateScore(genome);
+    }
+
+    /**
+     * Calculates a score for the specified genome. The evaluation is aborted as soon as the score is certainly lower
+     * than the specified cutoff (see {@link RacingEvaluator}).
+     *
+     * @param genome
+     *        a genome
+     * @param cutoff
+     *        the lowest score which is still selected
+     *
+     * @return a score
+     */
+    @Override
+    public int calculateScore(Genome genome, int cutoff) {
+
+        return networkEvaluator.calculateScore(genome, cutoff);
+    }
+
+}
@@ -0,0 +1,323 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.genetic;
+
+
+import java.util.Arrays;
+import java.util.List;
+
+import jmul.functions.Function;
+
+import jmul.math.numbers.Number;
+
+import jmul.neural.neurons.Network;
+import jmul.neural.neurons.NetworkHelper;
+import jmul.neural.neurons.Neuron;
+import jmul.neural.neurons.OverlayNetwork;
+import jmul.neural.neurons.Synapse;
+
+
+/**
+ * The genome of a neural network as a key (i.e. the layout, the weights, the biases and the activation functions).
+ * Weights and biases are compared by the bits of their primitive values, since networks are evaluated with primitive
+ * values (see {@link NetworkHelper#compile(Network)}). Activation functions are compared by identity, i.e. a mutated
+ * network which shares the functions of its ancestor (see {@link NetworkHelper#overlay(Network)}) has the same key
+ * as long as no function was replaced. Two keys are only equal if their contents are equal, i.e. a collision of the
+ * content hash can't mix up two networks.
+ *
+ * @author Kristian Kutin
+ */
+public final class GenomeKey {
+
+    /**
+     * The prime of the 64 bit FNV hash.
+     */
+    private static final long FNV_PRIME;
+
+    /**
+     * The offset basis of the 64 bit FNV hash.
+     */
+    private static final long FNV_OFFSET_BASIS;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        FNV_PRIME = 0x100000001b3L;
+        FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    }
+
+    /**
+     * The number of neurons per layer.
+     */
+    private final int[] configuration;
+
+    /**
+     * The bits of all weights (in synapse order) followed by the bits of all biases (in neuron order).
+     */
+    private final long[] parameters;
+
+    /**
+     * All activation functions (in neuron order).
+     */
+    private final Function[] functions;
+
+    /**
+     * The content hash.
+     */
+    private final long hash;
+
+    /**
+     * Creates the key of the specified network.
+     *
+     * @param network
+     *        a neural network
+     */
+    public GenomeKey(Network network) {
+
+        super();
+
+        if (network == null) {
+
+            throw new IllegalArgumentException("No network (null) was specified!");
+        }
+
+        this.configuration = NetworkHelper.layout(network).configuration();
+
+        List<Synapse> synapses = network.synapses();
+        List<Neuron> neurons = network.neurons();
+
+        this.parameters = new long[synapses.size() + neurons.size()];
+        this.functions = new Function[neurons.size()];
+
+        if (network instanceof OverlayNetwork) {
+
+            // the primitive vectors of the compiled snapshot don't convert the weights and biases into numbers
+            OverlayNetwork overlay = (OverlayNetwork) network;
+
+            for (int index = 0; index < synapses.size(); index++) {
+
+                parameters[index] = bits(overlay.primitiveWeight(index));
+            }
+
+            for (int index = 0; index < neurons.size(); index++) {
+
+                parameters[synapses.size() + index] = bits(overlay.primitiveBias(index));
+                functions[index] = overlay.activationFunction(index);
+            }
+
+        } else {
+
+            for (int index = 0; index < synapses.size(); index++) {
+
+                parameters[index] = bits(synapses.get(index).weight());
+            }
+
+            for (int index = 0; index < neurons.size(); index++) {
+
+                Neuron neuron = neurons.get(index);
+
+                parameters[synapses.size() + index] = bits(neuron.bias());
+                functions[index] = neuron.activationFunction();
+            }
+        }
+
+        this.hash = calculateHash();
+    }
+
+    /**
+     * Creates the key of the specified genome. The key is equal to the key of the decoded network (see
+     * {@link Genome#decode()}), i.e. networks and genomes can share a cache.
+     *
+     * @param genome
+     *        a genome
+     */
+    public GenomeKey(Genome genome) {
+
+        super();
+
+        if (genome == null) {
+
+            throw new IllegalArgumentException("No genome (null) was specified!");
+        }
+
+        double[] weights = genome.weights();
+        double[] biases = genome.biases();
+
+        this.configuration = genome.layout().configuration();
+        this.parameters = new long[weights.length + biases.length];
+        this.functions = new Function[biases.length];
+
+        for (int index = 0; index < weights.length; index++) {
+
+            parameters[index] = bits(weights[index]);
+        }
+
+        for (int index = 0; index < biases.length; index++) {
+
+            parameters[weights.length + index] = bits(biases[index]);
+            functions[index] = genome.activationFunction(index);
+        }
+
+        this.hash = calculateHash();
+    }
+
+    /**
+     * Returns the bits of the primitive value of the specified number.
+     *
+     * @param number
+     *        a number or <code>null</code>
+     *
+     * @return the bits of the primitive value (i.e. zero if no number was specified)
+     */
+    private static long bits(Number number) {
+
+        return bits((number == null) ? 0.0d : number.toPrimitiveDouble());
+    }
+
+    /**
+     * Returns the bits of the specified primitive value.
+     *
+     * @param value
+     *        a primitive value
+     *
+     * @return the bits of the primitive value
+     */
+    private static long bits(double value) {
+
+        // +0.0 and -0.0 behave the same
+        return (value == 0.0d) ? 0L : Double.doubleToLongBits(value);
+    }
+
+    /**
+     * Calculates the content hash (see FNV-1a).
+     *
+     * @return a hash
+     */
+    private long calculateHash() {
+
+        long result = FNV_OFFSET_BASIS;
+
+        for (int neurons : configuration) {
+
+            result = (result ^ neurons) * FNV_PRIME;
+        }
+
+        for (long bits : parameters) {
+
+            result = (result ^ bits) * FNV_PRIME;
+        }
+
+        for (Function function : functions) {
+
+            result = (result ^ System.identityHashCode(function)) * FNV_PRIME;
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the 64 bit content hash.
+     *
+     * @return a hash
+     */
+    public long hash() {
+
+        return hash;
+    }
+
+    /**
+     * Returns a hash code for this key.
+     *
+     * @return a hash code
+     */
+    @Override
+    public int hashCode() {
+
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    /**
+     * Checks if the specified object is a key with the same content.
+     *
+     * @param o
+     *        an object
+     *
+     * @return <code>true</code> if the object is a key with the same content, else <code>false</code>
+     */
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+
+            return true;
+        }
+
+        if (!(o instanceof GenomeKey)) {
+
+            return false;
+        }
+
+        GenomeKey other = (GenomeKey) o;
+
+        if ((hash != other.hash) || !Arrays.equals(configuration, other.configuration) ||
+            !Arrays.equals(parameters, other.parameters) || (functions.length != other.functions.length)) {
+
+            return false;
+        }
+
+        for (int index = 0; index < functions.length; index++) {
+
+            if (functions[index] != other.functions[index]) {
+
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns a string representation of this key.
+     *
+     * @return a string representation
+     */
+    @Override
+    public String toString() {
+
+        return String.format("genome %016x", hash);
+    }
+
+}
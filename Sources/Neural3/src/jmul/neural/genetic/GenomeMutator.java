@@ -0,0 +1,169 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.genetic;
+
+
+import jmul.genetic.Mutator;
+
+import static jmul.neural.genetic.TypesOfChange.MUTATE_NEURON_ACTIVATION_FUNCTION;
+import static jmul.neural.genetic.TypesOfChange.MUTATE_NEURON_BIAS;
+import static jmul.neural.genetic.TypesOfChange.MUTATE_SYNAPSE_WEIGHT;
+import jmul.neural.neurons.NetworkHelper;
+
+
+/**
+ * A mutator which works directly on compact genomes (see {@link Genome}). It applies the same kinds of changes as
+ * {@link NetworkMutator}, but a mutation only copies the vectors which are actually changed and never creates a
+ * network.
+ *
+ * @author Kristian Kutin
+ */
+public class GenomeMutator implements Mutator<Genome> {
+
+    /**
+     * The maximum number of changes per mutation.
+     */
+    private final int maxNumberOfChanges;
+
+    /**
+     * Creates a new mutator.
+     *
+     * @param maxNumberOfChanges
+     *        the maximum number of changes per mutation
+     */
+    public GenomeMutator(int maxNumberOfChanges) {
+
+        super();
+
+        if (maxNumberOfChanges < 1) {
+
+            throw new IllegalArgumentException("No valid maximum number for changes (x < 1) was specified!");
+        }
+
+        this.maxNumberOfChanges = maxNumberOfChanges;
+    }
+
+    /**
+     * Creates a mutated copy of the specified genome. The specified genome isn't modified.
+     *
+     * @param genome
+     *        a genome
+     *
+     * @return a mutated genome
+     */
+    @Override
+    public Genome mutate(Genome genome) {
+
+        if (genome == null) {
+
+            throw new IllegalArgumentException("No genome (null) was specified!");
+        }
+
+        double[] weights = genome.weights();
+        double[] biases = genome.biases();
+        short[] activationFunctionIds = genome.activationFunctionIds();
+
+        boolean copiedWeights = false;
+        boolean copiedBiases = false;
+        boolean copiedActivationFunctionIds = false;
+
+        for (int n = 0; n < maxNumberOfChanges; n++) {
+
+            TypeOfChange change = TypesOfChange.randomTypeOfChange();
+
+            if (MUTATE_NEURON_ACTIVATION_FUNCTION.equals(change)) {
+
+                if (!copiedActivationFunctionIds) {
+
+                    activationFunctionIds = activationFunctionIds.clone();
+                    copiedActivationFunctionIds = true;
+                }
+
+                activationFunctionIds[randomIndex(activationFunctionIds.length)] =
+                    genome.activationTable().randomId();
+
+            } else if (MUTATE_NEURON_BIAS.equals(change)) {
+
+                if (!copiedBiases) {
+
+                    biases = biases.clone();
+                    copiedBiases = true;
+                }
+
+                biases[randomIndex(biases.length)] = randomValue();
+
+            } else if (MUTATE_SYNAPSE_WEIGHT.equals(change)) {
+
+                if (!copiedWeights) {
+
+                    weights = weights.clone();
+                    copiedWeights = true;
+                }
+
+                weights[randomIndex(weights.length)] = randomValue();
+
+            } else {
+
+                throw new IllegalArgumentException("An unknown type of change was specified!");
+            }
+        }
+
+        return new Genome(genome.layout(), genome.activationTable(), weights, biases, activationFunctionIds);
+    }
+
+    /**
+     * Returns a random index.
+     *
+     * @param length
+     *        the length of a vector
+     *
+     * @return an index between 0 (inclusive) and the specified length (exclusive)
+     */
+    private static int randomIndex(int length) {
+
+        return (int) (Math.random() * length);
+    }
+
+    /**
+     * Returns a random weight or bias. The value has the same range as {@link NetworkHelper#randomBias()}, but is
+     * created without an intermediate number.
+     *
+     * @return a value between 0 (inclusive) and 1 (exclusive)
+     */
+    private static double randomValue() {
+
+        return Math.random();
+    }
+
+}
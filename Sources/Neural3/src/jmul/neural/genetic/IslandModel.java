@@ -0,0 +1,554 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.genetic;
+
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jmul.genetic.Evaluator;
+import jmul.genetic.Mutator;
+import jmul.genetic.Population;
+
+import jmul.math.random.Die;
+import jmul.math.random.DieImpl;
+
+
+/**
+ * An island model of a genetic algorithm. Several sub-populations (i.e. islands) evolve on separate threads. Every
+ * island keeps its fittest individuals and fills up its population with mutated survivors. Periodically the
+ * fittest individuals of an island emigrate to other islands (see {@link MigrationTopology}), where they compete in
+ * the next selection. Isolated islands preserve the diversity of the whole population, migration spreads good
+ * individuals.<br>
+ * <br>
+ * Every island has an inbox for immigrants. The inboxes are lock-free queues, i.e. an island never waits for
+ * another island. The evaluator is called concurrently and must be thread safe (see {@link NetworkEvaluator}). The
+ * mutator must not modify the specified individual, since an emigrant is shared by several islands (see
+ * {@link NetworkMutator}).
+ *
+ * @param <T>
+ *        the type of the individuals
+ *
+ * @author Kristian Kutin
+ */
+public class IslandModel<T> {
+
+    /**
+     * The evaluator which scores a single individual.
+     */
+    private final Evaluator<T> evaluator;
+
+    /**
+     * The entity which mutates individuals.
+     */
+    private final Mutator<T> mutator;
+
+    /**
+     * The migration topology.
+     */
+    private final MigrationTopology topology;
+
+    /**
+     * The number of islands.
+     */
+    private final int islands;
+
+    /**
+     * The population size of an island.
+     */
+    private final int populationSize;
+
+    /**
+     * The number of individuals which survive a selection.
+     */
+    private final int survivors;
+
+    /**
+     * The number of generations between two migrations.
+     */
+    private final int migrationInterval;
+
+    /**
+     * The number of individuals which emigrate to each destination.
+     */
+    private final int migrants;
+
+    /**
+     * The statistics of the last evolution.
+     */
+    private volatile List<IslandStatistics> statistics;
+
+    /**
+     * Creates a new island model according to the specified parameters.
+     *
+     * @param evaluator
+     *        a thread safe evaluator
+     * @param mutator
+     *        an entity which mutates individuals
+     * @param topology
+     *        a migration topology
+     * @param islands
+     *        the number of islands
+     * @param populationSize
+     *        the population size of an island
+     * @param survivors
+     *        the number of individuals which survive a selection
+     * @param migrationInterval
+     *        the number of generations between two migrations
+     * @param migrants
+     *        the number of individuals which emigrate to each destination
+     */
+    public IslandModel(Evaluator<T> evaluator, Mutator<T> mutator, MigrationTopology topology, int islands,
+                       int populationSize, int survivors, int migrationInterval, int migrants) {
+
+        super();
+
+        if (evaluator == null) {
+
+            throw new IllegalArgumentException("No evaluator (null) was specified!");
+        }
+
+        if (mutator == null) {
+
+            throw new IllegalArgumentException("No mutator (null) was specified!");
+        }
+
+        if (topology == null) {
+
+            throw new IllegalArgumentException("No migration topology (null) was specified!");
+        }
+
+        if (islands < 1) {
+
+            throw new IllegalArgumentException("No valid number of islands (x < 1) was specified!");
+        }
+
+        if ((survivors < 1) || (survivors >= populationSize)) {
+
+            String message =
+                String.format("An invalid number of survivors (x < 1 or x >= %d) was specified (%d)!", populationSize,
+                              survivors);
+            throw new IllegalArgumentException(message);
+        }
+
+        if (migrationInterval < 1) {
+
+            throw new IllegalArgumentException("No valid migration interval (x < 1) was specified!");
+        }
+
+        if ((migrants < 0) || (migrants > survivors)) {
+
+            String message =
+                String.format("An invalid number of migrants (x < 0 or x > %d) was specified (%d)!", survivors,
+                              migrants);
+            throw new IllegalArgumentException(message);
+        }
+
+        this.evaluator = evaluator;
+        this.mutator = mutator;
+        this.topology = topology;
+        this.islands = islands;
+        this.populationSize = populationSize;
+        this.survivors = survivors;
+        this.migrationInterval = migrationInterval;
+        this.migrants = migrants;
+        this.statistics = Collections.emptyList();
+    }
+
+    /**
+     * Evolves all islands for the specified number of generations. Every island starts with mutated copies of the
+     * specified ancestor and runs on its own thread.
+     *
+     * @param ancestor
+     *        the ancestor of all islands
+     * @param generations
+     *        the number of generations per island
+     *
+     * @return the fittest individual of all islands
+     */
+    public T evolve(T ancestor, int generations) {
+
+        if (ancestor == null) {
+
+            throw new IllegalArgumentException("No ancestor (null) was specified!");
+        }
+
+        if (generations < 1) {
+
+            throw new IllegalArgumentException("No valid number of generations (x < 1) was specified!");
+        }
+
+        List<Queue<T>> inboxes = new ArrayList<>(islands);
+        for (int island = 0; island < islands; island++) {
+
+            inboxes.add(new ConcurrentLinkedQueue<>());
+        }
+
+        AtomicBoolean failed = new AtomicBoolean();
+        List<Island<T>> tasks = new ArrayList<>(islands);
+        for (int island = 0; island < islands; island++) {
+
+            tasks.add(new Island<>(this, island, ancestor, generations, inboxes, failed));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(islands);
+
+        try {
+
+            List<IslandStatistics> newStatistics = new ArrayList<>(islands);
+            T fittestIndividual = null;
+            int bestScore = Integer.MIN_VALUE;
+
+            for (Future<IslandStatistics> future : executor.invokeAll(tasks)) {
+
+                newStatistics.add(result(future));
+            }
+
+            for (Island<T> task : tasks) {
+
+                if (task.bestScore > bestScore) {
+
+                    bestScore = task.bestScore;
+                    fittestIndividual = task.fittestIndividual;
+                }
+            }
+
+            statistics = Collections.unmodifiableList(newStatistics);
+
+            return fittestIndividual;
+
+        } catch (InterruptedException e) {
+
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The evolution was interrupted!", e);
+
+        } finally {
+
+            failed.set(true);
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Waits for the result of an island.
+     *
+     * @param future
+     *        the result of an island
+     *
+     * @return the statistics of the island
+     *
+     * @throws InterruptedException
+     *         is thrown if the calling thread was interrupted
+     */
+    private static IslandStatistics result(Future<IslandStatistics> future) throws InterruptedException {
+
+        try {
+
+            return future.get();
+
+        } catch (ExecutionException e) {
+
+            Throwable cause = e.getCause();
+
+            if (cause instanceof RuntimeException) {
+
+                throw (RuntimeException) cause;
+            }
+
+            throw new IllegalStateException("The evolution failed!", cause);
+        }
+    }
+
+    /**
+     * Returns the statistics of all islands of the last evolution (i.e. the throughput of each island).
+     *
+     * @return the statistics of all islands (in island order)
+     */
+    public List<IslandStatistics> statistics() {
+
+        return statistics;
+    }
+
+    /**
+     * A single island which evolves its own population.
+     *
+     * @param <T>
+     *        the type of the individuals
+     */
+    private static final class Island<T> implements Callable<IslandStatistics> {
+
+        /**
+         * The island model.
+         */
+        private final IslandModel<T> model;
+
+        /**
+         * The index of this island.
+         */
+        private final int island;
+
+        /**
+         * The ancestor of this island.
+         */
+        private final T ancestor;
+
+        /**
+         * The number of generations.
+         */
+        private final int generations;
+
+        /**
+         * The inboxes of all islands.
+         */
+        private final List<Queue<T>> inboxes;
+
+        /**
+         * Flags if an island failed, i.e. all islands stop.
+         */
+        private final AtomicBoolean failed;
+
+        /**
+         * The fittest individual after the evolution.
+         */
+        private T fittestIndividual;
+
+        /**
+         * The score of the fittest individual.
+         */
+        private int bestScore;
+
+        /**
+         * Creates a new island according to the specified parameters.
+         *
+         * @param model
+         *        the island model
+         * @param island
+         *        the index of this island
+         * @param ancestor
+         *        the ancestor of this island
+         * @param generations
+         *        the number of generations
+         * @param inboxes
+         *        the inboxes of all islands
+         * @param failed
+         *        flags if an island failed
+         */
+        Island(IslandModel<T> model, int island, T ancestor, int generations, List<Queue<T>> inboxes,
+               AtomicBoolean failed) {
+
+            super();
+
+            this.model = model;
+            this.island = island;
+            this.ancestor = ancestor;
+            this.generations = generations;
+            this.inboxes = inboxes;
+            this.failed = failed;
+        }
+
+        /**
+         * Evolves the population of this island.
+         *
+         * @return the statistics of this island
+         */
+        @Override
+        public IslandStatistics call() {
+
+            // the selection of an island runs on the thread of the island
+            ForkJoinPool pool = new ForkJoinPool(1);
+
+            try {
+
+                return evolve(new PopulationEvaluator<>(model.evaluator, pool));
+
+            } catch (RuntimeException e) {
+
+                failed.set(true);
+                throw e;
+
+            } finally {
+
+                pool.shutdown();
+            }
+        }
+
+        /**
+         * Evolves the population of this island.
+         *
+         * @param populationEvaluator
+         *        the entity which scores a generation
+         *
+         * @return the statistics of this island
+         */
+        private IslandStatistics evolve(PopulationEvaluator<T> populationEvaluator) {
+
+            int[] destinations = model.topology.destinations(island, model.islands);
+            int offspring = model.populationSize - model.survivors;
+
+            long emigrants = 0L;
+            long immigrants = 0L;
+            long start = System.nanoTime();
+
+            List<T> individuals = new ArrayList<>(model.populationSize);
+            for (int index = 0; index < model.populationSize; index++) {
+
+                individuals.add(model.mutator.mutate(ancestor));
+            }
+
+            List<T> selectedIndividuals = null;
+            int generation = 0;
+
+            while ((generation < generations) && !failed.get()) {
+
+                if (selectedIndividuals != null) {
+
+                    individuals = new ArrayList<>(selectedIndividuals);
+
+                    List<T> newImmigrants = receive(offspring);
+                    individuals.addAll(newImmigrants);
+                    immigrants += newImmigrants.size();
+
+                    Die die = new DieImpl(selectedIndividuals.size());
+                    while (individuals.size() < model.populationSize) {
+
+                        individuals.add(model.mutator.mutate(selectedIndividuals.get(die.roll() - 1)));
+                    }
+                }
+
+                Population<T> population =
+                    new ParallelPopulationImpl<>(populationEvaluator, model.mutator, individuals);
+                Population<T> selection = population.getFittestIndividuals(model.survivors);
+
+                selectedIndividuals = new ArrayList<>(selection.getSize());
+                for (int index = 0; index < selection.getSize(); index++) {
+
+                    selectedIndividuals.add(selection.getIndividual(index));
+                }
+
+                generation++;
+
+                if ((generation % model.migrationInterval == 0) && (generation < generations)) {
+
+                    emigrants += send(selectedIndividuals, destinations);
+                }
+            }
+
+            long duration = System.nanoTime() - start;
+
+            if (selectedIndividuals == null) {
+
+                // another island failed before the first selection
+                bestScore = Integer.MIN_VALUE;
+
+                return new IslandStatistics(island, generation, duration, emigrants, immigrants, bestScore);
+            }
+
+            // the selected individuals are ordered by ascending score
+            fittestIndividual = selectedIndividuals.get(selectedIndividuals.size() - 1);
+            bestScore = model.evaluator.calculateScore(fittestIndividual);
+
+            return new IslandStatistics(island, generation, duration, emigrants, immigrants, bestScore);
+        }
+
+        /**
+         * Takes all immigrants out of the inbox of this island. Only the most recent immigrants are kept if there are
+         * more immigrants than free places.
+         *
+         * @param capacity
+         *        the maximum number of immigrants
+         *
+         * @return immigrants
+         */
+        private List<T> receive(int capacity) {
+
+            Queue<T> inbox = inboxes.get(island);
+            Deque<T> newImmigrants = new ArrayDeque<>();
+
+            for (T immigrant = inbox.poll(); immigrant != null; immigrant = inbox.poll()) {
+
+                if (newImmigrants.size() == capacity) {
+
+                    newImmigrants.removeFirst();
+                }
+
+                newImmigrants.addLast(immigrant);
+            }
+
+            return new ArrayList<>(newImmigrants);
+        }
+
+        /**
+         * Sends the fittest individuals to the destination islands.
+         *
+         * @param selectedIndividuals
+         *        the selected individuals (ordered by ascending score)
+         * @param destinations
+         *        the destination islands
+         *
+         * @return the number of emigrants
+         */
+        private int send(List<T> selectedIndividuals, int[] destinations) {
+
+            int count = 0;
+            int size = selectedIndividuals.size();
+
+            for (int destination : destinations) {
+
+                Queue<T> inbox = inboxes.get(destination);
+
+                for (int index = size - model.migrants; index < size; index++) {
+
+                    inbox.offer(selectedIndividuals.get(index));
+                    count++;
+                }
+            }
+
+            return count;
+        }
+
+    }
+
+}
@@ -0,0 +1,185 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.genetic;
+
+
+/**
+ * The statistics of a single island of an island model (see {@link IslandModel}).
+ *
+ * @author Kristian Kutin
+ */
+public final class IslandStatistics {
+
+    /**
+     * The index of the island.
+     */
+    private final int island;
+
+    /**
+     * The number of generations which were evolved.
+     */
+    private final int generations;
+
+    /**
+     * The duration of the evolution in nanoseconds.
+     */
+    private final long duration;
+
+    /**
+     * The number of individuals which were sent to other islands.
+     */
+    private final long emigrants;
+
+    /**
+     * The number of individuals which were received from other islands and competed in a selection.
+     */
+    private final long immigrants;
+
+    /**
+     * The score of the fittest individual of the island.
+     */
+    private final int bestScore;
+
+    /**
+     * Creates new statistics according to the specified parameters.
+     *
+     * @param island
+     *        the index of the island
+     * @param generations
+     *        the number of generations which were evolved
+     * @param duration
+     *        the duration of the evolution in nanoseconds
+     * @param emigrants
+     *        the number of individuals which were sent to other islands
+     * @param immigrants
+     *        the number of individuals which were received from other islands
+     * @param bestScore
+     *        the score of the fittest individual of the island
+     */
+    IslandStatistics(int island, int generations, long duration, long emigrants, long immigrants, int bestScore) {
+
+        super();
+
+        this.island = island;
+        this.generations = generations;
+        this.duration = duration;
+        this.emigrants = emigrants;
+        this.immigrants = immigrants;
+        this.bestScore = bestScore;
+    }
+
+    /**
+     * Returns the index of the island.
+     *
+     * @return an island index
+     */
+    public int island() {
+
+        return island;
+    }
+
+    /**
+     * Returns the number of generations which were evolved.
+     *
+     * @return a number of generations
+     */
+    public int generations() {
+
+        return generations;
+    }
+
+    /**
+     * Returns the duration of the evolution.
+     *
+     * @return a duration in nanoseconds
+     */
+    public long duration() {
+
+        return duration;
+    }
+
+    /**
+     * Returns the throughput of the island.
+     *
+     * @return generations per second
+     */
+    public double generationsPerSecond() {
+
+        return (duration == 0L) ? 0.0d : generations * 1e9d / duration;
+    }
+
+    /**
+     * Returns the number of individuals which were sent to other islands.
+     *
+     * @return a number of emigrants
+     */
+    public long emigrants() {
+
+        return emigrants;
+    }
+
+    /**
+     * Returns the number of individuals which were received from other islands and competed in a selection.
+     *
+     * @return a number of immigrants
+     */
+    public long immigrants() {
+
+        return immigrants;
+    }
+
+    /**
+     * Returns the score of the fittest individual of the island.
+     *
+     * @return a score
+     */
+    public int bestScore() {
+
+        return bestScore;
+    }
+
+    /**
+     * Returns a string representation of these statistics.
+     *
+     * @return a string representation
+     */
+    @Override
+    public String toString() {
+
+        return String.format("island %d: %d generations in %.1f ms (%.2f generations/s), best score %d, " +
+                             "%d emigrants, %d immigrants", island, generations, duration / 1e6d,
+                             generationsPerSecond(), bestScore, emigrants, immigrants);
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.genetic;
+
+
+/**
+ * All supported migration topologies. An island never sends emigrants to itself.
+ *
+ * @author Kristian Kutin
+ */
+public enum MigrationTopologies implements MigrationTopology {
+
+    /**
+     * Every island sends its emigrants to the next island (i.e. the last island sends them to the first island).
+     * Good individuals spread slowly, which preserves the diversity of the islands.
+     */
+    RING {
+
+        @Override
+        public int[] destinations(int island, int islands) {
+
+            if (islands < 2) {
+
+                return new int[0];
+            }
+
+            return new int[] { (island + 1) % islands };
+        }
+    },
+
+    /**
+     * Every island sends its emigrants to all other islands. Good individuals spread fast.
+     */
+    FULL {
+
+        @Override
+        public int[] destinations(int island, int islands) {
+
+            int[] destinations = new int[Math.max(islands - 1, 0)];
+
+            int index = 0;
+            for (int destination = 0; destination < islands; destination++) {
+
+                if (destination != island) {
+
+                    destinations[index] = destination;
+                    index++;
+                }
+            }
+
+            return destinations;
+        }
+    };
+
+}
@@ -36,6 +36,7 @@ package jmul.neural.genetic;
 
 import java.util.LinkedList;
 import java.util.Queue;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
@@ -51,71 +52,124 @@ import jmul.math.numbers.Number;
 import static jmul.math.numbers.NumberHelper.createNumber;
 
 import jmul.neural.GlobalSettings;
+import jmul.neural.NumberConversionHelper;
+import jmul.neural.neurons.CompiledNetwork;
 import jmul.neural.neurons.Network;
+import jmul.neural.neurons.NetworkHelper;
 
 
 /**
- * An evaluator for a neural network.
+ * An evaluator for a neural network. A network can also be raced against a cutoff (see {@link RacingEvaluator}), i.e.
+ * the evaluation is aborted as soon as the error sum guarantees a score below the cutoff.
  *
  * @author Kristian Kutin
  */
-public class NetworkEvaluator implements Evaluator<Network> {
+public class NetworkEvaluator implements RacingEvaluator<Network> {
 
-    private static Number MIN_INDIVIDUAL = null;
+    /**
+     * The default number of scores which are cached.
+     */
+    public static final int DEFAULT_CACHE_CAPACITY;
 
-    private static Number MAX_INDIVIDUAL = null;
+    /**
+     * The value of an empty sum.
+     */
+    private static final Number ZERO;
 
-    private static Number MIN = null;
+    /**
+     * The numerator of the reciprocal score.
+     */
+    private static final Number ONE;
 
-    private static Number MAX = null;
+    /**
+     * The score of an error sum of one (i.e. the score is inversely proportional to the error sum).
+     */
+    private static final double UNIT_ERROR_SCORE;
 
-    public static void showScoreRanges() {
+    /**
+     * The smallest individual score so far. The score ranges are updated atomically, i.e. several threads may
+     * evaluate networks concurrently.
+     */
+    private static final AtomicReference<Number> MIN_INDIVIDUAL;
 
-        System.out.println("individual scores: " + MIN_INDIVIDUAL + " to " + MAX_INDIVIDUAL);
-        System.out.println("scores: " + MIN + " to " + MAX);
-    }
+    /**
+     * The largest individual score so far.
+     */
+    private static final AtomicReference<Number> MAX_INDIVIDUAL;
 
-    private static void updateIndividual(Number score) {
+    /**
+     * The smallest score so far.
+     */
+    private static final AtomicReference<Number> MIN;
 
-        if (MIN_INDIVIDUAL == null) {
+    /**
+     * The largest score so far.
+     */
+    private static final AtomicReference<Number> MAX;
 
-            MIN_INDIVIDUAL = score;
-            
-        } else {
-            
-            MIN_INDIVIDUAL = MIN_INDIVIDUAL.min(score);
-        }
-        
-        if (MAX_INDIVIDUAL == null) {
+    /*
+     * The static initializer.
+     */
+    static {
 
-            MAX_INDIVIDUAL = score; 
-            
-        } else {
+        DEFAULT_CACHE_CAPACITY = 1024;
 
-            MAX_INDIVIDUAL = MAX_INDIVIDUAL.max(score);
-        }
+        ZERO = createNumber(GlobalSettings.DEFAULT_NUMBER_BASE, "0");
+        ONE = createNumber(GlobalSettings.DEFAULT_NUMBER_BASE, "1");
+        UNIT_ERROR_SCORE = toScore(ONE);
+
+        MIN_INDIVIDUAL = new AtomicReference<>();
+        MAX_INDIVIDUAL = new AtomicReference<>();
+        MIN = new AtomicReference<>();
+        MAX = new AtomicReference<>();
+    }
+
+    public static void showScoreRanges() {
+
+        System.out.println("individual scores: " + MIN_INDIVIDUAL.get() + " to " + MAX_INDIVIDUAL.get());
+        System.out.println("scores: " + MIN.get() + " to " + MAX.get());
+    }
+
+    private static void updateIndividual(Number score) {
+
+        MIN_INDIVIDUAL.accumulateAndGet(score, NetworkEvaluator::min);
+        MAX_INDIVIDUAL.accumulateAndGet(score, NetworkEvaluator::max);
     }
 
     private static void update(Number score) {
-        
-        if (MIN == null) {
-            
-            MIN = score;
 
-        } else {
+        MIN.accumulateAndGet(score, NetworkEvaluator::min);
+        MAX.accumulateAndGet(score, NetworkEvaluator::max);
+    }
 
-            MIN = MIN.min(score);
-        }
-        
-        if (MAX == null) {
-            
-            MAX = score;
+    /**
+     * Returns the smaller of the specified numbers.
+     *
+     * @param current
+     *        the current minimum or <code>null</code>
+     * @param score
+     *        a score
+     *
+     * @return the new minimum
+     */
+    private static Number min(Number current, Number score) {
 
-        } else {
+        return (current == null) ? score : current.min(score);
+    }
 
-            MAX = MAX.max(score);
-        }
-        
+    /**
+     * Returns the larger of the specified numbers.
+     *
+     * @param current
+     *        the current maximum or <code>null</code>
+     * @param score
+     *        a score
+     *
+     * @return the new maximum
+     */
+    private static Number max(Number current, Number score) {
+
+        return (current == null) ? score : current.max(score);
     }
 
     /**
@@ -124,13 +178,36 @@ public class NetworkEvaluator implements Evaluator<Network> {
     private final TrainingData trainingData;
 
     /**
-     * Creates a new instance of the evaluator with the specified parameters.
+     * The scores of recently evaluated genomes.
+     */
+    private final FitnessCache<GenomeKey> fitnessCache;
+
+    /**
+     * The order in which a race processes the training data.
+     */
+    private final EntryOrder entryOrder;
+
+    /**
+     * Creates a new instance of the evaluator with the specified parameters and the default cache capacity.
      *
      * @param trainingData
      *        a set of training data
      */
     public NetworkEvaluator(TrainingData trainingData) {
 
+        this(trainingData, DEFAULT_CACHE_CAPACITY);
+    }
+
+    /**
+     * Creates a new instance of the evaluator with the specified parameters.
+     *
+     * @param trainingData
+     *        a set of training data
+     * @param cacheCapacity
+     *        the maximum number of cached scores (i.e. 0 disables the cache)
+     */
+    public NetworkEvaluator(TrainingData trainingData, int cacheCapacity) {
+
         super();
 
         if (trainingData == null) {
@@ -139,10 +216,24 @@ public class NetworkEvaluator implements Evaluator<Network> {
         }
 
         this.trainingData = trainingData;
+        this.fitnessCache = new FitnessCache<>(cacheCapacity);
+        this.entryOrder = new EntryOrder(trainingData);
     }
 
     /**
-     * Calculates a score for the specified network.
+     * Returns the cache with the scores of recently evaluated genomes (e.g. for the hit rate).
+     *
+     * @return a fitness cache
+     */
+    public FitnessCache<GenomeKey> fitnessCache() {
+
+        return fitnessCache;
+    }
+
+    /**
+     * Calculates a score for the specified network. A network with the genome of a recently evaluated network isn't
+     * evaluated again (see {@link GenomeKey}). This method may be called concurrently (see
+     * {@link PopulationEvaluator}).
      *
      * @param network
      *        a neural network
@@ -152,8 +243,160 @@ public class NetworkEvaluator implements Evaluator<Network> {
     @Override
     public int calculateScore(Network network) {
 
-        final Number ZERO = createNumber(GlobalSettings.DEFAULT_NUMBER_BASE, "0");
-        final Number ONE = createNumber(GlobalSettings.DEFAULT_NUMBER_BASE, "1");
+        if (network == null) {
+
+            throw new IllegalArgumentException("No network (null) was specified!");
+        }
+
+        if (fitnessCache.capacity() == 0) {
+
+            return evaluate(network);
+        }
+
+        return fitnessCache.score(new GenomeKey(network), () -> evaluate(network));
+    }
+
+    /**
+     * Calculates a score for the specified genome. The genome is only decoded into a network if no score of an
+     * equal genome or network is cached (see {@link GenomeKey#GenomeKey(Genome)}).
+     *
+     * @param genome
+     *        a genome
+     *
+     * @return a score
+     */
+    int calculateScore(Genome genome) {
+
+        if (genome == null) {
+
+            throw new IllegalArgumentException("No genome (null) was specified!");
+        }
+
+        if (fitnessCache.capacity() == 0) {
+
+            return evaluate(genome.decode());
+        }
+
+        return fitnessCache.score(new GenomeKey(genome), () -> evaluate(genome.decode()));
+    }
+
+    /**
+     * Calculates a score for the specified network. The evaluation is aborted as soon as the score is certainly
+     * lower than the specified cutoff (see {@link RacingEvaluator}). The score of an aborted evaluation isn't cached.
+     *
+     * @param network
+     *        a neural network
+     * @param cutoff
+     *        the lowest score which is still selected
+     *
+     * @return a score
+     */
+    @Override
+    public int calculateScore(Network network, int cutoff) {
+
+        if (network == null) {
+
+            throw new IllegalArgumentException("No network (null) was specified!");
+        }
+
+        if (fitnessCache.capacity() == 0) {
+
+            return race(network, cutoff);
+        }
+
+        return fitnessCache.score(new GenomeKey(network), () -> race(network, cutoff), cutoff);
+    }
+
+    /**
+     * Calculates a score for the specified genome. The evaluation is aborted as soon as the score is certainly lower
+     * than the specified cutoff (see {@link RacingEvaluator}).
+     *
+     * @param genome
+     *        a genome
+     * @param cutoff
+     *        the lowest score which is still selected
+     *
+     * @return a score
+     */
+    int calculateScore(Genome genome, int cutoff) {
+
+        if (genome == null) {
+
+            throw new IllegalArgumentException("No genome (null) was specified!");
+        }
+
+        if (fitnessCache.capacity() == 0) {
+
+            return race(genome.decode(), cutoff);
+        }
+
+        return fitnessCache.score(new GenomeKey(genome), () -> race(genome.decode(), cutoff), cutoff);
+    }
+
+    /**
+     * Evaluates the specified network entry by entry until all entries are processed or the error sum guarantees a
+     * score below the specified cutoff. The entries are processed in an order which tends to expose weak networks
+     * early (see {@link EntryOrder}).
+     *
+     * @param network
+     *        a neural network
+     * @param cutoff
+     *        the lowest score which is still selected
+     *
+     * @return the exact score or an upper bound which is lower than the cutoff
+     */
+    private int race(Network network, int cutoff) {
+
+        // every score is positive, i.e. no network can be rejected
+        if (cutoff <= 0) {
+
+            return evaluate(network);
+        }
+
+        // the primitive error sum is only an estimate, an abort is confirmed with the exact error sum
+        double threshold = UNIT_ERROR_SCORE / cutoff;
+
+        CompiledNetwork compiledNetwork = NetworkHelper.compile(network);
+
+        Number score = ZERO;
+        double estimate = 0.0d;
+
+        for (int index : entryOrder.order()) {
+
+            DataEntry entry = entryOrder.entry(index);
+            double output = compiledNetwork.send(entryOrder.input(index));
+            Number actualOutput = NumberConversionHelper.toNumber(entry.input.base(), output);
+
+            score = score.add(test(new DataEntryWithResult(entry.input, entry.expectedOutput, actualOutput)));
+            estimate += entryOrder.record(index, output);
+
+            if (estimate > threshold) {
+
+                int partialScore = toScore(score);
+
+                if (partialScore < cutoff) {
+
+                    entryOrder.evaluationFinished();
+
+                    return partialScore;
+                }
+            }
+        }
+
+        entryOrder.evaluationFinished();
+
+        return toScore(score);
+    }
+
+    /**
+     * Evaluates the specified network with the training data.
+     *
+     * @param network
+     *        a neural network
+     *
+     * @return a score
+     */
+    private int evaluate(Network network) {
 
         Number score = ZERO;
 
@@ -166,15 +409,30 @@ public class NetworkEvaluator implements Evaluator<Network> {
 
         });*/
 
-        for (DataEntry entry : this.trainingData) {
+        TrainingDataWithResults results = network.sendBatch(this.trainingData);
+
+        for (DataEntryWithResult entry : results) {
 
-            Number individualScore = test(network, entry);
+            Number individualScore = test(entry);
             
             score = score.add(individualScore);
         }
 
+        return toScore(score);
+    }
+
+    /**
+     * Converts the specified error sum into a score.
+     *
+     * @param errorSum
+     *        the sum of all relative deviations
+     *
+     * @return a score
+     */
+    private static int toScore(Number errorSum) {
+
         // a high deviation will result in a lower score and vice versa
-        Number reciprocal = ONE.divide(FunctionIdentifiers.RUSSIAN_DIVISION_FUNCTION, score);
+        Number reciprocal = ONE.divide(FunctionIdentifiers.RUSSIAN_DIVISION_FUNCTION, errorSum);
         reciprocal = reciprocal.shiftRight();
         reciprocal = reciprocal.shiftRight();
         reciprocal = reciprocal.shiftRight();
@@ -185,11 +443,10 @@ public class NetworkEvaluator implements Evaluator<Network> {
         return result;
     }
 
-    private static Number test(Network network, DataEntry entry) {
+    private static Number test(DataEntryWithResult entry) {
 
-        Number input = entry.input;
         Number expectedOutput = entry.expectedOutput;
-        Number actualOutput = network.send(input);
+        Number actualOutput = entry.actualOutput;
 
         Number delta = expectedOutput.subtract(actualOutput);
         delta = delta.absoluteValue();
@@ -90,16 +90,16 @@ public class NetworkMutator implements Mutator<Network> {
             throw new IllegalArgumentException("No neural network (null) was specified!");
         }
 
-        Network clonedNetwork = NetworkHelper.clone(network);
+        Network mutatedNetwork = NetworkHelper.overlay(network);
 
         List<TypeOfChange> allChanges = randomChanges();
 
         for (TypeOfChange change : allChanges) {
 
-            mutateNetwork(clonedNetwork, change);
+            mutateNetwork(mutatedNetwork, change);
         }
 
-        return clonedNetwork;
+        return mutatedNetwork;
     }
 
     private void mutateNetwork(Network network, TypeOfChange typeOfChange) {
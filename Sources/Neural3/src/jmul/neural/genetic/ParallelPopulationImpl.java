@@ -0,0 +1,241 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.genetic;
+
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import jmul.genetic.Mutator;
+import jmul.genetic.Population;
+
+import jmul.math.random.Die;
+import jmul.math.random.DieImpl;
+
+
+/**
+ * A population which scores a whole generation concurrently (see {@link PopulationEvaluator}). Mutating and growing
+ * the population works like {@link jmul.genetic.PopulationImpl}.
+ *
+ * @param <T>
+ *        the type of the individuals
+ *
+ * @author Kristian Kutin
+ */
+public class ParallelPopulationImpl<T> implements Population<T> {
+
+    /**
+     * The entity which scores all individuals of a generation.
+     */
+    private final PopulationEvaluator<T> evaluator;
+
+    /**
+     * The entity which mutates individuals.
+     */
+    private final Mutator<T> mutator;
+
+    /**
+     * All individuals.
+     */
+    private final List<T> population;
+
+    /**
+     * Creates a new population according to the specified parameters.
+     *
+     * @param evaluator
+     *        an entity which scores all individuals of a generation
+     * @param mutator
+     *        an entity which mutates individuals
+     * @param populationSize
+     *        a population size
+     * @param individual
+     *        the ancestor of the new population
+     */
+    public ParallelPopulationImpl(PopulationEvaluator<T> evaluator, Mutator<T> mutator, int populationSize,
+                                  T individual) {
+
+        this(evaluator, mutator, Collections.nCopies(populationSize, individual));
+    }
+
+    /**
+     * Creates a new population according to the specified parameters.
+     *
+     * @param evaluator
+     *        an entity which scores all individuals of a generation
+     * @param mutator
+     *        an entity which mutates individuals
+     * @param population
+     *        all individuals
+     */
+    public ParallelPopulationImpl(PopulationEvaluator<T> evaluator, Mutator<T> mutator, List<T> population) {
+
+        super();
+
+        if (evaluator == null) {
+
+            throw new IllegalArgumentException("No evaluator (null) was specified!");
+        }
+
+        if (mutator == null) {
+
+            throw new IllegalArgumentException("No mutator (null) was specified!");
+        }
+
+        if (population == null) {
+
+            throw new IllegalArgumentException("No population (null) was specified!");
+        }
+
+        this.evaluator = evaluator;
+        this.mutator = mutator;
+        this.population = Collections.unmodifiableList(new ArrayList<>(population));
+    }
+
+    /**
+     * Returns the size of the population.
+     *
+     * @return the size of the population
+     */
+    @Override
+    public int getSize() {
+
+        return population.size();
+    }
+
+    /**
+     * Returns the individual with the specified index.
+     *
+     * @param index
+     *        an index (i.e. 0 &lt;= index &lt; population size)
+     *
+     * @return an individual
+     */
+    @Override
+    public T getIndividual(int index) {
+
+        return population.get(index);
+    }
+
+    /**
+     * Returns a population with the fittest individuals. All individuals are scored concurrently and weak individuals
+     * are raced against the selected individuals if the evaluator supports it (see {@link RacingEvaluator}). The
+     * individuals of the new population are ordered by ascending score, i.e. the fittest individual is the last one.
+     *
+     * @param populationSize
+     *        the size of the new population
+     *
+     * @return a new population
+     */
+    @Override
+    public Population<T> getFittestIndividuals(int populationSize) {
+
+        if (populationSize >= getSize()) {
+
+            String message =
+                String.format("The specified population size (%d) is greater than the actual population size (%d)!",
+                              populationSize, getSize());
+            throw new IllegalArgumentException(message);
+        }
+
+        int[] scores = evaluator.calculateScores(population, populationSize);
+
+        List<Integer> indices = new ArrayList<>(getSize());
+        for (int index = 0; index < getSize(); index++) {
+
+            indices.add(index);
+        }
+
+        indices.sort(Comparator.comparingInt(index -> scores[index]));
+
+        List<T> newPopulation = new ArrayList<>(populationSize);
+        for (int index = getSize() - populationSize; index < getSize(); index++) {
+
+            newPopulation.add(population.get(indices.get(index)));
+        }
+
+        return new ParallelPopulationImpl<>(evaluator, mutator, newPopulation);
+    }
+
+    /**
+     * Returns the next generation of this population (i.e. each individual is mutated).
+     *
+     * @return a new population
+     */
+    @Override
+    public Population<T> mutate() {
+
+        List<T> newPopulation = new ArrayList<>(getSize());
+
+        for (T individual : population) {
+
+            newPopulation.add(mutator.mutate(individual));
+        }
+
+        return new ParallelPopulationImpl<>(evaluator, mutator, newPopulation);
+    }
+
+    /**
+     * Grows the population to the specified population size. Randomly picked individuals are added until the new
+     * population has the specified population size.
+     *
+     * @param populationSize
+     *        the new population size
+     *
+     * @return a population with the new population size
+     */
+    @Override
+    public Population<T> grow(int populationSize) {
+
+        if (populationSize <= getSize()) {
+
+            String message =
+                String.format("The specified population size (%d) must be greater than the actual population " +
+                              "size (%d)!", populationSize, getSize());
+            throw new IllegalArgumentException(message);
+        }
+
+        Die die = new DieImpl(getSize());
+        List<T> newPopulation = new ArrayList<>(population);
+
+        for (int index = newPopulation.size(); index < populationSize; index++) {
+
+            newPopulation.add(population.get(die.roll() - 1));
+        }
+
+        return new ParallelPopulationImpl<>(evaluator, mutator, newPopulation);
+    }
+
+}
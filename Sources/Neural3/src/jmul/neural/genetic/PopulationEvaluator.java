@@ -0,0 +1,396 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.genetic;
+
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.ToIntFunction;
+
+import jmul.genetic.Evaluator;
+import jmul.genetic.Population;
+
+
+/**
+ * Scores a whole generation concurrently on a fork join pool (i.e. idle workers steal the remaining individuals).
+ * Every individual is scored once even if it is contained several times (see {@link Population#grow(int)}). The
+ * evaluator is called concurrently and must be thread safe (see {@link NetworkEvaluator}).<br>
+ * <br>
+ * If only the fittest individuals are selected and the evaluator supports racing (see {@link RacingEvaluator}), the
+ * individuals are scored in two rounds. The first round scores as many individuals as are selected. The second round
+ * races the remaining individuals against the lowest selected score so far (i.e. the cutoff rises whenever an
+ * individual of the second round beats it), since an individual with a lower score can't be selected.
+ *
+ * @param <T>
+ *        the type of the individuals
+ *
+ * @author Kristian Kutin
+ */
+public class PopulationEvaluator<T> {
+
+    /**
+     * The evaluator which scores a single individual.
+     */
+    private final Evaluator<T> evaluator;
+
+    /**
+     * The fork join pool which scores the individuals.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a new instance which scores the individuals with the common fork join pool.
+     *
+     * @param evaluator
+     *        a thread safe evaluator
+     */
+    public PopulationEvaluator(Evaluator<T> evaluator) {
+
+        this(evaluator, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new instance according to the specified parameters.
+     *
+     * @param evaluator
+     *        a thread safe evaluator
+     * @param pool
+     *        a fork join pool which scores the individuals
+     */
+    public PopulationEvaluator(Evaluator<T> evaluator, ForkJoinPool pool) {
+
+        super();
+
+        if (evaluator == null) {
+
+            throw new IllegalArgumentException("No evaluator (null) was specified!");
+        }
+
+        if (pool == null) {
+
+            throw new IllegalArgumentException("No fork join pool (null) was specified!");
+        }
+
+        this.evaluator = evaluator;
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the evaluator which scores a single individual.
+     *
+     * @return an evaluator
+     */
+    public Evaluator<T> evaluator() {
+
+        return evaluator;
+    }
+
+    /**
+     * Scores all individuals of the specified population.
+     *
+     * @param population
+     *        a population
+     *
+     * @return the scores of all individuals (i.e. in the same order as the individuals)
+     */
+    public int[] calculateScores(Population<T> population) {
+
+        if (population == null) {
+
+            throw new IllegalArgumentException("No population (null) was specified!");
+        }
+
+        List<T> individuals = new ArrayList<>(population.getSize());
+
+        for (int index = 0; index < population.getSize(); index++) {
+
+            individuals.add(population.getIndividual(index));
+        }
+
+        return calculateScores(individuals);
+    }
+
+    /**
+     * Scores all specified individuals.
+     *
+     * @param individuals
+     *        all individuals
+     *
+     * @return the scores of all individuals (i.e. in the same order as the individuals)
+     */
+    public int[] calculateScores(List<T> individuals) {
+
+        if (individuals == null) {
+
+            throw new IllegalArgumentException("No individuals (null) were specified!");
+        }
+
+        return calculateScores(individuals, individuals.size());
+    }
+
+    /**
+     * Scores all specified individuals of which only the fittest individuals are selected. If the evaluator supports
+     * racing (see {@link RacingEvaluator}), an individual which can't be selected may get a score which is only an
+     * upper bound of its exact score.
+     *
+     * @param individuals
+     *        all individuals
+     * @param survivors
+     *        the number of individuals which are selected
+     *
+     * @return the scores of all individuals (i.e. in the same order as the individuals)
+     */
+    public int[] calculateScores(List<T> individuals, int survivors) {
+
+        if (individuals == null) {
+
+            throw new IllegalArgumentException("No individuals (null) were specified!");
+        }
+
+        if (survivors < 1) {
+
+            throw new IllegalArgumentException("No valid number of survivors (x < 1) was specified!");
+        }
+
+        // An individual which is contained several times is scored once.
+        Map<T, Integer> positions = new IdentityHashMap<>();
+        List<T> distinctIndividuals = new ArrayList<>();
+        int[] distinctPositions = new int[individuals.size()];
+
+        for (int index = 0; index < individuals.size(); index++) {
+
+            T individual = individuals.get(index);
+            Integer position = positions.get(individual);
+
+            if (position == null) {
+
+                position = distinctIndividuals.size();
+                positions.put(individual, position);
+                distinctIndividuals.add(individual);
+            }
+
+            distinctPositions[index] = position;
+        }
+
+        int[] distinctScores = new int[distinctIndividuals.size()];
+
+        if ((evaluator instanceof RacingEvaluator) && (survivors < distinctScores.length)) {
+
+            RacingEvaluator<T> racingEvaluator = (RacingEvaluator<T>) evaluator;
+
+            pool.invoke(new ScoreTask<>(evaluator::calculateScore, distinctIndividuals, distinctScores, 0,
+                                        survivors));
+
+            SelectionCutoff cutoff = new SelectionCutoff(distinctScores, survivors);
+            ToIntFunction<T> racing = individual -> {
+
+                int currentCutoff = cutoff.value();
+                int score = racingEvaluator.calculateScore(individual, currentCutoff);
+
+                if (score >= currentCutoff) {
+
+                    cutoff.offer(score);
+                }
+
+                return score;
+            };
+
+            pool.invoke(new ScoreTask<>(racing, distinctIndividuals, distinctScores, survivors,
+                                        distinctScores.length));
+
+        } else if (!distinctIndividuals.isEmpty()) {
+
+            pool.invoke(new ScoreTask<>(evaluator::calculateScore, distinctIndividuals, distinctScores, 0,
+                                        distinctScores.length));
+        }
+
+        int[] scores = new int[individuals.size()];
+
+        for (int index = 0; index < scores.length; index++) {
+
+            scores[index] = distinctScores[distinctPositions[index]];
+        }
+
+        return scores;
+    }
+
+    /**
+     * The lowest score which is still selected, i.e. the lowest of the best exact scores so far. The cutoff can be
+     * used concurrently.
+     */
+    private static final class SelectionCutoff {
+
+        /**
+         * The best exact scores so far (i.e. the lowest of them is the head).
+         */
+        private final PriorityQueue<Integer> bestScores;
+
+        /**
+         * Creates a new cutoff from the specified exact scores.
+         *
+         * @param scores
+         *        exact scores
+         * @param survivors
+         *        the number of individuals which are selected (i.e. the number of scores which are considered)
+         */
+        SelectionCutoff(int[] scores, int survivors) {
+
+            super();
+
+            this.bestScores = new PriorityQueue<>(survivors);
+
+            for (int index = 0; index < survivors; index++) {
+
+                bestScores.add(scores[index]);
+            }
+        }
+
+        /**
+         * Returns the current cutoff.
+         *
+         * @return the lowest score which is still selected
+         */
+        synchronized int value() {
+
+            return bestScores.peek();
+        }
+
+        /**
+         * Considers the specified exact score.
+         *
+         * @param score
+         *        an exact score
+         */
+        synchronized void offer(int score) {
+
+            if (score > bestScores.peek()) {
+
+                bestScores.poll();
+                bestScores.add(score);
+            }
+        }
+
+    }
+
+    /**
+     * A task which scores a range of individuals. The range is split until every task scores a single individual,
+     * since scoring an individual is expensive compared to forking a task.
+     *
+     * @param <T>
+     *        the type of the individuals
+     */
+    private static final class ScoreTask<T> extends RecursiveAction {
+
+        /**
+         * The serial version UID.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Scores a single individual.
+         */
+        private final ToIntFunction<T> scoring;
+
+        /**
+         * All individuals.
+         */
+        private final List<T> individuals;
+
+        /**
+         * The scores of all individuals.
+         */
+        private final int[] scores;
+
+        /**
+         * The index of the first individual (inclusive).
+         */
+        private final int start;
+
+        /**
+         * The index of the last individual (exclusive).
+         */
+        private final int end;
+
+        /**
+         * Creates a new task according to the specified parameters.
+         *
+         * @param scoring
+         *        scores a single individual
+         * @param individuals
+         *        all individuals
+         * @param scores
+         *        the scores of all individuals
+         * @param start
+         *        the index of the first individual (inclusive)
+         * @param end
+         *        the index of the last individual (exclusive)
+         */
+        ScoreTask(ToIntFunction<T> scoring, List<T> individuals, int[] scores, int start, int end) {
+
+            super();
+
+            this.scoring = scoring;
+            this.individuals = individuals;
+            this.scores = scores;
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * Scores the individuals of this task.
+         */
+        @Override
+        protected void compute() {
+
+            if (end - start == 1) {
+
+                scores[start] = scoring.applyAsInt(individuals.get(start));
+
+                return;
+            }
+
+            int middle = (start + end) >>> 1;
+
+            invokeAll(new ScoreTask<>(scoring, individuals, scores, start, middle),
+                      new ScoreTask<>(scoring, individuals, scores, middle, end));
+        }
+
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.genetic;
+
+
+import jmul.genetic.Evaluator;
+
+
+/**
+ * An evaluator which can abort the evaluation of an individual as soon as the individual can't reach a specified
+ * score anymore (i.e. racing). This saves most of the evaluation costs for weak individuals once a population has
+ * good survivors.
+ *
+ * @param <T>
+ *        the type of the individuals
+ *
+ * @author Kristian Kutin
+ */
+public interface RacingEvaluator<T> extends Evaluator<T> {
+
+    /**
+     * Calculates a score for the specified individual. The evaluation is aborted as soon as the score is certainly
+     * lower than the specified cutoff. A score which is not lower than the cutoff is exact. A score which is lower
+     * than the cutoff is an upper bound (i.e. the exact score is equal or lower).
+     *
+     * @param individual
+     *        an individual
+     * @param cutoff
+     *        the lowest score which is still selected
+     *
+     * @return a score
+     */
+    int calculateScore(T individual, int cutoff);
+
+}
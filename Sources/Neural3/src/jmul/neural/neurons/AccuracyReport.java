@@ -0,0 +1,240 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.neurons;
+
+
+import jmul.data.DataEntry;
+import jmul.data.TrainingData;
+
+import jmul.math.numbers.Number;
+
+import static jmul.string.Constants.NEW_LINE;
+
+
+/**
+ * A report which compares the outputs of a neural network with the outputs of its compiled counterpart.
+ *
+ * @author Kristian Kutin
+ */
+public class AccuracyReport {
+
+    /**
+     * The number of compared data entries.
+     */
+    private final int entries;
+
+    /**
+     * The largest absolute deviation.
+     */
+    private final double maxAbsoluteDeviation;
+
+    /**
+     * The average absolute deviation.
+     */
+    private final double meanAbsoluteDeviation;
+
+    /**
+     * The largest relative deviation.
+     */
+    private final double maxRelativeDeviation;
+
+    /**
+     * The time spent by the reference network (in nanoseconds).
+     */
+    private final long referenceDuration;
+
+    /**
+     * The time spent by the compiled network (in nanoseconds).
+     */
+    private final long compiledDuration;
+
+    /**
+     * Creates a new report according to the specified parameters.
+     *
+     * @param reference
+     *        a neural network
+     * @param compiled
+     *        the compiled counterpart of the neural network
+     * @param data
+     *        the data entries which are compared (only the input is used)
+     */
+    public AccuracyReport(Network reference, CompiledNetwork compiled, TrainingData data) {
+
+        super();
+
+        if (reference == null) {
+
+            throw new IllegalArgumentException("No network (null) was specified!");
+        }
+
+        if (compiled == null) {
+
+            throw new IllegalArgumentException("No compiled network (null) was specified!");
+        }
+
+        if (data == null) {
+
+            throw new IllegalArgumentException("No data (null) was specified!");
+        }
+
+        int count = 0;
+        double maxAbsolute = 0.0d;
+        double sumAbsolute = 0.0d;
+        double maxRelative = 0.0d;
+        long referenceTime = 0L;
+        long compiledTime = 0L;
+
+        for (DataEntry entry : data) {
+
+            long start = System.nanoTime();
+            Number referenceOutput = reference.send(entry.input);
+            long middle = System.nanoTime();
+            double compiledOutput = compiled.send(entry.input.toPrimitiveDouble());
+            long end = System.nanoTime();
+
+            referenceTime += middle - start;
+            compiledTime += end - middle;
+
+            double expected = referenceOutput.toPrimitiveDouble();
+            double absolute = Math.abs(expected - compiledOutput);
+            double relative = (expected == 0.0d) ? absolute : absolute / Math.abs(expected);
+
+            maxAbsolute = Math.max(maxAbsolute, absolute);
+            maxRelative = Math.max(maxRelative, relative);
+            sumAbsolute += absolute;
+            count++;
+        }
+
+        this.entries = count;
+        this.maxAbsoluteDeviation = maxAbsolute;
+        this.meanAbsoluteDeviation = (count == 0) ? 0.0d : sumAbsolute / count;
+        this.maxRelativeDeviation = maxRelative;
+        this.referenceDuration = referenceTime;
+        this.compiledDuration = compiledTime;
+    }
+
+    /**
+     * Returns the number of compared data entries.
+     *
+     * @return the number of data entries
+     */
+    public int entries() {
+
+        return entries;
+    }
+
+    /**
+     * Returns the largest absolute deviation.
+     *
+     * @return a deviation
+     */
+    public double maxAbsoluteDeviation() {
+
+        return maxAbsoluteDeviation;
+    }
+
+    /**
+     * Returns the average absolute deviation.
+     *
+     * @return a deviation
+     */
+    public double meanAbsoluteDeviation() {
+
+        return meanAbsoluteDeviation;
+    }
+
+    /**
+     * Returns the largest relative deviation.
+     *
+     * @return a deviation
+     */
+    public double maxRelativeDeviation() {
+
+        return maxRelativeDeviation;
+    }
+
+    /**
+     * Returns the time spent by the reference network.
+     *
+     * @return a duration (in nanoseconds)
+     */
+    public long referenceDuration() {
+
+        return referenceDuration;
+    }
+
+    /**
+     * Returns the time spent by the compiled network.
+     *
+     * @return a duration (in nanoseconds)
+     */
+    public long compiledDuration() {
+
+        return compiledDuration;
+    }
+
+    /**
+     * Returns a summary of this report.
+     *
+     * @return a summary
+     */
+    @Override
+    public String toString() {
+
+        StringBuilder buffer = new StringBuilder();
+
+        buffer.append("compared entries: ");
+        buffer.append(entries);
+        buffer.append(NEW_LINE);
+        buffer.append("max. absolute deviation: ");
+        buffer.append(maxAbsoluteDeviation);
+        buffer.append(NEW_LINE);
+        buffer.append("mean absolute deviation: ");
+        buffer.append(meanAbsoluteDeviation);
+        buffer.append(NEW_LINE);
+        buffer.append("max. relative deviation: ");
+        buffer.append(maxRelativeDeviation);
+        buffer.append(NEW_LINE);
+        buffer.append("reference duration: ");
+        buffer.append(referenceDuration / 1000000L);
+        buffer.append(" ms");
+        buffer.append(NEW_LINE);
+        buffer.append("compiled duration: ");
+        buffer.append(compiledDuration / 1000L);
+        buffer.append(" microseconds");
+
+        return buffer.toString();
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.neurons;
+
+
+/**
+ * The cached sums and outputs of all neurons of a compiled network for one input (see
+ * {@link BackendNetwork#activations(Object)}). The arrays use the same index positions as {@link Network#neurons()}.
+ *
+ * @author Kristian Kutin
+ *
+ * @param <T>
+ *        the value type of the numeric backend
+ */
+public final class Activations<T> {
+
+    /**
+     * The input of the network.
+     */
+    private final T input;
+
+    /**
+     * The sums of all incoming signals per neuron (i.e. before the activation function is applied).
+     */
+    private final Object[] sums;
+
+    /**
+     * The outputs of all neurons.
+     */
+    private final Object[] outputs;
+
+    /**
+     * The output of the network.
+     */
+    private final T output;
+
+    /**
+     * Creates new activations according to the specified parameters.
+     *
+     * @param input
+     *        the input of the network
+     * @param sums
+     *        the sums of all incoming signals per neuron
+     * @param outputs
+     *        the outputs of all neurons
+     * @param output
+     *        the output of the network
+     */
+    Activations(T input, Object[] sums, Object[] outputs, T output) {
+
+        super();
+
+        this.input = input;
+        this.sums = sums;
+        this.outputs = outputs;
+        this.output = output;
+    }
+
+    /**
+     * Returns the input of the network.
+     *
+     * @return an input
+     */
+    public T input() {
+
+        return input;
+    }
+
+    /**
+     * Returns the output of the network.
+     *
+     * @return an output
+     */
+    public T output() {
+
+        return output;
+    }
+
+    /**
+     * Returns the number of neurons.
+     *
+     * @return a neuron count
+     */
+    public int neuronCount() {
+
+        return outputs.length;
+    }
+
+    /**
+     * Returns the sum of all incoming signals of the specified neuron.
+     *
+     * @param neuronIndex
+     *        the index of a neuron (see {@link Network#neurons()})
+     *
+     * @return a sum
+     */
+    @SuppressWarnings("unchecked")
+    public T sum(int neuronIndex) {
+
+        return (T) sums[neuronIndex];
+    }
+
+    /**
+     * Returns the output of the specified neuron.
+     *
+     * @param neuronIndex
+     *        the index of a neuron (see {@link Network#neurons()})
+     *
+     * @return an output
+     */
+    @SuppressWarnings("unchecked")
+    public T neuronOutput(int neuronIndex) {
+
+        return (T) outputs[neuronIndex];
+    }
+
+}
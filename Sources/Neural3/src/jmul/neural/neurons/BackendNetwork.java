@@ -0,0 +1,116 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.neurons;
+
+
+import jmul.backends.NumericBackend;
+
+
+/**
+ * This interface describes a compiled neural network which evaluates signals with a specific numeric backend.
+ *
+ * @author Kristian Kutin
+ *
+ * @param <T>
+ *        the value type of the numeric backend
+ */
+public interface BackendNetwork<T> extends CompiledNetwork {
+
+    /**
+     * Returns the numeric backend of this network.
+     *
+     * @return a numeric backend
+     */
+    NumericBackend<T> backend();
+
+    /**
+     * Sends a signal with specified input into the compiled network and returns the output signal.
+     *
+     * @param input
+     *        a value
+     *
+     * @return the corresponding output
+     */
+    T sendValue(T input);
+
+    /**
+     * Returns the weight of the specified synapse.
+     *
+     * @param synapseIndex
+     *        the index of a synapse (see {@link Network#synapses()})
+     *
+     * @return a weight
+     */
+    T weight(int synapseIndex);
+
+    /**
+     * Returns a copy of this compiled network where the specified synapse has a new weight.
+     *
+     * @param synapseIndex
+     *        the index of a synapse (see {@link Network#synapses()})
+     * @param weight
+     *        a new weight
+     *
+     * @return a compiled network
+     */
+    BackendNetwork<T> withWeight(int synapseIndex, T weight);
+
+    /**
+     * Sends a signal with the specified input into the compiled network and caches the sums and outputs of all
+     * neurons.
+     *
+     * @param input
+     *        a value
+     *
+     * @return the activations of all neurons
+     */
+    Activations<T> activations(T input);
+
+    /**
+     * Returns the output for the input of the specified activations as if the specified synapse had the specified
+     * weight. Only the neurons downstream of the synapse are evaluated again. Neither this network nor the
+     * activations are modified.
+     *
+     * @param activations
+     *        the activations of this network for some input
+     * @param synapseIndex
+     *        the index of a synapse (see {@link Network#synapses()})
+     * @param weight
+     *        a probed weight
+     *
+     * @return the corresponding output
+     */
+    T probeWeight(Activations<T> activations, int synapseIndex, T weight);
+
+}
@@ -0,0 +1,552 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.neurons;
+
+
+import java.util.List;
+
+import jmul.backends.NumericBackend;
+
+import jmul.functions.Function;
+
+import jmul.math.numbers.Number;
+
+
+/**
+ * An implementation of a compiled flat neural network which evaluates signals with a numeric backend. Weights,
+ * biases and activation functions are copied from a {@link FlatNetworkImpl} into flat arrays. The arrays use the same
+ * index positions as {@link Network#synapses()} and {@link Network#neurons()}.
+ *
+ * @author Kristian Kutin
+ *
+ * @param <T>
+ *        the value type of the numeric backend
+ */
+public final class BackendNetworkImpl<T> implements BackendNetwork<T> {
+
+    /**
+     * The numeric backend.
+     */
+    private final NumericBackend<T> backend;
+
+    /**
+     * The layout of the network.
+     */
+    private final NetworkLayout layout;
+
+    /**
+     * All weights (see {@link Network#synapses()}).
+     */
+    private final Object[] weights;
+
+    /**
+     * All biases (see {@link Network#neurons()}).
+     */
+    private final Object[] biases;
+
+    /**
+     * All activation functions (see {@link Network#neurons()}).
+     */
+    private final Function[] activationFunctions;
+
+    /**
+     * Creates a compiled network according to the specified parameters.
+     *
+     * @param network
+     *        a flat neural network
+     * @param backend
+     *        a numeric backend
+     */
+    BackendNetworkImpl(FlatNetworkImpl network, NumericBackend<T> backend) {
+
+        super();
+
+        if (network == null) {
+
+            throw new IllegalArgumentException("No network (null) was specified!");
+        }
+
+        if (backend == null) {
+
+            throw new IllegalArgumentException("No numeric backend (null) was specified!");
+        }
+
+        this.backend = backend;
+        this.layout = new NetworkLayout(network.configuration());
+
+        List<Neuron> neurons = network.neurons();
+        this.biases = new Object[neurons.size()];
+        this.activationFunctions = new Function[neurons.size()];
+
+        for (int index = 0; index < neurons.size(); index++) {
+
+            Neuron neuron = neurons.get(index);
+            Number bias = neuron.bias();
+
+            biases[index] = (bias == null) ? backend.zero() : backend.valueOf(bias);
+            activationFunctions[index] = neuron.activationFunction();
+        }
+
+        List<Synapse> synapses = network.synapses();
+        this.weights = new Object[synapses.size()];
+
+        for (int index = 0; index < synapses.size(); index++) {
+
+            weights[index] = backend.valueOf(synapses.get(index).weight());
+        }
+    }
+
+    /**
+     * Creates a compiled network from the specified weights, biases and activation functions.
+     *
+     * @param backend
+     *        a numeric backend
+     * @param layout
+     *        the layout of the network
+     * @param weights
+     *        all weights (see {@link Network#synapses()})
+     * @param biases
+     *        all biases (see {@link Network#neurons()})
+     * @param activationFunctions
+     *        all activation functions (see {@link Network#neurons()})
+     */
+    BackendNetworkImpl(NumericBackend<T> backend, NetworkLayout layout, Number[] weights, Number[] biases,
+                       Function[] activationFunctions) {
+
+        super();
+
+        if (backend == null) {
+
+            throw new IllegalArgumentException("No numeric backend (null) was specified!");
+        }
+
+        this.backend = backend;
+        this.layout = layout;
+        this.weights = new Object[weights.length];
+        this.biases = new Object[biases.length];
+        this.activationFunctions = activationFunctions.clone();
+
+        for (int index = 0; index < weights.length; index++) {
+
+            this.weights[index] = backend.valueOf(weights[index]);
+        }
+
+        for (int index = 0; index < biases.length; index++) {
+
+            this.biases[index] = (biases[index] == null) ? backend.zero() : backend.valueOf(biases[index]);
+        }
+    }
+
+    /**
+     * Creates a compiled network according to the specified parameters.
+     *
+     * @param backend
+     *        a numeric backend
+     * @param layout
+     *        the layout of the network
+     * @param weights
+     *        all weights
+     * @param biases
+     *        all biases
+     * @param activationFunctions
+     *        all activation functions
+     */
+    private BackendNetworkImpl(NumericBackend<T> backend, NetworkLayout layout, Object[] weights, Object[] biases,
+                               Function[] activationFunctions) {
+
+        super();
+
+        this.backend = backend;
+        this.layout = layout;
+        this.weights = weights;
+        this.biases = biases;
+        this.activationFunctions = activationFunctions;
+    }
+
+    /**
+     * Returns the configuration of the compiled network.
+     *
+     * @return a configuration (i.e. neurons per layer)
+     */
+    @Override
+    public int[] configuration() {
+
+        return layout.configuration();
+    }
+
+    /**
+     * Returns the numeric backend of this network.
+     *
+     * @return a numeric backend
+     */
+    @Override
+    public NumericBackend<T> backend() {
+
+        return backend;
+    }
+
+    /**
+     * Sends a signal with specified input into the compiled network and returns the output signal.
+     *
+     * @param input
+     *        a number
+     *
+     * @return the corresponding output
+     */
+    @Override
+    public Number send(Number input) {
+
+        if (input == null) {
+
+            throw new IllegalArgumentException("No input (null) was specified!");
+        }
+
+        T output = sendValue(backend.valueOf(input));
+
+        return backend.toNumber(output);
+    }
+
+    /**
+     * Sends a signal with specified input into the compiled network and returns the output signal.
+     *
+     * @param input
+     *        a primitive value
+     *
+     * @return the corresponding output
+     */
+    @Override
+    public double send(double input) {
+
+        T output = sendValue(backend.valueOf(input));
+
+        return backend.toDouble(output);
+    }
+
+    /**
+     * Sends a signal with specified input into the compiled network and returns the output signal. The signal is
+     * processed layer by layer. The synapses between two layers are ordered by source neuron and then by target
+     * neuron (see {@link NetworkLayout}).
+     *
+     * @param input
+     *        a value
+     *
+     * @return the corresponding output
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T sendValue(T input) {
+
+        if (input == null) {
+
+            throw new IllegalArgumentException("No input (null) was specified!");
+        }
+
+        Object[] current = new Object[layout.maxLayerSize()];
+        Object[] next = new Object[layout.maxLayerSize()];
+
+        T inputSignal = backend.multiply(input, (T) weights[0]);
+        current[0] = backend.add(activationFunctions[0].calculate(backend, inputSignal), (T) biases[0]);
+
+        int synapseIndex = layout.synapseOffset(0);
+
+        for (int layer = 1; layer < layout.layers(); layer++) {
+
+            int sourceCount = layout.neuronCount(layer - 1);
+            int targetCount = layout.neuronCount(layer);
+            int offset = layout.neuronOffset(layer);
+
+            for (int target = 0; target < targetCount; target++) {
+
+                next[target] = backend.zero();
+            }
+
+            for (int source = 0; source < sourceCount; source++) {
+
+                T value = (T) current[source];
+
+                for (int target = 0; target < targetCount; target++) {
+
+                    T amplifiedValue = backend.multiply(value, (T) weights[synapseIndex]);
+                    next[target] = backend.add((T) next[target], amplifiedValue);
+                    synapseIndex++;
+                }
+            }
+
+            for (int target = 0; target < targetCount; target++) {
+
+                int neuronIndex = offset + target;
+                T activation = activationFunctions[neuronIndex].calculate(backend, (T) next[target]);
+                next[target] = backend.add(activation, (T) biases[neuronIndex]);
+            }
+
+            Object[] tmp = current;
+            current = next;
+            next = tmp;
+        }
+
+        return backend.multiply((T) current[0], (T) weights[synapseIndex]);
+    }
+
+    /**
+     * Sends signals with the specified inputs into the compiled network and returns all output signals.
+     *
+     * @param inputs
+     *        all inputs (i.e. primitive values)
+     *
+     * @return all corresponding outputs (same order as the inputs)
+     */
+    @Override
+    public double[] sendBatch(double[] inputs) {
+
+        if (inputs == null) {
+
+            throw new IllegalArgumentException("No inputs (null) were specified!");
+        }
+
+        double[] outputs = new double[inputs.length];
+
+        for (int b = 0; b < inputs.length; b++) {
+
+            outputs[b] = send(inputs[b]);
+        }
+
+        return outputs;
+    }
+
+    /**
+     * Returns the weight of the specified synapse.
+     *
+     * @param synapseIndex
+     *        the index of a synapse (see {@link Network#synapses()})
+     *
+     * @return a weight
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T weight(int synapseIndex) {
+
+        return (T) weights[synapseIndex];
+    }
+
+    /**
+     * Returns a copy of this compiled network where the specified synapse has a new weight.
+     *
+     * @param synapseIndex
+     *        the index of a synapse (see {@link Network#synapses()})
+     * @param weight
+     *        a new weight
+     *
+     * @return a compiled network
+     */
+    @Override
+    public BackendNetwork<T> withWeight(int synapseIndex, T weight) {
+
+        if (weight == null) {
+
+            throw new IllegalArgumentException("No weight (null) was specified!");
+        }
+
+        Object[] newWeights = weights.clone();
+        newWeights[synapseIndex] = weight;
+
+        return new BackendNetworkImpl<>(backend, layout, newWeights, biases, activationFunctions);
+    }
+
+    /**
+     * Sends a signal with the specified input into the compiled network and caches the sums and outputs of all
+     * neurons.
+     *
+     * @param input
+     *        a value
+     *
+     * @return the activations of all neurons
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Activations<T> activations(T input) {
+
+        if (input == null) {
+
+            throw new IllegalArgumentException("No input (null) was specified!");
+        }
+
+        Object[] sums = new Object[layout.neuronCount()];
+        Object[] outputs = new Object[layout.neuronCount()];
+
+        sums[0] = backend.multiply(input, (T) weights[layout.inputSynapseIndex()]);
+        outputs[0] = backend.add(activationFunctions[0].calculate(backend, (T) sums[0]), (T) biases[0]);
+
+        for (int layer = 1; layer < layout.layers(); layer++) {
+
+            int sourceCount = layout.neuronCount(layer - 1);
+            int targetCount = layout.neuronCount(layer);
+            int sourceOffset = layout.neuronOffset(layer - 1);
+            int offset = layout.neuronOffset(layer);
+            int synapseOffset = layout.synapseOffset(layer - 1);
+
+            for (int target = 0; target < targetCount; target++) {
+
+                T sum = backend.zero();
+
+                for (int source = 0; source < sourceCount; source++) {
+
+                    T weight = (T) weights[synapseOffset + source * targetCount + target];
+                    sum = backend.add(sum, backend.multiply((T) outputs[sourceOffset + source], weight));
+                }
+
+                int neuronIndex = offset + target;
+                sums[neuronIndex] = sum;
+                outputs[neuronIndex] =
+                    backend.add(activationFunctions[neuronIndex].calculate(backend, sum), (T) biases[neuronIndex]);
+            }
+        }
+
+        T output =
+            backend.multiply((T) outputs[layout.outputNeuronIndex()], (T) weights[layout.outputSynapseIndex()]);
+
+        return new Activations<>(input, sums, outputs, output);
+    }
+
+    /**
+     * Returns the output for the input of the specified activations as if the specified synapse had the specified
+     * weight. The sum of the target neuron and the sums of the next layer are corrected by the difference of the
+     * changed signal. All subsequent layers are evaluated again. Neither this network nor the activations are
+     * modified.
+     *
+     * @param activations
+     *        the activations of this network for some input
+     * @param synapseIndex
+     *        the index of a synapse (see {@link Network#synapses()})
+     * @param weight
+     *        a probed weight
+     *
+     * @return the corresponding output
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T probeWeight(Activations<T> activations, int synapseIndex, T weight) {
+
+        if (activations == null) {
+
+            throw new IllegalArgumentException("No activations (null) were specified!");
+        }
+
+        if (activations.neuronCount() != layout.neuronCount()) {
+
+            throw new IllegalArgumentException("The activations don't match the network!");
+        }
+
+        if (weight == null) {
+
+            throw new IllegalArgumentException("No weight (null) was specified!");
+        }
+
+        int outputNeuronIndex = layout.outputNeuronIndex();
+
+        if (synapseIndex == layout.outputSynapseIndex()) {
+
+            return backend.multiply(activations.neuronOutput(outputNeuronIndex), weight);
+        }
+
+        int changedNeuronIndex = layout.targetNeuronIndex(synapseIndex);
+        int sourceNeuronIndex = layout.sourceNeuronIndex(synapseIndex);
+
+        T sourceSignal =
+            (sourceNeuronIndex == NetworkSchedule.OUTSIDE) ? activations.input() :
+            activations.neuronOutput(sourceNeuronIndex);
+        T delta = backend.multiply(sourceSignal, backend.subtract(weight, (T) weights[synapseIndex]));
+        T changedSum = backend.add(activations.sum(changedNeuronIndex), delta);
+        T changedOutput =
+            backend.add(activationFunctions[changedNeuronIndex].calculate(backend, changedSum),
+                        (T) biases[changedNeuronIndex]);
+
+        int changedLayer = layout.layer(changedNeuronIndex);
+
+        if (changedLayer == layout.layers() - 1) {
+
+            return backend.multiply(changedOutput, (T) weights[layout.outputSynapseIndex()]);
+        }
+
+        // the next layer depends on one changed neuron only, i.e. the cached sums are corrected
+        Object[] current = new Object[layout.maxLayerSize()];
+        Object[] next = new Object[layout.maxLayerSize()];
+
+        T signalDelta = backend.subtract(changedOutput, activations.neuronOutput(changedNeuronIndex));
+        int changedSource = changedNeuronIndex - layout.neuronOffset(changedLayer);
+        int targetCount = layout.neuronCount(changedLayer + 1);
+        int offset = layout.neuronOffset(changedLayer + 1);
+        int synapseOffset = layout.synapseOffset(changedLayer) + changedSource * targetCount;
+
+        for (int target = 0; target < targetCount; target++) {
+
+            int neuronIndex = offset + target;
+            T sum = backend.add(activations.sum(neuronIndex),
+                                backend.multiply(signalDelta, (T) weights[synapseOffset + target]));
+            current[target] =
+                backend.add(activationFunctions[neuronIndex].calculate(backend, sum), (T) biases[neuronIndex]);
+        }
+
+        // all neurons of the subsequent layers are affected
+        for (int layer = changedLayer + 2; layer < layout.layers(); layer++) {
+
+            int sourceCount = layout.neuronCount(layer - 1);
+            targetCount = layout.neuronCount(layer);
+            offset = layout.neuronOffset(layer);
+            synapseOffset = layout.synapseOffset(layer - 1);
+
+            for (int target = 0; target < targetCount; target++) {
+
+                T sum = backend.zero();
+
+                for (int source = 0; source < sourceCount; source++) {
+
+                    T amplifiedValue =
+                        backend.multiply((T) current[source], (T) weights[synapseOffset + source * targetCount + target]);
+                    sum = backend.add(sum, amplifiedValue);
+                }
+
+                int neuronIndex = offset + target;
+                next[target] =
+                    backend.add(activationFunctions[neuronIndex].calculate(backend, sum), (T) biases[neuronIndex]);
+            }
+
+            Object[] tmp = current;
+            current = next;
+            next = tmp;
+        }
+
+        return backend.multiply((T) current[0], (T) weights[layout.outputSynapseIndex()]);
+    }
+
+}
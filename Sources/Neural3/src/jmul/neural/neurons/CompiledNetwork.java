@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.neurons;
+
+
+import jmul.math.numbers.Number;
+
+
+/**
+ * This interface describes a compiled neural network (i.e. a snapshot of a neural network which evaluates signals
+ * with primitive values).
+ *
+ * @author Kristian Kutin
+ */
+public interface CompiledNetwork {
+
+    /**
+     * Returns the configuration of the compiled network.
+     *
+     * @return a configuration (i.e. neurons per layer)
+     */
+    int[] configuration();
+
+    /**
+     * Sends a signal with specified input into the compiled network and returns the output signal.
+     *
+     * @param input
+     *        a number
+     *
+     * @return the corresponding output
+     */
+    Number send(Number input);
+
+    /**
+     * Sends a signal with specified input into the compiled network and returns the output signal.
+     *
+     * @param input
+     *        a primitive value
+     *
+     * @return the corresponding output
+     */
+    double send(double input);
+
+    /**
+     * Sends signals with the specified inputs into the compiled network and returns all output signals.
+     *
+     * @param inputs
+     *        all inputs (i.e. primitive values)
+     *
+     * @return all corresponding outputs (same order as the inputs)
+     */
+    double[] sendBatch(double[] inputs);
+
+}
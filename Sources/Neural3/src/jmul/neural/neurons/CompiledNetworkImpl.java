@@ -0,0 +1,700 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.neurons;
+
+
+import java.util.Arrays;
+import java.util.List;
+
+import jmul.backends.NumericBackend;
+import jmul.backends.NumericBackends;
+
+import jmul.functions.Function;
+
+import jmul.math.numbers.Number;
+
+import jmul.neural.NumberConversionHelper;
+
+
+/**
+ * An implementation of a compiled flat neural network. Weights, biases and activation functions are copied
+ * from a {@link FlatNetworkImpl} into flat arrays. The arrays use the same index positions as
+ * {@link Network#synapses()} and {@link Network#neurons()}.
+ *
+ * @author Kristian Kutin
+ */
+public final class CompiledNetworkImpl implements BackendNetwork<Double> {
+
+    /**
+     * The layout of the network.
+     */
+    private final NetworkLayout layout;
+
+    /**
+     * All weights (see {@link Network#synapses()}).
+     */
+    private final double[] weights;
+
+    /**
+     * All biases (see {@link Network#neurons()}).
+     */
+    private final double[] biases;
+
+    /**
+     * All activation functions (see {@link Network#neurons()}).
+     */
+    private final Function[] activationFunctions;
+
+    /**
+     * Creates a compiled network according to the specified parameters.
+     *
+     * @param network
+     *        a flat neural network
+     */
+    CompiledNetworkImpl(FlatNetworkImpl network) {
+
+        super();
+
+        if (network == null) {
+
+            throw new IllegalArgumentException("No network (null) was specified!");
+        }
+
+        this.layout = new NetworkLayout(network.configuration());
+
+        List<Neuron> neurons = network.neurons();
+        this.biases = new double[neurons.size()];
+        this.activationFunctions = new Function[neurons.size()];
+
+        for (int index = 0; index < neurons.size(); index++) {
+
+            Neuron neuron = neurons.get(index);
+            Number bias = neuron.bias();
+
+            biases[index] = (bias == null) ? 0.0d : bias.toPrimitiveDouble();
+            activationFunctions[index] = neuron.activationFunction();
+        }
+
+        List<Synapse> synapses = network.synapses();
+        this.weights = new double[synapses.size()];
+
+        for (int index = 0; index < synapses.size(); index++) {
+
+            weights[index] = synapses.get(index)
+                                     .weight()
+                                     .toPrimitiveDouble();
+        }
+    }
+
+    /**
+     * Creates a compiled network from the specified weights, biases and activation functions.
+     *
+     * @param layout
+     *        the layout of the network
+     * @param weights
+     *        all weights (see {@link Network#synapses()})
+     * @param biases
+     *        all biases (see {@link Network#neurons()})
+     * @param activationFunctions
+     *        all activation functions (see {@link Network#neurons()})
+     */
+    CompiledNetworkImpl(NetworkLayout layout, Number[] weights, Number[] biases, Function[] activationFunctions) {
+
+        super();
+
+        this.layout = layout;
+        this.weights = new double[weights.length];
+        this.biases = new double[biases.length];
+        this.activationFunctions = activationFunctions.clone();
+
+        for (int index = 0; index < weights.length; index++) {
+
+            this.weights[index] = weights[index].toPrimitiveDouble();
+        }
+
+        for (int index = 0; index < biases.length; index++) {
+
+            this.biases[index] = (biases[index] == null) ? 0.0d : biases[index].toPrimitiveDouble();
+        }
+    }
+
+    /**
+     * Creates a compiled network according to the specified parameters. The arrays are not copied, i.e. they must
+     * not be modified afterwards.
+     *
+     * @param layout
+     *        the layout of the network
+     * @param weights
+     *        all weights
+     * @param biases
+     *        all biases
+     * @param activationFunctions
+     *        all activation functions
+     */
+    CompiledNetworkImpl(NetworkLayout layout, double[] weights, double[] biases,
+                                Function[] activationFunctions) {
+
+        super();
+
+        this.layout = layout;
+        this.weights = weights;
+        this.biases = biases;
+        this.activationFunctions = activationFunctions;
+    }
+
+    /**
+     * Returns the configuration of the compiled network.
+     *
+     * @return a configuration (i.e. neurons per layer)
+     */
+    @Override
+    public int[] configuration() {
+
+        return layout.configuration();
+    }
+
+    /**
+     * Returns the numeric backend of this network.
+     *
+     * @return a numeric backend
+     */
+    @Override
+    public NumericBackend<Double> backend() {
+
+        return NumericBackends.DOUBLE;
+    }
+
+    /**
+     * Sends a signal with specified input into the compiled network and returns the output signal.
+     *
+     * @param input
+     *        a number
+     *
+     * @return the corresponding output
+     */
+    @Override
+    public Number send(Number input) {
+
+        if (input == null) {
+
+            throw new IllegalArgumentException("No input (null) was specified!");
+        }
+
+        double output = send(input.toPrimitiveDouble());
+
+        return NumberConversionHelper.toNumber(input.base(), output);
+    }
+
+    /**
+     * Sends a signal with specified input into the compiled network and returns the output signal.
+     *
+     * @param input
+     *        a value
+     *
+     * @return the corresponding output
+     */
+    @Override
+    public Double sendValue(Double input) {
+
+        if (input == null) {
+
+            throw new IllegalArgumentException("No input (null) was specified!");
+        }
+
+        return send(input.doubleValue());
+    }
+
+    /**
+     * Sends a signal with specified input into the compiled network and returns the output signal. The signal is
+     * processed layer by layer. The synapses between two layers are ordered by source neuron and then by target
+     * neuron (see {@link NetworkLayout}).
+     *
+     * @param input
+     *        a primitive value
+     *
+     * @return the corresponding output
+     */
+    @Override
+    public double send(double input) {
+
+        double[] current = new double[layout.maxLayerSize()];
+        double[] next = new double[layout.maxLayerSize()];
+
+        current[0] = activationFunctions[0].calculate(input * weights[0]) + biases[0];
+
+        int synapseIndex = layout.synapseOffset(0);
+
+        for (int layer = 1; layer < layout.layers(); layer++) {
+
+            int sourceCount = layout.neuronCount(layer - 1);
+            int targetCount = layout.neuronCount(layer);
+            int offset = layout.neuronOffset(layer);
+
+            Arrays.fill(next, 0, targetCount, 0.0d);
+
+            for (int source = 0; source < sourceCount; source++) {
+
+                double value = current[source];
+
+                for (int target = 0; target < targetCount; target++) {
+
+                    next[target] += value * weights[synapseIndex];
+                    synapseIndex++;
+                }
+            }
+
+            for (int target = 0; target < targetCount; target++) {
+
+                int neuronIndex = offset + target;
+                next[target] = activationFunctions[neuronIndex].calculate(next[target]) + biases[neuronIndex];
+            }
+
+            double[] tmp = current;
+            current = next;
+            next = tmp;
+        }
+
+        return current[0] * weights[synapseIndex];
+    }
+
+    /**
+     * Sends signals with the specified inputs into the compiled network and returns all output signals. The whole
+     * batch is processed layer by layer, i.e. every weight is applied to all signals of a source neuron in one inner
+     * loop over contiguous memory.
+     *
+     * @param inputs
+     *        all inputs (i.e. primitive values)
+     *
+     * @return all corresponding outputs (same order as the inputs)
+     */
+    @Override
+    public double[] sendBatch(double[] inputs) {
+
+        if (inputs == null) {
+
+            throw new IllegalArgumentException("No inputs (null) were specified!");
+        }
+
+        int batchSize = inputs.length;
+
+        // The signals of one layer are stored neuron by neuron (i.e. signal b of neuron n is at n * batchSize + b).
+        double[] current = new double[layout.maxLayerSize() * batchSize];
+        double[] next = new double[layout.maxLayerSize() * batchSize];
+
+        Function inputFunction = activationFunctions[0];
+        double inputWeight = weights[0];
+        double inputBias = biases[0];
+
+        for (int b = 0; b < batchSize; b++) {
+
+            current[b] = inputFunction.calculate(inputs[b] * inputWeight) + inputBias;
+        }
+
+        int synapseIndex = layout.synapseOffset(0);
+
+        for (int layer = 1; layer < layout.layers(); layer++) {
+
+            int sourceCount = layout.neuronCount(layer - 1);
+            int targetCount = layout.neuronCount(layer);
+            int offset = layout.neuronOffset(layer);
+
+            Arrays.fill(next, 0, targetCount * batchSize, 0.0d);
+
+            for (int source = 0; source < sourceCount; source++) {
+
+                int sourceOffset = source * batchSize;
+
+                for (int target = 0; target < targetCount; target++) {
+
+                    double weight = weights[synapseIndex];
+                    int targetOffset = target * batchSize;
+
+                    for (int b = 0; b < batchSize; b++) {
+
+                        next[targetOffset + b] += weight * current[sourceOffset + b];
+                    }
+
+                    synapseIndex++;
+                }
+            }
+
+            for (int target = 0; target < targetCount; target++) {
+
+                int neuronIndex = offset + target;
+                int targetOffset = target * batchSize;
+
+                Function function = activationFunctions[neuronIndex];
+                double bias = biases[neuronIndex];
+
+                for (int b = 0; b < batchSize; b++) {
+
+                    next[targetOffset + b] = function.calculate(next[targetOffset + b]) + bias;
+                }
+            }
+
+            double[] tmp = current;
+            current = next;
+            next = tmp;
+        }
+
+        double outputWeight = weights[synapseIndex];
+        double[] outputs = new double[batchSize];
+
+        for (int b = 0; b < batchSize; b++) {
+
+            outputs[b] = current[b] * outputWeight;
+        }
+
+        return outputs;
+    }
+
+    /**
+     * Returns the weight of the specified synapse.
+     *
+     * @param synapseIndex
+     *        the index of a synapse (see {@link Network#synapses()})
+     *
+     * @return a weight
+     */
+    @Override
+    public Double weight(int synapseIndex) {
+
+        return weights[synapseIndex];
+    }
+
+    /**
+     * Returns the primitive weight of the specified synapse.
+     *
+     * @param synapseIndex
+     *        the index of a synapse (see {@link Network#synapses()})
+     *
+     * @return a weight
+     */
+    double primitiveWeight(int synapseIndex) {
+
+        return weights[synapseIndex];
+    }
+
+    /**
+     * Returns the primitive bias of the specified neuron.
+     *
+     * @param neuronIndex
+     *        the index of a neuron (see {@link Network#neurons()})
+     *
+     * @return a bias
+     */
+    double primitiveBias(int neuronIndex) {
+
+        return biases[neuronIndex];
+    }
+
+    /**
+     * Converts all weights into numbers.
+     *
+     * @return all weights (see {@link Network#synapses()})
+     */
+    Number[] numberWeights() {
+
+        return toNumbers(weights);
+    }
+
+    /**
+     * Converts all biases into numbers.
+     *
+     * @return all biases (see {@link Network#neurons()})
+     */
+    Number[] numberBiases() {
+
+        return toNumbers(biases);
+    }
+
+    /**
+     * Converts the specified primitive values into numbers.
+     *
+     * @param values
+     *        primitive values
+     *
+     * @return numbers
+     */
+    private static Number[] toNumbers(double[] values) {
+
+        Number[] numbers = new Number[values.length];
+
+        for (int index = 0; index < values.length; index++) {
+
+            numbers[index] = NumberConversionHelper.toNumber(values[index]);
+        }
+
+        return numbers;
+    }
+
+    /**
+     * Returns a copy of this compiled network where the specified synapse has a new weight.
+     *
+     * @param synapseIndex
+     *        the index of a synapse (see {@link Network#synapses()})
+     * @param weight
+     *        a new weight
+     *
+     * @return a compiled network
+     */
+    @Override
+    public CompiledNetworkImpl withWeight(int synapseIndex, Double weight) {
+
+        if (weight == null) {
+
+            throw new IllegalArgumentException("No weight (null) was specified!");
+        }
+
+        double[] newWeights = weights.clone();
+        newWeights[synapseIndex] = weight;
+
+        return new CompiledNetworkImpl(layout, newWeights, biases, activationFunctions);
+    }
+
+    /**
+     * Returns a copy of this compiled network with the specified weights. The biases and activation functions are
+     * shared.
+     *
+     * @param newWeights
+     *        all weights (see {@link Network#synapses()})
+     *
+     * @return a compiled network
+     */
+    public CompiledNetworkImpl withWeights(double[] newWeights) {
+
+        if (newWeights == null) {
+
+            throw new IllegalArgumentException("No weights (null) were specified!");
+        }
+
+        if (newWeights.length != weights.length) {
+
+            throw new IllegalArgumentException("The number of weights (" + newWeights.length +
+                                               ") doesn't match the number of synapses (" + weights.length + ")!");
+        }
+
+        return new CompiledNetworkImpl(layout, newWeights.clone(), biases, activationFunctions);
+    }
+
+    /**
+     * Returns a compiled network which reads the weights from the specified array. The array is not copied, i.e.
+     * changes of the array are reflected by the returned network. The owner of the array must not modify it while the
+     * returned network is used by another thread. The biases and activation functions are shared.
+     *
+     * @param weightVector
+     *        all weights (see {@link Network#synapses()})
+     *
+     * @return a compiled network
+     */
+    public CompiledNetworkImpl withWeightVector(double[] weightVector) {
+
+        if (weightVector == null) {
+
+            throw new IllegalArgumentException("No weights (null) were specified!");
+        }
+
+        if (weightVector.length != weights.length) {
+
+            throw new IllegalArgumentException("The number of weights (" + weightVector.length +
+                                               ") doesn't match the number of synapses (" + weights.length + ")!");
+        }
+
+        return new CompiledNetworkImpl(layout, weightVector, biases, activationFunctions);
+    }
+
+    /**
+     * Sends a signal with the specified input into the compiled network and caches the sums and outputs of all
+     * neurons.
+     *
+     * @param input
+     *        a value
+     *
+     * @return the activations of all neurons
+     */
+    @Override
+    public Activations<Double> activations(Double input) {
+
+        if (input == null) {
+
+            throw new IllegalArgumentException("No input (null) was specified!");
+        }
+
+        double[] sums = new double[layout.neuronCount()];
+        double[] outputs = new double[layout.neuronCount()];
+
+        sums[0] = input * weights[layout.inputSynapseIndex()];
+        outputs[0] = activationFunctions[0].calculate(sums[0]) + biases[0];
+
+        for (int layer = 1; layer < layout.layers(); layer++) {
+
+            int sourceCount = layout.neuronCount(layer - 1);
+            int targetCount = layout.neuronCount(layer);
+            int sourceOffset = layout.neuronOffset(layer - 1);
+            int offset = layout.neuronOffset(layer);
+            int synapseOffset = layout.synapseOffset(layer - 1);
+
+            for (int target = 0; target < targetCount; target++) {
+
+                double sum = 0.0d;
+
+                for (int source = 0; source < sourceCount; source++) {
+
+                    sum += outputs[sourceOffset + source] * weights[synapseOffset + source * targetCount + target];
+                }
+
+                int neuronIndex = offset + target;
+                sums[neuronIndex] = sum;
+                outputs[neuronIndex] = activationFunctions[neuronIndex].calculate(sum) + biases[neuronIndex];
+            }
+        }
+
+        double output = outputs[layout.outputNeuronIndex()] * weights[layout.outputSynapseIndex()];
+
+        Object[] boxedSums = new Object[sums.length];
+        Object[] boxedOutputs = new Object[outputs.length];
+
+        for (int index = 0; index < sums.length; index++) {
+
+            boxedSums[index] = sums[index];
+            boxedOutputs[index] = outputs[index];
+        }
+
+        return new Activations<>(input, boxedSums, boxedOutputs, output);
+    }
+
+    /**
+     * Returns the output for the input of the specified activations as if the specified synapse had the specified
+     * weight. The sum of the target neuron and the sums of the next layer are corrected by the difference of the
+     * changed signal. All subsequent layers are evaluated again. Neither this network nor the activations are
+     * modified.
+     *
+     * @param activations
+     *        the activations of this network for some input
+     * @param synapseIndex
+     *        the index of a synapse (see {@link Network#synapses()})
+     * @param weight
+     *        a probed weight
+     *
+     * @return the corresponding output
+     */
+    @Override
+    public Double probeWeight(Activations<Double> activations, int synapseIndex, Double weight) {
+
+        if (activations == null) {
+
+            throw new IllegalArgumentException("No activations (null) were specified!");
+        }
+
+        if (activations.neuronCount() != layout.neuronCount()) {
+
+            throw new IllegalArgumentException("The activations don't match the network!");
+        }
+
+        if (weight == null) {
+
+            throw new IllegalArgumentException("No weight (null) was specified!");
+        }
+
+        int outputNeuronIndex = layout.outputNeuronIndex();
+
+        if (synapseIndex == layout.outputSynapseIndex()) {
+
+            return activations.neuronOutput(outputNeuronIndex) * weight;
+        }
+
+        int changedNeuronIndex = layout.targetNeuronIndex(synapseIndex);
+        int sourceNeuronIndex = layout.sourceNeuronIndex(synapseIndex);
+
+        double sourceSignal =
+            (sourceNeuronIndex == NetworkSchedule.OUTSIDE) ? activations.input() :
+            activations.neuronOutput(sourceNeuronIndex);
+        double changedSum = activations.sum(changedNeuronIndex) + sourceSignal * (weight - weights[synapseIndex]);
+        double changedOutput =
+            activationFunctions[changedNeuronIndex].calculate(changedSum) + biases[changedNeuronIndex];
+
+        int changedLayer = layout.layer(changedNeuronIndex);
+
+        if (changedLayer == layout.layers() - 1) {
+
+            return changedOutput * weights[layout.outputSynapseIndex()];
+        }
+
+        // the next layer depends on one changed neuron only, i.e. the cached sums are corrected
+        double[] current = new double[layout.maxLayerSize()];
+        double[] next = new double[layout.maxLayerSize()];
+
+        double signalDelta = changedOutput - activations.neuronOutput(changedNeuronIndex);
+        int changedSource = changedNeuronIndex - layout.neuronOffset(changedLayer);
+        int targetCount = layout.neuronCount(changedLayer + 1);
+        int offset = layout.neuronOffset(changedLayer + 1);
+        int synapseOffset = layout.synapseOffset(changedLayer) + changedSource * targetCount;
+
+        for (int target = 0; target < targetCount; target++) {
+
+            int neuronIndex = offset + target;
+            double sum = activations.sum(neuronIndex) + signalDelta * weights[synapseOffset + target];
+            current[target] = activationFunctions[neuronIndex].calculate(sum) + biases[neuronIndex];
+        }
+
+        // all neurons of the subsequent layers are affected
+        for (int layer = changedLayer + 2; layer < layout.layers(); layer++) {
+
+            int sourceCount = layout.neuronCount(layer - 1);
+            targetCount = layout.neuronCount(layer);
+            offset = layout.neuronOffset(layer);
+            synapseOffset = layout.synapseOffset(layer - 1);
+
+            for (int target = 0; target < targetCount; target++) {
+
+                double sum = 0.0d;
+
+                for (int source = 0; source < sourceCount; source++) {
+
+                    sum += current[source] * weights[synapseOffset + source * targetCount + target];
+                }
+
+                int neuronIndex = offset + target;
+                next[target] = activationFunctions[neuronIndex].calculate(sum) + biases[neuronIndex];
+            }
+
+            double[] tmp = current;
+            current = next;
+            next = tmp;
+        }
+
+        return current[0] * weights[layout.outputSynapseIndex()];
+    }
+
+}
@@ -0,0 +1,184 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.neurons;
+
+
+import java.util.Arrays;
+
+import jmul.math.numbers.Number;
+
+
+/**
+ * The scratch space for one forward pass through a network (see {@link NetworkSchedule}). The slots are allocated
+ * once, i.e. a primitive forward pass doesn't allocate any memory. An evaluation context must only be used by one
+ * forward pass at a time.
+ *
+ * @author Kristian Kutin
+ */
+public final class EvaluationContext {
+
+    /**
+     * The outputs of all neurons (see {@link Network#neurons()}).
+     */
+    private final Number[] outputs;
+
+    /**
+     * The primitive outputs of all neurons (see {@link Network#neurons()}).
+     */
+    private final double[] primitiveOutputs;
+
+    /**
+     * Flags if this context is currently used by a forward pass.
+     */
+    private boolean inUse;
+
+    /**
+     * Creates a new evaluation context according to the specified parameters.
+     *
+     * @param neuronCount
+     *        the number of neurons
+     */
+    public EvaluationContext(int neuronCount) {
+
+        super();
+
+        if (neuronCount < 1) {
+
+            throw new IllegalArgumentException("An invalid neuron count (" + neuronCount + ") was specified!");
+        }
+
+        this.outputs = new Number[neuronCount];
+        this.primitiveOutputs = new double[neuronCount];
+        this.inUse = false;
+    }
+
+    /**
+     * Returns the number of neurons this context was created for.
+     *
+     * @return a neuron count
+     */
+    public int neuronCount() {
+
+        return outputs.length;
+    }
+
+    /**
+     * Returns the output of the specified neuron.
+     *
+     * @param neuronIndex
+     *        the index of a neuron
+     *
+     * @return an output or <code>null</code> if the neuron wasn't evaluated yet
+     */
+    public Number output(int neuronIndex) {
+
+        return outputs[neuronIndex];
+    }
+
+    /**
+     * Sets the output of the specified neuron.
+     *
+     * @param neuronIndex
+     *        the index of a neuron
+     * @param output
+     *        an output
+     */
+    void setOutput(int neuronIndex, Number output) {
+
+        outputs[neuronIndex] = output;
+    }
+
+    /**
+     * Returns the primitive output of the specified neuron.
+     *
+     * @param neuronIndex
+     *        the index of a neuron
+     *
+     * @return an output
+     */
+    public double primitiveOutput(int neuronIndex) {
+
+        return primitiveOutputs[neuronIndex];
+    }
+
+    /**
+     * Sets the primitive output of the specified neuron.
+     *
+     * @param neuronIndex
+     *        the index of a neuron
+     * @param output
+     *        an output
+     */
+    void setPrimitiveOutput(int neuronIndex, double output) {
+
+        primitiveOutputs[neuronIndex] = output;
+    }
+
+    /**
+     * Checks if this context is currently used by a forward pass.
+     *
+     * @return <code>true</code> if this context is in use, else <code>false</code>
+     */
+    boolean isInUse() {
+
+        return inUse;
+    }
+
+    /**
+     * Marks this context as used by a forward pass.
+     */
+    void acquire() {
+
+        inUse = true;
+    }
+
+    /**
+     * Marks this context as free and releases all references to neuron outputs.
+     */
+    void release() {
+
+        Arrays.fill(outputs, null);
+        inUse = false;
+    }
+
+    /**
+     * Marks this context as free. The primitive outputs are overwritten by the next forward pass, i.e. no
+     * references have to be released.
+     */
+    void releasePrimitive() {
+
+        inUse = false;
+    }
+
+}
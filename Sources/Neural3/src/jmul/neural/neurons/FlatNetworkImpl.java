@@ -38,6 +38,12 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import jmul.backends.NumericBackend;
+import jmul.backends.NumericBackends;
+
+import jmul.data.TrainingData;
+import jmul.data.TrainingDataWithResults;
+
 import jmul.functions.Function;
 import jmul.functions.FunctionHelper;
 
@@ -52,6 +58,7 @@ import static jmul.neural.neurons.NetworkHelper.linkOutputSynapse;
 import static jmul.neural.neurons.NetworkHelper.setActivationFunction;
 import static jmul.neural.neurons.NetworkHelper.setBias;
 import static jmul.neural.neurons.NetworkHelper.setWeight;
+import jmul.neural.precision.PrecisionContext;
 import jmul.neural.signals.Signal;
 import jmul.neural.signals.SignalImpl;
 import jmul.neural.signals.SignalListener;
@@ -115,6 +122,21 @@ public class FlatNetworkImpl implements Network, SignalListener {
      */
     private Signal lastSignal;
 
+    /**
+     * A precision context which limits the signal values within this network.
+     */
+    private PrecisionContext precisionContext;
+
+    /**
+     * Determines how a signal is propagated through this network.
+     */
+    private volatile SignalPropagation signalPropagation;
+
+    /**
+     * The schedule for the forward pass (see {@link SignalPropagations#SCHEDULED}).
+     */
+    private final NetworkSchedule schedule;
+
     /**
      * Creates a new network according ot the specified layout.
      *
@@ -123,6 +145,25 @@ public class FlatNetworkImpl implements Network, SignalListener {
      */
     public FlatNetworkImpl(int... neuronsPerLayer) {
 
+        this(neuronsPerLayer, null, null, null);
+    }
+
+    /**
+     * Creates a new network according to the specified layout with the specified weights, biases and activation
+     * functions, i.e. no random values are generated. The arrays use the same index positions as
+     * {@link Network#synapses()} and {@link Network#neurons()}.
+     *
+     * @param neuronsPerLayer
+     *        the number of neurons per layer
+     * @param weights
+     *        all weights or <code>null</code> if random weights should be generated
+     * @param biases
+     *        all biases or <code>null</code> if random biases should be generated
+     * @param activationFunctions
+     *        all activation functions or <code>null</code> if random activation functions should be generated
+     */
+    FlatNetworkImpl(int[] neuronsPerLayer, Number[] weights, Number[] biases, Function[] activationFunctions) {
+
         super();
 
         if (neuronsPerLayer == null) {
@@ -135,18 +176,41 @@ public class FlatNetworkImpl implements Network, SignalListener {
             throw new IllegalArgumentException("At least two layers (input layer and output layer) are needed!");
         }
 
+        if ((biases == null) != (activationFunctions == null)) {
+
+            throw new IllegalArgumentException("Biases and activation functions must be specified together!");
+        }
+
+        NetworkLayout layout = new NetworkLayout(neuronsPerLayer);
+
+        if ((weights != null) && (weights.length != layout.synapseCount())) {
+
+            throw new IllegalArgumentException("The number of weights doesn't match the network layout!");
+        }
+
+        if ((biases != null) &&
+            ((biases.length != layout.neuronCount()) || (activationFunctions.length != layout.neuronCount()))) {
+
+            throw new IllegalArgumentException("The number of biases or activation functions doesn't match the " +
+                                               "network layout!");
+        }
+
         this.configuration = neuronsPerLayer;
         this.networkLayers = new ArrayList<>();
         this.synapses = new ArrayList<>();
         this.inputSynapse = null;
         this.outputSynapse = null;
+        this.precisionContext = null;
 
-        initializeNeurons(neuronsPerLayer);
+        initializeNeurons(neuronsPerLayer, biases, activationFunctions);
         checkInputLayer();
         checkOutputLayer();
-        initializeSynapses();
-        initializeInputSynapse();
-        initializeOutputSynapse();
+        initializeSynapses(weights);
+        initializeInputSynapse(weights);
+        initializeOutputSynapse(weights);
+
+        this.signalPropagation = SignalPropagations.SCHEDULED;
+        this.schedule = new NetworkSchedule(this);
     }
 
     /**
@@ -160,15 +224,21 @@ public class FlatNetworkImpl implements Network, SignalListener {
     }
 
     /**
-     * Initializes all neurons with a random bias.
+     * Initializes all neurons with the specified biases and activation functions or with random values.
      *
      * @param neuronsPerLayer
      *        the number of neurons per layer
+     * @param biases
+     *        all biases or <code>null</code> if random biases should be generated
+     * @param activationFunctions
+     *        all activation functions or <code>null</code> if random activation functions should be generated
      */
-    private void initializeNeurons(int... neuronsPerLayer) {
+    private void initializeNeurons(int[] neuronsPerLayer, Number[] biases, Function[] activationFunctions) {
 
         final int lastLayerIndex = neuronsPerLayer.length - 1;
 
+        int neuronIndex = 0;
+
         for (int layer = FIRST_LAYER_INDEX; layer < neuronsPerLayer.length; layer++) {
 
             boolean isInputLayer = (layer == FIRST_LAYER_INDEX);
@@ -199,7 +269,12 @@ public class FlatNetworkImpl implements Network, SignalListener {
                     throw new IllegalArgumentException("Opps! An unknown layer was encountered!");
                 }
 
-                if (isHiddenLayer) {
+                if (biases != null) {
+
+                    setBias(neuron, biases[neuronIndex]);
+                    setActivationFunction(neuron, activationFunctions[neuronIndex]);
+
+                } else if (isHiddenLayer) {
 
                     Number randomBias = NetworkHelper.randomBias();
                     Function activationFunction = FunctionHelper.randomActivationFunction();
@@ -219,6 +294,7 @@ public class FlatNetworkImpl implements Network, SignalListener {
                 }
 
                 neurons.add(neuron);
+                neuronIndex++;
             }
 
             networkLayers.add(neurons);
@@ -249,8 +325,14 @@ public class FlatNetworkImpl implements Network, SignalListener {
 
     /**
      * Initializes all synapses and connects all neurons accross layers.
+     *
+     * @param weights
+     *        all weights or <code>null</code> if random weights should be generated
      */
-    private void initializeSynapses() {
+    private void initializeSynapses(Number[] weights) {
+
+        // the input synapse is inserted at the first position later on
+        int synapseIndex = 1;
 
         int layerIndex = FIRST_LAYER_INDEX;
         int nextLayerIndex = 1;
@@ -263,8 +345,9 @@ public class FlatNetworkImpl implements Network, SignalListener {
                 for (Neuron neuronTo : networkLayers.get(nextLayerIndex)) {
 
                     Synapse synapse = new SynapseImpl(Layers.HIDDEN_LAYER);
-                    Number randomWeight = NetworkHelper.randomWeight();
-                    setWeight(synapse, randomWeight);
+                    Number weight = (weights == null) ? NetworkHelper.randomWeight() : weights[synapseIndex];
+                    setWeight(synapse, weight);
+                    synapseIndex++;
 
                     linkNeurons(neuronFrom, synapse, neuronTo);
                     synapses.add(synapse);
@@ -278,11 +361,22 @@ public class FlatNetworkImpl implements Network, SignalListener {
 
     /**
      * Initializes the input synapse.
+     *
+     * @param weights
+     *        all weights or <code>null</code> if the default weight should be used
      */
-    private void initializeInputSynapse() {
+    private void initializeInputSynapse(Number[] weights) {
 
         Synapse synapse = new SynapseImpl(Layers.INPUT_LAYER);
-        setWeight(synapse, GlobalSettings.DEFAULT_NUMBER_BASE, "1");
+
+        if (weights == null) {
+
+            setWeight(synapse, GlobalSettings.DEFAULT_NUMBER_BASE, "1");
+
+        } else {
+
+            setWeight(synapse, weights[0]);
+        }
 
         Neuron neuron = firstLayer().get(0);
         linkInputNeuron(synapse, neuron);
@@ -293,11 +387,22 @@ public class FlatNetworkImpl implements Network, SignalListener {
 
     /**
      * Initializes the output synapse.
+     *
+     * @param weights
+     *        all weights or <code>null</code> if the default weight should be used
      */
-    private void initializeOutputSynapse() {
+    private void initializeOutputSynapse(Number[] weights) {
 
         Synapse synapse = new SynapseImpl(Layers.OUTPUT_LAYER);
-        setWeight(synapse, GlobalSettings.DEFAULT_NUMBER_BASE, "1");
+
+        if (weights == null) {
+
+            setWeight(synapse, GlobalSettings.DEFAULT_NUMBER_BASE, "1");
+
+        } else {
+
+            setWeight(synapse, weights[weights.length - 1]);
+        }
 
         Neuron neuron = lastLayer().get(0);
         linkOutputNeuron(neuron, synapse);
@@ -432,9 +537,80 @@ public class FlatNetworkImpl implements Network, SignalListener {
         return Collections.unmodifiableList(synapses);
     }
 
+    /**
+     * Returns the precision context which limits the signal values within this network.
+     *
+     * @return a precision context or <code>null</code> if the signal values are not limited
+     */
+    public PrecisionContext precisionContext() {
+
+        return precisionContext;
+    }
+
+    /**
+     * Sets the precision context which limits the signal values within this network. The precision context is
+     * applied to the output of every neuron and every synapse.
+     *
+     * @param precisionContext
+     *        a precision context or <code>null</code> if the signal values should not be limited
+     */
+    public void setPrecisionContext(PrecisionContext precisionContext) {
+
+        this.precisionContext = precisionContext;
+
+        for (Neuron neuron : neurons()) {
+
+            NeuronImpl neuron2 = (NeuronImpl) neuron;
+            neuron2.setPrecisionContext(precisionContext);
+        }
+
+        for (Synapse synapse : synapses) {
+
+            SynapseImpl synapse2 = (SynapseImpl) synapse;
+            synapse2.setPrecisionContext(precisionContext);
+        }
+    }
+
+    /**
+     * Returns how a signal is propagated through this network.
+     *
+     * @return a signal propagation
+     */
+    public SignalPropagation signalPropagation() {
+
+        return signalPropagation;
+    }
+
+    /**
+     * Sets how a signal is propagated through this network.
+     *
+     * @param signalPropagation
+     *        a signal propagation
+     */
+    public void setSignalPropagation(SignalPropagation signalPropagation) {
+
+        if (signalPropagation == null) {
+
+            throw new IllegalArgumentException("No signal propagation (null) was specified!");
+        }
+
+        this.signalPropagation = signalPropagation;
+    }
+
+    /**
+     * Returns the schedule for the forward pass of this network.
+     *
+     * @return a schedule
+     */
+    public NetworkSchedule schedule() {
+
+        return schedule;
+    }
+
     /**
      * Sends a signal with specified input into the neural network and waits for the output signal.
-     * This operation should only be called on an activated neural network.
+     * This operation should only be called on an activated neural network. With a scheduled signal propagation
+     * several threads can send signals concurrently (see {@link NetworkSchedule#send(Number)}).
      *
      * @param input
      *        a number
@@ -444,12 +620,69 @@ public class FlatNetworkImpl implements Network, SignalListener {
     @Override
     public Number send(Number input) {
 
-        Signal inputSignal = new SignalImpl(OUTSIDE, input);
+        if (signalPropagation == SignalPropagations.SCHEDULED) {
+
+            return schedule.send(input);
+        }
 
-        inputSynapse.receiveSignal(inputSignal);
-        Number output = lastSignal.value();
+        // neurons cache partial inputs and the output is stored in a field, i.e. the listener based propagation
+        // must not be used concurrently
+        synchronized (this) {
 
-        return output;
+            Signal inputSignal = new SignalImpl(OUTSIDE, input);
+
+            inputSynapse.receiveSignal(inputSignal);
+            Number output = lastSignal.value();
+
+            return output;
+        }
+    }
+
+    /**
+     * Sends a signal with specified primitive input into the neural network and returns the output signal. The
+     * signal is propagated along the schedule of this network without allocating any memory (see
+     * {@link NetworkSchedule#send(double)}). The precision context is not applied.
+     *
+     * @param input
+     *        a primitive value
+     *
+     * @return the corresponding output
+     */
+    @Override
+    public double send(double input) {
+
+        return schedule.send(input);
+    }
+
+    /**
+     * Sends signals with the inputs of the specified training data into the neural network and returns the training
+     * data together with all output signals. The whole batch is evaluated layer by layer with primitive values (see
+     * {@link #compile()}). The outputs have the number base of the corresponding inputs.
+     *
+     * @param trainingData
+     *        a set of training data
+     *
+     * @return the training data with all outputs (same order as the training data)
+     */
+    @Override
+    public TrainingDataWithResults sendBatch(TrainingData trainingData) {
+
+        return NetworkHelper.sendBatch(this, trainingData);
+    }
+
+    /**
+     * Sends signals with the specified inputs into the neural network and returns all output signals. The whole batch
+     * is evaluated layer by layer with primitive values (see {@link #compile()}).
+     *
+     * @param inputs
+     *        all inputs (i.e. primitive values)
+     *
+     * @return all corresponding outputs (same order as the inputs)
+     */
+    @Override
+    public double[] sendBatch(double[] inputs) {
+
+        return compile().sendBatch(inputs);
     }
 
     @Override
@@ -458,6 +691,40 @@ public class FlatNetworkImpl implements Network, SignalListener {
         this.lastSignal = signal;
     }
 
+    /**
+     * Compiles this network into an inference engine which evaluates signals with primitive values. The compiled
+     * network is a snapshot, i.e. later changes of weights, biases or activation functions are not reflected.
+     *
+     * @return a compiled network
+     */
+    public CompiledNetwork compile() {
+
+        return new CompiledNetworkImpl(this);
+    }
+
+    /**
+     * Compiles this network into an inference engine which evaluates signals with the specified numeric backend.
+     * The compiled network is a snapshot, i.e. later changes of weights, biases or activation functions are not
+     * reflected.
+     *
+     * @param <T>
+     *        the value type of the numeric backend
+     * @param backend
+     *        a numeric backend
+     *
+     * @return a compiled network
+     */
+    @SuppressWarnings("unchecked")
+    public <T> BackendNetwork<T> compile(NumericBackend<T> backend) {
+
+        if (backend == NumericBackends.DOUBLE) {
+
+            return (BackendNetwork<T>) new CompiledNetworkImpl(this);
+        }
+
+        return new BackendNetworkImpl<>(this, backend);
+    }
+
     /**
      * Returns the signal flow type for this network.
      *
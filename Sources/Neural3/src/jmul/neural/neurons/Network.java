@@ -36,6 +36,9 @@ package jmul.neural.neurons;
 
 import java.util.List;
 
+import jmul.data.TrainingData;
+import jmul.data.TrainingDataWithResults;
+
 import jmul.math.numbers.Number;
 
 
@@ -121,6 +124,38 @@ public interface Network {
      */
     Number send(Number input);
 
+    /**
+     * Sends a signal with specified primitive input into the neural network and returns the output signal.
+     *
+     * @param input
+     *        a primitive value
+     *
+     * @return the corresponding output
+     */
+    double send(double input);
+
+    /**
+     * Sends signals with the inputs of the specified training data into the neural network and returns the training
+     * data together with all output signals. The whole batch is evaluated layer by layer with primitive values.
+     *
+     * @param trainingData
+     *        a set of training data
+     *
+     * @return the training data with all outputs (same order as the training data)
+     */
+    TrainingDataWithResults sendBatch(TrainingData trainingData);
+
+    /**
+     * Sends signals with the specified inputs into the neural network and returns all output signals. The whole batch
+     * is evaluated layer by layer with primitive values.
+     *
+     * @param inputs
+     *        all inputs (i.e. primitive values)
+     *
+     * @return all corresponding outputs (same order as the inputs)
+     */
+    double[] sendBatch(double[] inputs);
+
     /**
      * Returns the signal flow type for this network.
      *
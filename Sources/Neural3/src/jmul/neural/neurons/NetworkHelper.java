@@ -35,9 +35,15 @@ package jmul.neural.neurons;
 
 
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import jmul.backends.NumericBackend;
 
 import jmul.data.DataEntry;
+import jmul.data.DataEntryWithResult;
 import jmul.data.TrainingData;
+import jmul.data.TrainingDataWithResults;
 
 import jmul.functions.Function;
 
@@ -48,10 +54,14 @@ import static jmul.math.numbers.NumberHelper.createNumber;
 import jmul.metainfo.annotations.Modified;
 
 import jmul.neural.GlobalSettings;
+import jmul.neural.NumberConversionHelper;
+import jmul.neural.precision.PrecisionContext;
 import jmul.neural.signals.SignalListener;
 import jmul.neural.training.NetworkTrainer;
 import jmul.neural.training.NeuronTrainer;
 import jmul.neural.training.SynapseTrainer;
+import jmul.neural.training.TrainingLoop;
+import jmul.neural.training.TrainingReport;
 
 
 /**
@@ -119,6 +129,14 @@ public final class NetworkHelper {
             return;
         }
 
+        if (synapse instanceof OverlayNetwork.SynapseView) {
+
+            OverlayNetwork.SynapseView synapse2 = (OverlayNetwork.SynapseView) synapse;
+            synapse2.network().setWeight(synapse2.index(), weight);
+
+            return;
+        }
+
         throw new IllegalArgumentException("The actual synapse type is unknown!");
     }
 
@@ -172,6 +190,14 @@ public final class NetworkHelper {
             return;
         }
 
+        if (neuron instanceof OverlayNetwork.NeuronView) {
+
+            OverlayNetwork.NeuronView neuron2 = (OverlayNetwork.NeuronView) neuron;
+            neuron2.network().setBias(neuron2.index(), bias);
+
+            return;
+        }
+
         throw new IllegalArgumentException("The actual neuron type is unknown!");
     }
 
@@ -203,9 +229,51 @@ public final class NetworkHelper {
             return;
         }
 
+        if (neuron instanceof OverlayNetwork.NeuronView) {
+
+            OverlayNetwork.NeuronView neuron2 = (OverlayNetwork.NeuronView) neuron;
+            neuron2.network().setActivationFunction(neuron2.index(), activationFunction);
+
+            return;
+        }
+
         throw new IllegalArgumentException("The actual neuron type is unknown!");
     }
 
+    /**
+     * Sets the precision context in the specified neural network.
+     *
+     * @param network
+     *        a neural network
+     * @param precisionContext
+     *        a precision context or <code>null</code> if the signal values should not be limited
+     */
+    public static void setPrecisionContext(Network network, PrecisionContext precisionContext) {
+
+        if (network == null) {
+
+            throw new IllegalArgumentException("No network (null) was specified!");
+        }
+
+        if (network instanceof FlatNetworkImpl) {
+
+            FlatNetworkImpl network2 = (FlatNetworkImpl) network;
+            network2.setPrecisionContext(precisionContext);
+
+            return;
+        }
+
+        if (network instanceof OverlayNetwork) {
+
+            OverlayNetwork network2 = (OverlayNetwork) network;
+            network2.setPrecisionContext(precisionContext);
+
+            return;
+        }
+
+        throw new IllegalArgumentException("An unknown neural network type was specified!");
+    }
+
     /**
      * Links the specified neurons with the specified synapse.
      *
@@ -387,6 +455,12 @@ public final class NetworkHelper {
             return clone(network2);
         }
 
+        if (network instanceof OverlayNetwork) {
+
+            OverlayNetwork network2 = (OverlayNetwork) network;
+            return network2.copy();
+        }
+
         throw new IllegalArgumentException("An unknown neural network type was specified!");
     }
 
@@ -400,44 +474,183 @@ public final class NetworkHelper {
      */
     private static FlatNetworkImpl clone(FlatNetworkImpl network) {
 
-        FlatNetworkImpl clonedNetwork = new FlatNetworkImpl(network.configuration());
+        List<Synapse> synapses = network.synapses();
+        Number[] weights = new Number[synapses.size()];
 
-        {
-            List<Neuron> allOriginals = network.neurons();
-            List<Neuron> allClones = clonedNetwork.neurons();
+        for (int index = 0; index < weights.length; index++) {
 
-            int max = allOriginals.size();
+            weights[index] = synapses.get(index).weight();
+        }
 
-            for (int index = 0; index < max; index++) {
+        List<Neuron> neurons = network.neurons();
+        Number[] biases = new Number[neurons.size()];
+        Function[] activationFunctions = new Function[neurons.size()];
 
-                Neuron original = allOriginals.get(index);
-                Neuron clone = allClones.get(index);
+        for (int index = 0; index < biases.length; index++) {
 
-                Number bias = original.bias();
-                setBias(clone, bias);
+            Neuron neuron = neurons.get(index);
 
-                Function activationFunction = original.activationFunction();
-                setActivationFunction(clone, activationFunction);
-            }
+            biases[index] = neuron.bias();
+            activationFunctions[index] = neuron.activationFunction();
         }
 
-        {
-            List<Synapse> allOriginals = network.synapses();
-            List<Synapse> allClones = clonedNetwork.synapses();
+        FlatNetworkImpl clonedNetwork =
+            new FlatNetworkImpl(network.configuration(), weights, biases, activationFunctions);
+        clonedNetwork.setPrecisionContext(network.precisionContext());
+        clonedNetwork.setSignalPropagation(network.signalPropagation());
 
-            int max = allOriginals.size();
+        return clonedNetwork;
+    }
 
-            for (int index = 0; index < max; index++) {
+    /**
+     * Returns an overlay of the specified neural network (see {@link OverlayNetwork}). An overlay network is copied
+     * (see {@link OverlayNetwork#copy()}), i.e. the copy shares all weights, biases and activation functions with
+     * the original until one of them is modified. The overlay uses the precision context of the specified network.
+     *
+     * @param network
+     *        a neural network
+     *
+     * @return an overlay network
+     */
+    public static OverlayNetwork overlay(Network network) {
 
-                Synapse original = allOriginals.get(index);
-                Synapse clone = allClones.get(index);
+        if (network instanceof FlatNetworkImpl) {
 
-                Number weight = original.weight();
-                setWeight(clone, weight);
-            }
+            FlatNetworkImpl network2 = (FlatNetworkImpl) network;
+            return new OverlayNetwork(network2);
         }
 
-        return clonedNetwork;
+        if (network instanceof OverlayNetwork) {
+
+            OverlayNetwork network2 = (OverlayNetwork) network;
+            return network2.copy();
+        }
+
+        throw new IllegalArgumentException("An unknown neural network type was specified!");
+    }
+
+    /**
+     * Returns the topology of the specified neural network.
+     *
+     * @param network
+     *        a neural network
+     *
+     * @return a network layout
+     */
+    public static NetworkLayout layout(Network network) {
+
+        if (network instanceof FlatNetworkImpl) {
+
+            FlatNetworkImpl network2 = (FlatNetworkImpl) network;
+            return new NetworkLayout(network2.configuration());
+        }
+
+        if (network instanceof OverlayNetwork) {
+
+            OverlayNetwork network2 = (OverlayNetwork) network;
+            return network2.layout();
+        }
+
+        throw new IllegalArgumentException("An unknown neural network type was specified!");
+    }
+
+    /**
+     * Compiles the specified neural network into an inference engine which evaluates signals with primitive values.
+     *
+     * @param network
+     *        a neural network
+     *
+     * @return a compiled network
+     */
+    public static CompiledNetwork compile(Network network) {
+
+        if (network instanceof FlatNetworkImpl) {
+
+            FlatNetworkImpl network2 = (FlatNetworkImpl) network;
+            return network2.compile();
+        }
+
+        if (network instanceof OverlayNetwork) {
+
+            OverlayNetwork network2 = (OverlayNetwork) network;
+            return network2.compile();
+        }
+
+        throw new IllegalArgumentException("An unknown neural network type was specified!");
+    }
+
+    /**
+     * Compiles the specified neural network into an inference engine which evaluates signals with the specified
+     * numeric backend.
+     *
+     * @param <T>
+     *        the value type of the numeric backend
+     * @param network
+     *        a neural network
+     * @param backend
+     *        a numeric backend
+     *
+     * @return a compiled network
+     */
+    public static <T> BackendNetwork<T> compile(Network network, NumericBackend<T> backend) {
+
+        if (network instanceof FlatNetworkImpl) {
+
+            FlatNetworkImpl network2 = (FlatNetworkImpl) network;
+            return network2.compile(backend);
+        }
+
+        if (network instanceof OverlayNetwork) {
+
+            OverlayNetwork network2 = (OverlayNetwork) network;
+            return network2.compile(backend);
+        }
+
+        throw new IllegalArgumentException("An unknown neural network type was specified!");
+    }
+
+    /**
+     * Sends signals with the inputs of the specified training data into the specified network and returns all
+     * output signals. The network is evaluated with primitive values (see {@link Network#sendBatch(double[])}). The
+     * outputs have the number base of the corresponding inputs.
+     *
+     * @param network
+     *        a neural network
+     * @param trainingData
+     *        a set of training data
+     *
+     * @return the training data with all outputs (same order as the training data)
+     */
+    static TrainingDataWithResults sendBatch(Network network, TrainingData trainingData) {
+
+        if (trainingData == null) {
+
+            throw new IllegalArgumentException("No training data (null) was specified!");
+        }
+
+        DataEntry[] entries = new DataEntry[trainingData.size()];
+        double[] inputs = new double[entries.length];
+
+        int index = 0;
+        for (DataEntry entry : trainingData) {
+
+            entries[index] = entry;
+            inputs[index] = entry.input.toPrimitiveDouble();
+            index++;
+        }
+
+        double[] outputs = network.sendBatch(inputs);
+        DataEntryWithResult[] results = new DataEntryWithResult[entries.length];
+
+        for (index = 0; index < entries.length; index++) {
+
+            DataEntry entry = entries[index];
+            Number output = NumberConversionHelper.toNumber(entry.input.base(), outputs[index]);
+
+            results[index] = new DataEntryWithResult(entry.input, entry.expectedOutput, output);
+        }
+
+        return new TrainingDataWithResults(results);
     }
 
     /**
@@ -455,27 +668,88 @@ public final class NetworkHelper {
         NetworkTrainer synapseTrainer = new SynapseTrainer();
         NetworkTrainer neuronTrainer = new NeuronTrainer();
 
+        NetworkTrainer epochTrainer = (Network trainedNetwork, TrainingData data) -> {
+
+            synapseTrainer.trainNetwork(trainedNetwork, data);
+            return neuronTrainer.trainNetwork(trainedNetwork, data);
+        };
+
+        TrainingLoop trainingLoop =
+            new TrainingLoop(epochTrainer, TrainingLoop.DEFAULT_TARGET_ERROR, TrainingLoop.DEFAULT_PATIENCE,
+                             TrainingLoop.DEFAULT_MIN_IMPROVEMENT, TrainingLoop.DEFAULT_MAX_EPOCHS,
+                             GlobalSettings.DEFAULT_TRAINING_TIME_BUDGET, TimeUnit.MILLISECONDS,
+                             ForkJoinPool.commonPool());
+
         System.out.println(network);
         System.out.println("--------------------------------------------------------------------------------");
 
-        synapseTrainer.trainNetwork(network, trainingData);
-        neuronTrainer.trainNetwork(network, trainingData);
+        TrainingReport report = trainingLoop.train(network, trainingData);
 
         System.out.println("--------------------------------------------------------------------------------");
         System.out.println(network);
         System.out.println("--------------------------------------------------------------------------------");
 
-        for (DataEntry entry : trainingData) {
-
-            Number actualOutput = network.send(entry.input);
+        for (DataEntryWithResult entry : network.sendBatch(trainingData)) {
 
-            String summary = String.format("%s -> %s expected %s", entry.input, actualOutput, entry.expectedOutput);
+            String summary =
+                String.format("%s -> %s expected %s", entry.input, entry.actualOutput, entry.expectedOutput);
             System.out.println(summary);
         }
 
-        //TODO repeat until error is small
+        System.out.println(report);
+
+        return NumberConversionHelper.toNumber(report.bestError());
+    }
+
+    /**
+     * Copies all weights, biases and activation functions of the source network into the destination network.
+     * Both networks must have the same topology.
+     *
+     * @param source
+     *        a neural network
+     * @param destination
+     *        a neural network with the same topology
+     */
+    public static void copyParameters(Network source, @Modified Network destination) {
+
+        if (source == null) {
+
+            throw new IllegalArgumentException("No source network (null) was specified!");
+        }
+
+        if (destination == null) {
 
-        return null;
+            throw new IllegalArgumentException("No destination network (null) was specified!");
+        }
+
+        List<Neuron> sourceNeurons = source.neurons();
+        List<Neuron> destinationNeurons = destination.neurons();
+        List<Synapse> sourceSynapses = source.synapses();
+        List<Synapse> destinationSynapses = destination.synapses();
+
+        if ((sourceNeurons.size() != destinationNeurons.size()) ||
+            (sourceSynapses.size() != destinationSynapses.size())) {
+
+            throw new IllegalArgumentException("The networks have different topologies!");
+        }
+
+        for (int index = 0; index < sourceNeurons.size(); index++) {
+
+            Neuron sourceNeuron = sourceNeurons.get(index);
+            Neuron destinationNeuron = destinationNeurons.get(index);
+
+            if (sourceNeuron.bias() != null) {
+
+                setBias(destinationNeuron, sourceNeuron.bias());
+            }
+
+            setActivationFunction(destinationNeuron, sourceNeuron.activationFunction());
+        }
+
+        for (int index = 0; index < sourceSynapses.size(); index++) {
+
+            setWeight(destinationSynapses.get(index), sourceSynapses.get(index).weight());
+        }
     }
 
 }
@@ -0,0 +1,340 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.neurons;
+
+
+/**
+ * An implementation of the layout of a flat neural network (i.e. neurons per layer). The layout determines the index
+ * positions of neurons and synapses (see {@link Network#neurons()} and {@link Network#synapses()}).
+ *
+ * @author Kristian Kutin
+ */
+public final class NetworkLayout {
+
+    /**
+     * The configuration of the network (i.e. neurons per layer).
+     */
+    private final int[] configuration;
+
+    /**
+     * The index of the first neuron of each layer.
+     */
+    private final int[] neuronOffsets;
+
+    /**
+     * The index of the first synapse which connects a layer with the next layer.
+     */
+    private final int[] synapseOffsets;
+
+    /**
+     * The largest number of neurons within a layer.
+     */
+    private final int maxLayerSize;
+
+    /**
+     * The total number of neurons.
+     */
+    private final int neuronCount;
+
+    /**
+     * The total number of synapses (including the input synapse and the output synapse).
+     */
+    private final int synapseCount;
+
+    /**
+     * Creates a new layout according to the specified parameters.
+     *
+     * @param configuration
+     *        the number of neurons per layer
+     */
+    public NetworkLayout(int... configuration) {
+
+        super();
+
+        if (configuration == null) {
+
+            throw new IllegalArgumentException("No network layout (null) was specified!");
+        }
+
+        if (configuration.length < 2) {
+
+            throw new IllegalArgumentException("At least two layers (input layer and output layer) are needed!");
+        }
+
+        this.configuration = configuration.clone();
+        this.neuronOffsets = new int[configuration.length];
+        this.synapseOffsets = new int[configuration.length];
+
+        int neurons = 0;
+        int synapses = 1;
+        int max = 0;
+
+        for (int layer = 0; layer < configuration.length; layer++) {
+
+            neuronOffsets[layer] = neurons;
+            synapseOffsets[layer] = synapses;
+
+            neurons += configuration[layer];
+            max = Math.max(max, configuration[layer]);
+
+            if (layer < configuration.length - 1) {
+
+                synapses += configuration[layer] * configuration[layer + 1];
+            }
+        }
+
+        this.neuronCount = neurons;
+        this.synapseCount = synapses + 1;
+        this.maxLayerSize = max;
+    }
+
+    /**
+     * Returns the configuration (i.e. neurons per layer).
+     *
+     * @return a configuration
+     */
+    public int[] configuration() {
+
+        return configuration.clone();
+    }
+
+    /**
+     * Returns the number of layers.
+     *
+     * @return the number of layers
+     */
+    public int layers() {
+
+        return configuration.length;
+    }
+
+    /**
+     * Returns the neuron count for the specified layer.
+     *
+     * @param layer
+     *        a layer
+     *
+     * @return the neuron count
+     */
+    public int neuronCount(int layer) {
+
+        return configuration[layer];
+    }
+
+    /**
+     * Returns the total neuron count.
+     *
+     * @return the total neuron count
+     */
+    public int neuronCount() {
+
+        return neuronCount;
+    }
+
+    /**
+     * Returns the total synapse count (including the input synapse and the output synapse).
+     *
+     * @return the total synapse count
+     */
+    public int synapseCount() {
+
+        return synapseCount;
+    }
+
+    /**
+     * Returns the index of the first neuron of the specified layer.
+     *
+     * @param layer
+     *        a layer
+     *
+     * @return a neuron index
+     */
+    public int neuronOffset(int layer) {
+
+        return neuronOffsets[layer];
+    }
+
+    /**
+     * Returns the index of the first synapse which connects the specified layer with the next layer. The synapses
+     * between two layers are ordered by source neuron and then by target neuron.
+     *
+     * @param layer
+     *        a layer
+     *
+     * @return a synapse index
+     */
+    public int synapseOffset(int layer) {
+
+        return synapseOffsets[layer];
+    }
+
+    /**
+     * Returns the index of the input synapse.
+     *
+     * @return a synapse index
+     */
+    public int inputSynapseIndex() {
+
+        return 0;
+    }
+
+    /**
+     * Returns the index of the output synapse.
+     *
+     * @return a synapse index
+     */
+    public int outputSynapseIndex() {
+
+        return synapseCount - 1;
+    }
+
+    /**
+     * Returns the index of the output neuron.
+     *
+     * @return a neuron index
+     */
+    public int outputNeuronIndex() {
+
+        return neuronCount - 1;
+    }
+
+    /**
+     * Returns the largest number of neurons within a layer.
+     *
+     * @return a neuron count
+     */
+    public int maxLayerSize() {
+
+        return maxLayerSize;
+    }
+
+    /**
+     * Returns the layer of the specified neuron.
+     *
+     * @param neuronIndex
+     *        the index of a neuron
+     *
+     * @return a layer
+     */
+    public int layer(int neuronIndex) {
+
+        int layer = 0;
+
+        while ((layer < neuronOffsets.length - 1) && (neuronOffsets[layer + 1] <= neuronIndex)) {
+
+            layer++;
+        }
+
+        return layer;
+    }
+
+    /**
+     * Returns the index of the neuron which sends signals to the specified synapse.
+     *
+     * @param synapseIndex
+     *        the index of a synapse
+     *
+     * @return a neuron index or {@link NetworkSchedule#OUTSIDE} for the input synapse
+     */
+    public int sourceNeuronIndex(int synapseIndex) {
+
+        if (synapseIndex == inputSynapseIndex()) {
+
+            return NetworkSchedule.OUTSIDE;
+        }
+
+        if (synapseIndex == outputSynapseIndex()) {
+
+            return outputNeuronIndex();
+        }
+
+        int layer = synapseLayer(synapseIndex);
+        int local = synapseIndex - synapseOffsets[layer];
+
+        return neuronOffsets[layer] + (local / configuration[layer + 1]);
+    }
+
+    /**
+     * Returns the index of the neuron which receives signals from the specified synapse.
+     *
+     * @param synapseIndex
+     *        the index of a synapse
+     *
+     * @return a neuron index or {@link NetworkSchedule#OUTSIDE} for the output synapse
+     */
+    public int targetNeuronIndex(int synapseIndex) {
+
+        if (synapseIndex == inputSynapseIndex()) {
+
+            return 0;
+        }
+
+        if (synapseIndex == outputSynapseIndex()) {
+
+            return NetworkSchedule.OUTSIDE;
+        }
+
+        int layer = synapseLayer(synapseIndex);
+        int local = synapseIndex - synapseOffsets[layer];
+
+        return neuronOffsets[layer + 1] + (local % configuration[layer + 1]);
+    }
+
+    /**
+     * Returns the layer whose neurons send signals to the specified synapse (i.e. the synapse connects this layer
+     * with the next layer).
+     *
+     * @param synapseIndex
+     *        the index of a synapse between two layers
+     *
+     * @return a layer
+     */
+    private int synapseLayer(int synapseIndex) {
+
+        if ((synapseIndex <= inputSynapseIndex()) || (synapseIndex >= outputSynapseIndex())) {
+
+            throw new IllegalArgumentException("The synapse (" + synapseIndex + ") doesn't connect two layers!");
+        }
+
+        int layer = 0;
+
+        while ((layer < synapseOffsets.length - 2) && (synapseOffsets[layer + 1] <= synapseIndex)) {
+
+            layer++;
+        }
+
+        return layer;
+    }
+
+}
@@ -0,0 +1,648 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.neurons;
+
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import jmul.math.numbers.Number;
+
+import jmul.neural.signals.SignalListener;
+
+
+/**
+ * A schedule for the forward pass of a network. The schedule is computed once from the links between neurons and
+ * synapses. It contains a topological order of all neurons and the fan-in and fan-out of every neuron as index
+ * arrays. Neuron indices refer to {@link Network#neurons()} and synapse indices refer to {@link Network#synapses()}.
+ * Weights, biases and activation functions are read from the network whenever a signal is sent, i.e. changes are
+ * reflected immediately.
+ *
+ * @author Kristian Kutin
+ */
+public final class NetworkSchedule {
+
+    /**
+     * The index for signal sources and signal targets outside of the network.
+     */
+    public static final int OUTSIDE;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        OUTSIDE = -1;
+    }
+
+    /**
+     * All neurons (see {@link Network#neurons()}).
+     */
+    private final NeuronImpl[] neurons;
+
+    /**
+     * All synapses (see {@link Network#synapses()}).
+     */
+    private final SynapseImpl[] synapses;
+
+    /**
+     * All neuron indices in topological order.
+     */
+    private final int[] order;
+
+    /**
+     * The incoming synapses for every neuron.
+     */
+    private final int[][] fanIn;
+
+    /**
+     * The outgoing synapses for every neuron.
+     */
+    private final int[][] fanOut;
+
+    /**
+     * The source neuron for every synapse.
+     */
+    private final int[] sources;
+
+    /**
+     * The target neuron for every synapse.
+     */
+    private final int[] targets;
+
+    /**
+     * The index of the input synapse.
+     */
+    private final int inputSynapseIndex;
+
+    /**
+     * The index of the output synapse.
+     */
+    private final int outputSynapseIndex;
+
+    /**
+     * An evaluation context for every thread.
+     */
+    private final ThreadLocal<EvaluationContext> contexts;
+
+    /**
+     * Creates a new schedule for the specified network.
+     *
+     * @param network
+     *        a neural network
+     */
+    public NetworkSchedule(Network network) {
+
+        super();
+
+        if (network == null) {
+
+            throw new IllegalArgumentException("No network (null) was specified!");
+        }
+
+        List<Neuron> neuronList = network.neurons();
+        List<Synapse> synapseList = network.synapses();
+
+        this.neurons = new NeuronImpl[neuronList.size()];
+        this.synapses = new SynapseImpl[synapseList.size()];
+
+        Map<Object, Integer> neuronIndices = new IdentityHashMap<>();
+        Map<Object, Integer> synapseIndices = new IdentityHashMap<>();
+
+        for (int index = 0; index < neurons.length; index++) {
+
+            Neuron neuron = neuronList.get(index);
+
+            if (!(neuron instanceof NeuronImpl)) {
+
+                throw new IllegalArgumentException("The actual neuron type is unknown!");
+            }
+
+            neurons[index] = (NeuronImpl) neuron;
+            neuronIndices.put(neuron, index);
+        }
+
+        for (int index = 0; index < synapses.length; index++) {
+
+            Synapse synapse = synapseList.get(index);
+
+            if (!(synapse instanceof SynapseImpl)) {
+
+                throw new IllegalArgumentException("The actual synapse type is unknown!");
+            }
+
+            synapses[index] = (SynapseImpl) synapse;
+            synapseIndices.put(synapse, index);
+        }
+
+        this.sources = new int[synapses.length];
+        this.targets = new int[synapses.length];
+
+        Arrays.fill(sources, OUTSIDE);
+        Arrays.fill(targets, OUTSIDE);
+
+        for (int neuronIndex = 0; neuronIndex < neurons.length; neuronIndex++) {
+
+            for (SignalListener listener : neurons[neuronIndex].signalListeners()) {
+
+                Integer synapseIndex = synapseIndices.get(listener);
+
+                if (synapseIndex != null) {
+
+                    sources[synapseIndex] = neuronIndex;
+                }
+            }
+        }
+
+        for (int synapseIndex = 0; synapseIndex < synapses.length; synapseIndex++) {
+
+            for (SignalListener listener : synapses[synapseIndex].listeners()) {
+
+                Integer neuronIndex = neuronIndices.get(listener);
+
+                if (neuronIndex != null) {
+
+                    targets[synapseIndex] = neuronIndex;
+                }
+            }
+        }
+
+        this.fanIn = collectSynapses(targets, neurons.length);
+        this.fanOut = collectSynapses(sources, neurons.length);
+        this.order = sortTopologically();
+
+        this.inputSynapseIndex = indexOf(synapseIndices, network.inputSynapse());
+        this.outputSynapseIndex = indexOf(synapseIndices, network.outputSynapse());
+
+        this.contexts = ThreadLocal.withInitial(() -> new EvaluationContext(neurons.length));
+    }
+
+    /**
+     * Looks up the index of the specified synapse.
+     *
+     * @param synapseIndices
+     *        all synapse indices
+     * @param synapse
+     *        a synapse
+     *
+     * @return an index
+     */
+    private static int indexOf(Map<Object, Integer> synapseIndices, Synapse synapse) {
+
+        Integer index = synapseIndices.get(synapse);
+
+        if (index == null) {
+
+            throw new IllegalArgumentException("The synapse " + synapse + " is not part of the network!");
+        }
+
+        return index;
+    }
+
+    /**
+     * Groups all synapses by neuron.
+     *
+     * @param neuronIndices
+     *        a neuron index for every synapse
+     * @param neuronCount
+     *        the number of neurons
+     *
+     * @return all synapse indices by neuron
+     */
+    private static int[][] collectSynapses(int[] neuronIndices, int neuronCount) {
+
+        int[] counts = new int[neuronCount];
+
+        for (int neuronIndex : neuronIndices) {
+
+            if (neuronIndex != OUTSIDE) {
+
+                counts[neuronIndex]++;
+            }
+        }
+
+        int[][] result = new int[neuronCount][];
+
+        for (int neuronIndex = 0; neuronIndex < neuronCount; neuronIndex++) {
+
+            result[neuronIndex] = new int[counts[neuronIndex]];
+            counts[neuronIndex] = 0;
+        }
+
+        for (int synapseIndex = 0; synapseIndex < neuronIndices.length; synapseIndex++) {
+
+            int neuronIndex = neuronIndices[synapseIndex];
+
+            if (neuronIndex != OUTSIDE) {
+
+                result[neuronIndex][counts[neuronIndex]] = synapseIndex;
+                counts[neuronIndex]++;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Sorts all neurons topologically (see Kahn's algorithm).
+     *
+     * @return all neuron indices in topological order
+     */
+    private int[] sortTopologically() {
+
+        int[] inDegrees = new int[neurons.length];
+
+        for (int neuronIndex = 0; neuronIndex < neurons.length; neuronIndex++) {
+
+            for (int synapseIndex : fanIn[neuronIndex]) {
+
+                if (sources[synapseIndex] != OUTSIDE) {
+
+                    inDegrees[neuronIndex]++;
+                }
+            }
+        }
+
+        int[] result = new int[neurons.length];
+        int head = 0;
+        int tail = 0;
+
+        for (int neuronIndex = 0; neuronIndex < neurons.length; neuronIndex++) {
+
+            if (inDegrees[neuronIndex] == 0) {
+
+                result[tail] = neuronIndex;
+                tail++;
+            }
+        }
+
+        while (head < tail) {
+
+            int neuronIndex = result[head];
+            head++;
+
+            for (int synapseIndex : fanOut[neuronIndex]) {
+
+                int target = targets[synapseIndex];
+
+                if (target == OUTSIDE) {
+
+                    continue;
+                }
+
+                inDegrees[target]--;
+
+                if (inDegrees[target] == 0) {
+
+                    result[tail] = target;
+                    tail++;
+                }
+            }
+        }
+
+        if (tail != neurons.length) {
+
+            throw new IllegalArgumentException("The network contains cycles and cannot be scheduled!");
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the number of neurons.
+     *
+     * @return a neuron count
+     */
+    public int neuronCount() {
+
+        return neurons.length;
+    }
+
+    /**
+     * Returns the number of synapses.
+     *
+     * @return a synapse count
+     */
+    public int synapseCount() {
+
+        return synapses.length;
+    }
+
+    /**
+     * Returns all neuron indices in topological order.
+     *
+     * @return all neuron indices
+     */
+    public int[] order() {
+
+        return order.clone();
+    }
+
+    /**
+     * Returns the incoming synapses of the specified neuron.
+     *
+     * @param neuronIndex
+     *        the index of a neuron
+     *
+     * @return all synapse indices
+     */
+    public int[] fanIn(int neuronIndex) {
+
+        return fanIn[neuronIndex].clone();
+    }
+
+    /**
+     * Returns the outgoing synapses of the specified neuron.
+     *
+     * @param neuronIndex
+     *        the index of a neuron
+     *
+     * @return all synapse indices
+     */
+    public int[] fanOut(int neuronIndex) {
+
+        return fanOut[neuronIndex].clone();
+    }
+
+    /**
+     * Returns the source neuron of the specified synapse.
+     *
+     * @param synapseIndex
+     *        the index of a synapse
+     *
+     * @return a neuron index or {@link #OUTSIDE}
+     */
+    public int source(int synapseIndex) {
+
+        return sources[synapseIndex];
+    }
+
+    /**
+     * Returns the target neuron of the specified synapse.
+     *
+     * @param synapseIndex
+     *        the index of a synapse
+     *
+     * @return a neuron index or {@link #OUTSIDE}
+     */
+    public int target(int synapseIndex) {
+
+        return targets[synapseIndex];
+    }
+
+    /**
+     * Returns the index of the input synapse.
+     *
+     * @return a synapse index
+     */
+    public int inputSynapseIndex() {
+
+        return inputSynapseIndex;
+    }
+
+    /**
+     * Returns the index of the output synapse.
+     *
+     * @return a synapse index
+     */
+    public int outputSynapseIndex() {
+
+        return outputSynapseIndex;
+    }
+
+    /**
+     * Sends a signal with specified input into the network and returns the output signal. The forward pass uses the
+     * evaluation context of the current thread, i.e. several threads can send signals concurrently. A nested call on
+     * the same thread uses a new evaluation context.
+     *
+     * @param input
+     *        a number
+     *
+     * @return the corresponding output
+     */
+    public Number send(Number input) {
+
+        EvaluationContext context = contexts.get();
+
+        if (context.isInUse()) {
+
+            context = new EvaluationContext(neurons.length);
+        }
+
+        return send(input, context);
+    }
+
+    /**
+     * Sends a signal with specified input into the network and returns the output signal. The neurons are evaluated
+     * in topological order. Every synapse amplifies the output of its source neuron (or the input if the synapse
+     * has no source neuron).
+     *
+     * @param input
+     *        a number
+     * @param context
+     *        an evaluation context which is not used by any other forward pass
+     *
+     * @return the corresponding output
+     */
+    public Number send(Number input, EvaluationContext context) {
+
+        if (input == null) {
+
+            throw new IllegalArgumentException("No input (null) was specified!");
+        }
+
+        if (context == null) {
+
+            throw new IllegalArgumentException("No evaluation context (null) was specified!");
+        }
+
+        if (context.neuronCount() != neurons.length) {
+
+            throw new IllegalArgumentException("The evaluation context doesn't match the network!");
+        }
+
+        context.acquire();
+
+        try {
+
+            for (int neuronIndex : order) {
+
+                Number sum = null;
+
+                for (int synapseIndex : fanIn[neuronIndex]) {
+
+                    Number amplifiedValue = synapses[synapseIndex].amplify(signalValue(context, input, synapseIndex));
+                    sum = (sum == null) ? amplifiedValue : sum.add(amplifiedValue);
+                }
+
+                context.setOutput(neuronIndex, neurons[neuronIndex].amplify(sum));
+            }
+
+            return synapses[outputSynapseIndex].amplify(signalValue(context, input, outputSynapseIndex));
+
+        } finally {
+
+            context.release();
+        }
+    }
+
+    /**
+     * Sends a signal with specified primitive input into the network and returns the output signal. The forward pass
+     * uses the evaluation context of the current thread and doesn't allocate any memory. The precision context is
+     * not applied.
+     *
+     * @param input
+     *        a primitive value
+     *
+     * @return the corresponding output
+     */
+    public double send(double input) {
+
+        EvaluationContext context = contexts.get();
+
+        if (context.isInUse()) {
+
+            context = new EvaluationContext(neurons.length);
+        }
+
+        return send(input, context);
+    }
+
+    /**
+     * Sends a signal with specified primitive input into the network and returns the output signal. The neurons are
+     * evaluated in topological order and their outputs are stored in the slots of the specified evaluation context.
+     *
+     * @param input
+     *        a primitive value
+     * @param context
+     *        an evaluation context which is not used by any other forward pass
+     *
+     * @return the corresponding output
+     */
+    public double send(double input, EvaluationContext context) {
+
+        if (context == null) {
+
+            throw new IllegalArgumentException("No evaluation context (null) was specified!");
+        }
+
+        if (context.neuronCount() != neurons.length) {
+
+            throw new IllegalArgumentException("The evaluation context doesn't match the network!");
+        }
+
+        context.acquire();
+
+        try {
+
+            for (int neuronIndex : order) {
+
+                double sum = 0.0d;
+
+                for (int synapseIndex : fanIn[neuronIndex]) {
+
+                    sum += synapses[synapseIndex].amplify(signalValue(context, input, synapseIndex));
+                }
+
+                context.setPrimitiveOutput(neuronIndex, neurons[neuronIndex].amplify(sum));
+            }
+
+            return synapses[outputSynapseIndex].amplify(signalValue(context, input, outputSynapseIndex));
+
+        } finally {
+
+            context.releasePrimitive();
+        }
+    }
+
+    /**
+     * Returns the primitive signal value which enters the specified synapse.
+     *
+     * @param context
+     *        an evaluation context which contains the outputs of all evaluated neurons
+     * @param input
+     *        the input of the network
+     * @param synapseIndex
+     *        the index of a synapse
+     *
+     * @return a signal value
+     */
+    private double signalValue(EvaluationContext context, double input, int synapseIndex) {
+
+        int source = sources[synapseIndex];
+
+        return (source == OUTSIDE) ? input : context.primitiveOutput(source);
+    }
+
+    /**
+     * Returns the signal value which enters the specified synapse.
+     *
+     * @param context
+     *        an evaluation context which contains the outputs of all evaluated neurons
+     * @param input
+     *        the input of the network
+     * @param synapseIndex
+     *        the index of a synapse
+     *
+     * @return a signal value
+     */
+    private Number signalValue(EvaluationContext context, Number input, int synapseIndex) {
+
+        int source = sources[synapseIndex];
+
+        return (source == OUTSIDE) ? input : context.output(source);
+    }
+
+    /**
+     * Returns a string representation for this schedule.
+     *
+     * @return a string representation
+     */
+    @Override
+    public String toString() {
+
+        List<String> entries = new ArrayList<>();
+
+        for (int neuronIndex : order) {
+
+            entries.add(neuronIndex + " <- " + Arrays.toString(fanIn[neuronIndex]));
+        }
+
+        return "schedule " + entries;
+    }
+
+}
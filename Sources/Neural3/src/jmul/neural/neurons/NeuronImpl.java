@@ -35,6 +35,7 @@ package jmul.neural.neurons;
 
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -43,6 +44,7 @@ import jmul.functions.Function;
 
 import jmul.math.numbers.Number;
 
+import jmul.neural.precision.PrecisionContext;
 import jmul.neural.signals.Signal;
 import jmul.neural.signals.SignalImpl;
 import jmul.neural.signals.SignalListener;
@@ -59,26 +61,58 @@ public class NeuronImpl implements Neuron {
     /**
      * This neuron's bias.
      */
-    private Number bias;
+    private volatile Number bias;
+
+    /**
+     * This neuron's bias as primitive value.
+     */
+    private volatile double primitiveBias;
 
     /**
      * An activation function.
      */
-    private Function activationFunction;
+    private volatile Function activationFunction;
 
     /**
      * The layer to which this neuron belongs to.
      */
     private final Layer layer;
 
+    /**
+     * A precision context which limits the signal values of this neuron.
+     */
+    private volatile PrecisionContext precisionContext;
+
     /**
      * All listeners.
      */
     private List<SignalListener> signalListeners;
 
+    /**
+     * All signal sources. The index of a signal source is its input slot.
+     */
     private List<SignalSource> signalSources;
 
-    private Map<SignalSource, Number> cache;
+    /**
+     * The input slot of each signal source (i.e. signal source -&gt; input slot). A source which was added several
+     * times keeps its first input slot.
+     */
+    private Map<SignalSource, Integer> sourceSlots;
+
+    /**
+     * The signal values which were received in the current round, indexed by input slot.
+     */
+    private Number[] inputSlots;
+
+    /**
+     * The number of signal values which are still missing in the current round.
+     */
+    private int pendingSignals;
+
+    /**
+     * The sum of all signal values which were received in the current round.
+     */
+    private Number cumulatedSignal;
 
     /**
      * Creates a new neuron.
@@ -91,11 +125,16 @@ public class NeuronImpl implements Neuron {
         super();
 
         this.bias = null;
+        this.primitiveBias = 0.0d;
         this.activationFunction = null;
         this.layer = layer;
+        this.precisionContext = null;
         this.signalListeners = new ArrayList<>();
         this.signalSources = new ArrayList<>();
-        this.cache = new HashMap<>();
+        this.sourceSlots = new HashMap<>();
+        this.inputSlots = new Number[0];
+        this.pendingSignals = 0;
+        this.cumulatedSignal = null;
     }
 
     /**
@@ -128,6 +167,7 @@ public class NeuronImpl implements Neuron {
     public void setBias(Number bias) {
 
         this.bias = bias;
+        this.primitiveBias = (bias == null) ? 0.0d : bias.toPrimitiveDouble();
     }
 
     /**
@@ -152,6 +192,27 @@ public class NeuronImpl implements Neuron {
         this.activationFunction = activationFunction;
     }
 
+    /**
+     * Returns the precision context which limits the signal values of this neuron.
+     *
+     * @return a precision context or <code>null</code> if the signal values are not limited
+     */
+    public PrecisionContext precisionContext() {
+
+        return precisionContext;
+    }
+
+    /**
+     * Sets the precision context which limits the signal values of this neuron.
+     *
+     * @param precisionContext
+     *        a precision context or <code>null</code> if the signal values should not be limited
+     */
+    public void setPrecisionContext(PrecisionContext precisionContext) {
+
+        this.precisionContext = precisionContext;
+    }
+
     public void addSignalListener(SignalListener listener) {
 
         signalListeners.add(listener);
@@ -162,14 +223,107 @@ public class NeuronImpl implements Neuron {
         signalListeners.remove(listener);
     }
 
-    public void addSignalSource(SignalSource source) {
+    /**
+     * Adds a signal source and assigns it the next free input slot.
+     *
+     * @param source
+     *        a signal source
+     *
+     * @return the input slot of the signal source
+     */
+    public int addSignalSource(SignalSource source) {
+
+        int slot = signalSources.size();
 
         signalSources.add(source);
+        sourceSlots.putIfAbsent(source, slot);
+        resetInputSlots();
+
+        if (source instanceof SynapseImpl) {
+
+            ((SynapseImpl) source).assignSlot(this, slot);
+        }
+
+        return slot;
     }
 
+    /**
+     * Removes a signal source. The input slots of all subsequent signal sources are reassigned.
+     *
+     * @param source
+     *        a signal source
+     */
     public void removeSignalSource(SignalSource source) {
 
-        signalSources.remove(source);
+        int slot = signalSources.indexOf(source);
+
+        if (slot < 0) {
+
+            return;
+        }
+
+        signalSources.remove(slot);
+        resetInputSlots();
+
+        sourceSlots.clear();
+        for (int index = 0; index < signalSources.size(); index++) {
+
+            sourceSlots.putIfAbsent(signalSources.get(index), index);
+        }
+
+        if (source instanceof SynapseImpl) {
+
+            ((SynapseImpl) source).assignSlot(this, SynapseImpl.NO_SLOT);
+        }
+
+        for (int index = slot; index < signalSources.size(); index++) {
+
+            SignalSource nextSource = signalSources.get(index);
+
+            if (nextSource instanceof SynapseImpl) {
+
+                ((SynapseImpl) nextSource).assignSlot(this, index);
+            }
+        }
+    }
+
+    /**
+     * Discards all signal values of the current round and resizes the input slots according to the number of
+     * signal sources.
+     */
+    private void resetInputSlots() {
+
+        if (inputSlots.length == signalSources.size()) {
+
+            Arrays.fill(inputSlots, null);
+
+        } else {
+
+            inputSlots = new Number[signalSources.size()];
+        }
+
+        pendingSignals = inputSlots.length;
+        cumulatedSignal = null;
+    }
+
+    /**
+     * Returns all listeners of this neuron.
+     *
+     * @return all listeners
+     */
+    List<SignalListener> signalListeners() {
+
+        return signalListeners;
+    }
+
+    /**
+     * Returns all signal sources of this neuron.
+     *
+     * @return all signal sources
+     */
+    List<SignalSource> signalSources() {
+
+        return signalSources;
     }
 
     /**
@@ -180,7 +334,7 @@ public class NeuronImpl implements Neuron {
      *
      * @return an amplified signal value (i.e. number)
      */
-    private Number amplify(Number signalValue) {
+    Number amplify(Number signalValue) {
 
         Number amplifiedSignalValue = activationFunction.calculate(signalValue);
 
@@ -189,42 +343,71 @@ public class NeuronImpl implements Neuron {
             amplifiedSignalValue = amplifiedSignalValue.add(bias);
         }
 
+        if (precisionContext != null) {
+
+            amplifiedSignalValue = precisionContext.apply(amplifiedSignalValue);
+        }
+
         return amplifiedSignalValue;
     }
 
-    @Override
-    public void receiveSignal(Signal signal) {
+    /**
+     * Amplifies the specified primitive signal value. The precision context is not applied.
+     *
+     * @param signalValue
+     *        a signal value
+     *
+     * @return an amplified signal value
+     */
+    double amplify(double signalValue) {
 
-        cache.put(signal.source(), signal.value());
+        return activationFunction.calculate(signalValue) + primitiveBias;
+    }
 
-        if (cache.size() == signalSources.size()) {
+    @Override
+    public void receiveSignal(Signal signal) {
 
-            Number signalValue = cumulatedSignal();
-            signalValue = amplify(signalValue);
-            Signal newSignal = new SignalImpl(this, signalValue);
+        Integer slot = sourceSlots.get(signal.source());
 
-            sendSignal(newSignal);
+        if (slot == null) {
 
-            cache.clear();
+            throw new IllegalArgumentException("The signal source is unknown!");
         }
+
+        receiveSignal(slot, signal.value());
     }
 
-    private Number cumulatedSignal() {
+    /**
+     * Stores the specified signal value in the specified input slot. When all input slots are filled the
+     * cumulated signal is amplified and sent to all listeners.
+     *
+     * @param slot
+     *        the input slot of the signal source
+     * @param signalValue
+     *        a signal value (i.e. number)
+     */
+    void receiveSignal(int slot, Number signalValue) {
 
-        Number sum = null;
-        for (Number value : cache.values()) {
+        Number previousSignalValue = inputSlots[slot];
+        inputSlots[slot] = signalValue;
 
-            if (sum == null) {
+        if (previousSignalValue == null) {
 
-                sum = value;
+            pendingSignals--;
+            cumulatedSignal = (cumulatedSignal == null) ? signalValue : cumulatedSignal.add(signalValue);
 
-            } else {
+        } else {
 
-                sum = sum.add(value);
-            }
+            cumulatedSignal = cumulatedSignal.subtract(previousSignalValue).add(signalValue);
         }
 
-        return sum;
+        if (pendingSignals == 0) {
+
+            Number amplifiedSignalValue = amplify(cumulatedSignal);
+            resetInputSlots();
+
+            sendSignal(new SignalImpl(this, amplifiedSignalValue));
+        }
     }
 
     public void sendSignal(Signal signal) {
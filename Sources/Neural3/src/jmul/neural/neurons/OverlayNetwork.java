@@ -0,0 +1,1301 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.neurons;
+
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+import jmul.backends.NumericBackend;
+import jmul.backends.NumericBackends;
+
+import jmul.data.TrainingData;
+import jmul.data.TrainingDataWithResults;
+
+import jmul.functions.Function;
+
+import jmul.math.numbers.Number;
+
+import jmul.neural.precision.PrecisionContext;
+import jmul.neural.signals.Signal;
+import jmul.neural.signals.SignalImpl;
+import jmul.neural.signals.SignalListener;
+import jmul.neural.signals.SignalSource;
+
+import static jmul.string.Constants.NEW_LINE;
+import static jmul.string.Constants.TABULATOR;
+
+
+/**
+ * A flat neural network which consists of an immutable topology (see {@link NetworkLayout}) and weight, bias and
+ * activation function vectors. A copy (see {@link #copy()}) shares the topology and all vectors. A vector is copied
+ * on the first write, i.e. a snapshot costs at most one array copy per modified vector instead of rebuilding a
+ * whole object graph.<br>
+ * <br>
+ * The neurons and synapses of this network are lightweight views on the vectors which can be modified with
+ * {@link NetworkHelper}. Signals are evaluated by compiled snapshots (see {@link #compile()}) which are cached until
+ * the next modification. An overlay network must not be modified concurrently.<br>
+ * <br>
+ * An overlay network which is created from primitive vectors starts with a compiled snapshot only. The weights and
+ * biases are converted into numbers on first access, i.e. a network which is only evaluated never creates any
+ * numbers.<br>
+ * <br>
+ * A precision context (see {@link #setPrecisionContext(PrecisionContext)}) limits the signal values of
+ * {@link #send(Number)} in the same way as within a flat network. Compiled snapshots and primitive signals don't apply
+ * the precision context.<br>
+ * <br>
+ * The neuron and synapse views also process signals (see {@link SignalListener#receiveSignal(Signal)}) like the
+ * neurons and synapses of a flat network, i.e. a neuron cumulates the signals of all incoming synapses and sends its
+ * output to all outgoing synapses. The signal which leaves the output synapse is kept (see {@link #lastSignal()}).
+ * Signals must not be sent into the views concurrently.
+ *
+ * @author Kristian Kutin
+ */
+public final class OverlayNetwork implements Network {
+
+    /**
+     * The topology of the network.
+     */
+    private final NetworkLayout layout;
+
+    /**
+     * All weights (see {@link Network#synapses()}) or <code>null</code> if they have not been converted from the
+     * compiled snapshot yet.
+     */
+    private Number[] weights;
+
+    /**
+     * All biases (see {@link Network#neurons()}) or <code>null</code> if they have not been converted from the
+     * compiled snapshot yet.
+     */
+    private Number[] biases;
+
+    /**
+     * All activation functions (see {@link Network#neurons()}).
+     */
+    private Function[] activationFunctions;
+
+    /**
+     * Flags if the weights are shared with another network.
+     */
+    private boolean sharedWeights;
+
+    /**
+     * Flags if the biases are shared with another network.
+     */
+    private boolean sharedBiases;
+
+    /**
+     * Flags if the activation functions are shared with another network.
+     */
+    private boolean sharedActivationFunctions;
+
+    /**
+     * A compiled snapshot which evaluates signals with primitive values or <code>null</code>.
+     */
+    private CompiledNetworkImpl compiledNetwork;
+
+    /**
+     * A compiled snapshot which evaluates signals with numbers or <code>null</code>.
+     */
+    private BackendNetwork<Number> numberNetwork;
+
+    /**
+     * A precision context which limits the signal values within this network or <code>null</code>.
+     */
+    private PrecisionContext precisionContext;
+
+    /**
+     * The signal values which the neurons received (i.e. synapse index -&gt; signal value) or <code>null</code> if
+     * no signal was processed yet.
+     */
+    private Number[] receivedSignals;
+
+    /**
+     * The cumulated signal of each neuron or <code>null</code> if no signal was processed yet.
+     */
+    private Number[] cumulatedSignals;
+
+    /**
+     * The number of pending signals of each neuron or <code>null</code> if no signal was processed yet.
+     */
+    private int[] pendingSignals;
+
+    /**
+     * The last signal which was sent by the output synapse or <code>null</code>.
+     */
+    private Signal lastSignal;
+
+    /**
+     * Creates a new overlay network which contains the weights, biases and activation functions of the specified
+     * flat network.
+     *
+     * @param network
+     *        a flat neural network
+     */
+    public OverlayNetwork(FlatNetworkImpl network) {
+
+        super();
+
+        if (network == null) {
+
+            throw new IllegalArgumentException("No network (null) was specified!");
+        }
+
+        this.layout = new NetworkLayout(network.configuration());
+
+        List<Synapse> synapses = network.synapses();
+        this.weights = new Number[synapses.size()];
+
+        for (int index = 0; index < synapses.size(); index++) {
+
+            weights[index] = synapses.get(index).weight();
+        }
+
+        List<Neuron> neurons = network.neurons();
+        this.biases = new Number[neurons.size()];
+        this.activationFunctions = new Function[neurons.size()];
+
+        for (int index = 0; index < neurons.size(); index++) {
+
+            Neuron neuron = neurons.get(index);
+
+            biases[index] = neuron.bias();
+            activationFunctions[index] = neuron.activationFunction();
+        }
+
+        this.sharedWeights = false;
+        this.sharedBiases = false;
+        this.sharedActivationFunctions = false;
+        this.compiledNetwork = null;
+        this.numberNetwork = null;
+        this.precisionContext = network.precisionContext();
+        this.receivedSignals = null;
+        this.cumulatedSignals = null;
+        this.pendingSignals = null;
+        this.lastSignal = null;
+    }
+
+    /**
+     * Creates a new overlay network with the specified topology, weights, biases and activation functions. Only a
+     * compiled snapshot is created, the weights and biases are converted into numbers on first access.
+     *
+     * @param layout
+     *        the topology of the network
+     * @param weights
+     *        all weights (see {@link Network#synapses()})
+     * @param biases
+     *        all biases (see {@link Network#neurons()})
+     * @param activationFunctions
+     *        all activation functions (see {@link Network#neurons()})
+     */
+    public OverlayNetwork(NetworkLayout layout, double[] weights, double[] biases, Function[] activationFunctions) {
+
+        super();
+
+        if (layout == null) {
+
+            throw new IllegalArgumentException("No layout (null) was specified!");
+        }
+
+        if ((weights == null) || (weights.length != layout.synapseCount())) {
+
+            throw new IllegalArgumentException("The weights don't match the layout!");
+        }
+
+        if ((biases == null) || (biases.length != layout.neuronCount())) {
+
+            throw new IllegalArgumentException("The biases don't match the layout!");
+        }
+
+        if ((activationFunctions == null) || (activationFunctions.length != layout.neuronCount())) {
+
+            throw new IllegalArgumentException("The activation functions don't match the layout!");
+        }
+
+        for (Function activationFunction : activationFunctions) {
+
+            if (activationFunction == null) {
+
+                throw new IllegalArgumentException("No activation function (null) was specified!");
+            }
+        }
+
+        this.layout = layout;
+        this.weights = null;
+        this.biases = null;
+        this.activationFunctions = activationFunctions.clone();
+        this.sharedWeights = false;
+        this.sharedBiases = false;
+        this.sharedActivationFunctions = false;
+        this.compiledNetwork =
+            new CompiledNetworkImpl(layout, weights.clone(), biases.clone(), this.activationFunctions.clone());
+        this.numberNetwork = null;
+        this.precisionContext = null;
+        this.receivedSignals = null;
+        this.cumulatedSignals = null;
+        this.pendingSignals = null;
+        this.lastSignal = null;
+    }
+
+    /**
+     * Creates a copy of the specified overlay network which shares all vectors and compiled snapshots.
+     *
+     * @param original
+     *        an overlay network
+     */
+    private OverlayNetwork(OverlayNetwork original) {
+
+        super();
+
+        this.layout = original.layout;
+        this.weights = original.weights;
+        this.biases = original.biases;
+        this.activationFunctions = original.activationFunctions;
+        this.sharedWeights = true;
+        this.sharedBiases = true;
+        this.sharedActivationFunctions = true;
+        this.compiledNetwork = original.compiledNetwork;
+        this.numberNetwork = original.numberNetwork;
+        this.precisionContext = original.precisionContext;
+        this.receivedSignals = null;
+        this.cumulatedSignals = null;
+        this.pendingSignals = null;
+        this.lastSignal = null;
+
+        original.sharedWeights = true;
+        original.sharedBiases = true;
+        original.sharedActivationFunctions = true;
+    }
+
+    /**
+     * Creates a copy of this network. The copy shares the topology and all vectors with this network until one of
+     * them is modified. The copy uses the same precision context.
+     *
+     * @return a copy
+     */
+    public OverlayNetwork copy() {
+
+        return new OverlayNetwork(this);
+    }
+
+    /**
+     * Builds a flat network with the weights, biases and activation functions of this network.
+     *
+     * @return a flat network
+     */
+    public FlatNetworkImpl toFlatNetwork() {
+
+        materialize();
+
+        FlatNetworkImpl network = new FlatNetworkImpl(layout.configuration(), weights, biases, activationFunctions);
+        network.setPrecisionContext(precisionContext);
+
+        return network;
+    }
+
+    /**
+     * Returns the precision context which limits the signal values within this network.
+     *
+     * @return a precision context or <code>null</code> if the signal values are not limited
+     */
+    public PrecisionContext precisionContext() {
+
+        return precisionContext;
+    }
+
+    /**
+     * Sets the precision context which limits the signal values within this network. The precision context is
+     * applied to the output of every synapse and neuron when a signal is sent with a number (see
+     * {@link #send(Number)}).
+     *
+     * @param precisionContext
+     *        a precision context or <code>null</code> if the signal values should not be limited
+     */
+    public void setPrecisionContext(PrecisionContext precisionContext) {
+
+        this.precisionContext = precisionContext;
+    }
+
+    /**
+     * Returns the topology of this network.
+     *
+     * @return a network layout
+     */
+    public NetworkLayout layout() {
+
+        return layout;
+    }
+
+    /**
+     * Returns the weight of the specified synapse.
+     *
+     * @param synapseIndex
+     *        the index of a synapse (see {@link Network#synapses()})
+     *
+     * @return a weight
+     */
+    public Number weight(int synapseIndex) {
+
+        materialize();
+
+        return weights[synapseIndex];
+    }
+
+    /**
+     * Returns the bias of the specified neuron.
+     *
+     * @param neuronIndex
+     *        the index of a neuron (see {@link Network#neurons()})
+     *
+     * @return a bias
+     */
+    public Number bias(int neuronIndex) {
+
+        materialize();
+
+        return biases[neuronIndex];
+    }
+
+    /**
+     * Returns the primitive value of the weight of the specified synapse. The weights aren't converted into numbers.
+     *
+     * @param synapseIndex
+     *        the index of a synapse (see {@link Network#synapses()})
+     *
+     * @return a weight
+     */
+    public double primitiveWeight(int synapseIndex) {
+
+        return snapshot().primitiveWeight(synapseIndex);
+    }
+
+    /**
+     * Returns the primitive value of the bias of the specified neuron. The biases aren't converted into numbers.
+     *
+     * @param neuronIndex
+     *        the index of a neuron (see {@link Network#neurons()})
+     *
+     * @return a bias (i.e. zero if the neuron has no bias)
+     */
+    public double primitiveBias(int neuronIndex) {
+
+        return snapshot().primitiveBias(neuronIndex);
+    }
+
+    /**
+     * Returns the activation function of the specified neuron.
+     *
+     * @param neuronIndex
+     *        the index of a neuron (see {@link Network#neurons()})
+     *
+     * @return an activation function
+     */
+    public Function activationFunction(int neuronIndex) {
+
+        return activationFunctions[neuronIndex];
+    }
+
+    /**
+     * Sets the weight of the specified synapse. The weights are copied first if they are shared.
+     *
+     * @param synapseIndex
+     *        the index of a synapse (see {@link Network#synapses()})
+     * @param weight
+     *        a new weight
+     */
+    public void setWeight(int synapseIndex, Number weight) {
+
+        if (weight == null) {
+
+            throw new IllegalArgumentException("No weight (null) was specified!");
+        }
+
+        materialize();
+
+        if (sharedWeights) {
+
+            weights = weights.clone();
+            sharedWeights = false;
+        }
+
+        weights[synapseIndex] = weight;
+        invalidateSnapshots();
+    }
+
+    /**
+     * Sets the bias of the specified neuron. The biases are copied first if they are shared.
+     *
+     * @param neuronIndex
+     *        the index of a neuron (see {@link Network#neurons()})
+     * @param bias
+     *        a new bias
+     */
+    public void setBias(int neuronIndex, Number bias) {
+
+        if (bias == null) {
+
+            throw new IllegalArgumentException("No bias (null) was specified!");
+        }
+
+        materialize();
+
+        if (sharedBiases) {
+
+            biases = biases.clone();
+            sharedBiases = false;
+        }
+
+        biases[neuronIndex] = bias;
+        invalidateSnapshots();
+    }
+
+    /**
+     * Sets the activation function of the specified neuron. The activation functions are copied first if they are
+     * shared.
+     *
+     * @param neuronIndex
+     *        the index of a neuron (see {@link Network#neurons()})
+     * @param activationFunction
+     *        a new activation function
+     */
+    public void setActivationFunction(int neuronIndex, Function activationFunction) {
+
+        if (activationFunction == null) {
+
+            throw new IllegalArgumentException("No activation function (null) was specified!");
+        }
+
+        if (sharedActivationFunctions) {
+
+            activationFunctions = activationFunctions.clone();
+            sharedActivationFunctions = false;
+        }
+
+        activationFunctions[neuronIndex] = activationFunction;
+        invalidateSnapshots();
+    }
+
+    /**
+     * Converts the weights and biases of the compiled snapshot into numbers if this hasn't happened yet.
+     */
+    private void materialize() {
+
+        if (weights == null) {
+
+            weights = compiledNetwork.numberWeights();
+            biases = compiledNetwork.numberBiases();
+            sharedWeights = false;
+            sharedBiases = false;
+        }
+    }
+
+    /**
+     * Discards the compiled snapshots after a modification.
+     */
+    private void invalidateSnapshots() {
+
+        materialize();
+
+        compiledNetwork = null;
+        numberNetwork = null;
+    }
+
+    /**
+     * Compiles this network into an inference engine which evaluates signals with primitive values. The compiled
+     * network is a snapshot, i.e. later changes are not reflected.
+     *
+     * @return a compiled network
+     */
+    public CompiledNetwork compile() {
+
+        return snapshot();
+    }
+
+    /**
+     * Returns the compiled snapshot of this network. A new snapshot is created after a modification.
+     *
+     * @return a compiled network
+     */
+    private CompiledNetworkImpl snapshot() {
+
+        CompiledNetworkImpl snapshot = compiledNetwork;
+
+        if (snapshot == null) {
+
+            snapshot = new CompiledNetworkImpl(layout, weights, biases, activationFunctions);
+            compiledNetwork = snapshot;
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * Compiles this network into an inference engine which evaluates signals with the specified numeric backend.
+     * The compiled network is a snapshot, i.e. later changes are not reflected.
+     *
+     * @param <T>
+     *        the value type of the numeric backend
+     * @param backend
+     *        a numeric backend
+     *
+     * @return a compiled network
+     */
+    @SuppressWarnings("unchecked")
+    public <T> BackendNetwork<T> compile(NumericBackend<T> backend) {
+
+        if (backend == NumericBackends.DOUBLE) {
+
+            return (BackendNetwork<T>) compile();
+        }
+
+        materialize();
+
+        if (backend == NumericBackends.NUMBER) {
+
+            BackendNetwork<Number> snapshot = numberNetwork;
+
+            if (snapshot == null) {
+
+                snapshot =
+                    new BackendNetworkImpl<>(NumericBackends.NUMBER, layout, weights, biases, activationFunctions);
+                numberNetwork = snapshot;
+            }
+
+            return (BackendNetwork<T>) snapshot;
+        }
+
+        return new BackendNetworkImpl<>(backend, layout, weights, biases, activationFunctions);
+    }
+
+    @Override
+    public int layers() {
+
+        return layout.layers();
+    }
+
+    @Override
+    public int neuronCount(int layer) {
+
+        return layout.neuronCount(layer);
+    }
+
+    @Override
+    public int neuronCount() {
+
+        return layout.neuronCount();
+    }
+
+    @Override
+    public Synapse inputSynapse() {
+
+        return new SynapseView(this, layout.inputSynapseIndex());
+    }
+
+    @Override
+    public Synapse outputSynapse() {
+
+        return new SynapseView(this, layout.outputSynapseIndex());
+    }
+
+    @Override
+    public List<Neuron> firstLayer() {
+
+        return new NeuronList(this, layout.neuronOffset(0), layout.neuronCount(0));
+    }
+
+    @Override
+    public List<Neuron> lastLayer() {
+
+        int lastLayer = layout.layers() - 1;
+
+        return new NeuronList(this, layout.neuronOffset(lastLayer), layout.neuronCount(lastLayer));
+    }
+
+    @Override
+    public List<Neuron> neurons() {
+
+        return new NeuronList(this, 0, layout.neuronCount());
+    }
+
+    @Override
+    public List<Synapse> synapses() {
+
+        return new SynapseList(this);
+    }
+
+    /**
+     * Sends a signal with specified input into the network and returns the output signal. The signal is evaluated
+     * with numbers by a compiled snapshot. If a precision context is set, then the signal is evaluated without a
+     * snapshot and the output of every synapse and neuron is limited by the precision context.
+     *
+     * @param input
+     *        a number
+     *
+     * @return the corresponding output
+     */
+    @Override
+    public Number send(Number input) {
+
+        PrecisionContext context = precisionContext;
+
+        if (context != null) {
+
+            return send(input, context);
+        }
+
+        return compile(NumericBackends.NUMBER).send(input);
+    }
+
+    /**
+     * Sends a signal with specified input into the network and limits the output of every synapse and neuron with
+     * the specified precision context (see {@link SynapseImpl} and {@link NeuronImpl}).
+     *
+     * @param input
+     *        a number
+     * @param context
+     *        a precision context
+     *
+     * @return the corresponding output
+     */
+    private Number send(Number input, PrecisionContext context) {
+
+        if (input == null) {
+
+            throw new IllegalArgumentException("No input (null) was specified!");
+        }
+
+        materialize();
+
+        Number[] current = new Number[layout.maxLayerSize()];
+        Number[] next = new Number[layout.maxLayerSize()];
+
+        Number inputSignal = context.apply(input.multiply(weights[layout.inputSynapseIndex()]));
+        current[0] = amplify(0, inputSignal, context);
+
+        int synapseIndex = layout.synapseOffset(0);
+
+        for (int layer = 1; layer < layout.layers(); layer++) {
+
+            int sourceCount = layout.neuronCount(layer - 1);
+            int targetCount = layout.neuronCount(layer);
+            int offset = layout.neuronOffset(layer);
+
+            Arrays.fill(next, 0, targetCount, null);
+
+            for (int source = 0; source < sourceCount; source++) {
+
+                for (int target = 0; target < targetCount; target++) {
+
+                    Number amplifiedValue = context.apply(current[source].multiply(weights[synapseIndex]));
+                    next[target] = (next[target] == null) ? amplifiedValue : next[target].add(amplifiedValue);
+                    synapseIndex++;
+                }
+            }
+
+            for (int target = 0; target < targetCount; target++) {
+
+                next[target] = amplify(offset + target, next[target], context);
+            }
+
+            Number[] tmp = current;
+            current = next;
+            next = tmp;
+        }
+
+        return context.apply(current[0].multiply(weights[layout.outputSynapseIndex()]));
+    }
+
+    /**
+     * Amplifies the specified signal value with the activation function and bias of the specified neuron and limits
+     * the result with the specified precision context (if any).
+     *
+     * @param neuronIndex
+     *        the index of a neuron
+     * @param signalValue
+     *        a signal value
+     * @param context
+     *        a precision context or <code>null</code>
+     *
+     * @return an amplified signal value
+     */
+    private Number amplify(int neuronIndex, Number signalValue, PrecisionContext context) {
+
+        Number amplifiedSignalValue = activationFunctions[neuronIndex].calculate(signalValue);
+        Number bias = biases[neuronIndex];
+
+        if (bias != null) {
+
+            amplifiedSignalValue = amplifiedSignalValue.add(bias);
+        }
+
+        if (context != null) {
+
+            amplifiedSignalValue = context.apply(amplifiedSignalValue);
+        }
+
+        return amplifiedSignalValue;
+    }
+
+    /**
+     * Sends a signal with specified input into the network and returns the output signal. The signal is evaluated
+     * with primitive values by a compiled snapshot.
+     *
+     * @param input
+     *        a primitive value
+     *
+     * @return the corresponding output
+     */
+    @Override
+    public double send(double input) {
+
+        return compile().send(input);
+    }
+
+    @Override
+    public TrainingDataWithResults sendBatch(TrainingData trainingData) {
+
+        return NetworkHelper.sendBatch(this, trainingData);
+    }
+
+    @Override
+    public double[] sendBatch(double[] inputs) {
+
+        return compile().sendBatch(inputs);
+    }
+
+    @Override
+    public SignalFlowType signalFLowType() {
+
+        return SignalFlowTypes.FEEDFORWARD;
+    }
+
+    @Override
+    public String toString() {
+
+        materialize();
+
+        StringBuilder buffer = new StringBuilder();
+
+        for (int layer = 0; layer < layers(); layer++) {
+
+            buffer.append("neuron layer #");
+            buffer.append((layer + 1));
+            buffer.append(NEW_LINE);
+
+            int offset = layout.neuronOffset(layer);
+            for (int index = offset; index < offset + layout.neuronCount(layer); index++) {
+
+                buffer.append("neuron #");
+                buffer.append(index);
+                buffer.append(TABULATOR);
+                buffer.append("bias=");
+                buffer.append(biases[index]);
+                buffer.append(TABULATOR);
+                buffer.append("activation function=");
+                buffer.append(activationFunctions[index]);
+                buffer.append(NEW_LINE);
+            }
+        }
+
+        buffer.append(NEW_LINE);
+
+        buffer.append("synapses");
+        buffer.append(NEW_LINE);
+
+        for (int index = 0; index < weights.length; index++) {
+
+            buffer.append("synapse #");
+            buffer.append(index);
+            buffer.append(TABULATOR);
+            buffer.append("weight=");
+            buffer.append(weights[index]);
+            buffer.append(NEW_LINE);
+        }
+
+        return buffer.toString();
+    }
+
+    /**
+     * Returns the last signal which was sent by the output synapse.
+     *
+     * @return a signal or <code>null</code> if no signal has left the network yet
+     */
+    public Signal lastSignal() {
+
+        return lastSignal;
+    }
+
+    /**
+     * Amplifies the specified signal value with the weight of the specified synapse and sends it to the target
+     * neuron of the synapse. The output synapse keeps the amplified signal (see {@link #lastSignal()}).
+     *
+     * @param synapseIndex
+     *        the index of a synapse
+     * @param signalValue
+     *        a signal value
+     */
+    private void sendThroughSynapse(int synapseIndex, Number signalValue) {
+
+        materialize();
+
+        Number amplifiedSignalValue = signalValue.multiply(weights[synapseIndex]);
+        PrecisionContext context = precisionContext;
+
+        if (context != null) {
+
+            amplifiedSignalValue = context.apply(amplifiedSignalValue);
+        }
+
+        int targetNeuronIndex = layout.targetNeuronIndex(synapseIndex);
+
+        if (targetNeuronIndex == NetworkSchedule.OUTSIDE) {
+
+            lastSignal = new SignalImpl(new SynapseView(this, synapseIndex), amplifiedSignalValue);
+            return;
+        }
+
+        receiveNeuronSignal(targetNeuronIndex, synapseIndex, amplifiedSignalValue);
+    }
+
+    /**
+     * Stores the specified signal value as input of the specified neuron. When the signals of all incoming synapses
+     * were received the cumulated signal is amplified and sent to all outgoing synapses.
+     *
+     * @param neuronIndex
+     *        the index of a neuron
+     * @param synapseIndex
+     *        the index of the incoming synapse
+     * @param signalValue
+     *        a signal value
+     */
+    private void receiveNeuronSignal(int neuronIndex, int synapseIndex, Number signalValue) {
+
+        if (receivedSignals == null) {
+
+            receivedSignals = new Number[layout.synapseCount()];
+            cumulatedSignals = new Number[layout.neuronCount()];
+            pendingSignals = new int[layout.neuronCount()];
+
+            for (int index = 0; index < pendingSignals.length; index++) {
+
+                pendingSignals[index] = incomingSynapseCount(index);
+            }
+        }
+
+        Number previousSignalValue = receivedSignals[synapseIndex];
+        receivedSignals[synapseIndex] = signalValue;
+
+        if (previousSignalValue == null) {
+
+            pendingSignals[neuronIndex]--;
+            cumulatedSignals[neuronIndex] = (cumulatedSignals[neuronIndex] == null) ?
+                                            signalValue : cumulatedSignals[neuronIndex].add(signalValue);
+
+        } else {
+
+            cumulatedSignals[neuronIndex] =
+                cumulatedSignals[neuronIndex].subtract(previousSignalValue).add(signalValue);
+        }
+
+        if (pendingSignals[neuronIndex] > 0) {
+
+            return;
+        }
+
+        Number amplifiedSignalValue = amplify(neuronIndex, cumulatedSignals[neuronIndex], precisionContext);
+
+        int layer = layout.layer(neuronIndex);
+
+        if (neuronIndex == 0) {
+
+            receivedSignals[layout.inputSynapseIndex()] = null;
+
+        } else {
+
+            int synapseOffset = layout.synapseOffset(layer - 1) + (neuronIndex - layout.neuronOffset(layer));
+
+            for (int source = 0; source < layout.neuronCount(layer - 1); source++) {
+
+                receivedSignals[synapseOffset + source * layout.neuronCount(layer)] = null;
+            }
+        }
+
+        cumulatedSignals[neuronIndex] = null;
+        pendingSignals[neuronIndex] = incomingSynapseCount(neuronIndex);
+
+        if (layer == layout.layers() - 1) {
+
+            sendThroughSynapse(layout.outputSynapseIndex(), amplifiedSignalValue);
+            return;
+        }
+
+        int targetCount = layout.neuronCount(layer + 1);
+        int synapseOffset = layout.synapseOffset(layer) + (neuronIndex - layout.neuronOffset(layer)) * targetCount;
+
+        for (int target = 0; target < targetCount; target++) {
+
+            sendThroughSynapse(synapseOffset + target, amplifiedSignalValue);
+        }
+    }
+
+    /**
+     * Returns the number of synapses which send signals to the specified neuron.
+     *
+     * @param neuronIndex
+     *        the index of a neuron
+     *
+     * @return a number of synapses
+     */
+    private int incomingSynapseCount(int neuronIndex) {
+
+        int layer = layout.layer(neuronIndex);
+
+        return (layer == 0) ? 1 : layout.neuronCount(layer - 1);
+    }
+
+    /**
+     * Returns the layer type of the specified network layer.
+     *
+     * @param layer
+     *        a network layer
+     *
+     * @return a layer type
+     */
+    private Layer layerType(int layer) {
+
+        if (layer == 0) {
+
+            return Layers.INPUT_LAYER;
+        }
+
+        if (layer == layout.layers() - 1) {
+
+            return Layers.OUTPUT_LAYER;
+        }
+
+        return Layers.HIDDEN_LAYER;
+    }
+
+    /**
+     * A view on a neuron of an overlay network.
+     */
+    static final class NeuronView implements Neuron {
+
+        /**
+         * The network.
+         */
+        private final OverlayNetwork network;
+
+        /**
+         * The index of the neuron.
+         */
+        private final int index;
+
+        /**
+         * Creates a new view according to the specified parameters.
+         *
+         * @param network
+         *        the network
+         * @param index
+         *        the index of the neuron
+         */
+        NeuronView(OverlayNetwork network, int index) {
+
+            super();
+
+            this.network = network;
+            this.index = index;
+        }
+
+        /**
+         * Returns the network of this neuron.
+         *
+         * @return a network
+         */
+        OverlayNetwork network() {
+
+            return network;
+        }
+
+        /**
+         * Returns the index of this neuron.
+         *
+         * @return a neuron index
+         */
+        int index() {
+
+            return index;
+        }
+
+        @Override
+        public Function activationFunction() {
+
+            return network.activationFunction(index);
+        }
+
+        @Override
+        public Number bias() {
+
+            return network.bias(index);
+        }
+
+        @Override
+        public Layer layer() {
+
+            return network.layerType(network.layout.layer(index));
+        }
+
+        /**
+         * Receives a signal from an incoming synapse of this neuron (see {@link NeuronImpl#receiveSignal(Signal)}).
+         *
+         * @param signal
+         *        a signal
+         */
+        @Override
+        public void receiveSignal(Signal signal) {
+
+            if (signal == null) {
+
+                throw new IllegalArgumentException("No signal (null) was specified!");
+            }
+
+            SignalSource source = signal.source();
+
+            if (!(source instanceof SynapseView) || (((SynapseView) source).network != network) ||
+                (network.layout.targetNeuronIndex(((SynapseView) source).index) != index)) {
+
+                throw new IllegalArgumentException("The signal source is unknown!");
+            }
+
+            network.receiveNeuronSignal(index, ((SynapseView) source).index, signal.value());
+        }
+
+    }
+
+    /**
+     * A view on a synapse of an overlay network.
+     */
+    static final class SynapseView implements Synapse {
+
+        /**
+         * The network.
+         */
+        private final OverlayNetwork network;
+
+        /**
+         * The index of the synapse.
+         */
+        private final int index;
+
+        /**
+         * Creates a new view according to the specified parameters.
+         *
+         * @param network
+         *        the network
+         * @param index
+         *        the index of the synapse
+         */
+        SynapseView(OverlayNetwork network, int index) {
+
+            super();
+
+            this.network = network;
+            this.index = index;
+        }
+
+        /**
+         * Returns the network of this synapse.
+         *
+         * @return a network
+         */
+        OverlayNetwork network() {
+
+            return network;
+        }
+
+        /**
+         * Returns the index of this synapse.
+         *
+         * @return a synapse index
+         */
+        int index() {
+
+            return index;
+        }
+
+        @Override
+        public Number weight() {
+
+            return network.weight(index);
+        }
+
+        @Override
+        public Layer layer() {
+
+            if (index == network.layout.inputSynapseIndex()) {
+
+                return Layers.INPUT_LAYER;
+            }
+
+            if (index == network.layout.outputSynapseIndex()) {
+
+                return Layers.OUTPUT_LAYER;
+            }
+
+            return Layers.HIDDEN_LAYER;
+        }
+
+        /**
+         * Amplifies the specified signal and sends it to the target neuron of this synapse (see
+         * {@link SynapseImpl#receiveSignal(Signal)}).
+         *
+         * @param signal
+         *        a signal
+         */
+        @Override
+        public void receiveSignal(Signal signal) {
+
+            if (signal == null) {
+
+                throw new IllegalArgumentException("No signal (null) was specified!");
+            }
+
+            network.sendThroughSynapse(index, signal.value());
+        }
+
+    }
+
+    /**
+     * A list of neuron views which are created on demand.
+     */
+    private static final class NeuronList extends AbstractList<Neuron> {
+
+        /**
+         * The network.
+         */
+        private final OverlayNetwork network;
+
+        /**
+         * The index of the first neuron.
+         */
+        private final int offset;
+
+        /**
+         * The number of neurons.
+         */
+        private final int size;
+
+        /**
+         * Creates a new list according to the specified parameters.
+         *
+         * @param network
+         *        the network
+         * @param offset
+         *        the index of the first neuron
+         * @param size
+         *        the number of neurons
+         */
+        NeuronList(OverlayNetwork network, int offset, int size) {
+
+            super();
+
+            this.network = network;
+            this.offset = offset;
+            this.size = size;
+        }
+
+        @Override
+        public Neuron get(int index) {
+
+            if ((index < 0) || (index >= size)) {
+
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+
+            return new NeuronView(network, offset + index);
+        }
+
+        @Override
+        public int size() {
+
+            return size;
+        }
+
+    }
+
+    /**
+     * A list of synapse views which are created on demand.
+     */
+    private static final class SynapseList extends AbstractList<Synapse> {
+
+        /**
+         * The network.
+         */
+        private final OverlayNetwork network;
+
+        /**
+         * Creates a new list according to the specified parameters.
+         *
+         * @param network
+         *        the network
+         */
+        SynapseList(OverlayNetwork network) {
+
+            super();
+
+            this.network = network;
+        }
+
+        @Override
+        public Synapse get(int index) {
+
+            if ((index < 0) || (index >= size())) {
+
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+
+            return new SynapseView(network, index);
+        }
+
+        @Override
+        public int size() {
+
+            return network.layout.synapseCount();
+        }
+
+    }
+
+}
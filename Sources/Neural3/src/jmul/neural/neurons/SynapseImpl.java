@@ -35,10 +35,12 @@ package jmul.neural.neurons;
 
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import jmul.math.numbers.Number;
 
+import jmul.neural.precision.PrecisionContext;
 import jmul.neural.signals.Signal;
 import jmul.neural.signals.SignalImpl;
 import jmul.neural.signals.SignalListener;
@@ -51,21 +53,49 @@ import jmul.neural.signals.SignalListener;
  */
 public class SynapseImpl implements Synapse {
 
+    /**
+     * Marks a listener which doesn't have an input slot.
+     */
+    static final int NO_SLOT;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        NO_SLOT = -1;
+    }
+
     /**
      * The weight of this synapse (i.e. a value that amplifies a signal).
      */
-    private Number weight;
+    private volatile Number weight;
+
+    /**
+     * The weight of this synapse as primitive value.
+     */
+    private volatile double primitiveWeight;
 
     /**
      * The layer to which this synapse belongs to.
      */
     private final Layer layer;
 
+    /**
+     * A precision context which limits the signal values of this synapse.
+     */
+    private volatile PrecisionContext precisionContext;
+
     /**
      * All listeners.
      */
     private List<SignalListener> listeners;
 
+    /**
+     * The input slots which the listeners have assigned to this synapse (i.e. one entry per listener).
+     */
+    private int[] listenerSlots;
+
     /**
      * Creates a new synapse without any connections.
      *
@@ -77,8 +107,11 @@ public class SynapseImpl implements Synapse {
         super();
 
         this.weight = null;
+        this.primitiveWeight = 0.0d;
         this.layer = layer;
+        this.precisionContext = null;
         this.listeners = new ArrayList<>();
+        this.listenerSlots = new int[0];
     }
 
     /**
@@ -111,48 +144,163 @@ public class SynapseImpl implements Synapse {
     public void setWeight(Number weight) {
 
         this.weight = weight;
+        this.primitiveWeight = (weight == null) ? 0.0d : weight.toPrimitiveDouble();
     }
 
     /**
-     * Amplifies the specified signal.
+     * Returns the precision context which limits the signal values of this synapse.
      *
-     * @param signal
-     *        a signal
+     * @return a precision context or <code>null</code> if the signal values are not limited
+     */
+    public PrecisionContext precisionContext() {
+
+        return precisionContext;
+    }
+
+    /**
+     * Sets the precision context which limits the signal values of this synapse.
+     *
+     * @param precisionContext
+     *        a precision context or <code>null</code> if the signal values should not be limited
+     */
+    public void setPrecisionContext(PrecisionContext precisionContext) {
+
+        this.precisionContext = precisionContext;
+    }
+
+    /**
+     * Amplifies the specified signal value.
+     *
+     * @param signalValue
+     *        a signal value (i.e. number)
+     *
+     * @return an amplified signal value (i.e. number)
+     */
+    Number amplify(Number signalValue) {
+
+        Number amplifiedSignalValue = signalValue.multiply(weight());
+
+        if (precisionContext != null) {
+
+            amplifiedSignalValue = precisionContext.apply(amplifiedSignalValue);
+        }
+
+        return amplifiedSignalValue;
+    }
+
+    /**
+     * Amplifies the specified primitive signal value. The precision context is not applied.
+     *
+     * @param signalValue
+     *        a signal value
      *
-     * @return an amplified signal
+     * @return an amplified signal value
      */
-    private Signal amplifySignal(Signal signal) {
+    double amplify(double signalValue) {
+
+        return signalValue * primitiveWeight;
+    }
 
-        Number amplifiedSignal = signal.value().multiply(weight());
+    /**
+     * Returns all listeners of this synapse.
+     *
+     * @return all listeners
+     */
+    List<SignalListener> listeners() {
 
-        return new SignalImpl(this, amplifiedSignal);
+        return listeners;
     }
 
     public void addListener(SignalListener listener) {
 
         listeners.add(listener);
+
+        listenerSlots = Arrays.copyOf(listenerSlots, listeners.size());
+        listenerSlots[listeners.size() - 1] = NO_SLOT;
     }
 
     public void removeListener(SignalListener listener) {
 
-        listeners.remove(listener);
+        int index = listeners.indexOf(listener);
+
+        if (index < 0) {
+
+            return;
+        }
+
+        listeners.remove(index);
+
+        int[] newListenerSlots = new int[listeners.size()];
+        System.arraycopy(listenerSlots, 0, newListenerSlots, 0, index);
+        System.arraycopy(listenerSlots, index + 1, newListenerSlots, index, newListenerSlots.length - index);
+        listenerSlots = newListenerSlots;
+    }
+
+    /**
+     * Records the input slot which the specified neuron has assigned to this synapse.
+     *
+     * @param neuron
+     *        a neuron which listens to this synapse
+     * @param slot
+     *        an input slot or {@link #NO_SLOT}
+     */
+    void assignSlot(NeuronImpl neuron, int slot) {
+
+        for (int index = 0; index < listeners.size(); index++) {
+
+            if (listeners.get(index) == neuron) {
+
+                listenerSlots[index] = slot;
+            }
+        }
     }
 
     @Override
     public void receiveSignal(Signal signal) {
 
-        Signal amplifiedSignal = amplifySignal(signal);
+        Number amplifiedSignalValue = amplify(signal.value());
 
-        sendSignal(amplifiedSignal);
+        sendSignal(amplifiedSignalValue, null);
     }
 
     public void sendSignal(Signal signal) {
 
-        //System.out.println("\tDEBUG::" + this + ": signal=" + signal);
+        sendSignal(signal.value(), signal);
+    }
+
+    /**
+     * Sends the specified signal value to all listeners. Neurons with an assigned input slot receive the
+     * signal value directly, all other listeners receive a signal.
+     *
+     * @param signalValue
+     *        a signal value (i.e. number)
+     * @param signal
+     *        a signal with the specified signal value or <code>null</code> if the signal has yet to be created
+     */
+    private void sendSignal(Number signalValue, Signal signal) {
+
+        //System.out.println("\tDEBUG::" + this + ": signal=" + signalValue);
+
+        Signal actualSignal = signal;
+
+        for (int index = 0; index < listeners.size(); index++) {
+
+            SignalListener listener = listeners.get(index);
+            int slot = listenerSlots[index];
+
+            if (slot != NO_SLOT) {
+
+                ((NeuronImpl) listener).receiveSignal(slot, signalValue);
+
+            } else {
+
+                if (actualSignal == null) {
 
-        for (SignalListener listener : listeners) {
+                    actualSignal = new SignalImpl(this, signalValue);
+                }
 
-            listener.receiveSignal(signal);
+                listener.receiveSignal(actualSignal);
+            }
         }
     }
 
@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.precision;
+
+
+import jmul.math.numbers.Number;
+
+
+/**
+ * This interface describes a precision context. A precision context limits the number of significant digits of
+ * signal values and keeps statistics about the digit length of all signal values which pass through it.
+ *
+ * @author Kristian Kutin
+ */
+public interface PrecisionContext {
+
+    /**
+     * Returns the maximum number of significant digits.
+     *
+     * @return a digit count
+     */
+    int maxSignificantDigits();
+
+    /**
+     * Returns the rounding mode.
+     *
+     * @return a rounding mode
+     */
+    RoundingMode roundingMode();
+
+    /**
+     * Rounds the specified value to the maximum number of significant digits and updates the statistics.
+     *
+     * @param value
+     *        a value
+     *
+     * @return a rounded value or the specified value if it doesn't exceed the maximum number of significant digits
+     */
+    Number apply(Number value);
+
+    /**
+     * Returns the statistics for this precision context.
+     *
+     * @return statistics
+     */
+    PrecisionStatistics statistics();
+
+}
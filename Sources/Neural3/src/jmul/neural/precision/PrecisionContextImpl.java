@@ -0,0 +1,341 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.precision;
+
+
+import jmul.math.functions.repository.FunctionIdentifiers;
+import jmul.math.numbers.Number;
+
+import static jmul.math.numbers.NumberHelper.createNumber;
+
+
+/**
+ * An implementation of a precision context. Integer digits are never rounded away, i.e. a value with more integer
+ * digits than significant digits loses only its fraction part.
+ *
+ * @author Kristian Kutin
+ */
+public class PrecisionContextImpl implements PrecisionContext {
+
+    /**
+     * The maximum number of significant digits.
+     */
+    private final int maxSignificantDigits;
+
+    /**
+     * The rounding mode.
+     */
+    private final RoundingMode roundingMode;
+
+    /**
+     * The statistics for this precision context.
+     */
+    private final PrecisionStatistics statistics;
+
+    /**
+     * Creates a new precision context which rounds half way values to the nearest even digit.
+     *
+     * @param maxSignificantDigits
+     *        the maximum number of significant digits
+     */
+    public PrecisionContextImpl(int maxSignificantDigits) {
+
+        this(maxSignificantDigits, RoundingModes.HALF_EVEN);
+    }
+
+    /**
+     * Creates a new precision context according to the specified parameters.
+     *
+     * @param maxSignificantDigits
+     *        the maximum number of significant digits
+     * @param roundingMode
+     *        a rounding mode
+     */
+    public PrecisionContextImpl(int maxSignificantDigits, RoundingMode roundingMode) {
+
+        super();
+
+        if (maxSignificantDigits < 1) {
+
+            throw new IllegalArgumentException("An invalid number of significant digits (" + maxSignificantDigits +
+                                               ") was specified!");
+        }
+
+        if (roundingMode == null) {
+
+            throw new IllegalArgumentException("No rounding mode (null) was specified!");
+        }
+
+        this.maxSignificantDigits = maxSignificantDigits;
+        this.roundingMode = roundingMode;
+        this.statistics = new PrecisionStatistics();
+    }
+
+    /**
+     * Returns the maximum number of significant digits.
+     *
+     * @return a digit count
+     */
+    @Override
+    public int maxSignificantDigits() {
+
+        return maxSignificantDigits;
+    }
+
+    /**
+     * Returns the rounding mode.
+     *
+     * @return a rounding mode
+     */
+    @Override
+    public RoundingMode roundingMode() {
+
+        return roundingMode;
+    }
+
+    /**
+     * Rounds the specified value to the maximum number of significant digits and updates the statistics.
+     *
+     * @param value
+     *        a value
+     *
+     * @return a rounded value or the specified value if it doesn't exceed the maximum number of significant digits
+     */
+    @Override
+    public Number apply(Number value) {
+
+        if (value == null) {
+
+            throw new IllegalArgumentException("No value (null) was specified!");
+        }
+
+        if (value.isInfinity() || value.isZero()) {
+
+            statistics.record(1, 1, false);
+            return value;
+        }
+
+        int leftDigits = value.digitsLeft().toPrimitiveInt();
+        int rightDigits = value.digitsRight().toPrimitiveInt();
+        int digits = leftDigits + rightDigits;
+
+        int decimalPlaces = decimalPlaces(value, leftDigits);
+
+        if (rightDigits <= decimalPlaces) {
+
+            statistics.record(digits, digits, false);
+            return value;
+        }
+
+        Number roundedValue = round(value, decimalPlaces);
+        int roundedDigits = roundedValue.digitsLeft().toPrimitiveInt() + roundedValue.digitsRight().toPrimitiveInt();
+
+        statistics.record(digits, roundedDigits, true);
+
+        return roundedValue;
+    }
+
+    /**
+     * Rounds the specified value to the specified number of decimal places.
+     *
+     * @param value
+     *        a value
+     * @param decimalPlaces
+     *        a number of decimal places
+     *
+     * @return a rounded value
+     */
+    private Number round(Number value, int decimalPlaces) {
+
+        int base = value.base();
+
+        // The rounding functions of numbers discard all digits beyond the specified decimal places. The rounding
+        // mode decides about the last kept digit.
+        Number decimalPlacesNumber = createNumber(base, Integer.toString(decimalPlaces, base));
+        Number truncatedValue = value.round(FunctionIdentifiers.ROUND_NUMBER_TO_EVEN_FUNCTION, decimalPlacesNumber);
+
+        Number discardedPart = value.subtract(truncatedValue).absoluteValue();
+
+        if (discardedPart.isZero()) {
+
+            return truncatedValue;
+        }
+
+        Number unit = unitInTheLastPlace(base, decimalPlaces);
+        int halfComparison = compare(discardedPart.add(discardedPart), unit);
+        boolean oddDigit = isLastDigitOdd(truncatedValue, decimalPlaces);
+
+        if (!roundingMode.increment(halfComparison, oddDigit)) {
+
+            return truncatedValue;
+        }
+
+        if (value.isNegative()) {
+
+            return truncatedValue.subtract(unit);
+        }
+
+        return truncatedValue.add(unit);
+    }
+
+    /**
+     * Returns one unit in the last place for the specified number of decimal places.
+     *
+     * @param base
+     *        a number base
+     * @param decimalPlaces
+     *        a number of decimal places
+     *
+     * @return a number
+     */
+    private static Number unitInTheLastPlace(int base, int decimalPlaces) {
+
+        if (decimalPlaces == 0) {
+
+            return createNumber(base, "1");
+        }
+
+        StringBuilder buffer = new StringBuilder("0.");
+
+        for (int a = 1; a < decimalPlaces; a++) {
+
+            buffer.append('0');
+        }
+
+        buffer.append('1');
+
+        return createNumber(base, buffer.toString());
+    }
+
+    /**
+     * Compares the specified numbers.
+     *
+     * @param number1
+     *        a number
+     * @param number2
+     *        a number
+     *
+     * @return a negative value, zero or a positive value if the first number is lesser than, equal to or greater
+     *         than the second number
+     */
+    private static int compare(Number number1, Number number2) {
+
+        if (number1.isLesser(number2)) {
+
+            return -1;
+        }
+
+        if (number1.isGreater(number2)) {
+
+            return 1;
+        }
+
+        return 0;
+    }
+
+    /**
+     * Checks if the last kept digit of the specified truncated value is odd.
+     *
+     * @param truncatedValue
+     *        a truncated value
+     * @param decimalPlaces
+     *        the number of decimal places which were kept
+     *
+     * @return <code>true</code> if the last kept digit is odd, else <code>false</code>
+     */
+    private static boolean isLastDigitOdd(Number truncatedValue, int decimalPlaces) {
+
+        if (truncatedValue.digitsRight().toPrimitiveInt() < decimalPlaces) {
+
+            // The last kept digit is a trailing zero.
+            return false;
+        }
+
+        String numberString = truncatedValue.toString();
+        char lastDigit = numberString.charAt(numberString.length() - 1);
+
+        return (Character.digit(lastDigit, truncatedValue.base()) % 2) != 0;
+    }
+
+    /**
+     * Determines the number of decimal places which are needed to keep the maximum number of significant digits.
+     *
+     * @param value
+     *        a value
+     * @param leftDigits
+     *        the number of integer digits of the specified value
+     *
+     * @return a number of decimal places
+     */
+    private int decimalPlaces(Number value, int leftDigits) {
+
+        boolean hasIntegerPart = (leftDigits > 1) || !value.removeFractionPart().isZero();
+
+        if (hasIntegerPart) {
+
+            return Math.max(0, maxSignificantDigits - leftDigits);
+        }
+
+        // The leading zeros of the fraction part are not significant. An estimate is sufficient, since being off by
+        // one digit at a power of the number base doesn't matter.
+        double absoluteValue = Math.abs(value.toPrimitiveDouble());
+
+        if (absoluteValue == 0.0d) {
+
+            return Integer.MAX_VALUE;
+        }
+
+        int leadingZeros = (int) Math.ceil(-Math.log(absoluteValue) / Math.log(value.base())) - 1;
+
+        return maxSignificantDigits + Math.max(0, leadingZeros);
+    }
+
+    /**
+     * Returns the statistics for this precision context.
+     *
+     * @return statistics
+     */
+    @Override
+    public PrecisionStatistics statistics() {
+
+        return statistics;
+    }
+
+    @Override
+    public String toString() {
+
+        return "precision context (" + maxSignificantDigits + " significant digits, " + roundingMode + ")";
+    }
+
+}
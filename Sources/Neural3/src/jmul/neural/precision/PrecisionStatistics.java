@@ -0,0 +1,198 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.precision;
+
+
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * This class keeps statistics about the digit length of signal values. The statistics may be updated concurrently.
+ *
+ * @author Kristian Kutin
+ */
+public class PrecisionStatistics {
+
+    /**
+     * The number of recorded signal values.
+     */
+    private final AtomicLong signals;
+
+    /**
+     * The number of rounded signal values.
+     */
+    private final AtomicLong roundings;
+
+    /**
+     * The sum of all digit lengths before rounding.
+     */
+    private final AtomicLong digitsBeforeRounding;
+
+    /**
+     * The sum of all digit lengths after rounding.
+     */
+    private final AtomicLong digits;
+
+    /**
+     * The maximum digit length before rounding.
+     */
+    private final AtomicLong maxDigitsBeforeRounding;
+
+    /**
+     * Creates new statistics.
+     */
+    public PrecisionStatistics() {
+
+        super();
+
+        this.signals = new AtomicLong();
+        this.roundings = new AtomicLong();
+        this.digitsBeforeRounding = new AtomicLong();
+        this.digits = new AtomicLong();
+        this.maxDigitsBeforeRounding = new AtomicLong();
+    }
+
+    /**
+     * Records a signal value.
+     *
+     * @param digitsBefore
+     *        the digit length before rounding
+     * @param digitsAfter
+     *        the digit length after rounding
+     * @param rounded
+     *        <code>true</code> if the signal value was rounded, else <code>false</code>
+     */
+    void record(int digitsBefore, int digitsAfter, boolean rounded) {
+
+        signals.incrementAndGet();
+        digitsBeforeRounding.addAndGet(digitsBefore);
+        digits.addAndGet(digitsAfter);
+        maxDigitsBeforeRounding.accumulateAndGet(digitsBefore, Math::max);
+
+        if (rounded) {
+
+            roundings.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the number of recorded signal values.
+     *
+     * @return a signal count
+     */
+    public long signals() {
+
+        return signals.get();
+    }
+
+    /**
+     * Returns the number of rounded signal values.
+     *
+     * @return a rounding count
+     */
+    public long roundings() {
+
+        return roundings.get();
+    }
+
+    /**
+     * Returns the average digit length of all signal values before rounding.
+     *
+     * @return an average digit length
+     */
+    public double averageDigitsBeforeRounding() {
+
+        return average(digitsBeforeRounding.get());
+    }
+
+    /**
+     * Returns the average digit length of all signal values after rounding.
+     *
+     * @return an average digit length
+     */
+    public double averageDigits() {
+
+        return average(digits.get());
+    }
+
+    /**
+     * Returns the maximum digit length of all signal values before rounding.
+     *
+     * @return a digit length
+     */
+    public long maxDigitsBeforeRounding() {
+
+        return maxDigitsBeforeRounding.get();
+    }
+
+    /**
+     * Calculates the average of the specified sum.
+     *
+     * @param sum
+     *        a sum of digit lengths
+     *
+     * @return an average digit length
+     */
+    private double average(long sum) {
+
+        long count = signals.get();
+
+        if (count == 0L) {
+
+            return 0.0d;
+        }
+
+        return (double) sum / (double) count;
+    }
+
+    /**
+     * Resets all counters.
+     */
+    public void reset() {
+
+        signals.set(0L);
+        roundings.set(0L);
+        digitsBeforeRounding.set(0L);
+        digits.set(0L);
+        maxDigitsBeforeRounding.set(0L);
+    }
+
+    @Override
+    public String toString() {
+
+        return String.format("signals=%d, roundings=%d, average digits=%.2f (before rounding %.2f, max %d)", signals(),
+                             roundings(), averageDigits(), averageDigitsBeforeRounding(), maxDigitsBeforeRounding());
+    }
+
+}
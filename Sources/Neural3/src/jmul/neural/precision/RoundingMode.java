@@ -0,0 +1,58 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.precision;
+
+
+/**
+ * This interface describes a rounding mode.
+ *
+ * @author Kristian Kutin
+ */
+public interface RoundingMode {
+
+    /**
+     * Decides if the magnitude of a truncated value has to be incremented by one unit in the last place. This
+     * method is only called if non-zero digits were discarded.
+     *
+     * @param halfComparison
+     *        the result of comparing the discarded part with half a unit in the last place (i.e. a negative value if
+     *        the discarded part is smaller, zero if it is equal and a positive value if it is greater)
+     * @param oddDigit
+     *        <code>true</code> if the last kept digit is odd, else <code>false</code>
+     *
+     * @return <code>true</code> if the magnitude has to be incremented, else <code>false</code>
+     */
+    boolean increment(int halfComparison, boolean oddDigit);
+
+}
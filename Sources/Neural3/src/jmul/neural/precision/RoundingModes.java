@@ -0,0 +1,104 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.precision;
+
+
+/**
+ * An enumeration of rounding modes.
+ *
+ * @author Kristian Kutin
+ */
+public enum RoundingModes implements RoundingMode {
+
+    /**
+     * Rounds away from zero.
+     */
+    UP {
+
+        @Override
+        public boolean increment(int halfComparison, boolean oddDigit) {
+
+            return true;
+        }
+    },
+
+    /**
+     * Rounds towards zero (i.e. discards digits).
+     */
+    DOWN {
+
+        @Override
+        public boolean increment(int halfComparison, boolean oddDigit) {
+
+            return false;
+        }
+    },
+
+    /**
+     * Rounds towards the nearest neighbour. Half way values are rounded away from zero.
+     */
+    HALF_UP {
+
+        @Override
+        public boolean increment(int halfComparison, boolean oddDigit) {
+
+            return halfComparison >= 0;
+        }
+    },
+
+    /**
+     * Rounds towards the nearest neighbour. Half way values are rounded towards zero.
+     */
+    HALF_DOWN {
+
+        @Override
+        public boolean increment(int halfComparison, boolean oddDigit) {
+
+            return halfComparison > 0;
+        }
+    },
+
+    /**
+     * Rounds towards the nearest neighbour. Half way values are rounded towards the even neighbour.
+     */
+    HALF_EVEN {
+
+        @Override
+        public boolean increment(int halfComparison, boolean oddDigit) {
+
+            return (halfComparison > 0) || ((halfComparison == 0) && oddDigit);
+        }
+    };
+
+}
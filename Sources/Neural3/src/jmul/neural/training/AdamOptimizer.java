@@ -0,0 +1,226 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.training;
+
+
+import jmul.metainfo.annotations.Modified;
+
+
+/**
+ * An optimizer which scales each step by running estimates of the first and second moment of the gradient (see Adam,
+ * Kingma and Ba). The estimates are corrected for their initialization with zero.
+ *
+ * @author Kristian Kutin
+ */
+public class AdamOptimizer implements Optimizer {
+
+    /**
+     * The default learning rate.
+     */
+    public static final double DEFAULT_LEARNING_RATE;
+
+    /**
+     * The default decay rate of the first moment estimate.
+     */
+    public static final double DEFAULT_BETA1;
+
+    /**
+     * The default decay rate of the second moment estimate.
+     */
+    public static final double DEFAULT_BETA2;
+
+    /**
+     * The default constant which prevents a division by zero.
+     */
+    public static final double DEFAULT_EPSILON;
+
+    /**
+     * The index of the vector with the first moment estimates.
+     */
+    private static final int FIRST_MOMENT;
+
+    /**
+     * The index of the vector with the second moment estimates.
+     */
+    private static final int SECOND_MOMENT;
+
+    /**
+     * The index of the vector with the gradient.
+     */
+    private static final int GRADIENT;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        DEFAULT_LEARNING_RATE = 0.01d;
+        DEFAULT_BETA1 = 0.9d;
+        DEFAULT_BETA2 = 0.999d;
+        DEFAULT_EPSILON = 1e-8d;
+
+        FIRST_MOMENT = 0;
+        SECOND_MOMENT = 1;
+        GRADIENT = 2;
+    }
+
+    /**
+     * The learning rate.
+     */
+    private final double learningRate;
+
+    /**
+     * The decay rate of the first moment estimate.
+     */
+    private final double beta1;
+
+    /**
+     * The decay rate of the second moment estimate.
+     */
+    private final double beta2;
+
+    /**
+     * The constant which prevents a division by zero.
+     */
+    private final double epsilon;
+
+    /**
+     * Creates a new optimizer with default parameters.
+     */
+    public AdamOptimizer() {
+
+        this(DEFAULT_LEARNING_RATE, DEFAULT_BETA1, DEFAULT_BETA2, DEFAULT_EPSILON);
+    }
+
+    /**
+     * Creates a new optimizer according to the specified parameters.
+     *
+     * @param learningRate
+     *        a learning rate
+     * @param beta1
+     *        the decay rate of the first moment estimate
+     * @param beta2
+     *        the decay rate of the second moment estimate
+     * @param epsilon
+     *        a small constant which prevents a division by zero
+     */
+    public AdamOptimizer(double learningRate, double beta1, double beta2, double epsilon) {
+
+        super();
+
+        if (!(learningRate > 0.0d)) {
+
+            throw new IllegalArgumentException("No valid learning rate (x <= 0) was specified!");
+        }
+
+        if (!((beta1 >= 0.0d) && (beta1 < 1.0d))) {
+
+            throw new IllegalArgumentException("No valid decay rate beta1 (x < 0 or x >= 1) was specified!");
+        }
+
+        if (!((beta2 >= 0.0d) && (beta2 < 1.0d))) {
+
+            throw new IllegalArgumentException("No valid decay rate beta2 (x < 0 or x >= 1) was specified!");
+        }
+
+        if (!(epsilon > 0.0d)) {
+
+            throw new IllegalArgumentException("No valid epsilon (x <= 0) was specified!");
+        }
+
+        this.learningRate = learningRate;
+        this.beta1 = beta1;
+        this.beta2 = beta2;
+        this.epsilon = epsilon;
+    }
+
+    /**
+     * Creates a new state for the specified number of parameters.
+     *
+     * @param parameterCount
+     *        the number of parameters
+     *
+     * @return an optimizer state
+     */
+    @Override
+    public OptimizerState createState(int parameterCount) {
+
+        return new OptimizerState(parameterCount, 3, 0);
+    }
+
+    /**
+     * Performs one optimization step.
+     *
+     * @param objective
+     *        an objective function
+     * @param parameters
+     *        all parameters
+     * @param state
+     *        a state which was created by this optimizer for the same number of parameters
+     *
+     * @return the value of the objective function before the parameters were adjusted
+     */
+    @Override
+    public double step(DifferentiableObjective objective, @Modified double[] parameters,
+                       @Modified OptimizerState state) {
+
+        OptimizerHelper.checkArguments(objective, parameters, state);
+
+        double[] firstMoment = state.vector(FIRST_MOMENT);
+        double[] secondMoment = state.vector(SECOND_MOMENT);
+        double[] gradient = state.vector(GRADIENT);
+
+        double value = objective.evaluate(parameters, gradient);
+
+        long iteration = state.nextIteration();
+        double firstCorrection = 1.0d - Math.pow(beta1, iteration);
+        double secondCorrection = 1.0d - Math.pow(beta2, iteration);
+
+        for (int index = 0; index < parameters.length; index++) {
+
+            double g = gradient[index];
+
+            firstMoment[index] = beta1 * firstMoment[index] + (1.0d - beta1) * g;
+            secondMoment[index] = beta2 * secondMoment[index] + (1.0d - beta2) * g * g;
+
+            double firstEstimate = firstMoment[index] / firstCorrection;
+            double secondEstimate = secondMoment[index] / secondCorrection;
+
+            parameters[index] -= learningRate * firstEstimate / (Math.sqrt(secondEstimate) + epsilon);
+        }
+
+        return value;
+    }
+
+}
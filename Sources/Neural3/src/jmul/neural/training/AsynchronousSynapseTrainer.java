@@ -0,0 +1,260 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.training;
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import jmul.backends.NumericBackend;
+import jmul.backends.NumericBackends;
+
+import jmul.data.DataEntry;
+import jmul.data.TrainingData;
+
+import jmul.math.numbers.Number;
+
+import jmul.metainfo.annotations.Modified;
+
+import jmul.neural.NumberConversionHelper;
+import jmul.neural.neurons.CompiledNetworkImpl;
+import jmul.neural.neurons.Layers;
+import jmul.neural.neurons.Network;
+import jmul.neural.neurons.NetworkHelper;
+import jmul.neural.neurons.Synapse;
+
+
+/**
+ * A trainer which trains the synapses of the hidden layers asynchronously (i.e. Hogwild style). All workers share
+ * one weight vector (see {@link SharedWeights}). A worker takes the next synapse, refreshes its own copy of the
+ * weights with the weights which were published since its last refresh (i.e. without locking and without copying
+ * the whole vector), looks for a better weight (see {@link SynapseTrainer}) and publishes it immediately, i.e. later
+ * synapses are already trained with the new weight and there is no barrier between the synapses. Reads may be stale
+ * or mix old and new weights; the staleness of all updates is recorded (see {@link StalenessStatistics}). The network
+ * is evaluated with primitive values.
+ *
+ * @author Kristian Kutin
+ */
+public class AsynchronousSynapseTrainer implements NetworkTrainer {
+
+    /**
+     * The line search which looks for a better weight.
+     */
+    private final LineSearch lineSearch;
+
+    /**
+     * An executor or <code>null</code> if a thread pool is created for each training run.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * The number of workers.
+     */
+    private final int workers;
+
+    /**
+     * The number of evaluations of the last training run.
+     */
+    private volatile long evaluations;
+
+    /**
+     * The staleness statistics of the last training run.
+     */
+    private volatile StalenessStatistics staleness;
+
+    /**
+     * Creates a new trainer with one worker per processor.
+     */
+    public AsynchronousSynapseTrainer() {
+
+        this(SynapseTrainer.DEFAULT_LINE_SEARCH, null, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new trainer according to the specified parameters.
+     *
+     * @param lineSearch
+     *        a line search which looks for a better weight (i.e. it is shared by all workers)
+     * @param executor
+     *        an executor or <code>null</code> if a fixed thread pool should be created for each training run (a
+     *        specified executor is not shut down by this trainer)
+     * @param workers
+     *        the number of workers
+     */
+    public AsynchronousSynapseTrainer(LineSearch lineSearch, ExecutorService executor, int workers) {
+
+        super();
+
+        if (lineSearch == null) {
+
+            throw new IllegalArgumentException("No line search (null) was specified!");
+        }
+
+        if (workers < 1) {
+
+            throw new IllegalArgumentException("No valid number of workers (x < 1) was specified!");
+        }
+
+        this.lineSearch = lineSearch;
+        this.executor = executor;
+        this.workers = workers;
+        this.evaluations = 0L;
+        this.staleness = new StalenessStatistics();
+    }
+
+    /**
+     * Returns the number of evaluations (i.e. forward passes through the network) of the last training run.
+     *
+     * @return a number of evaluations
+     */
+    public long evaluations() {
+
+        return evaluations;
+    }
+
+    /**
+     * Returns the staleness statistics of the last training run.
+     *
+     * @return staleness statistics
+     */
+    public StalenessStatistics staleness() {
+
+        return staleness;
+    }
+
+    /**
+     * Trains the specified neural network.
+     *
+     * @param network
+     *        a neural network
+     * @param trainingData
+     *        a set of training data
+     *
+     * @return the mean squared error after the weights were adjusted
+     */
+    @Override
+    public Number trainNetwork(@Modified Network network, TrainingData trainingData) {
+
+        if (network == null) {
+
+            throw new IllegalArgumentException("No network (null) was specified!");
+        }
+
+        if (trainingData == null) {
+
+            throw new IllegalArgumentException("No training data (null) was specified!");
+        }
+
+        CompiledNetworkImpl compiledNetwork = (CompiledNetworkImpl) NetworkHelper.compile(network);
+
+        List<Synapse> synapses = network.synapses();
+        List<Integer> indices = new ArrayList<>();
+        double[] initialWeights = new double[synapses.size()];
+
+        for (int index = 0; index < synapses.size(); index++) {
+
+            initialWeights[index] = compiledNetwork.weight(index);
+
+            if (synapses.get(index).layer() == Layers.HIDDEN_LAYER) {
+
+                indices.add(index);
+            }
+        }
+
+        NumericBackend<Double> backend = NumericBackends.DOUBLE;
+        List<Double> inputs = new ArrayList<>();
+        List<Double> expectedOutputs = new ArrayList<>();
+
+        for (DataEntry entry : trainingData) {
+
+            inputs.add(backend.valueOf(entry.input));
+            expectedOutputs.add(backend.valueOf(entry.expectedOutput));
+        }
+
+        SharedWeights sharedWeights = new SharedWeights(initialWeights, indices.size());
+        AtomicInteger cursor = new AtomicInteger();
+        LongAdder counter = new LongAdder();
+        StalenessStatistics statistics = new StalenessStatistics();
+
+        int actualWorkers = Math.max(1, Math.min(workers, indices.size()));
+        List<AsynchronousWorker> tasks = new ArrayList<>();
+
+        for (int worker = 0; worker < actualWorkers; worker++) {
+
+            tasks.add(new AsynchronousWorker(compiledNetwork, sharedWeights, indices, cursor, lineSearch, inputs,
+                                             expectedOutputs, counter, statistics));
+        }
+
+        ExecutorService actualExecutor = executor;
+
+        if (actualExecutor == null) {
+
+            actualExecutor = Executors.newFixedThreadPool(actualWorkers, new TrainingThreadFactory());
+        }
+
+        try {
+
+            ConcurrentSynapseTrainer.awaitResults(actualExecutor, tasks, ConcurrentSynapseTrainer.NO_TIMEOUT,
+                                                  TimeUnit.MILLISECONDS);
+
+        } finally {
+
+            if (executor == null) {
+
+                actualExecutor.shutdownNow();
+            }
+        }
+
+        for (int index : indices) {
+
+            double weight = sharedWeights.get(index);
+
+            if (weight != initialWeights[index]) {
+
+                NetworkHelper.setWeight(synapses.get(index), NumberConversionHelper.toNumber(weight));
+            }
+        }
+
+        evaluations = counter.sum();
+        staleness = statistics;
+
+        return TrainingHelper.meanSquaredError(network, trainingData);
+    }
+
+}
@@ -0,0 +1,179 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.training;
+
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import jmul.neural.neurons.CompiledNetworkImpl;
+
+
+/**
+ * A worker which trains synapses until all synapses of a training run were taken.
+ *
+ * @author Kristian Kutin
+ */
+final class AsynchronousWorker implements Callable<Void> {
+
+    /**
+     * A compiled network which provides the biases and activation functions.
+     */
+    private final CompiledNetworkImpl compiledNetwork;
+
+    /**
+     * The shared weights.
+     */
+    private final SharedWeights sharedWeights;
+
+    /**
+     * The indices of all synapses which are trained.
+     */
+    private final List<Integer> indices;
+
+    /**
+     * The position of the next synapse (i.e. shared by all workers).
+     */
+    private final AtomicInteger cursor;
+
+    /**
+     * The line search which looks for a better weight.
+     */
+    private final LineSearch lineSearch;
+
+    /**
+     * All inputs.
+     */
+    private final List<Double> inputs;
+
+    /**
+     * All expected outputs.
+     */
+    private final List<Double> expectedOutputs;
+
+    /**
+     * Counts the evaluations of the objective function.
+     */
+    private final LongAdder evaluations;
+
+    /**
+     * Records the staleness of all updates.
+     */
+    private final StalenessStatistics statistics;
+
+    /**
+     * Creates a new worker according to the specified parameters.
+     *
+     * @param compiledNetwork
+     *        a compiled network which provides the biases and activation functions
+     * @param sharedWeights
+     *        the shared weights
+     * @param indices
+     *        the indices of all synapses which are trained
+     * @param cursor
+     *        the position of the next synapse
+     * @param lineSearch
+     *        a line search
+     * @param inputs
+     *        all inputs
+     * @param expectedOutputs
+     *        all expected outputs
+     * @param evaluations
+     *        counts the evaluations of the objective function
+     * @param statistics
+     *        records the staleness of all updates
+     */
+    AsynchronousWorker(CompiledNetworkImpl compiledNetwork, SharedWeights sharedWeights, List<Integer> indices,
+                       AtomicInteger cursor, LineSearch lineSearch, List<Double> inputs, List<Double> expectedOutputs,
+                       LongAdder evaluations, StalenessStatistics statistics) {
+
+        super();
+
+        this.compiledNetwork = compiledNetwork;
+        this.sharedWeights = sharedWeights;
+        this.indices = indices;
+        this.cursor = cursor;
+        this.lineSearch = lineSearch;
+        this.inputs = inputs;
+        this.expectedOutputs = expectedOutputs;
+        this.evaluations = evaluations;
+        this.statistics = statistics;
+    }
+
+    /**
+     * Trains synapses until all synapses were taken. The worker stops early if it was cancelled.
+     *
+     * @return nothing
+     *
+     * @throws InterruptedException
+     *         is thrown if the worker was cancelled
+     */
+    @Override
+    public Void call() throws InterruptedException {
+
+        // the snapshot reads the local weights, i.e. a refresh only copies the weights published since the last one
+        double[] weights = new double[sharedWeights.size()];
+        sharedWeights.read(weights);
+
+        CompiledNetworkImpl snapshot = compiledNetwork.withWeightVector(weights);
+        long readVersion = 0L;
+
+        for (int position = cursor.getAndIncrement(); position < indices.size();
+             position = cursor.getAndIncrement()) {
+
+            if (Thread.currentThread().isInterrupted()) {
+
+                throw new InterruptedException();
+            }
+
+            int synapseIndex = indices.get(position);
+
+            readVersion = sharedWeights.refresh(weights, readVersion);
+
+            double newWeight =
+                SynapseTrainer.optimizeWeight(snapshot, lineSearch, synapseIndex, inputs, expectedOutputs,
+                                              evaluations);
+
+            long writeVersion = sharedWeights.publish(synapseIndex, newWeight);
+
+            // the own update is not stale
+            statistics.record(writeVersion - readVersion - 1L);
+        }
+
+        return null;
+    }
+
+}
@@ -0,0 +1,709 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.training;
+
+
+import java.util.List;
+
+import jmul.backends.NumericBackend;
+
+import jmul.functions.Function;
+
+import jmul.math.numbers.Number;
+
+import jmul.neural.neurons.Layers;
+import jmul.neural.neurons.Network;
+import jmul.neural.neurons.NetworkHelper;
+import jmul.neural.neurons.NetworkLayout;
+import jmul.neural.neurons.Neuron;
+import jmul.neural.neurons.Synapse;
+
+
+/**
+ * Calculates the gradients of the squared error with regard to all weights and biases of a flat network. Each
+ * sample requires one forward pass and one backward pass. The gradients of several samples are accumulated and
+ * averaged. The arrays use the same index positions as {@link Network#synapses()} and {@link Network#neurons()}.<br>
+ * <br>
+ * Copies (see {@link #copy()}) share the weights and biases but have their own gradients, i.e. several threads can
+ * accumulate gradients without locking as long as the weights and biases are only adjusted in between.
+ *
+ * @author Kristian Kutin
+ *
+ * @param <T>
+ *        the value type of the numeric backend
+ */
+public final class Backpropagation<T> {
+
+    /**
+     * The numeric backend.
+     */
+    private final NumericBackend<T> backend;
+
+    /**
+     * The layout of the network.
+     */
+    private final NetworkLayout layout;
+
+    /**
+     * All weights.
+     */
+    private final Object[] weights;
+
+    /**
+     * All biases.
+     */
+    private final Object[] biases;
+
+    /**
+     * Flags which weights are adjusted by gradient descent (i.e. the weights of the hidden layers).
+     */
+    private final boolean[] adjustableWeights;
+
+    /**
+     * Flags which biases are adjusted by gradient descent (i.e. the biases of the hidden layers).
+     */
+    private final boolean[] adjustableBiases;
+
+    /**
+     * All activation functions.
+     */
+    private final Function[] activationFunctions;
+
+    /**
+     * The derivatives of all activation functions.
+     */
+    private final Function[] derivativeFunctions;
+
+    /**
+     * The sums of all incoming signals per neuron of the current sample.
+     */
+    private final Object[] sums;
+
+    /**
+     * The outputs of all neurons of the current sample.
+     */
+    private final Object[] outputs;
+
+    /**
+     * The gradients of the squared error with regard to the outputs of all neurons of the current sample.
+     */
+    private final Object[] outputGradients;
+
+    /**
+     * The accumulated gradients of all weights.
+     */
+    private final Object[] weightGradients;
+
+    /**
+     * The accumulated gradients of all biases.
+     */
+    private final Object[] biasGradients;
+
+    /**
+     * The accumulated squared errors.
+     */
+    private T squaredErrors;
+
+    /**
+     * The number of accumulated samples.
+     */
+    private int samples;
+
+    /**
+     * Creates a new instance according to the specified parameters. The weights, biases and activation functions
+     * are copied from the network, i.e. later changes of the network are not reflected.
+     *
+     * @param backend
+     *        a numeric backend
+     * @param network
+     *        a flat neural network or an overlay network
+     */
+    public Backpropagation(NumericBackend<T> backend, Network network) {
+
+        super();
+
+        if (backend == null) {
+
+            throw new IllegalArgumentException("No numeric backend (null) was specified!");
+        }
+
+        if (network == null) {
+
+            throw new IllegalArgumentException("No network (null) was specified!");
+        }
+
+        this.backend = backend;
+        this.layout = NetworkHelper.layout(network);
+
+        List<Neuron> neurons = network.neurons();
+        int neuronCount = neurons.size();
+
+        this.biases = new Object[neuronCount];
+        this.adjustableBiases = new boolean[neuronCount];
+        this.activationFunctions = new Function[neuronCount];
+        this.derivativeFunctions = new Function[neuronCount];
+
+        for (int index = 0; index < neuronCount; index++) {
+
+            Neuron neuron = neurons.get(index);
+            Number bias = neuron.bias();
+
+            biases[index] = (bias == null) ? backend.zero() : backend.valueOf(bias);
+            adjustableBiases[index] = (neuron.layer() == Layers.HIDDEN_LAYER);
+            activationFunctions[index] = neuron.activationFunction();
+            derivativeFunctions[index] = neuron.activationFunction().derivativeFunction();
+        }
+
+        List<Synapse> synapses = network.synapses();
+        this.weights = new Object[synapses.size()];
+        this.adjustableWeights = new boolean[synapses.size()];
+
+        for (int index = 0; index < synapses.size(); index++) {
+
+            Synapse synapse = synapses.get(index);
+
+            weights[index] = backend.valueOf(synapse.weight());
+            adjustableWeights[index] = (synapse.layer() == Layers.HIDDEN_LAYER);
+        }
+
+        this.sums = new Object[neuronCount];
+        this.outputs = new Object[neuronCount];
+        this.outputGradients = new Object[neuronCount];
+        this.weightGradients = new Object[weights.length];
+        this.biasGradients = new Object[neuronCount];
+
+        reset();
+    }
+
+    /**
+     * Creates a copy of the specified instance which shares the weights and biases but has its own gradients.
+     *
+     * @param original
+     *        the original instance
+     */
+    private Backpropagation(Backpropagation<T> original) {
+
+        super();
+
+        this.backend = original.backend;
+        this.layout = original.layout;
+        this.weights = original.weights;
+        this.biases = original.biases;
+        this.adjustableWeights = original.adjustableWeights;
+        this.adjustableBiases = original.adjustableBiases;
+        this.activationFunctions = original.activationFunctions;
+        this.derivativeFunctions = original.derivativeFunctions;
+
+        int neuronCount = biases.length;
+
+        this.sums = new Object[neuronCount];
+        this.outputs = new Object[neuronCount];
+        this.outputGradients = new Object[neuronCount];
+        this.weightGradients = new Object[weights.length];
+        this.biasGradients = new Object[neuronCount];
+
+        reset();
+    }
+
+    /**
+     * Creates a copy which shares the weights and biases of this instance but has no accumulated gradients.
+     *
+     * @return a copy
+     */
+    public Backpropagation<T> copy() {
+
+        return new Backpropagation<>(this);
+    }
+
+    /**
+     * Adds the accumulated gradients and squared errors of the specified copy to this instance.
+     *
+     * @param other
+     *        a copy of this instance (see {@link #copy()})
+     */
+    @SuppressWarnings("unchecked")
+    public void add(Backpropagation<T> other) {
+
+        if (other == null) {
+
+            throw new IllegalArgumentException("No backpropagation (null) was specified!");
+        }
+
+        if (other.weights != weights) {
+
+            throw new IllegalArgumentException("The specified backpropagation is not a copy of this instance!");
+        }
+
+        for (int index = 0; index < weightGradients.length; index++) {
+
+            weightGradients[index] = backend.add((T) weightGradients[index], (T) other.weightGradients[index]);
+        }
+
+        for (int index = 0; index < biasGradients.length; index++) {
+
+            biasGradients[index] = backend.add((T) biasGradients[index], (T) other.biasGradients[index]);
+        }
+
+        squaredErrors = backend.add(squaredErrors, other.squaredErrors);
+        samples += other.samples;
+    }
+
+    /**
+     * Discards all accumulated gradients and squared errors.
+     */
+    public void reset() {
+
+        for (int index = 0; index < weightGradients.length; index++) {
+
+            weightGradients[index] = backend.zero();
+        }
+
+        for (int index = 0; index < biasGradients.length; index++) {
+
+            biasGradients[index] = backend.zero();
+        }
+
+        squaredErrors = backend.zero();
+        samples = 0;
+    }
+
+    /**
+     * Sends the specified input through the network (forward pass) and accumulates the gradients of the squared
+     * error with regard to all weights and biases (backward pass).
+     *
+     * @param input
+     *        an input
+     * @param expectedOutput
+     *        the expected output
+     *
+     * @return the squared error of this sample
+     */
+    @SuppressWarnings("unchecked")
+    public T accumulate(T input, T expectedOutput) {
+
+        if (input == null) {
+
+            throw new IllegalArgumentException("No input (null) was specified!");
+        }
+
+        if (expectedOutput == null) {
+
+            throw new IllegalArgumentException("No expected output (null) was specified!");
+        }
+
+        int inputSynapseIndex = layout.inputSynapseIndex();
+        int outputSynapseIndex = layout.outputSynapseIndex();
+        int outputNeuronIndex = layout.outputNeuronIndex();
+
+        // forward pass
+        sums[0] = backend.multiply(input, (T) weights[inputSynapseIndex]);
+        outputs[0] = backend.add(activationFunctions[0].calculate(backend, (T) sums[0]), (T) biases[0]);
+
+        for (int layer = 1; layer < layout.layers(); layer++) {
+
+            int sourceCount = layout.neuronCount(layer - 1);
+            int targetCount = layout.neuronCount(layer);
+            int sourceOffset = layout.neuronOffset(layer - 1);
+            int offset = layout.neuronOffset(layer);
+            int synapseOffset = layout.synapseOffset(layer - 1);
+
+            for (int target = 0; target < targetCount; target++) {
+
+                T sum = backend.zero();
+
+                for (int source = 0; source < sourceCount; source++) {
+
+                    T weight = (T) weights[synapseOffset + source * targetCount + target];
+                    sum = backend.add(sum, backend.multiply((T) outputs[sourceOffset + source], weight));
+                }
+
+                int neuronIndex = offset + target;
+                sums[neuronIndex] = sum;
+                outputs[neuronIndex] =
+                    backend.add(activationFunctions[neuronIndex].calculate(backend, sum), (T) biases[neuronIndex]);
+            }
+        }
+
+        T actualOutput = backend.multiply((T) outputs[outputNeuronIndex], (T) weights[outputSynapseIndex]);
+        T error = backend.subtract(actualOutput, expectedOutput);
+        T squaredError = backend.multiply(error, error);
+
+        squaredErrors = backend.add(squaredErrors, squaredError);
+        samples++;
+
+        // backward pass (the derivative of the squared error is 2 * error)
+        T outputGradient = backend.add(error, error);
+
+        weightGradients[outputSynapseIndex] =
+            backend.add((T) weightGradients[outputSynapseIndex],
+                        backend.multiply(outputGradient, (T) outputs[outputNeuronIndex]));
+
+        for (int index = 0; index < outputGradients.length; index++) {
+
+            outputGradients[index] = backend.zero();
+        }
+        outputGradients[outputNeuronIndex] = backend.multiply(outputGradient, (T) weights[outputSynapseIndex]);
+
+        for (int layer = layout.layers() - 1; layer >= 0; layer--) {
+
+            int targetCount = layout.neuronCount(layer);
+            int offset = layout.neuronOffset(layer);
+
+            for (int target = 0; target < targetCount; target++) {
+
+                int neuronIndex = offset + target;
+
+                T neuronGradient = (T) outputGradients[neuronIndex];
+                biasGradients[neuronIndex] = backend.add((T) biasGradients[neuronIndex], neuronGradient);
+
+                T derivative = derivativeFunctions[neuronIndex].calculate(backend, (T) sums[neuronIndex]);
+                T sumGradient = backend.multiply(neuronGradient, derivative);
+
+                if (layer == 0) {
+
+                    weightGradients[inputSynapseIndex] =
+                        backend.add((T) weightGradients[inputSynapseIndex], backend.multiply(sumGradient, input));
+                    continue;
+                }
+
+                int sourceCount = layout.neuronCount(layer - 1);
+                int sourceOffset = layout.neuronOffset(layer - 1);
+                int synapseOffset = layout.synapseOffset(layer - 1);
+
+                for (int source = 0; source < sourceCount; source++) {
+
+                    int synapseIndex = synapseOffset + source * targetCount + target;
+                    int sourceIndex = sourceOffset + source;
+
+                    weightGradients[synapseIndex] =
+                        backend.add((T) weightGradients[synapseIndex],
+                                    backend.multiply(sumGradient, (T) outputs[sourceIndex]));
+                    outputGradients[sourceIndex] =
+                        backend.add((T) outputGradients[sourceIndex],
+                                    backend.multiply(sumGradient, (T) weights[synapseIndex]));
+                }
+            }
+        }
+
+        return squaredError;
+    }
+
+    /**
+     * Returns the number of accumulated samples.
+     *
+     * @return a sample count
+     */
+    public int samples() {
+
+        return samples;
+    }
+
+    /**
+     * Returns the numeric backend.
+     *
+     * @return a numeric backend
+     */
+    public NumericBackend<T> backend() {
+
+        return backend;
+    }
+
+    /**
+     * Returns the average gradient of the specified weight.
+     *
+     * @param synapseIndex
+     *        the index of a synapse (see {@link Network#synapses()})
+     *
+     * @return a gradient
+     */
+    @SuppressWarnings("unchecked")
+    public T weightGradient(int synapseIndex) {
+
+        return average((T) weightGradients[synapseIndex]);
+    }
+
+    /**
+     * Returns the average gradient of the specified bias.
+     *
+     * @param neuronIndex
+     *        the index of a neuron (see {@link Network#neurons()})
+     *
+     * @return a gradient
+     */
+    @SuppressWarnings("unchecked")
+    public T biasGradient(int neuronIndex) {
+
+        return average((T) biasGradients[neuronIndex]);
+    }
+
+    /**
+     * Returns the sum of the squared errors of all accumulated samples.
+     *
+     * @return a sum of squared errors
+     */
+    public T squaredErrors() {
+
+        return squaredErrors;
+    }
+
+    /**
+     * Returns the mean squared error of all accumulated samples.
+     *
+     * @return a mean squared error
+     */
+    public T meanSquaredError() {
+
+        return average(squaredErrors);
+    }
+
+    /**
+     * Returns the number of parameters, i.e. the number of synapses plus the number of neurons. The parameters are
+     * aligned with the indices of the network: the weight of synapse i is at position i and the bias of neuron j is at
+     * position {@link Network#synapses()}.size() + j. Only the weights of the hidden layers and the biases are
+     * adjustable, the gradients of all other parameters are zero.
+     *
+     * @return a parameter count
+     */
+    public int parameterCount() {
+
+        return weights.length + biases.length;
+    }
+
+    /**
+     * Checks if the specified parameter is adjustable (see {@link #parameterCount()}).
+     *
+     * @param parameterIndex
+     *        the index of a parameter
+     *
+     * @return <code>true</code> if the parameter is adjustable, else <code>false</code>
+     */
+    public boolean isAdjustable(int parameterIndex) {
+
+        if (parameterIndex < weights.length) {
+
+            return adjustableWeights[parameterIndex];
+        }
+
+        return adjustableBiases[parameterIndex - weights.length];
+    }
+
+    /**
+     * Copies all weights and biases into the specified array (see {@link #parameterCount()}).
+     *
+     * @param destination
+     *        an array with a length of {@link #parameterCount()}
+     */
+    @SuppressWarnings("unchecked")
+    public void parameters(double[] destination) {
+
+        checkParameterArray(destination);
+
+        for (int index = 0; index < weights.length; index++) {
+
+            destination[index] = backend.toDouble((T) weights[index]);
+        }
+
+        for (int index = 0; index < biases.length; index++) {
+
+            destination[weights.length + index] = backend.toDouble((T) biases[index]);
+        }
+    }
+
+    /**
+     * Copies the average gradients of all weights and biases into the specified array (see {@link
+     * #parameterCount()}). The gradients of parameters which are not adjustable are zero.
+     *
+     * @param destination
+     *        an array with a length of {@link #parameterCount()}
+     */
+    public void gradient(double[] destination) {
+
+        checkParameterArray(destination);
+
+        for (int index = 0; index < weights.length; index++) {
+
+            destination[index] = adjustableWeights[index] ? backend.toDouble(weightGradient(index)) : 0.0d;
+        }
+
+        for (int index = 0; index < biases.length; index++) {
+
+            destination[weights.length + index] =
+                adjustableBiases[index] ? backend.toDouble(biasGradient(index)) : 0.0d;
+        }
+    }
+
+    /**
+     * Replaces the adjustable weights and biases (see {@link #parameterCount()}). Parameters which are not
+     * adjustable are ignored. The accumulated gradients are left untouched.
+     *
+     * @param source
+     *        an array with a length of {@link #parameterCount()}
+     */
+    public void setParameters(double[] source) {
+
+        checkParameterArray(source);
+
+        for (int index = 0; index < weights.length; index++) {
+
+            if (adjustableWeights[index]) {
+
+                weights[index] = backend.valueOf(source[index]);
+            }
+        }
+
+        for (int index = 0; index < biases.length; index++) {
+
+            if (adjustableBiases[index]) {
+
+                biases[index] = backend.valueOf(source[weights.length + index]);
+            }
+        }
+    }
+
+    /**
+     * Performs one gradient descent step with the average gradients, i.e. adjusts the biases and optionally the
+     * weights of the hidden layers. The weights and biases of all copies are adjusted as well.
+     *
+     * @param learningRate
+     *        a learning rate
+     * @param adjustWeights
+     *        <code>true</code> if the weights are adjusted, else <code>false</code>
+     */
+    @SuppressWarnings("unchecked")
+    public void descend(T learningRate, boolean adjustWeights) {
+
+        if (learningRate == null) {
+
+            throw new IllegalArgumentException("No learning rate (null) was specified!");
+        }
+
+        if (adjustWeights) {
+
+            for (int index = 0; index < weights.length; index++) {
+
+                if (adjustableWeights[index]) {
+
+                    T step = backend.multiply(learningRate, weightGradient(index));
+                    weights[index] = backend.subtract((T) weights[index], step);
+                }
+            }
+        }
+
+        for (int index = 0; index < biases.length; index++) {
+
+            if (adjustableBiases[index]) {
+
+                T step = backend.multiply(learningRate, biasGradient(index));
+                biases[index] = backend.subtract((T) biases[index], step);
+            }
+        }
+    }
+
+    /**
+     * Copies the weights of the hidden layers and the biases into the specified network.
+     *
+     * @param network
+     *        the network this instance was created for
+     */
+    @SuppressWarnings("unchecked")
+    public void updateNetwork(Network network) {
+
+        if (network == null) {
+
+            throw new IllegalArgumentException("No network (null) was specified!");
+        }
+
+        List<Synapse> synapses = network.synapses();
+        List<Neuron> neurons = network.neurons();
+
+        if ((synapses.size() != weights.length) || (neurons.size() != biases.length)) {
+
+            throw new IllegalArgumentException("The specified network doesn't match!");
+        }
+
+        for (int index = 0; index < weights.length; index++) {
+
+            if (adjustableWeights[index]) {
+
+                NetworkHelper.setWeight(synapses.get(index), backend.toNumber((T) weights[index]));
+            }
+        }
+
+        for (int index = 0; index < biases.length; index++) {
+
+            if (adjustableBiases[index]) {
+
+                NetworkHelper.setBias(neurons.get(index), backend.toNumber((T) biases[index]));
+            }
+        }
+    }
+
+    /**
+     * Checks if the specified array can hold all parameters.
+     *
+     * @param array
+     *        an array
+     */
+    private void checkParameterArray(double[] array) {
+
+        if (array == null) {
+
+            throw new IllegalArgumentException("No array (null) was specified!");
+        }
+
+        if (array.length != parameterCount()) {
+
+            throw new IllegalArgumentException("The specified array doesn't match the parameter count!");
+        }
+    }
+
+    /**
+     * Divides the specified sum by the number of accumulated samples.
+     *
+     * @param sum
+     *        a sum
+     *
+     * @return an average
+     */
+    private T average(T sum) {
+
+        if (samples == 0) {
+
+            throw new IllegalStateException("No samples were accumulated!");
+        }
+
+        return backend.divide(sum, backend.valueOf((double) samples));
+    }
+
+}
@@ -0,0 +1,178 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.training;
+
+
+import jmul.backends.NumericBackend;
+import jmul.backends.NumericBackends;
+
+import jmul.data.DataEntry;
+import jmul.data.TrainingData;
+
+import jmul.math.numbers.Number;
+import static jmul.math.numbers.NumberHelper.createNumber;
+
+import jmul.metainfo.annotations.Modified;
+
+import jmul.neural.GlobalSettings;
+import jmul.neural.neurons.Network;
+
+
+/**
+ * A trainer which adjusts all weights and biases of the hidden layers by gradient descent. The gradients are
+ * calculated by backpropagation over the whole training data (i.e. one gradient descent step per call).
+ *
+ * @author Kristian Kutin
+ */
+public class BackpropagationTrainer implements NetworkTrainer {
+
+    /**
+     * The default learning rate.
+     */
+    public static final Number DEFAULT_LEARNING_RATE;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        DEFAULT_LEARNING_RATE = createNumber(GlobalSettings.DEFAULT_NUMBER_BASE, "0.1");
+    }
+
+    /**
+     * The numeric backend which is used to calculate the gradients.
+     */
+    private final NumericBackend<?> backend;
+
+    /**
+     * The learning rate (i.e. the factor by which a gradient is scaled).
+     */
+    private final Number learningRate;
+
+    /**
+     * Creates a new trainer which calculates the gradients with primitive double values and the default learning
+     * rate.
+     */
+    public BackpropagationTrainer() {
+
+        this(NumericBackends.DOUBLE, DEFAULT_LEARNING_RATE);
+    }
+
+    /**
+     * Creates a new trainer according to the specified parameters.
+     *
+     * @param backend
+     *        a numeric backend which is used to calculate the gradients
+     * @param learningRate
+     *        a learning rate
+     */
+    public BackpropagationTrainer(NumericBackend<?> backend, Number learningRate) {
+
+        super();
+
+        if (backend == null) {
+
+            throw new IllegalArgumentException("No numeric backend (null) was specified!");
+        }
+
+        if (learningRate == null) {
+
+            throw new IllegalArgumentException("No learning rate (null) was specified!");
+        }
+
+        this.backend = backend;
+        this.learningRate = learningRate;
+    }
+
+    /**
+     * Trains the specified neural network.
+     *
+     * @param network
+     *        a neural network
+     * @param trainingData
+     *        a set of training data
+     *
+     * @return the mean squared error before the weights and biases were adjusted
+     */
+    @Override
+    public Number trainNetwork(@Modified Network network, TrainingData trainingData) {
+
+        return trainNetwork(backend, learningRate, network, trainingData, true);
+    }
+
+    /**
+     * Calculates all gradients and adjusts the biases and optionally the weights of the hidden layers.
+     *
+     * @param <T>
+     *        the value type of the numeric backend
+     * @param backend
+     *        a numeric backend
+     * @param learningRate
+     *        a learning rate
+     * @param network
+     *        a neural network
+     * @param trainingData
+     *        a set of training data
+     * @param adjustWeights
+     *        <code>true</code> if the weights are adjusted, else <code>false</code>
+     *
+     * @return the mean squared error before the weights and biases were adjusted
+     */
+    static <T> Number trainNetwork(NumericBackend<T> backend, Number learningRate, @Modified Network network,
+                                   TrainingData trainingData, boolean adjustWeights) {
+
+        if (network == null) {
+
+            throw new IllegalArgumentException("No network (null) was specified!");
+        }
+
+        if (trainingData == null) {
+
+            throw new IllegalArgumentException("No training data (null) was specified!");
+        }
+
+        Backpropagation<T> backpropagation = new Backpropagation<>(backend, network);
+
+        for (DataEntry entry : trainingData) {
+
+            backpropagation.accumulate(backend.valueOf(entry.input), backend.valueOf(entry.expectedOutput));
+        }
+
+        backpropagation.descend(backend.valueOf(learningRate), adjustWeights);
+        backpropagation.updateNetwork(network);
+
+        return backend.toNumber(backpropagation.meanSquaredError());
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.training;
+
+
+/**
+ * Three arguments which enclose a minimum of an objective function, i.e. the value of the middle argument is not
+ * greater than the values of the outer arguments.
+ *
+ * @author Kristian Kutin
+ */
+final class Bracket {
+
+    /**
+     * The first outer argument.
+     */
+    final double a;
+
+    /**
+     * The middle argument.
+     */
+    final double b;
+
+    /**
+     * The second outer argument.
+     */
+    final double c;
+
+    /**
+     * The value of the first outer argument.
+     */
+    final double fa;
+
+    /**
+     * The value of the middle argument.
+     */
+    final double fb;
+
+    /**
+     * The value of the second outer argument.
+     */
+    final double fc;
+
+    /**
+     * Creates a new bracket according to the specified parameters.
+     *
+     * @param a
+     *        the first outer argument
+     * @param b
+     *        the middle argument
+     * @param c
+     *        the second outer argument
+     * @param fa
+     *        the value of the first outer argument
+     * @param fb
+     *        the value of the middle argument
+     * @param fc
+     *        the value of the second outer argument
+     */
+    Bracket(double a, double b, double c, double fa, double fb, double fc) {
+
+        super();
+
+        this.a = a;
+        this.b = b;
+        this.c = c;
+        this.fa = fa;
+        this.fb = fb;
+        this.fc = fc;
+    }
+
+}
@@ -0,0 +1,202 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.training;
+
+
+import java.util.function.DoubleUnaryOperator;
+
+
+/**
+ * A line search which walks downhill with growing steps and stops as soon as the values increase again (i.e. a
+ * minimum is bracketed) or the target value is reached. The search is cheap but doesn't refine the minimum (see
+ * {@link GoldenSectionSearch} and {@link BrentSearch}).
+ *
+ * @author Kristian Kutin
+ */
+public final class BracketingSearch implements LineSearch {
+
+    /**
+     * The default maximum number of step expansions.
+     */
+    public static final int DEFAULT_MAX_EXPANSIONS;
+
+    /**
+     * The default target value (i.e. the search stops as soon as a value is less than or equal to the target value).
+     */
+    public static final double DEFAULT_TARGET_VALUE;
+
+    /**
+     * The factor by which the step grows.
+     */
+    private static final double GROWTH_FACTOR;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        DEFAULT_MAX_EXPANSIONS = 20;
+        DEFAULT_TARGET_VALUE = 0.0d;
+        GROWTH_FACTOR = 1.618034d;
+    }
+
+    /**
+     * The maximum number of step expansions.
+     */
+    private final int maxExpansions;
+
+    /**
+     * The target value.
+     */
+    private final double targetValue;
+
+    /**
+     * Creates a new line search with default parameters.
+     */
+    public BracketingSearch() {
+
+        this(DEFAULT_MAX_EXPANSIONS, DEFAULT_TARGET_VALUE);
+    }
+
+    /**
+     * Creates a new line search according to the specified parameters.
+     *
+     * @param maxExpansions
+     *        the maximum number of step expansions
+     * @param targetValue
+     *        the search stops as soon as a value is less than or equal to this target value
+     */
+    public BracketingSearch(int maxExpansions, double targetValue) {
+
+        super();
+
+        if (maxExpansions < 0) {
+
+            throw new IllegalArgumentException("No valid maximum number of expansions (x < 0) was specified!");
+        }
+
+        this.maxExpansions = maxExpansions;
+        this.targetValue = targetValue;
+    }
+
+    /**
+     * Returns the target value.
+     *
+     * @return a target value
+     */
+    double targetValue() {
+
+        return targetValue;
+    }
+
+    @Override
+    public LineSearchResult minimize(DoubleUnaryOperator objective, double start, double step) {
+
+        CountingObjective counter = new CountingObjective(objective, targetValue);
+        bracket(counter, start, step);
+
+        return counter.result();
+    }
+
+    /**
+     * Looks for three arguments which enclose a minimum.
+     *
+     * @param counter
+     *        the objective function
+     * @param start
+     *        the start argument
+     * @param step
+     *        the size of the first step
+     *
+     * @return a bracket or <code>null</code> if the target value was reached, the objective function is flat or no
+     *         minimum was found within the maximum number of expansions
+     */
+    Bracket bracket(CountingObjective counter, double start, double step) {
+
+        double a = start;
+        double fa = counter.evaluate(a);
+
+        if (counter.targetReached() || (step == 0.0d) || !Double.isFinite(step)) {
+
+            return null;
+        }
+
+        double b = a + step;
+        double fb = counter.evaluate(b);
+
+        if (counter.targetReached()) {
+
+            return null;
+        }
+
+        if (fb > fa) {
+
+            // walk in the other direction
+            double argument = a;
+            a = b;
+            b = argument;
+
+            double value = fa;
+            fa = fb;
+            fb = value;
+        }
+
+        double c = b + GROWTH_FACTOR * (b - a);
+        double fc = counter.evaluate(c);
+
+        for (int expansion = 0; fc < fb; expansion++) {
+
+            if (counter.targetReached() || (expansion >= maxExpansions)) {
+
+                return null;
+            }
+
+            a = b;
+            fa = fb;
+            b = c;
+            fb = fc;
+
+            c = b + GROWTH_FACTOR * (b - a);
+            fc = counter.evaluate(c);
+        }
+
+        if (counter.targetReached() || ((fa == fb) && (fb == fc))) {
+
+            return null;
+        }
+
+        return new Bracket(a, b, c, fa, fb, fc);
+    }
+
+}
@@ -0,0 +1,259 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.training;
+
+
+import java.util.function.DoubleUnaryOperator;
+
+
+/**
+ * A line search which brackets a minimum (see {@link BracketingSearch}) and locates it with Brent's method, i.e.
+ * parabolic interpolation through the three best arguments with golden section steps as fallback. A smooth
+ * objective function (e.g. a squared error) is usually minimized within a few evaluations.
+ *
+ * @author Kristian Kutin
+ */
+public final class BrentSearch implements LineSearch {
+
+    /**
+     * The default relative tolerance of the argument.
+     */
+    public static final double DEFAULT_TOLERANCE;
+
+    /**
+     * The default maximum number of iterations.
+     */
+    public static final int DEFAULT_MAX_ITERATIONS;
+
+    /**
+     * The smaller section of the golden ratio.
+     */
+    private static final double CGOLD;
+
+    /**
+     * A small absolute tolerance which is used if the minimum is close to zero.
+     */
+    private static final double ZEPS;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        DEFAULT_TOLERANCE = 1e-2d;
+        DEFAULT_MAX_ITERATIONS = 40;
+        CGOLD = 0.3819660d;
+        ZEPS = 1e-10d;
+    }
+
+    /**
+     * The relative tolerance of the argument.
+     */
+    private final double tolerance;
+
+    /**
+     * The maximum number of iterations.
+     */
+    private final int maxIterations;
+
+    /**
+     * The line search which brackets the minimum.
+     */
+    private final BracketingSearch bracketing;
+
+    /**
+     * Creates a new line search with default parameters.
+     */
+    public BrentSearch() {
+
+        this(DEFAULT_TOLERANCE, DEFAULT_MAX_ITERATIONS, BracketingSearch.DEFAULT_TARGET_VALUE);
+    }
+
+    /**
+     * Creates a new line search according to the specified parameters.
+     *
+     * @param tolerance
+     *        the relative tolerance of the argument
+     * @param maxIterations
+     *        the maximum number of iterations after the minimum was bracketed
+     * @param targetValue
+     *        the search stops as soon as a value is less than or equal to this target value
+     */
+    public BrentSearch(double tolerance, int maxIterations, double targetValue) {
+
+        super();
+
+        if (!(tolerance > 0.0d)) {
+
+            throw new IllegalArgumentException("No valid tolerance (x <= 0) was specified!");
+        }
+
+        if (maxIterations < 0) {
+
+            throw new IllegalArgumentException("No valid maximum number of iterations (x < 0) was specified!");
+        }
+
+        this.tolerance = tolerance;
+        this.maxIterations = maxIterations;
+        this.bracketing = new BracketingSearch(BracketingSearch.DEFAULT_MAX_EXPANSIONS, targetValue);
+    }
+
+    @Override
+    public LineSearchResult minimize(DoubleUnaryOperator objective, double start, double step) {
+
+        CountingObjective counter = new CountingObjective(objective, bracketing.targetValue());
+        Bracket bracket = bracketing.bracket(counter, start, step);
+
+        if (bracket == null) {
+
+            return counter.result();
+        }
+
+        // a and b enclose the minimum, x is the best argument, w the second best and v the previous w
+        double a = Math.min(bracket.a, bracket.c);
+        double b = Math.max(bracket.a, bracket.c);
+        double x = bracket.b;
+        double w = x;
+        double v = x;
+        double fx = bracket.fb;
+        double fw = fx;
+        double fv = fx;
+
+        // d is the current step, e the step before the last one
+        double d = 0.0d;
+        double e = 0.0d;
+
+        for (int iteration = 0; iteration < maxIterations; iteration++) {
+
+            double xm = 0.5d * (a + b);
+            double tol1 = tolerance * Math.abs(x) + ZEPS;
+            double tol2 = 2.0d * tol1;
+
+            if (counter.targetReached() || (Math.abs(x - xm) <= (tol2 - 0.5d * (b - a)))) {
+
+                break;
+            }
+
+            boolean goldenSection = true;
+
+            if (Math.abs(e) > tol1) {
+
+                // fit a parabola through x, v and w
+                double r = (x - w) * (fx - fv);
+                double q = (x - v) * (fx - fw);
+                double p = (x - v) * q - (x - w) * r;
+                q = 2.0d * (q - r);
+
+                if (q > 0.0d) {
+
+                    p = -p;
+                }
+
+                q = Math.abs(q);
+
+                double previousStep = e;
+                e = d;
+
+                // accept the parabolic step only if it falls within the bracket and converges
+                if ((Math.abs(p) < Math.abs(0.5d * q * previousStep)) && (p > q * (a - x)) && (p < q * (b - x))) {
+
+                    d = p / q;
+
+                    double u = x + d;
+                    if (((u - a) < tol2) || ((b - u) < tol2)) {
+
+                        d = Math.copySign(tol1, xm - x);
+                    }
+
+                    goldenSection = false;
+                }
+            }
+
+            if (goldenSection) {
+
+                e = (x >= xm) ? (a - x) : (b - x);
+                d = CGOLD * e;
+            }
+
+            double u = (Math.abs(d) >= tol1) ? (x + d) : (x + Math.copySign(tol1, d));
+            double fu = counter.evaluate(u);
+
+            if (fu <= fx) {
+
+                if (u >= x) {
+
+                    a = x;
+
+                } else {
+
+                    b = x;
+                }
+
+                v = w;
+                fv = fw;
+                w = x;
+                fw = fx;
+                x = u;
+                fx = fu;
+
+            } else {
+
+                if (u < x) {
+
+                    a = u;
+
+                } else {
+
+                    b = u;
+                }
+
+                if ((fu <= fw) || (w == x)) {
+
+                    v = w;
+                    fv = fw;
+                    w = u;
+                    fw = fu;
+
+                } else if ((fu <= fv) || (v == x) || (v == w)) {
+
+                    v = u;
+                    fv = fu;
+                }
+            }
+        }
+
+        return counter.result();
+    }
+
+}
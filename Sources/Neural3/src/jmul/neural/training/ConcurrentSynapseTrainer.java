@@ -35,268 +35,372 @@ package jmul.neural.training;
 
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.SortedMap;
-import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import jmul.backends.NumericBackend;
+import jmul.backends.NumericBackends;
 
-import jmul.concurrent.threads.ThreadHelper;
-
-import jmul.data.DataEntry;
 import jmul.data.TrainingData;
 
 import jmul.math.numbers.Number;
-import static jmul.math.numbers.NumberHelper.createNumber;
 
 import jmul.metainfo.annotations.Modified;
 
-import jmul.neural.GlobalSettings;
 import jmul.neural.neurons.Layers;
 import jmul.neural.neurons.Network;
 import jmul.neural.neurons.NetworkHelper;
 import jmul.neural.neurons.Synapse;
 
+
+/**
+ * A trainer which trains the synapses of the hidden layers concurrently (see {@link SynapseTrainer}). The synapses
+ * are split into chunks which are processed by a bounded executor. An executor can be specified (e.g. an executor
+ * which uses virtual threads), otherwise a fixed thread pool with one thread per processor is used for each
+ * training run. If the training doesn't finish within the timeout or the calling thread is interrupted, then all
+ * pending tasks are cancelled and the network remains unchanged.
+ *
+ * @author Kristian Kutin
+ */
 public class ConcurrentSynapseTrainer implements NetworkTrainer {
 
+    /**
+     * Specifies that the training has no timeout.
+     */
+    public static final long NO_TIMEOUT;
+
+    /**
+     * Specifies that the chunk size is derived from the number of synapses and processors.
+     */
+    public static final int AUTOMATIC_CHUNK_SIZE;
+
+    /**
+     * The number of chunks per processor if the chunk size is derived automatically.
+     */
+    private static final int CHUNKS_PER_PROCESSOR;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        NO_TIMEOUT = 0L;
+        AUTOMATIC_CHUNK_SIZE = 0;
+        CHUNKS_PER_PROCESSOR = 4;
+    }
+
+    /**
+     * The numeric backend which is used to evaluate the network.
+     */
+    private final NumericBackend<?> backend;
+
+    /**
+     * The line search which looks for a better weight.
+     */
+    private final LineSearch lineSearch;
+
+    /**
+     * An executor or <code>null</code> if a thread pool is created for each training run.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * The number of synapses per task.
+     */
+    private final int chunkSize;
+
+    /**
+     * The timeout.
+     */
+    private final long timeout;
+
+    /**
+     * The time unit of the timeout.
+     */
+    private final TimeUnit timeUnit;
+
+    /**
+     * The number of evaluations of the last training run.
+     */
+    private volatile long evaluations;
+
+    /**
+     * Creates a new trainer which evaluates the network with numbers.
+     */
     public ConcurrentSynapseTrainer() {
 
-        super();
+        this(NumericBackends.NUMBER);
     }
 
-    @Override
-    public Number trainNetwork(@Modified Network network, TrainingData trainingData) {
+    /**
+     * Creates a new trainer according to the specified parameters which uses a fixed thread pool, an automatic
+     * chunk size and no timeout.
+     *
+     * @param backend
+     *        a numeric backend which is used to evaluate the network
+     */
+    public ConcurrentSynapseTrainer(NumericBackend<?> backend) {
 
-        Map<Integer, Number> newWeights = new HashMap<>();
-        List<ConcurrentSynapseTrainerThread> threads = new ArrayList<>();
-
-        System.out.println("DEBUG::initialize threads");
-        List<Synapse> synapseList = network.synapses();
-        for (int index = 0; index < synapseList.size(); index++) {
+        this(backend, null, AUTOMATIC_CHUNK_SIZE, NO_TIMEOUT, TimeUnit.MILLISECONDS);
+    }
 
-            Synapse synapse = synapseList.get(index);
-            if (!(synapse.layer() == Layers.HIDDEN_LAYER)) {
+    /**
+     * Creates a new trainer according to the specified parameters.
+     *
+     * @param backend
+     *        a numeric backend which is used to evaluate the network
+     * @param executor
+     *        an executor or <code>null</code> if a fixed thread pool should be created for each training run (a
+     *        specified executor is not shut down by this trainer)
+     * @param chunkSize
+     *        the number of synapses per task or {@link #AUTOMATIC_CHUNK_SIZE}
+     * @param timeout
+     *        the maximum duration of a training run or {@link #NO_TIMEOUT}
+     * @param timeUnit
+     *        the time unit of the timeout
+     */
+    public ConcurrentSynapseTrainer(NumericBackend<?> backend, ExecutorService executor, int chunkSize,
+                                    long timeout, TimeUnit timeUnit) {
+
+        this(backend, SynapseTrainer.DEFAULT_LINE_SEARCH, executor, chunkSize, timeout, timeUnit);
+    }
 
-                continue;
-            }
+    /**
+     * Creates a new trainer according to the specified parameters.
+     *
+     * @param backend
+     *        a numeric backend which is used to evaluate the network
+     * @param lineSearch
+     *        a line search which looks for a better weight (i.e. it is shared by all tasks)
+     * @param executor
+     *        an executor or <code>null</code> if a fixed thread pool should be created for each training run (a
+     *        specified executor is not shut down by this trainer)
+     * @param chunkSize
+     *        the number of synapses per task or {@link #AUTOMATIC_CHUNK_SIZE}
+     * @param timeout
+     *        the maximum duration of a training run or {@link #NO_TIMEOUT}
+     * @param timeUnit
+     *        the time unit of the timeout
+     */
+    public ConcurrentSynapseTrainer(NumericBackend<?> backend, LineSearch lineSearch, ExecutorService executor,
+                                    int chunkSize, long timeout, TimeUnit timeUnit) {
 
-            Network clonedNetwork = NetworkHelper.clone(network);
-            Synapse clonedSynapse = clonedNetwork.synapses().get(index);
+        super();
 
-            ConcurrentSynapseTrainerThread thread =
-                new ConcurrentSynapseTrainerThread(clonedNetwork, clonedSynapse, index, trainingData);
-            String name = "training thread #" + index;
-            thread.setName(name);
+        if (backend == null) {
 
-            threads.add(thread);
+            throw new IllegalArgumentException("No numeric backend (null) was specified!");
         }
 
-        for (ConcurrentSynapseTrainerThread thread : threads) {
+        if (lineSearch == null) {
 
-            thread.start();
+            throw new IllegalArgumentException("No line search (null) was specified!");
         }
 
-        while (true) {
-
-            boolean done = true;
-            for (ConcurrentSynapseTrainerThread thread : threads) {
-
-                done = done && !thread.isAlive();
-            }
-
-            if (done) {
-
-                break;
-            }
+        if (chunkSize < 0) {
 
-            ThreadHelper.sleep(500L);
-
-            System.out.print(".");
+            throw new IllegalArgumentException("An invalid chunk size (" + chunkSize + ") was specified!");
         }
 
-        System.out.println("training done");
-
-        for (ConcurrentSynapseTrainerThread thread : threads) {
+        if (timeout < 0L) {
 
-            newWeights.put(thread.index(), thread.newWeight());
+            throw new IllegalArgumentException("An invalid timeout (" + timeout + ") was specified!");
         }
 
-        for (Map.Entry<Integer, Number> entry : newWeights.entrySet()) {
+        if (timeUnit == null) {
 
-            int index = entry.getKey();
-            Number newWeight = entry.getValue();
-
-            Synapse synapse = network.synapses().get(index);
-            NetworkHelper.setWeight(synapse, newWeight);
+            throw new IllegalArgumentException("No time unit (null) was specified!");
         }
 
-        System.out.println("network updated");
-
-        //TODO mean squared error
-        return null;
+        this.backend = backend;
+        this.lineSearch = lineSearch;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+        this.timeout = timeout;
+        this.timeUnit = timeUnit;
+        this.evaluations = 0L;
     }
 
-}
-
+    /**
+     * Returns the number of evaluations (i.e. forward passes through the network) of the last training run.
+     *
+     * @return a number of evaluations
+     */
+    public long evaluations() {
 
-interface ConcurrentTrainer extends Runnable {
-
-    int index();
-
-    Number newWeight();
-
-}
+        return evaluations;
+    }
 
-class ConcurrentSynapseTrainerThread extends Thread implements ConcurrentTrainer {
+    /**
+     * Trains the specified neural network.
+     *
+     * @param network
+     *        a neural network
+     * @param trainingData
+     *        a set of training data
+     *
+     * @return the mean squared error after the weights were adjusted
+     */
+    @Override
+    public Number trainNetwork(@Modified Network network, TrainingData trainingData) {
 
-    private final Network network;
+        if (network == null) {
 
-    private final Synapse synapse;
+            throw new IllegalArgumentException("No network (null) was specified!");
+        }
 
-    private final int index;
+        if (trainingData == null) {
 
-    private TrainingData trainingData;
+            throw new IllegalArgumentException("No training data (null) was specified!");
+        }
 
-    private Number newWeight;
+        List<Synapse> synapses = network.synapses();
+        List<Integer> indices = new ArrayList<>();
 
-    public ConcurrentSynapseTrainerThread(@Modified Network network, @Modified Synapse synapse, int index,
-                                          TrainingData trainingData) {
+        for (int index = 0; index < synapses.size(); index++) {
 
-        super();
+            if (synapses.get(index).layer() == Layers.HIDDEN_LAYER) {
 
-        this.network = network;
-        this.synapse = synapse;
-        this.index = index;
-        this.trainingData = trainingData;
-        this.newWeight = null;
-    }
+                indices.add(index);
+            }
+        }
 
-    @Override
-    public int index() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        int actualChunkSize = chunkSize;
 
-        return index;
-    }
+        if (actualChunkSize == AUTOMATIC_CHUNK_SIZE) {
 
-    @Override
-    public Number newWeight() {
+            int chunks = processors * CHUNKS_PER_PROCESSOR;
+            actualChunkSize = Math.max(1, (indices.size() + chunks - 1) / chunks);
+        }
 
-        return newWeight;
-    }
+        // the network is only read while training, i.e. all tasks can share the same network
+        List<SynapseChunkTask> tasks = new ArrayList<>();
+        LongAdder counter = new LongAdder();
 
-    @Override
-    public void run() {
+        for (int start = 0; start < indices.size(); start += actualChunkSize) {
 
-        this.newWeight = trainSynapse(network, synapse, trainingData);
-    }
+            int end = Math.min(start + actualChunkSize, indices.size());
+            tasks.add(new SynapseChunkTask(backend, lineSearch, network, indices.subList(start, end), trainingData,
+                                           counter));
+        }
 
-    private static Number trainSynapse(@Modified Network network, @Modified Synapse synapse,
-                                       TrainingData trainingData) {
+        ExecutorService actualExecutor = executor;
 
-        List<Number> bestWeights = new ArrayList<>();
-        Number oldWeight = synapse.weight();
+        if (actualExecutor == null) {
 
-        for (DataEntry entry : trainingData) {
+            actualExecutor = Executors.newFixedThreadPool(Math.min(processors, Math.max(1, tasks.size())),
+                                                          new TrainingThreadFactory());
+        }
 
-            //System.out.println("\tDEBUG::train on data point " + entry);
+        List<Number[]> results;
 
-            SortedMap<Number, Number> weightsAndDeviations = new TreeMap<>();
+        try {
 
-            Number weight = oldWeight;
-            NetworkHelper.setWeight(synapse, oldWeight);
+            results = awaitResults(actualExecutor, tasks, timeout, timeUnit);
 
-            Number actualOutput;
-            Number deviation;
+        } finally {
 
-            // #1 data point
-            actualOutput = network.send(entry.input);
-            deviation = entry.expectedOutput.subtract(actualOutput);
-            weightsAndDeviations.put(weight, deviation);
-            //System.out.print("\t.");
+            if (executor == null) {
 
-            Number step = deviation.shiftLeft();
+                actualExecutor.shutdownNow();
+            }
+        }
 
-            // try to find a better weight for the current synapse. Try in both directions from the data point.
-            for (int a = 0; a < 10; a++) {
+        for (int taskIndex = 0; taskIndex < tasks.size(); taskIndex++) {
 
-                weight = weight.add(step);
-                NetworkHelper.setWeight(synapse, weight);
+            List<Integer> chunk = tasks.get(taskIndex).indices();
+            Number[] newWeights = results.get(taskIndex);
 
-                actualOutput = network.send(entry.input);
-                deviation = entry.expectedOutput.subtract(actualOutput);
-                weightsAndDeviations.put(weight, deviation);
+            for (int index = 0; index < chunk.size(); index++) {
 
-                //System.out.print(".");
+                NetworkHelper.setWeight(synapses.get(chunk.get(index)), newWeights[index]);
             }
+        }
 
-            weight = oldWeight;
-            for (int a = 0; a < 10; a++) {
-
-                weight = weight.subtract(step);
-                NetworkHelper.setWeight(synapse, weight);
+        evaluations = counter.sum();
 
-                actualOutput = network.send(entry.input);
-                deviation = entry.expectedOutput.subtract(actualOutput);
-                weightsAndDeviations.put(weight, deviation);
+        return TrainingHelper.meanSquaredError(network, trainingData);
+    }
 
-                //System.out.print(".");
-            }
+    /**
+     * Executes all tasks and waits for their results. Unfinished tasks are cancelled if the timeout expires or the
+     * calling thread is interrupted.
+     *
+     * @param <V>
+     *        the result type of the tasks
+     * @param executor
+     *        an executor
+     * @param tasks
+     *        all tasks
+     * @param timeout
+     *        the maximum duration or {@link #NO_TIMEOUT}
+     * @param timeUnit
+     *        the time unit of the timeout
+     *
+     * @return the results of all tasks (same order as the tasks)
+     */
+    static <V> List<V> awaitResults(ExecutorService executor, List<? extends Callable<V>> tasks, long timeout,
+                                    TimeUnit timeUnit) {
+
+        List<Future<V>> futures;
+
+        try {
+
+            if (timeout == NO_TIMEOUT) {
+
+                futures = executor.invokeAll(tasks);
 
-            Number newWeight = findWeightWithSmallestDeviation(weightsAndDeviations);
-            bestWeights.add(newWeight);
-        }
+            } else {
 
-        Number averageWeight = averageWeight(bestWeights);
+                futures = executor.invokeAll(tasks, timeout, timeUnit);
+            }
 
-        return averageWeight;
-    }
+        } catch (InterruptedException e) {
 
-    private static Number findWeightWithSmallestDeviation(SortedMap<Number, Number> weightsAndDeviations) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The training was interrupted!", e);
+        }
 
-        Number weight = null;
-        Number deviation = null;
-        Number absoluteDeviation = null;
+        List<V> results = new ArrayList<>();
 
-        for (Map.Entry<Number, Number> entry : weightsAndDeviations.entrySet()) {
+        for (Future<V> future : futures) {
 
-            if (weight == null) {
+            try {
 
-                weight = entry.getKey();
-                deviation = entry.getValue();
-                absoluteDeviation = deviation.absoluteValue();
+                results.add(future.get());
 
-            } else {
+            } catch (CancellationException e) {
 
-                Number nextWeight = entry.getKey();
-                Number nextDeviation = entry.getValue();
-                Number nextAbsoluteDeviation = deviation.absoluteValue();
+                throw new IllegalStateException("The training didn't finish within " + timeout + " " + timeUnit +
+                                                "!", e);
 
-                if (nextAbsoluteDeviation.isLesser(absoluteDeviation)) {
+            } catch (InterruptedException e) {
 
-                    weight = nextWeight;
-                    deviation = nextDeviation;
-                    absoluteDeviation = nextAbsoluteDeviation;
-                }
-            }
-        }
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("The training was interrupted!", e);
 
-        return weight;
-    }
+            } catch (ExecutionException e) {
 
-    private static Number averageWeight(List<Number> weights) {
+                Throwable cause = e.getCause();
 
-        final Number ZERO = createNumber(GlobalSettings.DEFAULT_NUMBER_BASE, "0");
-        Number counter = ZERO;
-        Number sum = ZERO;
+                if (cause instanceof RuntimeException) {
 
-        for (Number weight : weights) {
+                    throw (RuntimeException) cause;
+                }
 
-            sum = sum.add(weight);
-            counter = counter.inc();
+                throw new IllegalStateException("The training failed!", cause);
+            }
         }
 
-        Number average = sum.divide(counter);
-
-        return average;
+        return results;
     }
 
 }
@@ -0,0 +1,146 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.training;
+
+
+import java.util.function.DoubleUnaryOperator;
+
+
+/**
+ * An objective function which counts its evaluations and remembers the best argument. A value which is not a number
+ * is treated as positive infinity.
+ *
+ * @author Kristian Kutin
+ */
+class CountingObjective {
+
+    /**
+     * The actual objective function.
+     */
+    private final DoubleUnaryOperator objective;
+
+    /**
+     * A search may stop as soon as a value is less than or equal to this target value.
+     */
+    private final double targetValue;
+
+    /**
+     * The number of evaluations.
+     */
+    private int evaluations;
+
+    /**
+     * The best argument so far.
+     */
+    private double bestArgument;
+
+    /**
+     * The value of the best argument so far.
+     */
+    private double bestValue;
+
+    /**
+     * Creates a new objective function according to the specified parameters.
+     *
+     * @param objective
+     *        the actual objective function
+     * @param targetValue
+     *        a target value
+     */
+    CountingObjective(DoubleUnaryOperator objective, double targetValue) {
+
+        super();
+
+        if (objective == null) {
+
+            throw new IllegalArgumentException("No objective function (null) was specified!");
+        }
+
+        this.objective = objective;
+        this.targetValue = targetValue;
+        this.evaluations = 0;
+        this.bestArgument = Double.NaN;
+        this.bestValue = Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Evaluates the objective function.
+     *
+     * @param argument
+     *        an argument
+     *
+     * @return the value of the argument
+     */
+    double evaluate(double argument) {
+
+        evaluations++;
+
+        double value = objective.applyAsDouble(argument);
+
+        if (Double.isNaN(value)) {
+
+            value = Double.POSITIVE_INFINITY;
+        }
+
+        if ((value < bestValue) || (evaluations == 1)) {
+
+            bestArgument = argument;
+            bestValue = value;
+        }
+
+        return value;
+    }
+
+    /**
+     * Checks if the target value was reached.
+     *
+     * @return <code>true</code> if a value less than or equal to the target value was found, else
+     *         <code>false</code>
+     */
+    boolean targetReached() {
+
+        return bestValue <= targetValue;
+    }
+
+    /**
+     * Returns the best argument, its value and the number of evaluations.
+     *
+     * @return a result
+     */
+    LineSearchResult result() {
+
+        return new LineSearchResult(bestArgument, bestValue, evaluations);
+    }
+
+}
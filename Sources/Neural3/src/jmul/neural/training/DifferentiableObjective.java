@@ -0,0 +1,60 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.training;
+
+
+import jmul.metainfo.annotations.Modified;
+
+
+/**
+ * This interface describes a differentiable objective function of several parameters (e.g. the mean squared error
+ * of a network over a set of training data, see {@link GradientTrainer}).
+ *
+ * @author Kristian Kutin
+ */
+public interface DifferentiableObjective {
+
+    /**
+     * Evaluates the objective function and its gradient.
+     *
+     * @param parameters
+     *        all parameters (i.e. the array is not modified)
+     * @param gradient
+     *        an array with the same length which receives the gradient
+     *
+     * @return the value of the objective function
+     */
+    double evaluate(double[] parameters, @Modified double[] gradient);
+
+}
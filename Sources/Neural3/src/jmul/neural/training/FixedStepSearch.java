@@ -0,0 +1,115 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.training;
+
+
+import java.util.function.DoubleUnaryOperator;
+
+
+/**
+ * A line search which probes a fixed number of equidistant arguments in both directions of the start argument and
+ * picks the best one. The number of evaluations doesn't depend on the objective function.
+ *
+ * @author Kristian Kutin
+ */
+public final class FixedStepSearch implements LineSearch {
+
+    /**
+     * The default number of steps in each direction.
+     */
+    public static final int DEFAULT_STEPS;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        DEFAULT_STEPS = 10;
+    }
+
+    /**
+     * The number of steps in each direction.
+     */
+    private final int steps;
+
+    /**
+     * Creates a new line search with the default number of steps.
+     */
+    public FixedStepSearch() {
+
+        this(DEFAULT_STEPS);
+    }
+
+    /**
+     * Creates a new line search according to the specified parameters.
+     *
+     * @param steps
+     *        the number of steps in each direction
+     */
+    public FixedStepSearch(int steps) {
+
+        super();
+
+        if (steps < 1) {
+
+            throw new IllegalArgumentException("No valid number of steps (x < 1) was specified!");
+        }
+
+        this.steps = steps;
+    }
+
+    @Override
+    public LineSearchResult minimize(DoubleUnaryOperator objective, double start, double step) {
+
+        CountingObjective counter = new CountingObjective(objective, Double.NEGATIVE_INFINITY);
+        counter.evaluate(start);
+
+        double argument = start;
+        for (int a = 0; a < steps; a++) {
+
+            argument += step;
+            counter.evaluate(argument);
+        }
+
+        argument = start;
+        for (int a = 0; a < steps; a++) {
+
+            argument -= step;
+            counter.evaluate(argument);
+        }
+
+        return counter.result();
+    }
+
+}
@@ -0,0 +1,195 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.training;
+
+
+import java.util.function.DoubleUnaryOperator;
+
+
+/**
+ * A line search which brackets a minimum (see {@link BracketingSearch}) and narrows the bracket by the golden ratio
+ * until it is smaller than the tolerance or the target value is reached. Each iteration costs exactly one
+ * evaluation.
+ *
+ * @author Kristian Kutin
+ */
+public final class GoldenSectionSearch implements LineSearch {
+
+    /**
+     * The default relative tolerance of the argument.
+     */
+    public static final double DEFAULT_TOLERANCE;
+
+    /**
+     * The default maximum number of iterations.
+     */
+    public static final int DEFAULT_MAX_ITERATIONS;
+
+    /**
+     * The golden ratio (i.e. the larger section).
+     */
+    private static final double R;
+
+    /**
+     * The smaller section.
+     */
+    private static final double C;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        DEFAULT_TOLERANCE = 1e-2d;
+        DEFAULT_MAX_ITERATIONS = 40;
+        R = 0.61803399d;
+        C = 1.0d - R;
+    }
+
+    /**
+     * The relative tolerance of the argument.
+     */
+    private final double tolerance;
+
+    /**
+     * The maximum number of iterations.
+     */
+    private final int maxIterations;
+
+    /**
+     * The line search which brackets the minimum.
+     */
+    private final BracketingSearch bracketing;
+
+    /**
+     * Creates a new line search with default parameters.
+     */
+    public GoldenSectionSearch() {
+
+        this(DEFAULT_TOLERANCE, DEFAULT_MAX_ITERATIONS, BracketingSearch.DEFAULT_TARGET_VALUE);
+    }
+
+    /**
+     * Creates a new line search according to the specified parameters.
+     *
+     * @param tolerance
+     *        the relative tolerance of the argument
+     * @param maxIterations
+     *        the maximum number of iterations after the minimum was bracketed
+     * @param targetValue
+     *        the search stops as soon as a value is less than or equal to this target value
+     */
+    public GoldenSectionSearch(double tolerance, int maxIterations, double targetValue) {
+
+        super();
+
+        if (!(tolerance > 0.0d)) {
+
+            throw new IllegalArgumentException("No valid tolerance (x <= 0) was specified!");
+        }
+
+        if (maxIterations < 0) {
+
+            throw new IllegalArgumentException("No valid maximum number of iterations (x < 0) was specified!");
+        }
+
+        this.tolerance = tolerance;
+        this.maxIterations = maxIterations;
+        this.bracketing = new BracketingSearch(BracketingSearch.DEFAULT_MAX_EXPANSIONS, targetValue);
+    }
+
+    @Override
+    public LineSearchResult minimize(DoubleUnaryOperator objective, double start, double step) {
+
+        CountingObjective counter = new CountingObjective(objective, bracketing.targetValue());
+        Bracket bracket = bracketing.bracket(counter, start, step);
+
+        if (bracket == null) {
+
+            return counter.result();
+        }
+
+        double x0 = bracket.a;
+        double x3 = bracket.c;
+        double x1;
+        double x2;
+        double f1;
+        double f2;
+
+        // the new point is placed in the larger section of the bracket
+        if (Math.abs(bracket.c - bracket.b) > Math.abs(bracket.b - bracket.a)) {
+
+            x1 = bracket.b;
+            f1 = bracket.fb;
+            x2 = bracket.b + C * (bracket.c - bracket.b);
+            f2 = counter.evaluate(x2);
+
+        } else {
+
+            x2 = bracket.b;
+            f2 = bracket.fb;
+            x1 = bracket.b - C * (bracket.b - bracket.a);
+            f1 = counter.evaluate(x1);
+        }
+
+        for (int iteration = 0; iteration < maxIterations; iteration++) {
+
+            if (counter.targetReached() ||
+                (Math.abs(x3 - x0) <= tolerance * (Math.abs(x1) + Math.abs(x2)) + Double.MIN_NORMAL)) {
+
+                break;
+            }
+
+            if (f2 < f1) {
+
+                x0 = x1;
+                x1 = x2;
+                x2 = R * x1 + C * x3;
+                f1 = f2;
+                f2 = counter.evaluate(x2);
+
+            } else {
+
+                x3 = x2;
+                x2 = x1;
+                x1 = R * x2 + C * x0;
+                f2 = f1;
+                f1 = counter.evaluate(x1);
+            }
+        }
+
+        return counter.result();
+    }
+
+}
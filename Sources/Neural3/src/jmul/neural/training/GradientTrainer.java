@@ -0,0 +1,241 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.training;
+
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jmul.backends.NumericBackend;
+import jmul.backends.NumericBackends;
+
+import jmul.data.DataEntry;
+import jmul.data.TrainingData;
+
+import jmul.math.numbers.Number;
+
+import jmul.metainfo.annotations.Modified;
+
+import jmul.neural.NumberConversionHelper;
+import jmul.neural.neurons.Network;
+
+
+/**
+ * A trainer which adjusts all weights and biases of the hidden layers with an optimizer (e.g.
+ * {@link MomentumOptimizer}, {@link AdamOptimizer} or {@link LbfgsOptimizer}). The objective function is the mean
+ * squared error over the whole training data and its gradient is calculated by backpropagation (i.e. one
+ * optimization step per call, see {@link Backpropagation}).<br>
+ * <br>
+ * The optimizer state is kept between the calls. Its vectors are aligned with the synapses and neurons of the network
+ * (see {@link Backpropagation#parameterCount()}). The state is reset if another network is trained (see
+ * {@link #reset()}), i.e. an instance should only train one network at a time.
+ *
+ * @author Kristian Kutin
+ */
+public class GradientTrainer implements NetworkTrainer {
+
+    /**
+     * The numeric backend which is used to calculate the gradients.
+     */
+    private final NumericBackend<?> backend;
+
+    /**
+     * The optimizer.
+     */
+    private final Optimizer optimizer;
+
+    /**
+     * The network which was trained last or <code>null</code>.
+     */
+    private Network network;
+
+    /**
+     * The optimizer state or <code>null</code>.
+     */
+    private OptimizerState state;
+
+    /**
+     * The number of evaluations of the objective function since the last reset.
+     */
+    private long evaluations;
+
+    /**
+     * Creates a new trainer which calculates the gradients with primitive double values.
+     *
+     * @param optimizer
+     *        an optimizer
+     */
+    public GradientTrainer(Optimizer optimizer) {
+
+        this(NumericBackends.DOUBLE, optimizer);
+    }
+
+    /**
+     * Creates a new trainer according to the specified parameters.
+     *
+     * @param backend
+     *        a numeric backend which is used to calculate the gradients
+     * @param optimizer
+     *        an optimizer
+     */
+    public GradientTrainer(NumericBackend<?> backend, Optimizer optimizer) {
+
+        super();
+
+        if (backend == null) {
+
+            throw new IllegalArgumentException("No numeric backend (null) was specified!");
+        }
+
+        if (optimizer == null) {
+
+            throw new IllegalArgumentException("No optimizer (null) was specified!");
+        }
+
+        this.backend = backend;
+        this.optimizer = optimizer;
+
+        reset();
+    }
+
+    /**
+     * Discards the optimizer state, i.e. the next call starts from scratch.
+     */
+    public void reset() {
+
+        network = null;
+        state = null;
+        evaluations = 0L;
+    }
+
+    /**
+     * Returns the number of evaluations of the objective function (i.e. passes over the training data) since the last
+     * reset.
+     *
+     * @return an evaluation count
+     */
+    public long evaluations() {
+
+        return evaluations;
+    }
+
+    /**
+     * Performs one optimization step for the specified neural network.
+     *
+     * @param network
+     *        a neural network
+     * @param trainingData
+     *        a set of training data
+     *
+     * @return the mean squared error before the weights and biases were adjusted
+     */
+    @Override
+    public Number trainNetwork(@Modified Network network, TrainingData trainingData) {
+
+        return trainNetwork(backend, network, trainingData);
+    }
+
+    /**
+     * Performs one optimization step with the specified numeric backend.
+     *
+     * @param <T>
+     *        the value type of the numeric backend
+     * @param backend
+     *        a numeric backend
+     * @param network
+     *        a neural network
+     * @param trainingData
+     *        a set of training data
+     *
+     * @return the mean squared error before the weights and biases were adjusted
+     */
+    private <T> Number trainNetwork(NumericBackend<T> backend, @Modified Network network, TrainingData trainingData) {
+
+        if (network == null) {
+
+            throw new IllegalArgumentException("No network (null) was specified!");
+        }
+
+        if (trainingData == null) {
+
+            throw new IllegalArgumentException("No training data (null) was specified!");
+        }
+
+        Backpropagation<T> backpropagation = new Backpropagation<>(backend, network);
+        int parameterCount = backpropagation.parameterCount();
+
+        if ((this.network != network) || (state.parameterCount() != parameterCount)) {
+
+            this.network = network;
+            this.state = optimizer.createState(parameterCount);
+        }
+
+        List<T> inputs = new ArrayList<>();
+        List<T> expectedOutputs = new ArrayList<>();
+
+        for (DataEntry entry : trainingData) {
+
+            inputs.add(backend.valueOf(entry.input));
+            expectedOutputs.add(backend.valueOf(entry.expectedOutput));
+        }
+
+        DifferentiableObjective objective = (parameters, gradient) -> {
+
+            evaluations++;
+
+            backpropagation.setParameters(parameters);
+            backpropagation.reset();
+
+            for (int index = 0; index < inputs.size(); index++) {
+
+                backpropagation.accumulate(inputs.get(index), expectedOutputs.get(index));
+            }
+
+            backpropagation.gradient(gradient);
+
+            return backend.toDouble(backpropagation.meanSquaredError());
+        };
+
+        double[] parameters = new double[parameterCount];
+        backpropagation.parameters(parameters);
+
+        double meanSquaredError = optimizer.step(objective, parameters, state);
+
+        backpropagation.setParameters(parameters);
+        backpropagation.updateNetwork(network);
+
+        return NumberConversionHelper.toNumber(meanSquaredError);
+    }
+
+}
@@ -0,0 +1,397 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.training;
+
+
+import jmul.metainfo.annotations.Modified;
+
+import static jmul.neural.training.OptimizerHelper.dot;
+
+
+/**
+ * A limited memory quasi-Newton optimizer (L-BFGS). The inverse Hessian is approximated with the last parameter and
+ * gradient differences (see two-loop recursion) and each step ends with a backtracking line search along the
+ * resulting direction (Armijo condition). The memory grows with the history size times the number of parameters,
+ * i.e. the optimizer is meant for small networks.<br>
+ * <br>
+ * Every step evaluates the objective function at the specified parameters, i.e. the objective function may change
+ * between the steps (e.g. other training data).
+ *
+ * @author Kristian Kutin
+ */
+public class LbfgsOptimizer implements Optimizer {
+
+    /**
+     * The default number of parameter and gradient differences which are kept.
+     */
+    public static final int DEFAULT_HISTORY_SIZE;
+
+    /**
+     * The default maximum number of times the line search halves the step.
+     */
+    public static final int DEFAULT_MAX_BACKTRACKS;
+
+    /**
+     * The fraction of the expected decrease which a step has to achieve (Armijo condition).
+     */
+    private static final double SUFFICIENT_DECREASE;
+
+    /**
+     * The index of the vector with the gradient at the current parameters.
+     */
+    private static final int GRADIENT;
+
+    /**
+     * The index of the vector with the search direction.
+     */
+    private static final int DIRECTION;
+
+    /**
+     * The index of the vector with the parameters which are probed by the line search.
+     */
+    private static final int TRIAL_PARAMETERS;
+
+    /**
+     * The index of the vector with the gradient at the probed parameters.
+     */
+    private static final int TRIAL_GRADIENT;
+
+    /**
+     * The index of the first history vector.
+     */
+    private static final int FIRST_HISTORY_VECTOR;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        DEFAULT_HISTORY_SIZE = 7;
+        DEFAULT_MAX_BACKTRACKS = 20;
+        SUFFICIENT_DECREASE = 1e-4d;
+
+        GRADIENT = 0;
+        DIRECTION = 1;
+        TRIAL_PARAMETERS = 2;
+        TRIAL_GRADIENT = 3;
+        FIRST_HISTORY_VECTOR = 4;
+    }
+
+    /**
+     * The number of parameter and gradient differences which are kept.
+     */
+    private final int historySize;
+
+    /**
+     * The maximum number of times the line search halves the step.
+     */
+    private final int maxBacktracks;
+
+    /**
+     * The index of the first scalar with a coefficient of the two-loop recursion (the factors 1 / (y * s) start at
+     * index 0).
+     */
+    private final int alphaOffset;
+
+    /**
+     * The index of the scalar with the number of history entries.
+     */
+    private final int countIndex;
+
+    /**
+     * The index of the scalar with the position of the next history entry.
+     */
+    private final int nextIndex;
+
+    /**
+     * Creates a new optimizer with the default history size.
+     */
+    public LbfgsOptimizer() {
+
+        this(DEFAULT_HISTORY_SIZE, DEFAULT_MAX_BACKTRACKS);
+    }
+
+    /**
+     * Creates a new optimizer according to the specified parameters.
+     *
+     * @param historySize
+     *        the number of parameter and gradient differences which are kept
+     * @param maxBacktracks
+     *        the maximum number of times the line search halves the step
+     */
+    public LbfgsOptimizer(int historySize, int maxBacktracks) {
+
+        super();
+
+        if (historySize < 1) {
+
+            throw new IllegalArgumentException("No valid history size (x < 1) was specified!");
+        }
+
+        if (maxBacktracks < 0) {
+
+            throw new IllegalArgumentException("No valid number of backtracks (x < 0) was specified!");
+        }
+
+        this.historySize = historySize;
+        this.maxBacktracks = maxBacktracks;
+        this.alphaOffset = historySize;
+        this.countIndex = 2 * historySize;
+        this.nextIndex = countIndex + 1;
+    }
+
+    /**
+     * Creates a new state for the specified number of parameters. The scalars contain the factors 1 / (y * s) and
+     * the coefficients of the two-loop recursion for each history entry, the number of history
+     * entries and the position of the next history entry.
+     *
+     * @param parameterCount
+     *        the number of parameters
+     *
+     * @return an optimizer state
+     */
+    @Override
+    public OptimizerState createState(int parameterCount) {
+
+        return new OptimizerState(parameterCount, FIRST_HISTORY_VECTOR + 2 * historySize, nextIndex + 1);
+    }
+
+    /**
+     * Returns the vector index of the specified parameter difference.
+     *
+     * @param entry
+     *        the index of a history entry
+     *
+     * @return a vector index
+     */
+    private static int parameterDifference(int entry) {
+
+        return FIRST_HISTORY_VECTOR + 2 * entry;
+    }
+
+    /**
+     * Returns the vector index of the specified gradient difference.
+     *
+     * @param entry
+     *        the index of a history entry
+     *
+     * @return a vector index
+     */
+    private static int gradientDifference(int entry) {
+
+        return FIRST_HISTORY_VECTOR + 2 * entry + 1;
+    }
+
+    /**
+     * Performs one optimization step.
+     *
+     * @param objective
+     *        an objective function
+     * @param parameters
+     *        all parameters
+     * @param state
+     *        a state which was created by this optimizer for the same number of parameters
+     *
+     * @return the value of the objective function before the parameters were adjusted
+     */
+    @Override
+    public double step(DifferentiableObjective objective, @Modified double[] parameters,
+                       @Modified OptimizerState state) {
+
+        OptimizerHelper.checkArguments(objective, parameters, state);
+
+        double[] scalars = state.scalars();
+        double[] gradient = state.vector(GRADIENT);
+        double[] direction = state.vector(DIRECTION);
+        double[] trialParameters = state.vector(TRIAL_PARAMETERS);
+        double[] trialGradient = state.vector(TRIAL_GRADIENT);
+
+        double value = objective.evaluate(parameters, gradient);
+
+        state.nextIteration();
+
+        int count = (int) scalars[countIndex];
+        int next = (int) scalars[nextIndex];
+
+        // two-loop recursion, i.e. direction = -H * gradient
+
+        System.arraycopy(gradient, 0, direction, 0, gradient.length);
+
+        for (int offset = 1; offset <= count; offset++) {
+
+            int entry = (next - offset + historySize) % historySize;
+
+            double alpha = scalars[entry] * dot(state.vector(parameterDifference(entry)), direction);
+            scalars[alphaOffset + entry] = alpha;
+
+            axpy(-alpha, state.vector(gradientDifference(entry)), direction);
+        }
+
+        if (count > 0) {
+
+            int newest = (next - 1 + historySize) % historySize;
+            double[] y = state.vector(gradientDifference(newest));
+
+            scale(dot(state.vector(parameterDifference(newest)), y) / dot(y, y), direction);
+        }
+
+        for (int offset = count; offset >= 1; offset--) {
+
+            int entry = (next - offset + historySize) % historySize;
+
+            double beta = scalars[entry] * dot(state.vector(gradientDifference(entry)), direction);
+
+            axpy(scalars[alphaOffset + entry] - beta, state.vector(parameterDifference(entry)), direction);
+        }
+
+        scale(-1.0d, direction);
+
+        double slope = dot(gradient, direction);
+
+        if (!(slope < 0.0d)) {
+
+            // not a descent direction, i.e. the history is discarded and the step follows the gradient
+
+            count = 0;
+            next = 0;
+
+            System.arraycopy(gradient, 0, direction, 0, gradient.length);
+            scale(-1.0d, direction);
+
+            slope = dot(gradient, direction);
+        }
+
+        if (slope == 0.0d) {
+
+            scalars[countIndex] = count;
+            scalars[nextIndex] = next;
+
+            return value;
+        }
+
+        // backtracking line search
+
+        double stepSize = (count > 0) ? 1.0d : Math.min(1.0d, 1.0d / Math.sqrt(-slope));
+        double trialValue = Double.NaN;
+        boolean accepted = false;
+
+        for (int backtrack = 0; backtrack <= maxBacktracks; backtrack++) {
+
+            for (int index = 0; index < parameters.length; index++) {
+
+                trialParameters[index] = parameters[index] + stepSize * direction[index];
+            }
+
+            trialValue = objective.evaluate(trialParameters, trialGradient);
+
+            if (trialValue <= value + SUFFICIENT_DECREASE * stepSize * slope) {
+
+                accepted = true;
+                break;
+            }
+
+            stepSize *= 0.5d;
+        }
+
+        if (!accepted) {
+
+            // the parameters are kept and the next step starts over with the gradient
+
+            scalars[countIndex] = 0.0d;
+            scalars[nextIndex] = 0.0d;
+
+            return value;
+        }
+
+        double[] s = state.vector(parameterDifference(next));
+        double[] y = state.vector(gradientDifference(next));
+
+        for (int index = 0; index < parameters.length; index++) {
+
+            s[index] = trialParameters[index] - parameters[index];
+            y[index] = trialGradient[index] - gradient[index];
+        }
+
+        double curvature = dot(y, s);
+
+        if (curvature > 1e-12d) {
+
+            scalars[next] = 1.0d / curvature;
+            next = (next + 1) % historySize;
+            count = Math.min(count + 1, historySize);
+        }
+
+        scalars[countIndex] = count;
+        scalars[nextIndex] = next;
+
+        System.arraycopy(trialParameters, 0, parameters, 0, parameters.length);
+
+        return value;
+    }
+
+    /**
+     * Adds the scaled vector x to the vector y.
+     *
+     * @param factor
+     *        a factor
+     * @param x
+     *        a vector
+     * @param y
+     *        a vector with the same length
+     */
+    private static void axpy(double factor, double[] x, @Modified double[] y) {
+
+        for (int index = 0; index < y.length; index++) {
+
+            y[index] += factor * x[index];
+        }
+    }
+
+    /**
+     * Scales the specified vector.
+     *
+     * @param factor
+     *        a factor
+     * @param x
+     *        a vector
+     */
+    private static void scale(double factor, @Modified double[] x) {
+
+        for (int index = 0; index < x.length; index++) {
+
+            x[index] *= factor;
+        }
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.training;
+
+
+import java.util.function.DoubleUnaryOperator;
+
+
+/**
+ * This interface describes a one-dimensional minimization strategy. A line search starts at a specified argument
+ * and probes arguments along a line until it finds an argument with a smaller value.
+ *
+ * @author Kristian Kutin
+ */
+public interface LineSearch {
+
+    /**
+     * Minimizes the specified objective function. The result is never worse than the start argument.
+     *
+     * @param objective
+     *        an objective function (i.e. each evaluation is counted)
+     * @param start
+     *        the start argument
+     * @param step
+     *        the size of the first step (i.e. the sign specifies the preferred direction)
+     *
+     * @return the best argument, its value and the number of evaluations
+     */
+    LineSearchResult minimize(DoubleUnaryOperator objective, double start, double step);
+
+}
@@ -0,0 +1,120 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.training;
+
+
+/**
+ * The result of a line search (see {@link LineSearch}).
+ *
+ * @author Kristian Kutin
+ */
+public final class LineSearchResult {
+
+    /**
+     * The best argument.
+     */
+    private final double argument;
+
+    /**
+     * The value of the best argument.
+     */
+    private final double value;
+
+    /**
+     * The number of evaluations of the objective function.
+     */
+    private final int evaluations;
+
+    /**
+     * Creates a new result according to the specified parameters.
+     *
+     * @param argument
+     *        the best argument
+     * @param value
+     *        the value of the best argument
+     * @param evaluations
+     *        the number of evaluations of the objective function
+     */
+    public LineSearchResult(double argument, double value, int evaluations) {
+
+        super();
+
+        if (evaluations < 0) {
+
+            throw new IllegalArgumentException("An invalid number of evaluations (" + evaluations +
+                                               ") was specified!");
+        }
+
+        this.argument = argument;
+        this.value = value;
+        this.evaluations = evaluations;
+    }
+
+    /**
+     * Returns the best argument.
+     *
+     * @return an argument
+     */
+    public double argument() {
+
+        return argument;
+    }
+
+    /**
+     * Returns the value of the best argument.
+     *
+     * @return a value
+     */
+    public double value() {
+
+        return value;
+    }
+
+    /**
+     * Returns the number of evaluations of the objective function.
+     *
+     * @return a number of evaluations
+     */
+    public int evaluations() {
+
+        return evaluations;
+    }
+
+    @Override
+    public String toString() {
+
+        return "argument=" + argument + ", value=" + value + ", evaluations=" + evaluations;
+    }
+
+}
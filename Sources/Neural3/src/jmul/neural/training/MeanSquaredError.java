@@ -0,0 +1,337 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.training;
+
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import jmul.data.DataEntry;
+import jmul.data.TrainingData;
+
+import jmul.neural.neurons.CompiledNetwork;
+import jmul.neural.neurons.Network;
+import jmul.neural.neurons.NetworkHelper;
+
+
+/**
+ * Calculates the mean squared error of a network for a fixed set of data. The data is converted into primitive
+ * values once, i.e. the error can be calculated repeatedly (e.g. after each epoch) without converting numbers. The
+ * data is streamed through a compiled snapshot of the network in chunks, i.e. the outputs are never stored at once.
+ * The chunks can be evaluated in parallel; the partial sums are always added in the same order, i.e. the result
+ * doesn't depend on the number of threads.
+ *
+ * @author Kristian Kutin
+ */
+public final class MeanSquaredError {
+
+    /**
+     * The number of entries which are sent into the network at once.
+     */
+    public static final int CHUNK_SIZE;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        CHUNK_SIZE = 1024;
+    }
+
+    /**
+     * All inputs.
+     */
+    private final double[] inputs;
+
+    /**
+     * All expected outputs.
+     */
+    private final double[] expectedOutputs;
+
+    /**
+     * Creates a new error function for the specified data.
+     *
+     * @param data
+     *        a set of training data
+     */
+    public MeanSquaredError(TrainingData data) {
+
+        super();
+
+        if (data == null) {
+
+            throw new IllegalArgumentException("No training data (null) was specified!");
+        }
+
+        if (data.size() == 0) {
+
+            throw new IllegalArgumentException("No training data (empty) was specified!");
+        }
+
+        this.inputs = new double[data.size()];
+        this.expectedOutputs = new double[data.size()];
+
+        int index = 0;
+        for (DataEntry entry : data) {
+
+            inputs[index] = entry.input.toPrimitiveDouble();
+            expectedOutputs[index] = entry.expectedOutput.toPrimitiveDouble();
+            index++;
+        }
+    }
+
+    /**
+     * Returns the number of data entries.
+     *
+     * @return a number of data entries
+     */
+    public int size() {
+
+        return inputs.length;
+    }
+
+    /**
+     * Calculates the mean squared error of the specified network in the calling thread.
+     *
+     * @param network
+     *        a neural network
+     *
+     * @return the mean squared error
+     */
+    public double evaluate(Network network) {
+
+        CompiledNetwork compiledNetwork = compile(network);
+
+        return squaredErrors(compiledNetwork, 0, inputs.length) / inputs.length;
+    }
+
+    /**
+     * Calculates the mean squared error of the specified network. The chunks are evaluated in parallel by the
+     * specified fork join pool.
+     *
+     * @param network
+     *        a neural network
+     * @param pool
+     *        a fork join pool
+     *
+     * @return the mean squared error
+     */
+    public double evaluate(Network network, ForkJoinPool pool) {
+
+        if (pool == null) {
+
+            throw new IllegalArgumentException("No fork join pool (null) was specified!");
+        }
+
+        CompiledNetwork compiledNetwork = compile(network);
+
+        if (inputs.length <= CHUNK_SIZE) {
+
+            return chunkSquaredErrors(compiledNetwork, 0, inputs.length) / inputs.length;
+        }
+
+        double squaredErrors = pool.invoke(new ErrorTask(this, compiledNetwork, 0, inputs.length));
+
+        return squaredErrors / inputs.length;
+    }
+
+    /**
+     * Compiles the specified network.
+     *
+     * @param network
+     *        a neural network
+     *
+     * @return a compiled network
+     */
+    private static CompiledNetwork compile(Network network) {
+
+        if (network == null) {
+
+            throw new IllegalArgumentException("No network (null) was specified!");
+        }
+
+        return NetworkHelper.compile(network);
+    }
+
+    /**
+     * Returns the point where the specified range is split. The split points are multiples of the chunk size, i.e.
+     * the chunks and the order in which the partial sums are added don't depend on the number of threads.
+     *
+     * @param start
+     *        the first entry of the range (inclusive)
+     * @param end
+     *        the last entry of the range (exclusive)
+     *
+     * @return the first entry of the second half
+     */
+    private static int middle(int start, int end) {
+
+        int chunks = (end - start + CHUNK_SIZE - 1) / CHUNK_SIZE;
+
+        return start + (chunks / 2) * CHUNK_SIZE;
+    }
+
+    /**
+     * Calculates the sum of the squared errors of the specified range in the calling thread. Larger ranges are split
+     * in halves (see {@link ErrorTask}).
+     *
+     * @param compiledNetwork
+     *        a compiled network
+     * @param start
+     *        the first entry of the range (inclusive)
+     * @param end
+     *        the last entry of the range (exclusive)
+     *
+     * @return the sum of the squared errors
+     */
+    private double squaredErrors(CompiledNetwork compiledNetwork, int start, int end) {
+
+        if (end - start <= CHUNK_SIZE) {
+
+            return chunkSquaredErrors(compiledNetwork, start, end);
+        }
+
+        int middle = middle(start, end);
+
+        return squaredErrors(compiledNetwork, start, middle) + squaredErrors(compiledNetwork, middle, end);
+    }
+
+    /**
+     * Calculates the sum of the squared errors of the specified chunk.
+     *
+     * @param compiledNetwork
+     *        a compiled network
+     * @param start
+     *        the first entry of the range (inclusive)
+     * @param end
+     *        the last entry of the range (exclusive)
+     *
+     * @return the sum of the squared errors
+     */
+    private double chunkSquaredErrors(CompiledNetwork compiledNetwork, int start, int end) {
+
+        double[] actualOutputs = compiledNetwork.sendBatch(Arrays.copyOfRange(inputs, start, end));
+        double sum = 0.0d;
+
+        for (int index = 0; index < actualOutputs.length; index++) {
+
+            double error = actualOutputs[index] - expectedOutputs[start + index];
+            sum += error * error;
+        }
+
+        return sum;
+    }
+
+    /**
+     * A task which calculates the sum of the squared errors of a range of entries. Larger ranges are split in
+     * halves.
+     */
+    private static final class ErrorTask extends RecursiveTask<Double> {
+
+        /**
+         * The serial version UID.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The error function.
+         */
+        private final MeanSquaredError errorFunction;
+
+        /**
+         * The compiled network.
+         */
+        private final CompiledNetwork compiledNetwork;
+
+        /**
+         * The first entry of the range (inclusive).
+         */
+        private final int start;
+
+        /**
+         * The last entry of the range (exclusive).
+         */
+        private final int end;
+
+        /**
+         * Creates a new task according to the specified parameters.
+         *
+         * @param errorFunction
+         *        the error function
+         * @param compiledNetwork
+         *        the compiled network
+         * @param start
+         *        the first entry of the range (inclusive)
+         * @param end
+         *        the last entry of the range (exclusive)
+         */
+        ErrorTask(MeanSquaredError errorFunction, CompiledNetwork compiledNetwork, int start, int end) {
+
+            super();
+
+            this.errorFunction = errorFunction;
+            this.compiledNetwork = compiledNetwork;
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * Calculates the sum of the squared errors of the range.
+         *
+         * @return the sum of the squared errors
+         */
+        @Override
+        protected Double compute() {
+
+            if (end - start <= CHUNK_SIZE) {
+
+                return errorFunction.chunkSquaredErrors(compiledNetwork, start, end);
+            }
+
+            int middle = middle(start, end);
+
+            ErrorTask left = new ErrorTask(errorFunction, compiledNetwork, start, middle);
+            ErrorTask right = new ErrorTask(errorFunction, compiledNetwork, middle, end);
+
+            left.fork();
+            double rightSum = right.compute();
+            double leftSum = left.join();
+
+            return leftSum + rightSum;
+        }
+
+    }
+
+}
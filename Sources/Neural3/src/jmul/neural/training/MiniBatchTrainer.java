@@ -0,0 +1,376 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.training;
+
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import jmul.backends.NumericBackend;
+import jmul.backends.NumericBackends;
+
+import jmul.data.DataEntry;
+import jmul.data.TrainingData;
+
+import jmul.math.numbers.Number;
+
+import jmul.metainfo.annotations.Modified;
+
+import jmul.neural.neurons.Network;
+
+
+/**
+ * A trainer which adjusts all weights and biases of the hidden layers by mini-batch gradient descent. The
+ * entries of a mini-batch are split into chunks which are processed in parallel by a fork join pool. Each chunk
+ * accumulates its own gradients (see {@link Backpropagation#copy()}), i.e. no locking is required. The gradients
+ * of the chunks are reduced in a fixed order which only depends on the chunk boundaries, i.e. the result doesn't
+ * depend on the number of threads or on the scheduling.
+ *
+ * @author Kristian Kutin
+ */
+public class MiniBatchTrainer implements NetworkTrainer {
+
+    /**
+     * The default number of entries per mini-batch.
+     */
+    public static final int DEFAULT_BATCH_SIZE;
+
+    /**
+     * The default number of entries which are processed by one task.
+     */
+    public static final int DEFAULT_CHUNK_SIZE;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        DEFAULT_BATCH_SIZE = 4096;
+        DEFAULT_CHUNK_SIZE = 256;
+    }
+
+    /**
+     * The numeric backend which is used to calculate the gradients.
+     */
+    private final NumericBackend<?> backend;
+
+    /**
+     * The learning rate (i.e. the factor by which a gradient is scaled).
+     */
+    private final Number learningRate;
+
+    /**
+     * The number of entries per mini-batch (i.e. per weight update).
+     */
+    private final int batchSize;
+
+    /**
+     * The number of entries which are processed by one task.
+     */
+    private final int chunkSize;
+
+    /**
+     * The fork join pool which processes the chunks.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a new trainer which calculates the gradients with primitive double values, the default learning
+     * rate, the default batch size and the common fork join pool.
+     */
+    public MiniBatchTrainer() {
+
+        this(NumericBackends.DOUBLE, BackpropagationTrainer.DEFAULT_LEARNING_RATE, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a new trainer according to the specified parameters which uses the common fork join pool.
+     *
+     * @param backend
+     *        a numeric backend which is used to calculate the gradients
+     * @param learningRate
+     *        a learning rate
+     * @param batchSize
+     *        the number of entries per mini-batch
+     */
+    public MiniBatchTrainer(NumericBackend<?> backend, Number learningRate, int batchSize) {
+
+        this(backend, learningRate, batchSize, DEFAULT_CHUNK_SIZE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new trainer according to the specified parameters.
+     *
+     * @param backend
+     *        a numeric backend which is used to calculate the gradients
+     * @param learningRate
+     *        a learning rate
+     * @param batchSize
+     *        the number of entries per mini-batch
+     * @param chunkSize
+     *        the number of entries which are processed by one task
+     * @param pool
+     *        a fork join pool
+     */
+    public MiniBatchTrainer(NumericBackend<?> backend, Number learningRate, int batchSize, int chunkSize,
+                            ForkJoinPool pool) {
+
+        super();
+
+        if (backend == null) {
+
+            throw new IllegalArgumentException("No numeric backend (null) was specified!");
+        }
+
+        if (learningRate == null) {
+
+            throw new IllegalArgumentException("No learning rate (null) was specified!");
+        }
+
+        if (batchSize < 1) {
+
+            throw new IllegalArgumentException("An invalid batch size (" + batchSize + ") was specified!");
+        }
+
+        if (chunkSize < 1) {
+
+            throw new IllegalArgumentException("An invalid chunk size (" + chunkSize + ") was specified!");
+        }
+
+        if (pool == null) {
+
+            throw new IllegalArgumentException("No fork join pool (null) was specified!");
+        }
+
+        this.backend = backend;
+        this.learningRate = learningRate;
+        this.batchSize = batchSize;
+        this.chunkSize = chunkSize;
+        this.pool = pool;
+    }
+
+    /**
+     * Trains the specified neural network (i.e. one pass over the training data with one gradient descent step per
+     * mini-batch).
+     *
+     * @param network
+     *        a neural network
+     * @param trainingData
+     *        a set of training data
+     *
+     * @return the mean squared error of all entries before the weights and biases of the corresponding mini-batch
+     *         were adjusted
+     */
+    @Override
+    public Number trainNetwork(@Modified Network network, TrainingData trainingData) {
+
+        return trainNetwork(backend, network, trainingData);
+    }
+
+    /**
+     * Trains the specified neural network with the specified numeric backend.
+     *
+     * @param <T>
+     *        the value type of the numeric backend
+     * @param backend
+     *        a numeric backend
+     * @param network
+     *        a neural network
+     * @param trainingData
+     *        a set of training data
+     *
+     * @return the mean squared error
+     */
+    private <T> Number trainNetwork(NumericBackend<T> backend, @Modified Network network,
+                                    TrainingData trainingData) {
+
+        if (network == null) {
+
+            throw new IllegalArgumentException("No network (null) was specified!");
+        }
+
+        if (trainingData == null) {
+
+            throw new IllegalArgumentException("No training data (null) was specified!");
+        }
+
+        if (trainingData.size() == 0) {
+
+            throw new IllegalArgumentException("No training data (empty) was specified!");
+        }
+
+        int size = trainingData.size();
+        Object[] inputs = new Object[size];
+        Object[] expectedOutputs = new Object[size];
+
+        int index = 0;
+        for (DataEntry entry : trainingData) {
+
+            inputs[index] = backend.valueOf(entry.input);
+            expectedOutputs[index] = backend.valueOf(entry.expectedOutput);
+            index++;
+        }
+
+        Backpropagation<T> parameters = new Backpropagation<>(backend, network);
+        T rate = backend.valueOf(learningRate);
+        T squaredErrors = backend.zero();
+
+        for (int start = 0; start < size; start += batchSize) {
+
+            int end = Math.min(start + batchSize, size);
+
+            Backpropagation<T> gradients =
+                pool.invoke(new GradientTask<>(parameters, inputs, expectedOutputs, start, end, chunkSize));
+            gradients.descend(rate, true);
+
+            squaredErrors = backend.add(squaredErrors, gradients.squaredErrors());
+        }
+
+        parameters.updateNetwork(network);
+
+        T meanSquaredError = backend.divide(squaredErrors, backend.valueOf((double) size));
+
+        return backend.toNumber(meanSquaredError);
+    }
+
+    /**
+     * A task which accumulates the gradients of a range of entries. Larger ranges are split in halves.
+     *
+     * @param <T>
+     *        the value type of the numeric backend
+     */
+    private static final class GradientTask<T> extends RecursiveTask<Backpropagation<T>> {
+
+        /**
+         * The serial version UID.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The shared weights and biases.
+         */
+        private final Backpropagation<T> parameters;
+
+        /**
+         * All inputs.
+         */
+        private final Object[] inputs;
+
+        /**
+         * All expected outputs.
+         */
+        private final Object[] expectedOutputs;
+
+        /**
+         * The first entry of the range (inclusive).
+         */
+        private final int start;
+
+        /**
+         * The last entry of the range (exclusive).
+         */
+        private final int end;
+
+        /**
+         * The maximum number of entries which are processed without splitting the range.
+         */
+        private final int chunkSize;
+
+        /**
+         * Creates a new task according to the specified parameters.
+         *
+         * @param parameters
+         *        the shared weights and biases
+         * @param inputs
+         *        all inputs
+         * @param expectedOutputs
+         *        all expected outputs
+         * @param start
+         *        the first entry of the range (inclusive)
+         * @param end
+         *        the last entry of the range (exclusive)
+         * @param chunkSize
+         *        the maximum number of entries which are processed without splitting the range
+         */
+        GradientTask(Backpropagation<T> parameters, Object[] inputs, Object[] expectedOutputs, int start, int end,
+                     int chunkSize) {
+
+            super();
+
+            this.parameters = parameters;
+            this.inputs = inputs;
+            this.expectedOutputs = expectedOutputs;
+            this.start = start;
+            this.end = end;
+            this.chunkSize = chunkSize;
+        }
+
+        /**
+         * Accumulates the gradients of the range.
+         *
+         * @return the accumulated gradients
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        protected Backpropagation<T> compute() {
+
+            if (end - start <= chunkSize) {
+
+                Backpropagation<T> gradients = parameters.copy();
+
+                for (int index = start; index < end; index++) {
+
+                    gradients.accumulate((T) inputs[index], (T) expectedOutputs[index]);
+                }
+
+                return gradients;
+            }
+
+            int middle = (start + end) >>> 1;
+
+            GradientTask<T> left = new GradientTask<>(parameters, inputs, expectedOutputs, start, middle, chunkSize);
+            GradientTask<T> right = new GradientTask<>(parameters, inputs, expectedOutputs, middle, end, chunkSize);
+
+            left.fork();
+            Backpropagation<T> rightGradients = right.compute();
+            Backpropagation<T> leftGradients = left.join();
+
+            leftGradients.add(rightGradients);
+
+            return leftGradients;
+        }
+
+    }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.training;
+
+
+import jmul.metainfo.annotations.Modified;
+
+
+/**
+ * Gradient descent with momentum, i.e. each step is the sum of the negative scaled gradient and the previous step
+ * scaled by the momentum.
+ *
+ * @author Kristian Kutin
+ */
+public class MomentumOptimizer implements Optimizer {
+
+    /**
+     * The default learning rate.
+     */
+    public static final double DEFAULT_LEARNING_RATE;
+
+    /**
+     * The default momentum.
+     */
+    public static final double DEFAULT_MOMENTUM;
+
+    /**
+     * The index of the vector with the previous steps.
+     */
+    private static final int VELOCITY;
+
+    /**
+     * The index of the vector with the gradient.
+     */
+    private static final int GRADIENT;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        DEFAULT_LEARNING_RATE = 0.1d;
+        DEFAULT_MOMENTUM = 0.9d;
+
+        VELOCITY = 0;
+        GRADIENT = 1;
+    }
+
+    /**
+     * The learning rate.
+     */
+    private final double learningRate;
+
+    /**
+     * The momentum (i.e. the factor by which the previous step is scaled).
+     */
+    private final double momentum;
+
+    /**
+     * Creates a new optimizer with the default learning rate and momentum.
+     */
+    public MomentumOptimizer() {
+
+        this(DEFAULT_LEARNING_RATE, DEFAULT_MOMENTUM);
+    }
+
+    /**
+     * Creates a new optimizer according to the specified parameters.
+     *
+     * @param learningRate
+     *        a learning rate
+     * @param momentum
+     *        a momentum
+     */
+    public MomentumOptimizer(double learningRate, double momentum) {
+
+        super();
+
+        if (!(learningRate > 0.0d)) {
+
+            throw new IllegalArgumentException("No valid learning rate (x <= 0) was specified!");
+        }
+
+        if (!((momentum >= 0.0d) && (momentum < 1.0d))) {
+
+            throw new IllegalArgumentException("No valid momentum (x < 0 or x >= 1) was specified!");
+        }
+
+        this.learningRate = learningRate;
+        this.momentum = momentum;
+    }
+
+    /**
+     * Creates a new state for the specified number of parameters.
+     *
+     * @param parameterCount
+     *        the number of parameters
+     *
+     * @return an optimizer state
+     */
+    @Override
+    public OptimizerState createState(int parameterCount) {
+
+        return new OptimizerState(parameterCount, 2, 0);
+    }
+
+    /**
+     * Performs one optimization step.
+     *
+     * @param objective
+     *        an objective function
+     * @param parameters
+     *        all parameters
+     * @param state
+     *        a state which was created by this optimizer for the same number of parameters
+     *
+     * @return the value of the objective function before the parameters were adjusted
+     */
+    @Override
+    public double step(DifferentiableObjective objective, @Modified double[] parameters,
+                       @Modified OptimizerState state) {
+
+        OptimizerHelper.checkArguments(objective, parameters, state);
+
+        double[] velocity = state.vector(VELOCITY);
+        double[] gradient = state.vector(GRADIENT);
+
+        double value = objective.evaluate(parameters, gradient);
+
+        for (int index = 0; index < parameters.length; index++) {
+
+            velocity[index] = momentum * velocity[index] - learningRate * gradient[index];
+            parameters[index] += velocity[index];
+        }
+
+        state.nextIteration();
+
+        return value;
+    }
+
+}
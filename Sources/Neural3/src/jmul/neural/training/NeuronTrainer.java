@@ -34,23 +34,85 @@
 package jmul.neural.training;
 
 
-import jmul.math.numbers.Number;
+import jmul.backends.NumericBackend;
+import jmul.backends.NumericBackends;
+
 import jmul.data.TrainingData;
 
+import jmul.math.numbers.Number;
+
+import jmul.metainfo.annotations.Modified;
+
 import jmul.neural.neurons.Network;
 
 
+/**
+ * A trainer which adjusts the biases of the hidden neurons by gradient descent. The gradients are calculated by
+ * backpropagation over the whole training data (see {@link BackpropagationTrainer}).
+ *
+ * @author Kristian Kutin
+ */
 public class NeuronTrainer implements NetworkTrainer {
 
+    /**
+     * The numeric backend which is used to calculate the gradients.
+     */
+    private final NumericBackend<?> backend;
+
+    /**
+     * The learning rate (i.e. the factor by which a gradient is scaled).
+     */
+    private final Number learningRate;
+
+    /**
+     * Creates a new trainer which calculates the gradients with primitive double values and the default learning
+     * rate.
+     */
     public NeuronTrainer() {
+
+        this(NumericBackends.DOUBLE, BackpropagationTrainer.DEFAULT_LEARNING_RATE);
+    }
+
+    /**
+     * Creates a new trainer according to the specified parameters.
+     *
+     * @param backend
+     *        a numeric backend which is used to calculate the gradients
+     * @param learningRate
+     *        a learning rate
+     */
+    public NeuronTrainer(NumericBackend<?> backend, Number learningRate) {
+
         super();
+
+        if (backend == null) {
+
+            throw new IllegalArgumentException("No numeric backend (null) was specified!");
+        }
+
+        if (learningRate == null) {
+
+            throw new IllegalArgumentException("No learning rate (null) was specified!");
+        }
+
+        this.backend = backend;
+        this.learningRate = learningRate;
     }
 
+    /**
+     * Trains the specified neural network.
+     *
+     * @param network
+     *        a neural network
+     * @param trainingData
+     *        a set of training data
+     *
+     * @return the mean squared error before the biases were adjusted
+     */
     @Override
-    public Number trainNetwork(Network network, TrainingData trainingData) {
+    public Number trainNetwork(@Modified Network network, TrainingData trainingData) {
 
-        // TODO Implement this method
-        return null;
+        return BackpropagationTrainer.trainNetwork(backend, learningRate, network, trainingData, false);
     }
 
 }
@@ -0,0 +1,73 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.training;
+
+
+import jmul.metainfo.annotations.Modified;
+
+
+/**
+ * This interface describes a gradient based optimizer. An optimizer is stateless, all values which are kept between
+ * the steps (e.g. velocities or moment estimates) are stored in an optimizer state (see {@link OptimizerState}). Thus
+ * one optimizer can be shared by several trainers.
+ *
+ * @author Kristian Kutin
+ */
+public interface Optimizer {
+
+    /**
+     * Creates a new state for the specified number of parameters.
+     *
+     * @param parameterCount
+     *        the number of parameters
+     *
+     * @return an optimizer state
+     */
+    OptimizerState createState(int parameterCount);
+
+    /**
+     * Performs one optimization step, i.e. adjusts the parameters in order to minimize the objective function.
+     *
+     * @param objective
+     *        an objective function
+     * @param parameters
+     *        all parameters
+     * @param state
+     *        a state which was created by this optimizer for the same number of parameters
+     *
+     * @return the value of the objective function before the parameters were adjusted
+     */
+    double step(DifferentiableObjective objective, @Modified double[] parameters, @Modified OptimizerState state);
+
+}
@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.training;
+
+
+/**
+ * A utility class for optimizers.
+ *
+ * @author Kristian Kutin
+ */
+final class OptimizerHelper {
+
+    /**
+     * The default constructor.
+     */
+    private OptimizerHelper() {
+
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Checks the arguments of an optimization step.
+     *
+     * @param objective
+     *        an objective function
+     * @param parameters
+     *        all parameters
+     * @param state
+     *        an optimizer state
+     */
+    static void checkArguments(DifferentiableObjective objective, double[] parameters, OptimizerState state) {
+
+        if (objective == null) {
+
+            throw new IllegalArgumentException("No objective (null) was specified!");
+        }
+
+        if (parameters == null) {
+
+            throw new IllegalArgumentException("No parameters (null) were specified!");
+        }
+
+        if (state == null) {
+
+            throw new IllegalArgumentException("No optimizer state (null) was specified!");
+        }
+
+        if (parameters.length != state.parameterCount()) {
+
+            throw new IllegalArgumentException("The optimizer state doesn't match the parameters!");
+        }
+    }
+
+    /**
+     * Calculates the dot product of the specified vectors.
+     *
+     * @param a
+     *        a vector
+     * @param b
+     *        a vector with the same length
+     *
+     * @return a dot product
+     */
+    static double dot(double[] a, double[] b) {
+
+        double sum = 0.0d;
+
+        for (int index = 0; index < a.length; index++) {
+
+            sum += a[index] * b[index];
+        }
+
+        return sum;
+    }
+
+}
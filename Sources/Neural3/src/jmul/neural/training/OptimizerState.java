@@ -0,0 +1,174 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.training;
+
+
+import java.util.Arrays;
+
+
+/**
+ * The state of an optimizer (see {@link Optimizer}). The per-parameter values are kept in primitive arrays (i.e.
+ * vectors) which are aligned with the parameters, i.e. position i of every vector belongs to parameter i (see
+ * {@link Backpropagation#parameterCount()} for the alignment with synapses and neurons). Values which don't belong
+ * to a single parameter are kept as scalars. The optimizer determines the meaning of each vector and scalar.
+ *
+ * @author Kristian Kutin
+ */
+public final class OptimizerState {
+
+    /**
+     * The number of parameters.
+     */
+    private final int parameterCount;
+
+    /**
+     * All vectors.
+     */
+    private final double[][] vectors;
+
+    /**
+     * All scalars.
+     */
+    private final double[] scalars;
+
+    /**
+     * The number of steps which were performed with this state.
+     */
+    private long iterations;
+
+    /**
+     * Creates a new state according to the specified parameters. All values are zero.
+     *
+     * @param parameterCount
+     *        the number of parameters
+     * @param vectorCount
+     *        the number of vectors
+     * @param scalarCount
+     *        the number of scalars
+     */
+    public OptimizerState(int parameterCount, int vectorCount, int scalarCount) {
+
+        super();
+
+        if (parameterCount < 0) {
+
+            throw new IllegalArgumentException("No valid parameter count (x < 0) was specified!");
+        }
+
+        if (vectorCount < 0) {
+
+            throw new IllegalArgumentException("No valid vector count (x < 0) was specified!");
+        }
+
+        if (scalarCount < 0) {
+
+            throw new IllegalArgumentException("No valid scalar count (x < 0) was specified!");
+        }
+
+        this.parameterCount = parameterCount;
+        this.vectors = new double[vectorCount][parameterCount];
+        this.scalars = new double[scalarCount];
+        this.iterations = 0L;
+    }
+
+    /**
+     * Returns the number of parameters (i.e. the length of each vector).
+     *
+     * @return a parameter count
+     */
+    public int parameterCount() {
+
+        return parameterCount;
+    }
+
+    /**
+     * Returns the specified vector.
+     *
+     * @param index
+     *        the index of a vector
+     *
+     * @return a vector
+     */
+    public double[] vector(int index) {
+
+        return vectors[index];
+    }
+
+    /**
+     * Returns all scalars.
+     *
+     * @return all scalars
+     */
+    public double[] scalars() {
+
+        return scalars;
+    }
+
+    /**
+     * Returns the number of steps which were performed with this state.
+     *
+     * @return an iteration count
+     */
+    public long iterations() {
+
+        return iterations;
+    }
+
+    /**
+     * Increments the number of steps.
+     *
+     * @return the new iteration count
+     */
+    public long nextIteration() {
+
+        iterations++;
+
+        return iterations;
+    }
+
+    /**
+     * Sets all values and the number of steps to zero.
+     */
+    public void clear() {
+
+        for (double[] vector : vectors) {
+
+            Arrays.fill(vector, 0.0d);
+        }
+
+        Arrays.fill(scalars, 0.0d);
+        iterations = 0L;
+    }
+
+}
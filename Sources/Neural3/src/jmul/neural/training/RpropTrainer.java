@@ -0,0 +1,367 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.training;
+
+
+import java.util.Arrays;
+
+import jmul.backends.NumericBackend;
+import jmul.backends.NumericBackends;
+
+import jmul.data.DataEntry;
+import jmul.data.TrainingData;
+
+import jmul.math.numbers.Number;
+
+import jmul.metainfo.annotations.Modified;
+
+import jmul.neural.neurons.Network;
+
+
+/**
+ * A trainer which adjusts all weights and biases of the hidden layers by resilient propagation (RPROP). Every
+ * parameter has its own step size which only depends on the sign of its gradient: the step size grows while the sign
+ * stays the same and shrinks when the sign changes. The gradients are calculated by backpropagation over the whole
+ * training data (i.e. one epoch per call, see {@link Backpropagation}).<br>
+ * <br>
+ * The step sizes, the previous gradients, the previous steps and the previous error are kept between the calls. They
+ * are reset if another network is trained (see {@link #reset()}), i.e. an instance should only train one network at
+ * a time.
+ *
+ * @author Kristian Kutin
+ */
+public class RpropTrainer implements NetworkTrainer {
+
+    /**
+     * The default variant.
+     */
+    public static final RpropVariant DEFAULT_VARIANT;
+
+    /**
+     * The default initial step size.
+     */
+    public static final double DEFAULT_INITIAL_STEP;
+
+    /**
+     * The default minimum step size.
+     */
+    public static final double DEFAULT_MIN_STEP;
+
+    /**
+     * The default maximum step size.
+     */
+    public static final double DEFAULT_MAX_STEP;
+
+    /**
+     * The factor by which a step size grows if the sign of the gradient stays the same.
+     */
+    public static final double INCREASE_FACTOR;
+
+    /**
+     * The factor by which a step size shrinks if the sign of the gradient changes.
+     */
+    public static final double DECREASE_FACTOR;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        DEFAULT_VARIANT = RpropVariants.IRPROP_PLUS;
+        DEFAULT_INITIAL_STEP = 0.1d;
+        DEFAULT_MIN_STEP = 1e-6d;
+        DEFAULT_MAX_STEP = 50.0d;
+        INCREASE_FACTOR = 1.2d;
+        DECREASE_FACTOR = 0.5d;
+    }
+
+    /**
+     * The numeric backend which is used to calculate the gradients.
+     */
+    private final NumericBackend<?> backend;
+
+    /**
+     * The variant.
+     */
+    private final RpropVariant variant;
+
+    /**
+     * The initial step size.
+     */
+    private final double initialStep;
+
+    /**
+     * The minimum step size.
+     */
+    private final double minStep;
+
+    /**
+     * The maximum step size.
+     */
+    private final double maxStep;
+
+    /**
+     * The network which was trained last or <code>null</code>.
+     */
+    private Network network;
+
+    /**
+     * The step sizes of all parameters (see {@link Backpropagation#parameters(double[])}).
+     */
+    private double[] steps;
+
+    /**
+     * The gradients of the previous epoch. A gradient is zero if its sign changed.
+     */
+    private double[] previousGradients;
+
+    /**
+     * The steps of the previous epoch.
+     */
+    private double[] previousDeltas;
+
+    /**
+     * The error of the previous epoch.
+     */
+    private double previousError;
+
+    /**
+     * Creates a new trainer which calculates the gradients with primitive double values and uses the default variant
+     * and step sizes.
+     */
+    public RpropTrainer() {
+
+        this(DEFAULT_VARIANT);
+    }
+
+    /**
+     * Creates a new trainer which calculates the gradients with primitive double values and uses the default step
+     * sizes.
+     *
+     * @param variant
+     *        a variant
+     */
+    public RpropTrainer(RpropVariant variant) {
+
+        this(NumericBackends.DOUBLE, variant, DEFAULT_INITIAL_STEP, DEFAULT_MIN_STEP, DEFAULT_MAX_STEP);
+    }
+
+    /**
+     * Creates a new trainer according to the specified parameters.
+     *
+     * @param backend
+     *        a numeric backend which is used to calculate the gradients
+     * @param variant
+     *        a variant
+     * @param initialStep
+     *        the initial step size of all parameters
+     * @param minStep
+     *        the minimum step size
+     * @param maxStep
+     *        the maximum step size
+     */
+    public RpropTrainer(NumericBackend<?> backend, RpropVariant variant, double initialStep, double minStep,
+                        double maxStep) {
+
+        super();
+
+        if (backend == null) {
+
+            throw new IllegalArgumentException("No numeric backend (null) was specified!");
+        }
+
+        if (variant == null) {
+
+            throw new IllegalArgumentException("No variant (null) was specified!");
+        }
+
+        if (!(minStep > 0.0d)) {
+
+            throw new IllegalArgumentException("No valid minimum step size (x <= 0) was specified!");
+        }
+
+        if (!(maxStep >= minStep)) {
+
+            throw new IllegalArgumentException("No valid maximum step size (x < minimum step size) was specified!");
+        }
+
+        if (!((initialStep >= minStep) && (initialStep <= maxStep))) {
+
+            throw new IllegalArgumentException(
+                "No valid initial step size (x < minimum step size or x > maximum step size) was specified!");
+        }
+
+        this.backend = backend;
+        this.variant = variant;
+        this.initialStep = initialStep;
+        this.minStep = minStep;
+        this.maxStep = maxStep;
+
+        reset();
+    }
+
+    /**
+     * Discards the step sizes, the previous gradients, the previous steps and the previous error, i.e. the next
+     * epoch starts with the initial step size.
+     */
+    public void reset() {
+
+        network = null;
+        steps = null;
+        previousGradients = null;
+        previousDeltas = null;
+        previousError = Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Trains the specified neural network for one epoch.
+     *
+     * @param network
+     *        a neural network
+     * @param trainingData
+     *        a set of training data
+     *
+     * @return the mean squared error before the weights and biases were adjusted
+     */
+    @Override
+    public Number trainNetwork(@Modified Network network, TrainingData trainingData) {
+
+        return trainNetwork(backend, network, trainingData);
+    }
+
+    /**
+     * Calculates all gradients and adjusts the weights of the hidden layers and the biases.
+     *
+     * @param <T>
+     *        the value type of the numeric backend
+     * @param backend
+     *        a numeric backend
+     * @param network
+     *        a neural network
+     * @param trainingData
+     *        a set of training data
+     *
+     * @return the mean squared error before the weights and biases were adjusted
+     */
+    private <T> Number trainNetwork(NumericBackend<T> backend, @Modified Network network, TrainingData trainingData) {
+
+        if (network == null) {
+
+            throw new IllegalArgumentException("No network (null) was specified!");
+        }
+
+        if (trainingData == null) {
+
+            throw new IllegalArgumentException("No training data (null) was specified!");
+        }
+
+        Backpropagation<T> backpropagation = new Backpropagation<>(backend, network);
+
+        for (DataEntry entry : trainingData) {
+
+            backpropagation.accumulate(backend.valueOf(entry.input), backend.valueOf(entry.expectedOutput));
+        }
+
+        T meanSquaredError = backpropagation.meanSquaredError();
+        double error = backend.toDouble(meanSquaredError);
+
+        int parameterCount = backpropagation.parameterCount();
+
+        if ((this.network != network) || (steps.length != parameterCount)) {
+
+            initialize(network, parameterCount);
+        }
+
+        double[] parameters = new double[parameterCount];
+        double[] gradients = new double[parameterCount];
+        backpropagation.parameters(parameters);
+        backpropagation.gradient(gradients);
+
+        boolean revert = variant.revertsStep(error, previousError);
+
+        for (int index = 0; index < parameterCount; index++) {
+
+            double gradient = gradients[index];
+            double change = previousGradients[index] * gradient;
+            double delta;
+
+            if (change < 0.0d) {
+
+                steps[index] = Math.max(steps[index] * DECREASE_FACTOR, minStep);
+                delta = revert ? -previousDeltas[index] : 0.0d;
+                gradient = 0.0d;
+
+            } else {
+
+                if (change > 0.0d) {
+
+                    steps[index] = Math.min(steps[index] * INCREASE_FACTOR, maxStep);
+                }
+
+                delta = -Math.signum(gradient) * steps[index];
+            }
+
+            parameters[index] += delta;
+            previousGradients[index] = gradient;
+            previousDeltas[index] = delta;
+        }
+
+        previousError = error;
+
+        backpropagation.setParameters(parameters);
+        backpropagation.updateNetwork(network);
+
+        return backend.toNumber(meanSquaredError);
+    }
+
+    /**
+     * Resets the state for the specified network.
+     *
+     * @param network
+     *        a neural network
+     * @param parameterCount
+     *        the number of parameters
+     */
+    private void initialize(Network network, int parameterCount) {
+
+        this.network = network;
+        this.steps = new double[parameterCount];
+        this.previousGradients = new double[parameterCount];
+        this.previousDeltas = new double[parameterCount];
+        this.previousError = Double.POSITIVE_INFINITY;
+
+        Arrays.fill(steps, initialStep);
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.training;
+
+
+/**
+ * This interface describes a variant of resilient propagation (see {@link RpropTrainer}). The variants differ in how
+ * they react to a sign change of a gradient.
+ *
+ * @author Kristian Kutin
+ */
+public interface RpropVariant {
+
+    /**
+     * Checks if the previous step of a parameter whose gradient changed its sign is reverted.
+     *
+     * @param error
+     *        the error of the current epoch
+     * @param previousError
+     *        the error of the previous epoch
+     *
+     * @return <code>true</code> if the previous step is reverted, else <code>false</code>
+     */
+    boolean revertsStep(double error, double previousError);
+
+}
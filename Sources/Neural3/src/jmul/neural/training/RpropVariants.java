@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.training;
+
+
+/**
+ * All supported variants of resilient propagation. A sign change of a gradient always decreases the step size of the
+ * parameter and suppresses the adaptation in the following epoch.
+ *
+ * @author Kristian Kutin
+ */
+public enum RpropVariants implements RpropVariant {
+
+    /**
+     * The original variant which always reverts the previous step of a parameter whose gradient changed its sign.
+     */
+    RPROP_PLUS {
+
+        @Override
+        public boolean revertsStep(double error, double previousError) {
+
+            return true;
+        }
+    },
+
+    /**
+     * The improved variant which reverts the previous step of a parameter whose gradient changed its sign only if
+     * the error increased.
+     */
+    IRPROP_PLUS {
+
+        @Override
+        public boolean revertsStep(double error, double previousError) {
+
+            return error > previousError;
+        }
+    },
+
+    /**
+     * The improved variant without weight backtracking.
+     */
+    IRPROP_MINUS {
+
+        @Override
+        public boolean revertsStep(double error, double previousError) {
+
+            return false;
+        }
+    };
+
+}
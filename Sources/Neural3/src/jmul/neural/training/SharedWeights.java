@@ -0,0 +1,194 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.training;
+
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * A weight vector which is read and written concurrently without locks. The weights are stored as raw long bits
+ * and accessed with opaque (i.e. relaxed) atomics: a single weight is never torn, but a reader may see any mix of
+ * old and new weights. Each published weight increments a version counter which is used to measure staleness.<br>
+ * <br>
+ * The indices of all published weights are logged in the order of their versions, i.e. a reader which keeps its own
+ * copy of the weights only refreshes the weights which were published since its last refresh (see
+ * {@link #refresh(double[], long)}).
+ *
+ * @author Kristian Kutin
+ */
+final class SharedWeights {
+
+    /**
+     * The weights as raw long bits.
+     */
+    private final AtomicLongArray bits;
+
+    /**
+     * The number of published weights.
+     */
+    private final AtomicLong version;
+
+    /**
+     * The indices of all published weights (i.e. version - 1 -&gt; index) or -1 if the index of a version was not
+     * logged yet.
+     */
+    private final AtomicIntegerArray updates;
+
+    /**
+     * Creates a new weight vector with the specified initial weights.
+     *
+     * @param weights
+     *        the initial weights
+     * @param maxUpdates
+     *        the maximum number of weights which are published
+     */
+    SharedWeights(double[] weights, int maxUpdates) {
+
+        super();
+
+        this.bits = new AtomicLongArray(weights.length);
+        this.version = new AtomicLong();
+        this.updates = new AtomicIntegerArray(maxUpdates);
+
+        for (int slot = 0; slot < maxUpdates; slot++) {
+
+            updates.setPlain(slot, -1);
+        }
+
+        for (int index = 0; index < weights.length; index++) {
+
+            bits.setPlain(index, Double.doubleToRawLongBits(weights[index]));
+        }
+    }
+
+    /**
+     * Returns the number of weights.
+     *
+     * @return a number of weights
+     */
+    int size() {
+
+        return bits.length();
+    }
+
+    /**
+     * Returns the specified weight.
+     *
+     * @param index
+     *        the index of a weight
+     *
+     * @return a weight
+     */
+    double get(int index) {
+
+        return Double.longBitsToDouble(bits.getOpaque(index));
+    }
+
+    /**
+     * Reads all weights into the specified array.
+     *
+     * @param weights
+     *        an array with the size of this vector
+     */
+    void read(double[] weights) {
+
+        for (int index = 0; index < weights.length; index++) {
+
+            weights[index] = Double.longBitsToDouble(bits.getOpaque(index));
+        }
+    }
+
+    /**
+     * Reads the weights which were published since the specified version into the specified array. The refresh stops
+     * at the first version whose index was not logged yet, i.e. the next refresh continues there.
+     *
+     * @param weights
+     *        an array with the size of this vector
+     * @param readVersion
+     *        the version of the last refresh (0 if the array contains the initial weights)
+     *
+     * @return the version of this refresh
+     */
+    long refresh(double[] weights, long readVersion) {
+
+        long currentVersion = Math.min(version.getOpaque(), updates.length());
+        long position = readVersion;
+
+        while (position < currentVersion) {
+
+            int index = updates.getAcquire((int) position);
+
+            if (index < 0) {
+
+                break;
+            }
+
+            weights[index] = get(index);
+            position++;
+        }
+
+        return position;
+    }
+
+    /**
+     * Publishes a new weight.
+     *
+     * @param index
+     *        the index of a weight
+     * @param weight
+     *        a new weight
+     *
+     * @return the version after the weight was published
+     */
+    long publish(int index, double weight) {
+
+        bits.setOpaque(index, Double.doubleToRawLongBits(weight));
+
+        long slot = version.getAndIncrement();
+
+        if (slot >= updates.length()) {
+
+            throw new IllegalStateException("More weights than expected (" + updates.length() + ") were published!");
+        }
+
+        // the release orders the weight before the logged index
+        updates.setRelease((int) slot, index);
+
+        return slot + 1L;
+    }
+
+}
@@ -0,0 +1,155 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.training;
+
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Statistics about the staleness of asynchronous updates. The staleness of an update is the number of updates which
+ * other workers published between reading the weights and publishing the new weight. An update with staleness 0 was
+ * computed on up to date weights.
+ *
+ * @author Kristian Kutin
+ */
+public final class StalenessStatistics {
+
+    /**
+     * The number of updates.
+     */
+    private final LongAdder updates;
+
+    /**
+     * The sum of the staleness of all updates.
+     */
+    private final LongAdder totalStaleness;
+
+    /**
+     * The number of stale updates (i.e. staleness greater than 0).
+     */
+    private final LongAdder staleUpdates;
+
+    /**
+     * The largest staleness.
+     */
+    private final AtomicLong maxStaleness;
+
+    /**
+     * Creates new empty statistics.
+     */
+    public StalenessStatistics() {
+
+        super();
+
+        this.updates = new LongAdder();
+        this.totalStaleness = new LongAdder();
+        this.staleUpdates = new LongAdder();
+        this.maxStaleness = new AtomicLong();
+    }
+
+    /**
+     * Records an update.
+     *
+     * @param staleness
+     *        the staleness of the update
+     */
+    void record(long staleness) {
+
+        updates.increment();
+        totalStaleness.add(staleness);
+
+        if (staleness > 0L) {
+
+            staleUpdates.increment();
+            maxStaleness.accumulateAndGet(staleness, Math::max);
+        }
+    }
+
+    /**
+     * Returns the number of updates.
+     *
+     * @return a number of updates
+     */
+    public long updates() {
+
+        return updates.sum();
+    }
+
+    /**
+     * Returns the number of stale updates.
+     *
+     * @return a number of updates
+     */
+    public long staleUpdates() {
+
+        return staleUpdates.sum();
+    }
+
+    /**
+     * Returns the average staleness of all updates.
+     *
+     * @return an average staleness
+     */
+    public double meanStaleness() {
+
+        long count = updates.sum();
+
+        if (count == 0L) {
+
+            return 0.0d;
+        }
+
+        return (double) totalStaleness.sum() / count;
+    }
+
+    /**
+     * Returns the largest staleness.
+     *
+     * @return a staleness
+     */
+    public long maxStaleness() {
+
+        return maxStaleness.get();
+    }
+
+    @Override
+    public String toString() {
+
+        return String.format("updates=%d, stale updates=%d, mean staleness=%.3f, max staleness=%d", updates(),
+                             staleUpdates(), meanStaleness(), maxStaleness());
+    }
+
+}
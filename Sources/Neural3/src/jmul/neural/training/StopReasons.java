@@ -0,0 +1,64 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.training;
+
+
+/**
+ * All reasons why a training loop stops.
+ *
+ * @author Kristian Kutin
+ */
+public enum StopReasons implements StopReason {
+
+    /**
+     * The error is less than or equal to the target error.
+     */
+    TARGET_ERROR_REACHED,
+
+    /**
+     * The error didn't improve significantly for a number of epochs.
+     */
+    PLATEAU_REACHED,
+
+    /**
+     * The time budget is exhausted.
+     */
+    TIME_BUDGET_EXHAUSTED,
+
+    /**
+     * The maximum number of epochs was reached.
+     */
+    MAX_EPOCHS_REACHED;
+
+}
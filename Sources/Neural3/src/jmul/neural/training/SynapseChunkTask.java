@@ -0,0 +1,154 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.training;
+
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+import jmul.backends.NumericBackend;
+
+import jmul.data.TrainingData;
+
+import jmul.math.numbers.Number;
+
+import jmul.neural.neurons.Network;
+
+
+/**
+ * A task which trains a chunk of synapses one after another.
+ *
+ * @author Kristian Kutin
+ */
+final class SynapseChunkTask implements Callable<Number[]> {
+
+    /**
+     * The numeric backend which is used to evaluate the network.
+     */
+    private final NumericBackend<?> backend;
+
+    /**
+     * The line search which looks for a better weight.
+     */
+    private final LineSearch lineSearch;
+
+    /**
+     * The network (i.e. it is only read).
+     */
+    private final Network network;
+
+    /**
+     * The indices of the synapses of this chunk.
+     */
+    private final List<Integer> indices;
+
+    /**
+     * A set of training data.
+     */
+    private final TrainingData trainingData;
+
+    /**
+     * Counts the evaluations of the objective function.
+     */
+    private final LongAdder evaluations;
+
+    /**
+     * Creates a new task according to the specified parameters.
+     *
+     * @param backend
+     *        a numeric backend
+     * @param lineSearch
+     *        a line search
+     * @param network
+     *        a network
+     * @param indices
+     *        the indices of the synapses of this chunk
+     * @param trainingData
+     *        a set of training data
+     * @param evaluations
+     *        counts the evaluations of the objective function
+     */
+    SynapseChunkTask(NumericBackend<?> backend, LineSearch lineSearch, Network network, List<Integer> indices,
+                     TrainingData trainingData, LongAdder evaluations) {
+
+        super();
+
+        this.backend = backend;
+        this.lineSearch = lineSearch;
+        this.network = network;
+        this.indices = indices;
+        this.trainingData = trainingData;
+        this.evaluations = evaluations;
+    }
+
+    /**
+     * Returns the indices of the synapses of this chunk.
+     *
+     * @return synapse indices
+     */
+    List<Integer> indices() {
+
+        return indices;
+    }
+
+    /**
+     * Trains all synapses of this chunk. The task stops early if it was cancelled.
+     *
+     * @return the new weights (same order as the indices)
+     *
+     * @throws InterruptedException
+     *         is thrown if the task was cancelled
+     */
+    @Override
+    public Number[] call() throws InterruptedException {
+
+        Number[] newWeights = new Number[indices.size()];
+
+        for (int index = 0; index < indices.size(); index++) {
+
+            if (Thread.currentThread().isInterrupted()) {
+
+                throw new InterruptedException();
+            }
+
+            newWeights[index] =
+                SynapseTrainer.trainSynapse(backend, lineSearch, network, indices.get(index), trainingData,
+                                            evaluations);
+        }
+
+        return newWeights;
+    }
+
+}
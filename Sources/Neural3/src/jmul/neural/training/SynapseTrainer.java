@@ -36,20 +36,22 @@ package jmul.neural.training;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.SortedMap;
-import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleUnaryOperator;
+
+import jmul.backends.NumericBackend;
+import jmul.backends.NumericBackends;
 
 import jmul.data.DataEntry;
 import jmul.data.TrainingData;
 
 import jmul.math.numbers.Number;
 
-import static jmul.math.numbers.NumberHelper.createNumber;
-
 import jmul.metainfo.annotations.Modified;
 
 import jmul.neural.GlobalSettings;
+import jmul.neural.neurons.Activations;
+import jmul.neural.neurons.BackendNetwork;
 import jmul.neural.neurons.Layers;
 import jmul.neural.neurons.Network;
 import jmul.neural.neurons.NetworkHelper;
@@ -58,138 +60,227 @@ import jmul.neural.neurons.Synapse;
 
 public class SynapseTrainer implements NetworkTrainer {
 
-    public SynapseTrainer() {
+    /**
+     * The default line search (see {@link BrentSearch}).
+     */
+    public static final LineSearch DEFAULT_LINE_SEARCH;
 
-        super();
+    /*
+     * The static initializer.
+     */
+    static {
+
+        DEFAULT_LINE_SEARCH = new BrentSearch();
     }
 
-    @Override
-    public Number trainNetwork(@Modified Network network, TrainingData trainingData) {
+    private final NumericBackend<?> backend;
 
-        for (Synapse synapse : network.synapses()) {
+    /**
+     * The line search which looks for a better weight.
+     */
+    private final LineSearch lineSearch;
 
-            if (!(synapse.layer() == Layers.HIDDEN_LAYER)) {
+    /**
+     * The number of evaluations of the last training run.
+     */
+    private volatile long evaluations;
 
-                continue;
-            }
+    public SynapseTrainer() {
 
-            System.out.println("DEBUG::train synapse " + synapse);
+        this(NumericBackends.NUMBER);
+    }
 
-            Number newWeight = trainSynapse(network, synapse, trainingData);
-            NetworkHelper.setWeight(synapse, newWeight);
-        }
+    public SynapseTrainer(NumericBackend<?> backend) {
 
-        //TODO mean squared error
-        return null;
+        this(backend, DEFAULT_LINE_SEARCH);
     }
 
-    private static Number trainSynapse(@Modified Network network, @Modified Synapse synapse, TrainingData trainingData) {
+    /**
+     * Creates a new trainer according to the specified parameters.
+     *
+     * @param backend
+     *        a numeric backend which is used to evaluate the network
+     * @param lineSearch
+     *        a line search which looks for a better weight
+     */
+    public SynapseTrainer(NumericBackend<?> backend, LineSearch lineSearch) {
 
-        List<Number> bestWeights = new ArrayList<>();
-        Number oldWeight = synapse.weight();
+        super();
 
-        for (DataEntry entry : trainingData) {
+        if (backend == null) {
 
-            System.out.println("\tDEBUG::train on data point " + entry);
+            throw new IllegalArgumentException("No numeric backend (null) was specified!");
+        }
 
-            SortedMap<Number, Number> weightsAndDeviations = new TreeMap<>();
+        if (lineSearch == null) {
 
-            Number weight = oldWeight;
-            NetworkHelper.setWeight(synapse, oldWeight);
+            throw new IllegalArgumentException("No line search (null) was specified!");
+        }
 
-            Number actualOutput;
-            Number deviation;
+        this.backend = backend;
+        this.lineSearch = lineSearch;
+        this.evaluations = 0L;
+    }
 
-            // #1 data point
-            actualOutput = network.send(entry.input);
-            deviation = entry.expectedOutput.subtract(actualOutput);
-            weightsAndDeviations.put(weight, deviation);
-            System.out.print("\t.");
+    /**
+     * Returns the number of evaluations (i.e. forward passes through the network) of the last training run.
+     *
+     * @return a number of evaluations
+     */
+    public long evaluations() {
 
-            Number step = deviation.shiftLeft();
+        return evaluations;
+    }
 
-            // try to find a better weight for the current synapse. Try in both directions from the data point.
-            for (int a = 0; a < 10; a++) {
+    @Override
+    public Number trainNetwork(@Modified Network network, TrainingData trainingData) {
 
-                weight = weight.add(step);
-                NetworkHelper.setWeight(synapse, weight);
+        LongAdder counter = new LongAdder();
 
-                actualOutput = network.send(entry.input);
-                deviation = entry.expectedOutput.subtract(actualOutput);
-                weightsAndDeviations.put(weight, deviation);
+        List<Synapse> synapses = network.synapses();
+        for (int index = 0; index < synapses.size(); index++) {
 
-                System.out.print(".");
+            Synapse synapse = synapses.get(index);
+            if (!(synapse.layer() == Layers.HIDDEN_LAYER)) {
+
+                continue;
             }
 
-            weight = oldWeight;
-            for (int a = 0; a < 10; a++) {
+            Number newWeight = trainSynapse(backend, lineSearch, network, index, trainingData, counter);
+            NetworkHelper.setWeight(synapse, newWeight);
+        }
 
-                weight = weight.subtract(step);
-                NetworkHelper.setWeight(synapse, weight);
+        evaluations = counter.sum();
 
-                actualOutput = network.send(entry.input);
-                deviation = entry.expectedOutput.subtract(actualOutput);
-                weightsAndDeviations.put(weight, deviation);
+        return TrainingHelper.meanSquaredError(network, trainingData);
+    }
 
-                System.out.print(".");
-            }
+    /**
+     * Looks for a better weight of the specified synapse (see {@link #optimizeWeight}).
+     *
+     * @param <T>
+     *        the value type of the numeric backend
+     * @param backend
+     *        a numeric backend
+     * @param lineSearch
+     *        a line search
+     * @param network
+     *        a network
+     * @param synapseIndex
+     *        the index of the synapse
+     * @param trainingData
+     *        a set of training data
+     * @param evaluations
+     *        counts the forward passes (i.e. one per data entry and evaluation of the objective function)
+     *
+     * @return the new weight
+     */
+    static <T> Number trainSynapse(NumericBackend<T> backend, LineSearch lineSearch, Network network,
+                                   int synapseIndex, TrainingData trainingData, LongAdder evaluations) {
+
+        BackendNetwork<T> compiledNetwork = NetworkHelper.compile(network, backend);
+
+        List<T> inputs = new ArrayList<>();
+        List<T> expectedOutputs = new ArrayList<>();
 
-            Number newWeight = findWeightWithSmallestDeviation(weightsAndDeviations);
-            bestWeights.add(newWeight);
+        for (DataEntry entry : trainingData) {
+
+            inputs.add(backend.valueOf(entry.input));
+            expectedOutputs.add(backend.valueOf(entry.expectedOutput));
         }
 
-        Number averageWeight = averageWeight(bestWeights);
+        T newWeight = optimizeWeight(compiledNetwork, lineSearch, synapseIndex, inputs, expectedOutputs, evaluations);
 
-        return averageWeight;
+        return backend.toNumber(newWeight);
     }
 
-    private static Number findWeightWithSmallestDeviation(SortedMap<Number, Number> weightsAndDeviations) {
+    /**
+     * Looks for a better weight of the specified synapse, i.e. a line search minimizes the mean squared error of
+     * the specified data along the weight of the synapse. The activations of all data entries are cached, i.e. a
+     * probed weight only re-evaluates the neurons downstream of the synapse.
+     *
+     * @param <T>
+     *        the value type of the numeric backend
+     * @param compiledNetwork
+     *        a compiled network
+     * @param lineSearch
+     *        a line search
+     * @param synapseIndex
+     *        the index of the synapse
+     * @param inputs
+     *        all inputs
+     * @param expectedOutputs
+     *        all expected outputs (same order as the inputs)
+     * @param evaluations
+     *        counts the forward passes (i.e. one per data entry and evaluation of the objective function)
+     *
+     * @return the new weight
+     */
+    static <T> T optimizeWeight(BackendNetwork<T> compiledNetwork, LineSearch lineSearch, int synapseIndex,
+                                List<T> inputs, List<T> expectedOutputs, LongAdder evaluations) {
+
+        NumericBackend<T> backend = compiledNetwork.backend();
+
+        T oldWeight = compiledNetwork.weight(synapseIndex);
+        double start = backend.toDouble(oldWeight);
+
+        int entries = inputs.size();
+
+        if (entries == 0) {
+
+            return oldWeight;
+        }
+
+        List<Activations<T>> allActivations = new ArrayList<>(entries);
+        double squaredDeviations = 0.0d;
+
+        for (int index = 0; index < entries; index++) {
 
-        Number weight = null;
-        Number deviation = null;
-        Number absoluteDeviation = null;
+            Activations<T> activations = compiledNetwork.activations(inputs.get(index));
 
-        for (Map.Entry<Number, Number> entry : weightsAndDeviations.entrySet()) {
+            double deviation = backend.toDouble(backend.subtract(expectedOutputs.get(index), activations.output()));
+            squaredDeviations += deviation * deviation;
 
-            if (weight == null) {
+            allActivations.add(activations);
+        }
+
+        double startValue = squaredDeviations / entries;
+
+        DoubleUnaryOperator objective = (double weight) -> {
 
-                weight = entry.getKey();
-                deviation = entry.getValue();
-                absoluteDeviation = deviation.absoluteValue();
+            if (weight == start) {
 
-            } else {
+                return startValue;
+            }
+
+            T probedWeight = backend.valueOf(weight);
+            double sum = 0.0d;
 
-                Number nextWeight = entry.getKey();
-                Number nextDeviation = entry.getValue();
-                Number nextAbsoluteDeviation = deviation.absoluteValue();
+            for (int index = 0; index < entries; index++) {
 
-                if (nextAbsoluteDeviation.isLesser(absoluteDeviation)) {
+                T actualOutput = compiledNetwork.probeWeight(allActivations.get(index), synapseIndex, probedWeight);
+                double deviation = backend.toDouble(backend.subtract(expectedOutputs.get(index), actualOutput));
 
-                    weight = nextWeight;
-                    deviation = nextDeviation;
-                    absoluteDeviation = nextAbsoluteDeviation;
-                }
+                sum += deviation * deviation;
             }
-        }
 
-        return weight;
-    }
+            return sum / entries;
+        };
 
-    private static Number averageWeight(List<Number> weights) {
-        
-        final Number ZERO =  createNumber(GlobalSettings.DEFAULT_NUMBER_BASE, "0");
-        Number counter = ZERO;
-        Number sum = ZERO;
-        
-        for (Number weight : weights) {
+        // the first step is proportional to the root mean squared deviation
+        double step = Math.sqrt(startValue) / GlobalSettings.DEFAULT_NUMBER_BASE;
 
-            sum = sum.add(weight);
-            counter = counter.inc();
-        }
+        LineSearchResult result = lineSearch.minimize(objective, start, step);
+
+        // the start argument is answered by the initial forward passes, every other argument probes all entries
+        evaluations.add((long) entries * result.evaluations());
 
-        Number average = sum.divide(counter);
+        if (result.argument() == start) {
+
+            return oldWeight;
+        }
 
-        return average;
+        return backend.valueOf(result.argument());
     }
 
 }
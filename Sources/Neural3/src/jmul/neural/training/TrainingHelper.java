@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.training;
+
+
+import jmul.data.TrainingData;
+
+import jmul.math.numbers.Number;
+
+import jmul.neural.NumberConversionHelper;
+import jmul.neural.neurons.Network;
+
+
+/**
+ * A utility class for training neural networks.
+ *
+ * @author Kristian Kutin
+ */
+public final class TrainingHelper {
+
+    /**
+     * The default constructor.
+     */
+    private TrainingHelper() {
+
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Calculates the mean squared error of the specified network for the specified training data. The network is
+     * evaluated with primitive values (see {@link MeanSquaredError}).
+     *
+     * @param network
+     *        a neural network
+     * @param trainingData
+     *        a set of training data
+     *
+     * @return the mean squared error
+     */
+    public static Number meanSquaredError(Network network, TrainingData trainingData) {
+
+        if (network == null) {
+
+            throw new IllegalArgumentException("No network (null) was specified!");
+        }
+
+        MeanSquaredError errorFunction = new MeanSquaredError(trainingData);
+
+        return NumberConversionHelper.toNumber(errorFunction.evaluate(network));
+    }
+
+}
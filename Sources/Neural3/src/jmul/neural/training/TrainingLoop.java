@@ -0,0 +1,386 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.training;
+
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import jmul.data.TrainingData;
+
+import jmul.math.numbers.Number;
+
+import jmul.metainfo.annotations.Modified;
+
+import jmul.neural.NumberConversionHelper;
+import jmul.neural.neurons.Network;
+import jmul.neural.neurons.NetworkHelper;
+import jmul.neural.neurons.OverlayNetwork;
+
+
+/**
+ * A training driver which repeats the epochs of a trainer until the network has converged. The mean squared error is
+ * calculated after each epoch (see {@link MeanSquaredError}). The training stops as soon as the target error is
+ * reached, the error didn't improve significantly for a number of epochs (i.e. a plateau), the time budget is
+ * exhausted or the maximum number of epochs is reached. The weights with the smallest error are kept, i.e. the
+ * network is reset to them if later epochs made it worse.
+ *
+ * @author Kristian Kutin
+ */
+public class TrainingLoop implements NetworkTrainer {
+
+    /**
+     * The default target error.
+     */
+    public static final double DEFAULT_TARGET_ERROR;
+
+    /**
+     * The default number of epochs without significant improvement after which the training stops.
+     */
+    public static final int DEFAULT_PATIENCE;
+
+    /**
+     * The default minimum relative improvement of the error which is considered significant.
+     */
+    public static final double DEFAULT_MIN_IMPROVEMENT;
+
+    /**
+     * The default maximum number of epochs.
+     */
+    public static final int DEFAULT_MAX_EPOCHS;
+
+    /**
+     * Specifies that the training has no time budget.
+     */
+    public static final long NO_TIME_BUDGET;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        DEFAULT_TARGET_ERROR = 1e-6d;
+        DEFAULT_PATIENCE = 10;
+        DEFAULT_MIN_IMPROVEMENT = 1e-3d;
+        DEFAULT_MAX_EPOCHS = 1000;
+        NO_TIME_BUDGET = 0L;
+    }
+
+    /**
+     * The trainer which trains one epoch.
+     */
+    private final NetworkTrainer trainer;
+
+    /**
+     * The target error.
+     */
+    private final double targetError;
+
+    /**
+     * The number of epochs without significant improvement after which the training stops.
+     */
+    private final int patience;
+
+    /**
+     * The minimum relative improvement of the error which is considered significant.
+     */
+    private final double minImprovement;
+
+    /**
+     * The maximum number of epochs.
+     */
+    private final int maxEpochs;
+
+    /**
+     * The time budget.
+     */
+    private final long timeBudget;
+
+    /**
+     * The time unit of the time budget.
+     */
+    private final TimeUnit timeUnit;
+
+    /**
+     * The fork join pool which calculates the error.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * The report of the last training run or <code>null</code>.
+     */
+    private volatile TrainingReport lastReport;
+
+    /**
+     * Creates a new training loop with default parameters which calculates the error with the common fork join
+     * pool and has no time budget.
+     *
+     * @param trainer
+     *        a trainer which trains one epoch
+     */
+    public TrainingLoop(NetworkTrainer trainer) {
+
+        this(trainer, DEFAULT_TARGET_ERROR, DEFAULT_PATIENCE, DEFAULT_MIN_IMPROVEMENT, DEFAULT_MAX_EPOCHS,
+             NO_TIME_BUDGET, TimeUnit.MILLISECONDS, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new training loop according to the specified parameters.
+     *
+     * @param trainer
+     *        a trainer which trains one epoch
+     * @param targetError
+     *        the training stops as soon as the error is less than or equal to this target error
+     * @param patience
+     *        the number of epochs without significant improvement after which the training stops
+     * @param minImprovement
+     *        the minimum relative improvement of the error which is considered significant
+     * @param maxEpochs
+     *        the maximum number of epochs
+     * @param timeBudget
+     *        the maximum duration of the training or {@link #NO_TIME_BUDGET} (i.e. an epoch which was started is
+     *        always finished)
+     * @param timeUnit
+     *        the time unit of the time budget
+     * @param pool
+     *        a fork join pool which calculates the error
+     */
+    public TrainingLoop(NetworkTrainer trainer, double targetError, int patience, double minImprovement,
+                        int maxEpochs, long timeBudget, TimeUnit timeUnit, ForkJoinPool pool) {
+
+        super();
+
+        if (trainer == null) {
+
+            throw new IllegalArgumentException("No trainer (null) was specified!");
+        }
+
+        if (patience < 1) {
+
+            throw new IllegalArgumentException("No valid patience (x < 1) was specified!");
+        }
+
+        if (!(minImprovement >= 0.0d)) {
+
+            throw new IllegalArgumentException("No valid minimum improvement (x < 0) was specified!");
+        }
+
+        if (maxEpochs < 0) {
+
+            throw new IllegalArgumentException("No valid maximum number of epochs (x < 0) was specified!");
+        }
+
+        if (timeBudget < 0L) {
+
+            throw new IllegalArgumentException("An invalid time budget (" + timeBudget + ") was specified!");
+        }
+
+        if (timeUnit == null) {
+
+            throw new IllegalArgumentException("No time unit (null) was specified!");
+        }
+
+        if (pool == null) {
+
+            throw new IllegalArgumentException("No fork join pool (null) was specified!");
+        }
+
+        this.trainer = trainer;
+        this.targetError = targetError;
+        this.patience = patience;
+        this.minImprovement = minImprovement;
+        this.maxEpochs = maxEpochs;
+        this.timeBudget = timeBudget;
+        this.timeUnit = timeUnit;
+        this.pool = pool;
+        this.lastReport = null;
+    }
+
+    /**
+     * Trains the specified network until it has converged.
+     *
+     * @param network
+     *        a neural network
+     * @param trainingData
+     *        a set of training data
+     *
+     * @return the smallest mean squared error (i.e. the error of the network after the training)
+     */
+    @Override
+    public Number trainNetwork(@Modified Network network, TrainingData trainingData) {
+
+        TrainingReport report = train(network, trainingData, trainingData);
+
+        return NumberConversionHelper.toNumber(report.bestError());
+    }
+
+    /**
+     * Trains the specified network until it has converged. The error is calculated with the training data.
+     *
+     * @param network
+     *        a neural network
+     * @param trainingData
+     *        a set of training data
+     *
+     * @return a report
+     */
+    public TrainingReport train(@Modified Network network, TrainingData trainingData) {
+
+        return train(network, trainingData, trainingData);
+    }
+
+    /**
+     * Trains the specified network until it has converged. The error is calculated with the validation data, i.e.
+     * the training stops before the network overfits the training data.
+     *
+     * @param network
+     *        a neural network
+     * @param trainingData
+     *        a set of training data
+     * @param validationData
+     *        a set of validation data
+     *
+     * @return a report
+     */
+    public TrainingReport train(@Modified Network network, TrainingData trainingData, TrainingData validationData) {
+
+        if (network == null) {
+
+            throw new IllegalArgumentException("No network (null) was specified!");
+        }
+
+        if (trainingData == null) {
+
+            throw new IllegalArgumentException("No training data (null) was specified!");
+        }
+
+        MeanSquaredError errorFunction = new MeanSquaredError(validationData);
+
+        long startTime = System.nanoTime();
+        long budget = timeUnit.toNanos(timeBudget);
+
+        double[] errors = new double[Math.min(maxEpochs, DEFAULT_MAX_EPOCHS) + 1];
+        errors[0] = errorFunction.evaluate(network, pool);
+
+        OverlayNetwork bestNetwork = NetworkHelper.overlay(network);
+        int bestEpoch = 0;
+        double bestError = errors[0];
+        double plateauError = errors[0];
+        int epochsWithoutImprovement = 0;
+
+        StopReason stopReason = StopReasons.MAX_EPOCHS_REACHED;
+        int epoch = 0;
+
+        while (epoch < maxEpochs) {
+
+            if (bestError <= targetError) {
+
+                stopReason = StopReasons.TARGET_ERROR_REACHED;
+                break;
+            }
+
+            if (epochsWithoutImprovement >= patience) {
+
+                stopReason = StopReasons.PLATEAU_REACHED;
+                break;
+            }
+
+            if ((timeBudget != NO_TIME_BUDGET) && (System.nanoTime() - startTime >= budget)) {
+
+                stopReason = StopReasons.TIME_BUDGET_EXHAUSTED;
+                break;
+            }
+
+            trainer.trainNetwork(network, trainingData);
+            epoch++;
+
+            double error = errorFunction.evaluate(network, pool);
+
+            if (epoch == errors.length) {
+
+                errors = Arrays.copyOf(errors, 2 * errors.length);
+            }
+
+            errors[epoch] = error;
+
+            if (error < bestError) {
+
+                // only an improvement is copied
+                bestNetwork = NetworkHelper.overlay(network);
+                bestEpoch = epoch;
+                bestError = error;
+            }
+
+            if (error < plateauError * (1.0d - minImprovement)) {
+
+                plateauError = error;
+                epochsWithoutImprovement = 0;
+
+            } else {
+
+                epochsWithoutImprovement++;
+            }
+        }
+
+        if ((epoch == maxEpochs) && (bestError <= targetError)) {
+
+            stopReason = StopReasons.TARGET_ERROR_REACHED;
+        }
+
+        if (bestEpoch != epoch) {
+
+            NetworkHelper.copyParameters(bestNetwork, network);
+        }
+
+        long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+        TrainingReport report =
+            new TrainingReport(stopReason, Arrays.copyOf(errors, epoch + 1), bestEpoch, duration);
+        lastReport = report;
+
+        return report;
+    }
+
+    /**
+     * Returns the report of the last training run.
+     *
+     * @return a report or <code>null</code> if the network wasn't trained yet
+     */
+    public TrainingReport lastReport() {
+
+        return lastReport;
+    }
+
+}
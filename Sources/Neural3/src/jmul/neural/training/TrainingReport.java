@@ -0,0 +1,171 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package jmul.neural.training;
+
+
+/**
+ * The summary of a training run (see {@link TrainingLoop}).
+ *
+ * @author Kristian Kutin
+ */
+public final class TrainingReport {
+
+    /**
+     * The reason why the training stopped.
+     */
+    private final StopReason stopReason;
+
+    /**
+     * The error before the training and after each epoch.
+     */
+    private final double[] errors;
+
+    /**
+     * The epoch with the smallest error.
+     */
+    private final int bestEpoch;
+
+    /**
+     * The duration of the training in milliseconds.
+     */
+    private final long duration;
+
+    /**
+     * Creates a new report according to the specified parameters.
+     *
+     * @param stopReason
+     *        the reason why the training stopped
+     * @param errors
+     *        the error before the training and after each epoch
+     * @param bestEpoch
+     *        the epoch with the smallest error (i.e. 0 if the training didn't improve the network)
+     * @param duration
+     *        the duration of the training in milliseconds
+     */
+    public TrainingReport(StopReason stopReason, double[] errors, int bestEpoch, long duration) {
+
+        super();
+
+        if (stopReason == null) {
+
+            throw new IllegalArgumentException("No stop reason (null) was specified!");
+        }
+
+        if ((errors == null) || (errors.length == 0)) {
+
+            throw new IllegalArgumentException("No errors (null or empty) were specified!");
+        }
+
+        if ((bestEpoch < 0) || (bestEpoch >= errors.length)) {
+
+            throw new IllegalArgumentException("An invalid epoch (" + bestEpoch + ") was specified!");
+        }
+
+        this.stopReason = stopReason;
+        this.errors = errors.clone();
+        this.bestEpoch = bestEpoch;
+        this.duration = duration;
+    }
+
+    /**
+     * Returns the reason why the training stopped.
+     *
+     * @return a stop reason
+     */
+    public StopReason stopReason() {
+
+        return stopReason;
+    }
+
+    /**
+     * Returns the number of epochs.
+     *
+     * @return a number of epochs
+     */
+    public int epochs() {
+
+        return errors.length - 1;
+    }
+
+    /**
+     * Returns the error after the specified epoch.
+     *
+     * @param epoch
+     *        an epoch (i.e. 0 is the error before the training)
+     *
+     * @return a mean squared error
+     */
+    public double error(int epoch) {
+
+        return errors[epoch];
+    }
+
+    /**
+     * Returns the epoch with the smallest error. The network contains the weights of this epoch.
+     *
+     * @return an epoch
+     */
+    public int bestEpoch() {
+
+        return bestEpoch;
+    }
+
+    /**
+     * Returns the smallest error.
+     *
+     * @return a mean squared error
+     */
+    public double bestError() {
+
+        return errors[bestEpoch];
+    }
+
+    /**
+     * Returns the duration of the training.
+     *
+     * @return a duration in milliseconds
+     */
+    public long duration() {
+
+        return duration;
+    }
+
+    @Override
+    public String toString() {
+
+        return String.format("%s after %d epochs (%d ms), best error %.6e in epoch %d", stopReason, epochs(),
+                             duration, bestError(), bestEpoch);
+    }
+
+}
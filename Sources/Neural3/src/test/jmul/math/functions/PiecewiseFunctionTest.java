@@ -0,0 +1,197 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.math.functions;
+
+
+import jmul.backends.NumericBackends;
+
+import jmul.functions.Function;
+import jmul.functions.FunctionHelper;
+import jmul.functions.MissingConditionCaseException;
+import jmul.functions.conditions.ConditionFunctionEntry;
+import jmul.functions.conditions.GreaterOrEqualCondition;
+import jmul.functions.conditions.LesserThanCondition;
+import jmul.functions.conditions.RangeCondition;
+
+import jmul.math.numbers.Number;
+import static jmul.math.numbers.NumberHelper.createNumber;
+
+import jmul.neural.GlobalSettings;
+
+import jmul.test.classification.UnitTest;
+
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+
+/**
+ * This test suite tests piecewise functions with many pieces and the validation of their conditions.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+public class PiecewiseFunctionTest {
+
+    /**
+     * The number of pieces of a large piecewise function.
+     */
+    private static final int PIECES;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        PIECES = 200;
+    }
+
+    /**
+     * Creates a number with the default number base.
+     *
+     * @param numberString
+     *        a number string
+     *
+     * @return a number
+     */
+    private static Number number(String numberString) {
+
+        return createNumber(GlobalSettings.DEFAULT_NUMBER_BASE, numberString);
+    }
+
+    /**
+     * Creates a piecewise function where the piece for breakpoint i returns the constant i (i.e. a step function).
+     *
+     * @return a function
+     */
+    private static Function createStepFunction() {
+
+        Number[] breakpoints = new Number[PIECES - 1];
+        Function[] functions = new Function[PIECES];
+
+        functions[0] = FunctionHelper.createPolynomialFunction(GlobalSettings.DEFAULT_NUMBER_BASE, "0");
+
+        for (int index = 1; index < PIECES; index++) {
+
+            breakpoints[index - 1] = number(String.valueOf(index));
+            functions[index] =
+                FunctionHelper.createPolynomialFunction(GlobalSettings.DEFAULT_NUMBER_BASE, String.valueOf(index));
+        }
+
+        return FunctionHelper.createPiecewiseFunction(breakpoints, functions);
+    }
+
+    /**
+     * Tests a piecewise function with many pieces.
+     */
+    @Test
+    public void testManyPieces() {
+
+        Function f = createStepFunction();
+
+        assertEquals("f(-5)", number("0"), f.calculate(number("-5")));
+        assertEquals("f(1)", number("1"), f.calculate(number("1")));
+        assertEquals("f(42.5)", number("42"), f.calculate(number("42.5")));
+        assertEquals("f(198.999)", number("198"), f.calculate(number("198.999")));
+        assertEquals("f(1000)", number("199"), f.calculate(number("1000")));
+
+        for (int index = 0; index < PIECES; index++) {
+
+            double x = index + 0.5d;
+            assertEquals("f(" + x + ") (primitive)", index, f.calculate(x), 0.0d);
+            assertEquals("f(" + x + ") (backend)", index, f.calculate(NumericBackends.FLOAT, (float) x), 0.0f);
+        }
+    }
+
+    /**
+     * Tests that the conditions may be specified in any order.
+     */
+    @Test
+    public void testUnorderedConditions() {
+
+        Function f1 = FunctionHelper.createPolynomialFunction(GlobalSettings.DEFAULT_NUMBER_BASE, "1");
+        Function f2 = FunctionHelper.createPolynomialFunction(GlobalSettings.DEFAULT_NUMBER_BASE, "2");
+        Function f3 = FunctionHelper.createPolynomialFunction(GlobalSettings.DEFAULT_NUMBER_BASE, "3");
+
+        Function f =
+            FunctionHelper.createThresholdFunction(new ConditionFunctionEntry(new GreaterOrEqualCondition(number("2")), f3),
+                                                   new ConditionFunctionEntry(new LesserThanCondition(number("1")), f1),
+                                                   new ConditionFunctionEntry(new RangeCondition(number("1"), number("2")),
+                                                                              f2));
+
+        assertEquals("f(0)", number("1"), f.calculate(number("0")));
+        assertEquals("f(1)", number("2"), f.calculate(number("1")));
+        assertEquals("f(2)", number("3"), f.calculate(number("2")));
+    }
+
+    /**
+     * Tests that a gap between two conditions is detected when the function is created.
+     */
+    @Test(expected = MissingConditionCaseException.class)
+    public void testGap() {
+
+        Function f1 = FunctionHelper.createPolynomialFunction(GlobalSettings.DEFAULT_NUMBER_BASE, "1");
+        Function f2 = FunctionHelper.createPolynomialFunction(GlobalSettings.DEFAULT_NUMBER_BASE, "2");
+
+        FunctionHelper.createThresholdFunction(new ConditionFunctionEntry(new LesserThanCondition(number("1")), f1),
+                                               new ConditionFunctionEntry(new GreaterOrEqualCondition(number("2")),
+                                                                          f2));
+    }
+
+    /**
+     * Tests that a missing lower case is detected when the function is created.
+     */
+    @Test(expected = MissingConditionCaseException.class)
+    public void testMissingLowerCase() {
+
+        Function f1 = FunctionHelper.createPolynomialFunction(GlobalSettings.DEFAULT_NUMBER_BASE, "1");
+
+        FunctionHelper.createThresholdFunction(new ConditionFunctionEntry(new GreaterOrEqualCondition(number("1")),
+                                                                          f1));
+    }
+
+    /**
+     * Tests that overlapping conditions are detected when the function is created.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testOverlap() {
+
+        Function f1 = FunctionHelper.createPolynomialFunction(GlobalSettings.DEFAULT_NUMBER_BASE, "1");
+        Function f2 = FunctionHelper.createPolynomialFunction(GlobalSettings.DEFAULT_NUMBER_BASE, "2");
+
+        FunctionHelper.createThresholdFunction(new ConditionFunctionEntry(new LesserThanCondition(number("2")), f1),
+                                               new ConditionFunctionEntry(new GreaterOrEqualCondition(number("1")),
+                                                                          f2));
+    }
+
+}
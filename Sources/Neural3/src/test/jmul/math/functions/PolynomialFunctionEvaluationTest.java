@@ -0,0 +1,118 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.math.functions;
+
+
+import jmul.backends.NumericBackends;
+
+import jmul.functions.Function;
+import jmul.functions.FunctionHelper;
+
+import jmul.math.numbers.Number;
+import static jmul.math.numbers.NumberHelper.createNumber;
+
+import jmul.neural.GlobalSettings;
+
+import jmul.test.classification.UnitTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+
+
+/**
+ * This test suite tests evaluating polynomial functions with numbers, primitive values and numeric backends.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+public class PolynomialFunctionEvaluationTest {
+
+    /**
+     * Creates a number with the default number base.
+     *
+     * @param numberString
+     *        a number string
+     *
+     * @return a number
+     */
+    private static Number number(String numberString) {
+
+        return createNumber(GlobalSettings.DEFAULT_NUMBER_BASE, numberString);
+    }
+
+    /**
+     * Tests a cubic function f(x) = 2 * x^3 + 0 * x^2 + -1 * x + 0.5.
+     */
+    @Test
+    public void testCubicFunction() {
+
+        Function f = FunctionHelper.createPolynomialFunction(GlobalSettings.DEFAULT_NUMBER_BASE, "0.5", "-1", "0", "2");
+
+        assertEquals("f(0)", number("0.5"), f.calculate(number("0")));
+        assertEquals("f(1)", number("1.5"), f.calculate(number("1")));
+        assertEquals("f(-2)", number("-13.5"), f.calculate(number("-2")));
+        assertEquals("f(0.5)", number("0.25"), f.calculate(number("0.5")));
+
+        assertEquals("f(-2) (primitive)", -13.5d, f.calculate(-2.0d), 0.0d);
+        assertEquals("f(-2) (backend)", -13.5d, f.calculate(NumericBackends.DOUBLE, -2.0d), 0.0d);
+    }
+
+    /**
+     * Tests the identity function f(x) = 1 * x + 0.
+     */
+    @Test
+    public void testIdentityFunction() {
+
+        Function f = FunctionHelper.createPolynomialFunction(GlobalSettings.DEFAULT_NUMBER_BASE, "0", "1");
+
+        Number x = number("0.123");
+        assertEquals("f(x)", x, f.calculate(x));
+    }
+
+    /**
+     * Tests the derivative function of a cubic function.
+     */
+    @Test
+    public void testDerivativeFunction() {
+
+        Function f = FunctionHelper.createPolynomialFunction(GlobalSettings.DEFAULT_NUMBER_BASE, "0.5", "-1", "0", "2");
+        Function df = f.derivativeFunction();
+
+        assertSame("cached derivative function", df, f.derivativeFunction());
+        assertEquals("f'(-2)", number("23"), df.calculate(number("-2")));
+        assertEquals("f'(-2) (primitive)", 23.0d, df.calculate(-2.0d), 0.0d);
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.neural;
+
+
+import java.lang.management.ManagementFactory;
+
+import jmul.math.numbers.Number;
+
+import jmul.neural.NumberConversionHelper;
+import jmul.neural.neurons.CompiledNetwork;
+import jmul.neural.neurons.FlatNetworkImpl;
+import jmul.neural.neurons.SignalPropagations;
+
+import jmul.test.classification.ManualTest;
+
+
+/**
+ * Measures the number of bytes which are allocated per inference by the different signal propagations.
+ *
+ * @author Kristian Kutin
+ */
+@ManualTest
+public class AllocationBenchmark {
+
+    private static final int[] NETWORK_CONFIGURATION;
+
+    private static final int NUMBER_INFERENCES;
+
+    private static final int PRIMITIVE_INFERENCES;
+
+    static {
+
+        NETWORK_CONFIGURATION = new int[] { 1, 8, 8, 1 };
+        NUMBER_INFERENCES = 3;
+        PRIMITIVE_INFERENCES = 100000;
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+
+        return (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    }
+
+    private static long allocatedBytes() {
+
+        return threadBean().getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static void printAllocation(String label, long bytes, long inferences) {
+
+        System.out.println(String.format("%-32s %14.1f bytes/inference", label, (double) bytes / inferences));
+    }
+
+    public static void main(String... args) {
+
+        FlatNetworkImpl network = new FlatNetworkImpl(NETWORK_CONFIGURATION);
+        CompiledNetwork compiledNetwork = network.compile();
+
+        Number input = NumberConversionHelper.toNumber(0.5d);
+        double checksum = 0.0d;
+
+        // warm up (i.e. thread local contexts, compiled code)
+        for (int index = 0; index < PRIMITIVE_INFERENCES; index++) {
+
+            checksum += network.send(0.5d);
+            checksum += compiledNetwork.send(0.5d);
+        }
+        network.send(input);
+
+        long before;
+
+        network.setSignalPropagation(SignalPropagations.LISTENERS);
+        before = allocatedBytes();
+        for (int index = 0; index < NUMBER_INFERENCES; index++) {
+
+            network.send(input);
+        }
+        printAllocation("send(Number), listeners", allocatedBytes() - before, NUMBER_INFERENCES);
+
+        network.setSignalPropagation(SignalPropagations.SCHEDULED);
+        before = allocatedBytes();
+        for (int index = 0; index < NUMBER_INFERENCES; index++) {
+
+            network.send(input);
+        }
+        printAllocation("send(Number), scheduled", allocatedBytes() - before, NUMBER_INFERENCES);
+
+        before = allocatedBytes();
+        for (int index = 0; index < PRIMITIVE_INFERENCES; index++) {
+
+            checksum += compiledNetwork.send(0.5d);
+        }
+        printAllocation("send(double), compiled", allocatedBytes() - before, PRIMITIVE_INFERENCES);
+
+        before = allocatedBytes();
+        for (int index = 0; index < PRIMITIVE_INFERENCES; index++) {
+
+            checksum += network.send(0.5d);
+        }
+        printAllocation("send(double), scheduled", allocatedBytes() - before, PRIMITIVE_INFERENCES);
+
+        System.out.println("checksum " + checksum);
+    }
+
+}
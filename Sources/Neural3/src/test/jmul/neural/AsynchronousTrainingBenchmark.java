@@ -0,0 +1,142 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.neural;
+
+
+import java.util.concurrent.TimeUnit;
+
+import jmul.backends.NumericBackends;
+
+import jmul.data.DataEntry;
+import jmul.data.TrainingData;
+
+import jmul.functions.Function;
+import jmul.functions.FunctionHelper;
+
+import jmul.math.numbers.Number;
+
+import jmul.neural.GlobalSettings;
+import jmul.neural.NumberConversionHelper;
+import jmul.neural.neurons.FlatNetworkImpl;
+import jmul.neural.neurons.Network;
+import jmul.neural.neurons.NetworkHelper;
+import jmul.neural.neurons.Neuron;
+import jmul.neural.training.AsynchronousSynapseTrainer;
+import jmul.neural.training.ConcurrentSynapseTrainer;
+import jmul.neural.training.NetworkTrainer;
+import jmul.neural.training.SynapseTrainer;
+
+import jmul.test.classification.ManualTest;
+
+
+/**
+ * Compares the convergence of the barrier synchronized synapse trainer and the asynchronous synapse trainer over
+ * wall clock time.
+ *
+ * @author Kristian Kutin
+ */
+@ManualTest
+public class AsynchronousTrainingBenchmark {
+
+    private static final int[] NETWORK_CONFIGURATION;
+
+    private static final int ROWS;
+
+    private static final int EPOCHS;
+
+    static {
+
+        NETWORK_CONFIGURATION = new int[] { 1, 8, 8, 1 };
+        ROWS = 200;
+        EPOCHS = 8;
+    }
+
+    public static void main(String... args) {
+
+        FlatNetworkImpl network = new FlatNetworkImpl(NETWORK_CONFIGURATION);
+
+        Function activationFunction =
+            FunctionHelper.createPolynomialFunction(GlobalSettings.DEFAULT_NUMBER_BASE, "0.1", "1", "-0.2");
+
+        for (Neuron neuron : network.neurons()) {
+
+            NetworkHelper.setActivationFunction(neuron, activationFunction);
+        }
+
+        DataEntry[] entries = new DataEntry[ROWS];
+        for (int index = 0; index < ROWS; index++) {
+
+            double input = (double) index / ROWS;
+            entries[index] =
+                new DataEntry(NumberConversionHelper.toNumber(input),
+                              NumberConversionHelper.toNumber(0.5d * input + 0.25d));
+        }
+
+        TrainingData trainingData = new TrainingData(entries);
+
+        int processors = Runtime.getRuntime().availableProcessors();
+
+        NetworkTrainer barrierTrainer =
+            new ConcurrentSynapseTrainer(NumericBackends.DOUBLE, SynapseTrainer.DEFAULT_LINE_SEARCH, null,
+                                         ConcurrentSynapseTrainer.AUTOMATIC_CHUNK_SIZE,
+                                         ConcurrentSynapseTrainer.NO_TIMEOUT, TimeUnit.MILLISECONDS);
+        AsynchronousSynapseTrainer asynchronousTrainer =
+            new AsynchronousSynapseTrainer(SynapseTrainer.DEFAULT_LINE_SEARCH, null, processors);
+
+        NetworkTrainer[] trainers = { barrierTrainer, asynchronousTrainer };
+
+        for (NetworkTrainer trainer : trainers) {
+
+            Network copy = NetworkHelper.clone(network);
+
+            long duration = 0L;
+            for (int epoch = 1; epoch <= EPOCHS; epoch++) {
+
+                long start = System.nanoTime();
+                Number meanSquaredError = trainer.trainNetwork(copy, trainingData);
+                duration += System.nanoTime() - start;
+
+                System.out.println(String.format("%-28s %2d threads epoch %2d %8.1f ms mse %.6e",
+                                                 trainer.getClass().getSimpleName(), processors, epoch,
+                                                 duration / 1e6d, meanSquaredError.toPrimitiveDouble()));
+            }
+
+            if (trainer == asynchronousTrainer) {
+
+                System.out.println(asynchronousTrainer.staleness());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.neural;
+
+
+import jmul.math.numbers.Number;
+
+import jmul.neural.NumberConversionHelper;
+import jmul.neural.neurons.CompiledNetwork;
+import jmul.neural.neurons.FlatNetworkImpl;
+
+import jmul.test.classification.ManualTest;
+
+
+/**
+ * Compares the throughput of batch inference with the throughput of sending one input after another.
+ *
+ * @author Kristian Kutin
+ */
+@ManualTest
+public class BatchInferenceBenchmark {
+
+    private static final int[] NETWORK_CONFIGURATION;
+
+    private static final int BATCH_SIZE;
+
+    private static final int NUMBER_SAMPLES;
+
+    private static final int REPETITIONS;
+
+    private static final int WARMUPS;
+
+    static {
+
+        NETWORK_CONFIGURATION = new int[] { 1, 8, 8, 1 };
+        BATCH_SIZE = 10000;
+        NUMBER_SAMPLES = 5;
+        REPETITIONS = 20;
+        WARMUPS = 5;
+    }
+
+    private static void printThroughput(String label, long inputs, long nanos) {
+
+        double inputsPerSecond = inputs / (nanos / 1e9d);
+        System.out.println(String.format("%-28s %14.1f inputs/s", label, inputsPerSecond));
+    }
+
+    public static void main(String... args) {
+
+        FlatNetworkImpl network = new FlatNetworkImpl(NETWORK_CONFIGURATION);
+
+        double[] inputs = new double[BATCH_SIZE];
+        for (int index = 0; index < BATCH_SIZE; index++) {
+
+            inputs[index] = 2.0d * index / BATCH_SIZE;
+        }
+
+        // sending numbers one after another is very slow, i.e. only a few samples are measured
+        long start = System.nanoTime();
+        for (int index = 0; index < NUMBER_SAMPLES; index++) {
+
+            Number input = NumberConversionHelper.toNumber(inputs[index]);
+            network.send(input);
+        }
+        printThroughput("send(Number) per entry", NUMBER_SAMPLES, System.nanoTime() - start);
+
+        CompiledNetwork compiledNetwork = network.compile();
+        double checksum = 0.0d;
+
+        for (int warmup = 0; warmup <= WARMUPS; warmup++) {
+
+            start = System.nanoTime();
+            for (int repetition = 0; repetition < REPETITIONS; repetition++) {
+
+                for (double input : inputs) {
+
+                    checksum += compiledNetwork.send(input);
+                }
+            }
+            long perEntry = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int repetition = 0; repetition < REPETITIONS; repetition++) {
+
+                double[] outputs = network.sendBatch(inputs);
+                checksum -= outputs[outputs.length - 1];
+            }
+            long batch = System.nanoTime() - start;
+
+            if (warmup == WARMUPS) {
+
+                printThroughput("send(double) per entry", (long) BATCH_SIZE * REPETITIONS, perEntry);
+                printThroughput("sendBatch(double[])", (long) BATCH_SIZE * REPETITIONS, batch);
+            }
+        }
+
+        System.out.println("checksum " + checksum);
+    }
+
+}
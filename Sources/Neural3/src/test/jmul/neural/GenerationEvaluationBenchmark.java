@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.neural;
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import jmul.data.DataEntry;
+import jmul.data.TrainingData;
+
+import jmul.genetic.Population;
+import jmul.genetic.PopulationImpl;
+
+import jmul.neural.NumberConversionHelper;
+import jmul.neural.genetic.NetworkEvaluator;
+import jmul.neural.genetic.NetworkMutator;
+import jmul.neural.genetic.ParallelPopulationImpl;
+import jmul.neural.genetic.PopulationEvaluator;
+import jmul.neural.neurons.FlatNetworkImpl;
+import jmul.neural.neurons.Network;
+
+import jmul.test.classification.ManualTest;
+
+
+/**
+ * Compares the time which is needed to select the fittest individuals of a generation with the sequential
+ * population and with the parallel population for an increasing number of workers.
+ *
+ * @author Kristian Kutin
+ */
+@ManualTest
+public class GenerationEvaluationBenchmark {
+
+    private static final int[] NETWORK_CONFIGURATION;
+
+    private static final int POPULATION_SIZE;
+
+    private static final int ROWS;
+
+    private static final int GENERATIONS;
+
+    static {
+
+        NETWORK_CONFIGURATION = new int[] { 1, 8, 8, 1 };
+        POPULATION_SIZE = 64;
+        ROWS = 64;
+        GENERATIONS = 5;
+    }
+
+    public static void main(String... args) {
+
+        DataEntry[] entries = new DataEntry[ROWS];
+        for (int index = 0; index < ROWS; index++) {
+
+            double input = (index + 1) * 2.0d / ROWS;
+            entries[index] =
+                new DataEntry(NumberConversionHelper.toNumber(input), NumberConversionHelper.toNumber(input * input));
+        }
+
+        NetworkEvaluator evaluator = new NetworkEvaluator(new TrainingData(entries));
+        NetworkMutator mutator = new NetworkMutator(5);
+
+        Network ancestor = new FlatNetworkImpl(NETWORK_CONFIGURATION);
+        List<Network> individuals = new ArrayList<>();
+        for (int index = 0; index < POPULATION_SIZE; index++) {
+
+            individuals.add(mutator.mutate(ancestor));
+        }
+
+        double sequential = measure(new PopulationImpl<>(evaluator, mutator, individuals));
+        System.out.println(String.format("%-24s %8.1f ms per generation", "PopulationImpl", sequential));
+
+        int processors = Runtime.getRuntime().availableProcessors();
+
+        for (int workers = 1; workers <= Math.max(4, processors); workers *= 2) {
+
+            ForkJoinPool pool = new ForkJoinPool(workers);
+            PopulationEvaluator<Network> populationEvaluator = new PopulationEvaluator<>(evaluator, pool);
+
+            double parallel = measure(new ParallelPopulationImpl<>(populationEvaluator, mutator, individuals));
+            System.out.println(String.format("%-24s %8.1f ms per generation (%2d workers, %d processors, " +
+                                             "speedup %.2f)", "ParallelPopulationImpl", parallel, workers,
+                                             processors, sequential / parallel));
+
+            pool.shutdown();
+        }
+    }
+
+    private static double measure(Population<Network> population) {
+
+        // warm up
+        population.getFittestIndividuals(POPULATION_SIZE / 2);
+
+        long start = System.nanoTime();
+        for (int generation = 0; generation < GENERATIONS; generation++) {
+
+            population.getFittestIndividuals(POPULATION_SIZE / 2);
+        }
+
+        return (System.nanoTime() - start) / 1e6d / GENERATIONS;
+    }
+
+}
@@ -0,0 +1,169 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.neural;
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import jmul.data.DataEntry;
+import jmul.data.TrainingData;
+
+import jmul.genetic.Evaluator;
+import jmul.genetic.Mutator;
+import jmul.genetic.Population;
+
+import jmul.neural.NumberConversionHelper;
+import jmul.neural.genetic.ActivationTable;
+import jmul.neural.genetic.Genome;
+import jmul.neural.genetic.GenomeEvaluator;
+import jmul.neural.genetic.GenomeMutator;
+import jmul.neural.genetic.NetworkEvaluator;
+import jmul.neural.genetic.NetworkMutator;
+import jmul.neural.genetic.ParallelPopulationImpl;
+import jmul.neural.genetic.PopulationEvaluator;
+import jmul.neural.neurons.FlatNetworkImpl;
+import jmul.neural.neurons.Network;
+
+import jmul.test.classification.ManualTest;
+
+
+/**
+ * Evolves a population of networks and a population of compact genomes in the same way and compares the heap which
+ * is retained by a whole generation after it was scored.
+ *
+ * @author Kristian Kutin
+ */
+@ManualTest
+public class GenomePopulationBenchmark {
+
+    private static final int[] NETWORK_CONFIGURATION;
+
+    private static final int POPULATION_SIZE;
+
+    private static final int SURVIVORS;
+
+    private static final int ROWS;
+
+    private static final int GENERATIONS;
+
+    static {
+
+        NETWORK_CONFIGURATION = new int[] { 1, 8, 8, 1 };
+        POPULATION_SIZE = 256;
+        SURVIVORS = 64;
+        ROWS = 4;
+        GENERATIONS = 3;
+    }
+
+    public static void main(String... args) {
+
+        DataEntry[] entries = new DataEntry[ROWS];
+        for (int index = 0; index < ROWS; index++) {
+
+            double input = 1.0d + (index + 1) * 2.0d / ROWS;
+            entries[index] =
+                new DataEntry(NumberConversionHelper.toNumber(input), NumberConversionHelper.toNumber(input * input));
+        }
+
+        TrainingData trainingData = new TrainingData(entries);
+        Network ancestor = new FlatNetworkImpl(NETWORK_CONFIGURATION);
+        ForkJoinPool pool = new ForkJoinPool(1);
+
+        // the caches are disabled, i.e. they don't retain any keys
+        double networks =
+            measure(new NetworkEvaluator(trainingData, 0), new NetworkMutator(5), ancestor, pool);
+        System.out.println(String.format("networks %8.0f bytes per individual", networks));
+
+        ActivationTable table = new ActivationTable();
+        double genomes =
+            measure(new GenomeEvaluator(new NetworkEvaluator(trainingData, 0)), new GenomeMutator(5),
+                    new Genome(ancestor, table), pool);
+        System.out.println(String.format("genomes  %8.0f bytes per individual (%s, ratio %.1f)", genomes, table,
+                                         networks / genomes));
+
+        pool.shutdown();
+    }
+
+    private static <T> double measure(Evaluator<T> evaluator, Mutator<T> mutator, T ancestor, ForkJoinPool pool) {
+
+        PopulationEvaluator<T> populationEvaluator = new PopulationEvaluator<>(evaluator, pool);
+
+        List<T> survivors = new ArrayList<>();
+        survivors.add(ancestor);
+
+        List<T> individuals = null;
+        long before = 0L;
+
+        for (int generation = 0; generation < GENERATIONS; generation++) {
+
+            individuals = null;
+            before = usedMemory();
+
+            individuals = new ArrayList<>(survivors);
+            while (individuals.size() < POPULATION_SIZE) {
+
+                individuals.add(mutator.mutate(survivors.get((int) (Math.random() * survivors.size()))));
+            }
+
+            Population<T> population = new ParallelPopulationImpl<>(populationEvaluator, mutator, individuals);
+            Population<T> selection = population.getFittestIndividuals(SURVIVORS);
+
+            survivors = new ArrayList<>();
+            for (int index = 0; index < selection.getSize(); index++) {
+
+                survivors.add(selection.getIndividual(index));
+            }
+        }
+
+        // the last generation holds the survivors and their scored offspring
+        long retained = usedMemory() - before;
+
+        return (double) retained / individuals.size();
+    }
+
+    private static long usedMemory() {
+
+        Runtime runtime = Runtime.getRuntime();
+
+        for (int n = 0; n < 5; n++) {
+
+            System.gc();
+        }
+
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.neural;
+
+
+import jmul.data.DataEntry;
+import jmul.data.TrainingData;
+
+import jmul.neural.NumberConversionHelper;
+import jmul.neural.genetic.IslandModel;
+import jmul.neural.genetic.IslandStatistics;
+import jmul.neural.genetic.MigrationTopologies;
+import jmul.neural.genetic.MigrationTopology;
+import jmul.neural.genetic.NetworkEvaluator;
+import jmul.neural.genetic.NetworkMutator;
+import jmul.neural.neurons.FlatNetworkImpl;
+import jmul.neural.neurons.Network;
+
+import jmul.test.classification.ManualTest;
+
+
+/**
+ * Evolves networks with an increasing number of islands and reports the throughput of each island (i.e.
+ * generations per second) and the best score.
+ *
+ * @author Kristian Kutin
+ */
+@ManualTest
+public class IslandModelBenchmark {
+
+    private static final int[] NETWORK_CONFIGURATION;
+
+    private static final int POPULATION_SIZE;
+
+    private static final int SURVIVORS;
+
+    private static final int ROWS;
+
+    private static final int GENERATIONS;
+
+    private static final int MIGRATION_INTERVAL;
+
+    private static final int MIGRANTS;
+
+    static {
+
+        NETWORK_CONFIGURATION = new int[] { 1, 8, 8, 1 };
+        POPULATION_SIZE = 16;
+        SURVIVORS = 4;
+        ROWS = 32;
+        GENERATIONS = 10;
+        MIGRATION_INTERVAL = 2;
+        MIGRANTS = 1;
+    }
+
+    public static void main(String... args) {
+
+        DataEntry[] entries = new DataEntry[ROWS];
+        for (int index = 0; index < ROWS; index++) {
+
+            double input = 1.0d + (index + 1) * 2.0d / ROWS;
+            entries[index] =
+                new DataEntry(NumberConversionHelper.toNumber(input), NumberConversionHelper.toNumber(input * input));
+        }
+
+        TrainingData trainingData = new TrainingData(entries);
+        NetworkMutator mutator = new NetworkMutator(3);
+        Network ancestor = new FlatNetworkImpl(NETWORK_CONFIGURATION);
+
+        System.out.println(Runtime.getRuntime().availableProcessors() + " processors");
+
+        MigrationTopology[] topologies = { MigrationTopologies.RING, MigrationTopologies.FULL };
+
+        for (int islands = 1; islands <= 4; islands *= 2) {
+
+            for (MigrationTopology topology : topologies) {
+
+                NetworkEvaluator evaluator = new NetworkEvaluator(trainingData);
+                IslandModel<Network> model =
+                    new IslandModel<>(evaluator, mutator, topology, islands, POPULATION_SIZE, SURVIVORS,
+                                      MIGRATION_INTERVAL, MIGRANTS);
+
+                long start = System.nanoTime();
+                Network fittest = model.evolve(ancestor, GENERATIONS);
+                double duration = (System.nanoTime() - start) / 1e6d;
+
+                double throughput = 0.0d;
+                for (IslandStatistics island : model.statistics()) {
+
+                    throughput += island.generationsPerSecond();
+                }
+
+                System.out.println(String.format("%d islands (%s): %.1f ms, best score %d, %.2f generations/s in total",
+                                                 islands, topology, duration, evaluator.calculateScore(fittest),
+                                                 throughput));
+
+                for (IslandStatistics island : model.statistics()) {
+
+                    System.out.println("    " + island);
+                }
+            }
+        }
+    }
+
+}
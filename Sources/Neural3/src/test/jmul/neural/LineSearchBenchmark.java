@@ -0,0 +1,133 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.neural;
+
+
+import jmul.backends.NumericBackends;
+
+import jmul.data.DataEntry;
+import jmul.data.TrainingData;
+
+import jmul.functions.Function;
+import jmul.functions.FunctionHelper;
+
+import jmul.math.numbers.Number;
+
+import jmul.neural.GlobalSettings;
+import jmul.neural.NumberConversionHelper;
+import jmul.neural.neurons.FlatNetworkImpl;
+import jmul.neural.neurons.Network;
+import jmul.neural.neurons.NetworkHelper;
+import jmul.neural.neurons.Neuron;
+import jmul.neural.training.BracketingSearch;
+import jmul.neural.training.BrentSearch;
+import jmul.neural.training.FixedStepSearch;
+import jmul.neural.training.GoldenSectionSearch;
+import jmul.neural.training.LineSearch;
+import jmul.neural.training.SynapseTrainer;
+
+import jmul.test.classification.ManualTest;
+
+
+/**
+ * Compares the line searches of the synapse trainer, i.e. the mean squared error after each training run and the
+ * number of forward passes which were needed.
+ *
+ * @author Kristian Kutin
+ */
+@ManualTest
+public class LineSearchBenchmark {
+
+    private static final int[] NETWORK_CONFIGURATION;
+
+    private static final int ROWS;
+
+    private static final int RUNS;
+
+    static {
+
+        NETWORK_CONFIGURATION = new int[] { 1, 4, 4, 1 };
+        ROWS = 20;
+        RUNS = 5;
+    }
+
+    public static void main(String... args) {
+
+        FlatNetworkImpl network = new FlatNetworkImpl(NETWORK_CONFIGURATION);
+
+        Function activationFunction =
+            FunctionHelper.createPolynomialFunction(GlobalSettings.DEFAULT_NUMBER_BASE, "0.1", "1", "-0.2");
+
+        for (Neuron neuron : network.neurons()) {
+
+            NetworkHelper.setActivationFunction(neuron, activationFunction);
+        }
+
+        DataEntry[] entries = new DataEntry[ROWS];
+        for (int index = 0; index < ROWS; index++) {
+
+            double input = (double) index / ROWS;
+            entries[index] =
+                new DataEntry(NumberConversionHelper.toNumber(input),
+                              NumberConversionHelper.toNumber(0.5d * input + 0.25d));
+        }
+
+        TrainingData trainingData = new TrainingData(entries);
+
+        LineSearch[] searches =
+        { new FixedStepSearch(), new BracketingSearch(), new GoldenSectionSearch(), new BrentSearch() };
+
+        StringBuilder report = new StringBuilder();
+
+        for (LineSearch search : searches) {
+
+            Network copy = NetworkHelper.clone(network);
+            SynapseTrainer trainer = new SynapseTrainer(NumericBackends.DOUBLE, search);
+
+            long evaluations = 0L;
+            for (int run = 1; run <= RUNS; run++) {
+
+                Number meanSquaredError = trainer.trainNetwork(copy, trainingData);
+                evaluations += trainer.evaluations();
+
+                report.append(String.format("%-20s run %d mse %.6e forward passes %8d%n",
+                                            search.getClass().getSimpleName(), run,
+                                            meanSquaredError.toPrimitiveDouble(), evaluations));
+            }
+        }
+
+        System.out.print(report);
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.neural;
+
+
+import java.util.concurrent.ForkJoinPool;
+
+import jmul.backends.NumericBackends;
+
+import jmul.data.DataEntry;
+import jmul.data.TrainingData;
+
+import jmul.functions.Function;
+import jmul.functions.FunctionHelper;
+
+import jmul.math.numbers.Number;
+import static jmul.math.numbers.NumberHelper.createNumber;
+
+import jmul.neural.GlobalSettings;
+import jmul.neural.NumberConversionHelper;
+import jmul.neural.neurons.FlatNetworkImpl;
+import jmul.neural.neurons.NetworkHelper;
+import jmul.neural.neurons.Neuron;
+import jmul.neural.training.MiniBatchTrainer;
+
+import jmul.test.classification.ManualTest;
+
+
+/**
+ * Measures how the mini-batch trainer scales with the number of threads.
+ *
+ * @author Kristian Kutin
+ */
+@ManualTest
+public class MiniBatchBenchmark {
+
+    private static final int[] NETWORK_CONFIGURATION;
+
+    private static final int ROWS;
+
+    private static final int WARMUPS;
+
+    private static final Number LEARNING_RATE;
+
+    static {
+
+        NETWORK_CONFIGURATION = new int[] { 1, 8, 8, 1 };
+        ROWS = 100000;
+        WARMUPS = 2;
+        LEARNING_RATE = createNumber(GlobalSettings.DEFAULT_NUMBER_BASE, "0.0001");
+    }
+
+    public static void main(String... args) {
+
+        FlatNetworkImpl network = new FlatNetworkImpl(NETWORK_CONFIGURATION);
+
+        Function activationFunction =
+            FunctionHelper.createPolynomialFunction(GlobalSettings.DEFAULT_NUMBER_BASE, "0.1", "1", "-0.2");
+
+        for (Neuron neuron : network.neurons()) {
+
+            NetworkHelper.setActivationFunction(neuron, activationFunction);
+        }
+
+        DataEntry[] entries = new DataEntry[ROWS];
+        for (int index = 0; index < ROWS; index++) {
+
+            double input = (double) index / ROWS;
+            entries[index] =
+                new DataEntry(NumberConversionHelper.toNumber(input), NumberConversionHelper.toNumber(0.5d * input));
+        }
+
+        TrainingData trainingData = new TrainingData(entries);
+
+        int processors = Runtime.getRuntime().availableProcessors();
+        double singleThreadTime = 0.0d;
+
+        for (int threads = 1; threads <= processors; threads *= 2) {
+
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            MiniBatchTrainer trainer =
+                new MiniBatchTrainer(NumericBackends.DOUBLE, LEARNING_RATE,
+                                     MiniBatchTrainer.DEFAULT_BATCH_SIZE, MiniBatchTrainer.DEFAULT_CHUNK_SIZE, pool);
+
+            long duration = 0L;
+            for (int warmup = 0; warmup <= WARMUPS; warmup++) {
+
+                long start = System.nanoTime();
+                trainer.trainNetwork(network, trainingData);
+                duration = System.nanoTime() - start;
+            }
+
+            pool.shutdown();
+
+            double seconds = duration / 1e9d;
+            if (threads == 1) {
+
+                singleThreadTime = seconds;
+            }
+
+            System.out.println(String.format("%3d threads %14.1f rows/s speedup %5.2f", threads, ROWS / seconds,
+                                             singleThreadTime / seconds));
+        }
+    }
+
+}
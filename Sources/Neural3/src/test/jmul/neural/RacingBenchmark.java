@@ -0,0 +1,164 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.neural;
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import jmul.data.DataEntry;
+import jmul.data.TrainingData;
+
+import jmul.genetic.Evaluator;
+import jmul.genetic.Population;
+
+import jmul.neural.NumberConversionHelper;
+import jmul.neural.genetic.NetworkEvaluator;
+import jmul.neural.genetic.NetworkMutator;
+import jmul.neural.genetic.ParallelPopulationImpl;
+import jmul.neural.genetic.PopulationEvaluator;
+import jmul.neural.neurons.FlatNetworkImpl;
+import jmul.neural.neurons.Network;
+
+import jmul.test.classification.ManualTest;
+
+
+/**
+ * Compares the time which is needed to select the survivors of a generation with a complete evaluation and with a
+ * racing evaluation (i.e. weak offspring are rejected early). Both select from the same individuals, i.e. they
+ * select the same survivors.
+ *
+ * @author Kristian Kutin
+ */
+@ManualTest
+public class RacingBenchmark {
+
+    private static final int[] NETWORK_CONFIGURATION;
+
+    private static final int POPULATION_SIZE;
+
+    private static final int SURVIVORS;
+
+    private static final int ROWS;
+
+    private static final int GENERATIONS;
+
+    static {
+
+        NETWORK_CONFIGURATION = new int[] { 1, 8, 8, 1 };
+        POPULATION_SIZE = 64;
+        SURVIVORS = 8;
+        ROWS = 64;
+        GENERATIONS = 20;
+    }
+
+    public static void main(String... args) {
+
+        DataEntry[] entries = new DataEntry[ROWS];
+        for (int index = 0; index < ROWS; index++) {
+
+            double input = 1.0d + (index + 1) * 2.0d / ROWS;
+            entries[index] =
+                new DataEntry(NumberConversionHelper.toNumber(input), NumberConversionHelper.toNumber(input * input));
+        }
+
+        TrainingData trainingData = new TrainingData(entries);
+        ForkJoinPool pool = new ForkJoinPool(1);
+
+        // the caches are disabled, i.e. both evaluators evaluate every individual
+        NetworkEvaluator racingEvaluator = new NetworkEvaluator(trainingData, 0);
+        NetworkEvaluator completeEvaluator = new NetworkEvaluator(trainingData, 0);
+        Evaluator<Network> evaluator = completeEvaluator::calculateScore;
+
+        PopulationEvaluator<Network> racing = new PopulationEvaluator<>(racingEvaluator, pool);
+        PopulationEvaluator<Network> complete = new PopulationEvaluator<>(evaluator, pool);
+
+        NetworkMutator mutator = new NetworkMutator(3);
+        Network ancestor = new FlatNetworkImpl(NETWORK_CONFIGURATION);
+
+        List<Network> survivors = new ArrayList<>();
+        for (int index = 0; index < SURVIVORS; index++) {
+
+            survivors.add(mutator.mutate(ancestor));
+        }
+
+        double racingTotal = 0.0d;
+        double completeTotal = 0.0d;
+
+        for (int generation = 1; generation <= GENERATIONS; generation++) {
+
+            // the survivors are kept and the offspring are mutated survivors
+            List<Network> individuals = new ArrayList<>(survivors);
+            for (int index = survivors.size(); index < POPULATION_SIZE; index++) {
+
+                individuals.add(mutator.mutate(survivors.get((int) (Math.random() * survivors.size()))));
+            }
+
+            long start = System.nanoTime();
+            Population<Network> completeSelection =
+                new ParallelPopulationImpl<>(complete, mutator, individuals).getFittestIndividuals(SURVIVORS);
+            double completeDuration = (System.nanoTime() - start) / 1e6d;
+
+            start = System.nanoTime();
+            Population<Network> racingSelection =
+                new ParallelPopulationImpl<>(racing, mutator, individuals).getFittestIndividuals(SURVIVORS);
+            double racingDuration = (System.nanoTime() - start) / 1e6d;
+
+            survivors = new ArrayList<>();
+            for (int index = 0; index < racingSelection.getSize(); index++) {
+
+                survivors.add(racingSelection.getIndividual(index));
+            }
+
+            Network best = completeSelection.getIndividual(completeSelection.getSize() - 1);
+            boolean sameSurvivors = best == survivors.get(survivors.size() - 1);
+
+            completeTotal += completeDuration;
+            racingTotal += racingDuration;
+
+            System.out.println(String.format("generation %2d best score %8d complete %8.1f ms racing %8.1f ms " +
+                                             "(speedup %.2f)%s", generation,
+                                             completeEvaluator.calculateScore(best), completeDuration,
+                                             racingDuration, completeDuration / racingDuration,
+                                             sameSurvivors ? "" : " (different survivors)"));
+        }
+
+        System.out.println(String.format("total complete %.1f ms racing %.1f ms (speedup %.2f)", completeTotal,
+                                         racingTotal, completeTotal / racingTotal));
+
+        pool.shutdown();
+    }
+
+}
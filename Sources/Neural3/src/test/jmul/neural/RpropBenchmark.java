@@ -0,0 +1,219 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.neural;
+
+
+import java.io.IOException;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jmul.data.DataEntry;
+import jmul.data.TrainingData;
+
+import jmul.functions.Function;
+import jmul.functions.FunctionHelper;
+
+import jmul.neural.NumberConversionHelper;
+import jmul.neural.neurons.FlatNetworkImpl;
+import jmul.neural.neurons.Layers;
+import jmul.neural.neurons.NetworkHelper;
+import jmul.neural.neurons.Neuron;
+import jmul.neural.training.RpropTrainer;
+import jmul.neural.training.RpropVariants;
+import jmul.neural.training.TrainingHelper;
+
+import jmul.test.classification.ManualTest;
+
+import org.encog.Encog;
+import org.encog.engine.network.activation.ActivationTANH;
+import org.encog.ml.data.MLDataSet;
+import org.encog.ml.data.basic.BasicMLDataSet;
+import org.encog.neural.networks.BasicNetwork;
+import org.encog.neural.networks.layers.BasicLayer;
+import org.encog.neural.networks.training.propagation.resilient.ResilientPropagation;
+
+
+/**
+ * Compares the resilient propagation of Encog with the resilient propagation trainer on the normalized training data
+ * of chapter 1.2 (i.e. the same network structure as in listing 5.2: seven hidden layers with five hyperbolic
+ * tangents each). The path of the training data can be specified as first argument.
+ *
+ * @author Kristian Kutin
+ */
+@ManualTest
+public class RpropBenchmark {
+
+    private static final String DEFAULT_TRAINING_DATA;
+
+    private static final int[] NETWORK_CONFIGURATION;
+
+    private static final double TARGET_ERROR;
+
+    private static final int MAX_EPOCHS;
+
+    private static final int RUNS;
+
+    static {
+
+        DEFAULT_TRAINING_DATA = "../Chapter_1.2/data/training_data_set_norm.csv";
+        NETWORK_CONFIGURATION = new int[] { 1, 5, 5, 5, 5, 5, 5, 5, 1 };
+        TARGET_ERROR = 3e-8d;
+        MAX_EPOCHS = 5000;
+        RUNS = 5;
+    }
+
+    public static void main(String... args) throws IOException {
+
+        String fileName = (args.length > 0) ? args[0] : DEFAULT_TRAINING_DATA;
+
+        List<String> lines = Files.readAllLines(Paths.get(fileName));
+
+        // The first line is the header.
+        List<double[]> rows = new ArrayList<>();
+        for (String line : lines.subList(1, lines.size())) {
+
+            String[] columns = line.split(",");
+            rows.add(new double[] { Double.parseDouble(columns[0].trim()), Double.parseDouble(columns[1].trim()) });
+        }
+
+        double[][] inputs = new double[rows.size()][];
+        double[][] expectedOutputs = new double[rows.size()][];
+        DataEntry[] entries = new DataEntry[rows.size()];
+
+        for (int index = 0; index < rows.size(); index++) {
+
+            double[] row = rows.get(index);
+
+            inputs[index] = new double[] { row[0] };
+            expectedOutputs[index] = new double[] { row[1] };
+            entries[index] =
+                new DataEntry(NumberConversionHelper.toNumber(row[0]), NumberConversionHelper.toNumber(row[1]));
+        }
+
+        MLDataSet encogData = new BasicMLDataSet(inputs, expectedOutputs);
+        TrainingData trainingData = new TrainingData(entries);
+
+        for (int run = 1; run <= RUNS; run++) {
+
+            trainEncog(run, encogData);
+
+            for (RpropVariants variant : RpropVariants.values()) {
+
+                trainNeural3(run, variant, trainingData);
+            }
+        }
+
+        Encog.getInstance().shutdown();
+    }
+
+    private static void trainEncog(int run, MLDataSet trainingData) {
+
+        BasicNetwork network = new BasicNetwork();
+        network.addLayer(new BasicLayer(null, true, NETWORK_CONFIGURATION[0]));
+
+        for (int layer = 1; layer < NETWORK_CONFIGURATION.length - 1; layer++) {
+
+            network.addLayer(new BasicLayer(new ActivationTANH(), true, NETWORK_CONFIGURATION[layer]));
+        }
+
+        network.addLayer(new BasicLayer(new ActivationTANH(), false,
+                                        NETWORK_CONFIGURATION[NETWORK_CONFIGURATION.length - 1]));
+        network.getStructure().finalizeStructure();
+        network.reset();
+
+        ResilientPropagation train = new ResilientPropagation(network, trainingData);
+        train.setThreadCount(1);
+
+        long start = System.nanoTime();
+        int epoch = 0;
+        double error;
+
+        do {
+
+            train.iteration();
+            epoch++;
+            error = train.getError();
+
+        } while ((error > TARGET_ERROR) && (epoch < MAX_EPOCHS));
+
+        long duration = System.nanoTime() - start;
+        train.finishTraining();
+
+        print(run, "Encog RPROP", epoch, duration, network.calculateError(trainingData));
+    }
+
+    private static void trainNeural3(int run, RpropVariants variant, TrainingData trainingData) {
+
+        FlatNetworkImpl network = new FlatNetworkImpl(NETWORK_CONFIGURATION);
+
+        Function activationFunction = FunctionHelper.createHyperbolicTangentFunction();
+
+        for (Neuron neuron : network.neurons()) {
+
+            if (neuron.layer() != Layers.INPUT_LAYER) {
+
+                NetworkHelper.setActivationFunction(neuron, activationFunction);
+            }
+        }
+
+        RpropTrainer trainer = new RpropTrainer(variant);
+
+        long start = System.nanoTime();
+        int epoch = 0;
+        double error;
+
+        do {
+
+            error = trainer.trainNetwork(network, trainingData).toPrimitiveDouble();
+            epoch++;
+
+        } while ((error > TARGET_ERROR) && (epoch < MAX_EPOCHS));
+
+        long duration = System.nanoTime() - start;
+
+        double finalError = TrainingHelper.meanSquaredError(network, trainingData).toPrimitiveDouble();
+        print(run, "Neural3 " + variant, epoch, duration, finalError);
+    }
+
+    private static void print(int run, String name, int epochs, long duration, double error) {
+
+        System.out.println(String.format("run %d %-24s %5d epochs %9.1f ms mse %.3e %s", run, name, epochs,
+                                         duration / 1e6d, error, (error <= TARGET_ERROR) ? "" : "(not reached)"));
+    }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.neural.genetic;
+
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jmul.data.DataEntry;
+import jmul.data.TrainingData;
+
+import jmul.neural.NumberConversionHelper;
+import jmul.neural.genetic.FitnessCache;
+import jmul.neural.genetic.GenomeKey;
+import jmul.neural.genetic.NetworkEvaluator;
+import jmul.neural.neurons.FlatNetworkImpl;
+import jmul.neural.neurons.Network;
+import jmul.neural.neurons.NetworkHelper;
+import jmul.neural.neurons.Synapse;
+
+import jmul.test.classification.UnitTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import org.junit.Test;
+
+
+/**
+ * This test suite tests genome keys and the fitness cache.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+public class FitnessCacheTest {
+
+    /**
+     * Tests that a copy of a network has the same key and that a mutated copy has another key.
+     */
+    @Test
+    public void testGenomeKeys() {
+
+        Network network = new FlatNetworkImpl(1, 3, 3, 1);
+        Network copy = NetworkHelper.overlay(network);
+
+        GenomeKey key = new GenomeKey(network);
+
+        assertEquals("copy", key, new GenomeKey(copy));
+        assertEquals("hash", key.hash(), new GenomeKey(copy).hash());
+
+        Synapse synapse = copy.synapses().get(3);
+        double weight = synapse.weight().toPrimitiveDouble();
+        NetworkHelper.setWeight(synapse, NumberConversionHelper.toNumber(weight + 0.5d));
+
+        assertNotEquals("mutated copy", key, new GenomeKey(copy));
+        assertEquals("original", key, new GenomeKey(network));
+    }
+
+    /**
+     * Tests the statistics and the eviction of the least recently used score.
+     */
+    @Test
+    public void testLeastRecentlyUsed() {
+
+        FitnessCache<String> cache = new FitnessCache<>(2);
+        AtomicInteger calculations = new AtomicInteger();
+
+        assertEquals("a", 1, cache.score("a", () -> calculations.incrementAndGet()));
+        assertEquals("b", 2, cache.score("b", () -> calculations.incrementAndGet()));
+        assertEquals("a (cached)", 1, cache.score("a", () -> calculations.incrementAndGet()));
+        assertEquals("c", 3, cache.score("c", () -> calculations.incrementAndGet()));
+        assertEquals("a (still cached)", 1, cache.score("a", () -> calculations.incrementAndGet()));
+        assertEquals("b (evicted)", 4, cache.score("b", () -> calculations.incrementAndGet()));
+
+        assertEquals("hits", 2L, cache.hits());
+        assertEquals("misses", 4L, cache.misses());
+        assertEquals("evictions", 2L, cache.evictions());
+        assertEquals("size", 2, cache.size());
+        assertEquals("hit rate", 2.0d / 6.0d, cache.hitRate(), 0.0d);
+    }
+
+    /**
+     * Tests that the evaluator scores an unchanged genome once and returns the same score as without cache.
+     */
+    @Test
+    public void testCachedEvaluator() {
+
+        DataEntry[] entries = new DataEntry[6];
+        for (int index = 0; index < entries.length; index++) {
+
+            double input = (index + 1) / 4.0d;
+            entries[index] =
+                new DataEntry(NumberConversionHelper.toNumber(input), NumberConversionHelper.toNumber(input * input));
+        }
+
+        TrainingData trainingData = new TrainingData(entries);
+        NetworkEvaluator evaluator = new NetworkEvaluator(trainingData);
+        NetworkEvaluator uncachedEvaluator = new NetworkEvaluator(trainingData, 0);
+
+        Network network = new FlatNetworkImpl(1, 3, 3, 1);
+        int expectedScore = uncachedEvaluator.calculateScore(network);
+
+        assertEquals("first score", expectedScore, evaluator.calculateScore(network));
+        assertEquals("second score", expectedScore, evaluator.calculateScore(NetworkHelper.overlay(network)));
+
+        FitnessCache<GenomeKey> cache = evaluator.fitnessCache();
+
+        assertEquals("hits", 1L, cache.hits());
+        assertEquals("misses", 1L, cache.misses());
+        assertFalse("uncached", uncachedEvaluator.fitnessCache().hits() > 0L);
+    }
+
+    /**
+     * Tests a cache with a negative capacity.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCapacity() {
+
+        new FitnessCache<String>(-1);
+    }
+
+}
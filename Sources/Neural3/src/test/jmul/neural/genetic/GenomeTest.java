@@ -0,0 +1,240 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.neural.genetic;
+
+
+import jmul.data.DataEntry;
+import jmul.data.TrainingData;
+
+import jmul.neural.NumberConversionHelper;
+import jmul.neural.genetic.ActivationTable;
+import jmul.neural.genetic.Genome;
+import jmul.neural.genetic.GenomeEvaluator;
+import jmul.neural.genetic.GenomeKey;
+import jmul.neural.genetic.GenomeMutator;
+import jmul.neural.genetic.IslandModel;
+import jmul.neural.genetic.MigrationTopologies;
+import jmul.neural.genetic.NetworkEvaluator;
+import jmul.neural.neurons.FlatNetworkImpl;
+import jmul.neural.neurons.Network;
+import jmul.neural.neurons.NetworkHelper;
+
+import jmul.test.classification.UnitTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+
+/**
+ * This test suite tests compact genomes.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+public class GenomeTest {
+
+    /**
+     * Returns training data for a square function.
+     *
+     * @return training data
+     */
+    private static TrainingData trainingData() {
+
+        DataEntry[] entries = new DataEntry[8];
+        for (int index = 0; index < entries.length; index++) {
+
+            double input = (index + 1) / 4.0d;
+            entries[index] =
+                new DataEntry(NumberConversionHelper.toNumber(input), NumberConversionHelper.toNumber(input * input));
+        }
+
+        return new TrainingData(entries);
+    }
+
+    /**
+     * Tests that a decoded genome behaves like the encoded network.
+     */
+    @Test
+    public void testDecode() {
+
+        Network network = new FlatNetworkImpl(1, 4, 4, 1);
+        Genome genome = new Genome(network, new ActivationTable());
+        Network decoded = genome.decode();
+
+        for (double input = -1.0d; input <= 1.0d; input += 0.25d) {
+
+            assertEquals("output (" + input + ")", network.send(input), decoded.send(input), 0.0d);
+        }
+
+        assertEquals("key", new GenomeKey(network), new GenomeKey(genome));
+        assertEquals("key", new GenomeKey(decoded), new GenomeKey(genome));
+
+        NetworkEvaluator evaluator = new NetworkEvaluator(trainingData(), 0);
+        assertEquals("score", evaluator.calculateScore(network),
+                     new GenomeEvaluator(evaluator).calculateScore(genome));
+    }
+
+    /**
+     * Tests that an island model evolves a population of genomes.
+     */
+    @Test
+    public void testIslandModel() {
+
+        GenomeEvaluator evaluator = new GenomeEvaluator(trainingData());
+        Genome ancestor = new Genome(new FlatNetworkImpl(1, 4, 4, 1), new ActivationTable());
+
+        IslandModel<Genome> model =
+            new IslandModel<>(evaluator, new GenomeMutator(3), MigrationTopologies.RING, 2, 6, 2, 1, 1);
+        Genome fittestIndividual = model.evolve(ancestor, 3);
+
+        // the ancestor takes part in the evolution, i.e. the fittest genome is at least as fit
+        assertTrue("score", evaluator.calculateScore(fittestIndividual) >= evaluator.calculateScore(ancestor));
+        assertEquals("islands", 2, model.statistics().size());
+    }
+
+    /**
+     * Tests that a decoded network can be modified without affecting the genome.
+     */
+    @Test
+    public void testModifyDecodedNetwork() {
+
+        Genome genome = new Genome(new FlatNetworkImpl(1, 3, 1), new ActivationTable());
+        double weight = genome.weight(1);
+
+        Network decoded = genome.decode();
+        NetworkHelper.setWeight(decoded.synapses().get(1), NumberConversionHelper.toNumber(weight + 1.0d));
+
+        assertEquals("network weight", weight + 1.0d, decoded.synapses().get(1).weight().toPrimitiveDouble(), 0.0d);
+        assertEquals("genome weight", weight, genome.weight(1), 0.0d);
+        assertEquals("bias", genome.bias(2), decoded.neurons().get(2).bias().toPrimitiveDouble(), 0.0d);
+    }
+
+    /**
+     * Tests that a mutation leaves the parent unchanged.
+     */
+    @Test
+    public void testMutation() {
+
+        Genome parent = new Genome(new FlatNetworkImpl(1, 4, 4, 1), new ActivationTable());
+        GenomeKey parentKey = new GenomeKey(parent);
+        GenomeMutator mutator = new GenomeMutator(5);
+
+        boolean changed = false;
+        for (int n = 0; n < 10; n++) {
+
+            Genome child = mutator.mutate(parent);
+
+            assertSame("layout", parent.layout(), child.layout());
+            changed |= !parentKey.equals(new GenomeKey(child));
+        }
+
+        assertEquals("parent", parentKey, new GenomeKey(parent));
+        assertTrue("changed", changed);
+    }
+
+    /**
+     * Tests that an offspring only contains genes of its parents.
+     */
+    @Test
+    public void testCrossover() {
+
+        ActivationTable table = new ActivationTable();
+        Genome first = new Genome(new FlatNetworkImpl(1, 8, 8, 1), table);
+        Genome second = new Genome(new FlatNetworkImpl(1, 8, 8, 1), table);
+        Genome offspring = first.crossover(second);
+
+        int fromFirst = 0;
+        int fromSecond = 0;
+        for (int index = 0; index < first.layout().synapseCount(); index++) {
+
+            double weight = offspring.weight(index);
+            assertTrue("weight (" + index + ")",
+                       (weight == first.weight(index)) || (weight == second.weight(index)));
+
+            fromFirst += (weight == first.weight(index)) ? 1 : 0;
+            fromSecond += (weight == second.weight(index)) ? 1 : 0;
+        }
+
+        for (int index = 0; index < first.layout().neuronCount(); index++) {
+
+            boolean firstGene =
+                (offspring.bias(index) == first.bias(index)) &&
+                (offspring.activationFunctionId(index) == first.activationFunctionId(index));
+            boolean secondGene =
+                (offspring.bias(index) == second.bias(index)) &&
+                (offspring.activationFunctionId(index) == second.activationFunctionId(index));
+            assertTrue("neuron (" + index + ")", firstGene || secondGene);
+        }
+
+        assertTrue("genes of the first parent", fromFirst > 0);
+        assertTrue("genes of the second parent", fromSecond > 0);
+    }
+
+    /**
+     * Tests crossing genomes with different layouts.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testCrossoverWithDifferentLayouts() {
+
+        ActivationTable table = new ActivationTable();
+        Genome first = new Genome(new FlatNetworkImpl(1, 4, 1), table);
+        Genome second = new Genome(new FlatNetworkImpl(1, 5, 1), table);
+
+        first.crossover(second);
+    }
+
+    /**
+     * Tests that new random activation functions are only added until the table is full.
+     */
+    @Test
+    public void testBoundedActivationTable() {
+
+        ActivationTable table = new ActivationTable(4);
+
+        for (int n = 0; n < 20; n++) {
+
+            short id = table.randomId();
+            assertTrue("id (" + id + ")", (id >= 0) && (id < 4));
+        }
+
+        assertEquals("size", 4, table.size());
+        assertSame("registered function", table.function((short) 2),
+                   table.function(table.register(table.function((short) 2))));
+        assertNotEquals("string", "", table.toString());
+    }
+
+}
@@ -0,0 +1,166 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.neural.genetic;
+
+
+import java.util.List;
+
+import jmul.genetic.Evaluator;
+import jmul.genetic.Mutator;
+
+import jmul.neural.genetic.IslandModel;
+import jmul.neural.genetic.IslandStatistics;
+import jmul.neural.genetic.MigrationTopologies;
+
+import jmul.test.classification.UnitTest;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+
+/**
+ * This test suite tests the island model. The individuals are numbers, the score of a number is its value and a
+ * mutation increases a number by up to two.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+public class IslandModelTest {
+
+    /**
+     * Scores a number by its value.
+     */
+    private static final Evaluator<Integer> EVALUATOR = Integer::intValue;
+
+    /**
+     * Increases a number by a random value between 0 and 2.
+     */
+    private static final Mutator<Integer> MUTATOR = individual -> individual + (int) (Math.random() * 3);
+
+    /**
+     * Tests the destinations of the migration topologies.
+     */
+    @Test
+    public void testTopologies() {
+
+        assertArrayEquals("ring", new int[] { 3 }, MigrationTopologies.RING.destinations(2, 4));
+        assertArrayEquals("ring", new int[] { 0 }, MigrationTopologies.RING.destinations(3, 4));
+        assertArrayEquals("ring", new int[0], MigrationTopologies.RING.destinations(0, 1));
+
+        assertArrayEquals("full", new int[] { 0, 2, 3 }, MigrationTopologies.FULL.destinations(1, 4));
+        assertArrayEquals("full", new int[0], MigrationTopologies.FULL.destinations(0, 1));
+    }
+
+    /**
+     * Tests that all islands evolve and exchange individuals.
+     */
+    @Test
+    public void testEvolution() {
+
+        IslandModel<Integer> model = new IslandModel<>(EVALUATOR, MUTATOR, MigrationTopologies.RING, 4, 8, 2, 2, 1);
+        int fittestIndividual = model.evolve(0, 10);
+
+        List<IslandStatistics> statistics = model.statistics();
+        assertEquals("islands", 4, statistics.size());
+
+        long emigrants = 0L;
+        long immigrants = 0L;
+        int bestScore = Integer.MIN_VALUE;
+
+        for (IslandStatistics island : statistics) {
+
+            assertEquals("generations", 10, island.generations());
+            assertTrue("throughput", island.generationsPerSecond() > 0.0d);
+            assertTrue("best score", island.bestScore() > 0);
+
+            // migrations after the generations 2, 4, 6 and 8
+            assertEquals("emigrants", 4L, island.emigrants());
+
+            emigrants += island.emigrants();
+            immigrants += island.immigrants();
+            bestScore = Math.max(bestScore, island.bestScore());
+        }
+
+        assertEquals("fittest individual", bestScore, fittestIndividual);
+        assertTrue("immigrants", (immigrants > 0L) && (immigrants <= emigrants));
+    }
+
+    /**
+     * Tests that every island sends its emigrants to all other islands with the full topology.
+     */
+    @Test
+    public void testFullTopology() {
+
+        IslandModel<Integer> model = new IslandModel<>(EVALUATOR, MUTATOR, MigrationTopologies.FULL, 3, 6, 3, 1, 2);
+        model.evolve(0, 4);
+
+        for (IslandStatistics island : model.statistics()) {
+
+            // migrations after the generations 1, 2 and 3 with 2 emigrants for 2 destinations
+            assertEquals("emigrants", 12L, island.emigrants());
+        }
+    }
+
+    /**
+     * Tests that the failure of an island is reported.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void testFailingIsland() {
+
+        Evaluator<Integer> evaluator = individual -> {
+
+            if (individual > 4) {
+
+                throw new UnsupportedOperationException();
+            }
+
+            return individual;
+        };
+
+        new IslandModel<>(evaluator, individual -> individual + 1, MigrationTopologies.RING, 2, 4, 1, 1, 1)
+            .evolve(0, 10);
+    }
+
+    /**
+     * Tests creating an island model without offspring.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooManySurvivors() {
+
+        new IslandModel<>(EVALUATOR, MUTATOR, MigrationTopologies.RING, 2, 4, 4, 1, 1);
+    }
+
+}
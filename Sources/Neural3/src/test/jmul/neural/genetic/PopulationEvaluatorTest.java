@@ -0,0 +1,189 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.neural.genetic;
+
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jmul.data.DataEntry;
+import jmul.data.TrainingData;
+
+import jmul.genetic.Evaluator;
+import jmul.genetic.Population;
+
+import jmul.neural.NumberConversionHelper;
+import jmul.neural.genetic.NetworkEvaluator;
+import jmul.neural.genetic.NetworkMutator;
+import jmul.neural.genetic.ParallelPopulationImpl;
+import jmul.neural.genetic.PopulationEvaluator;
+import jmul.neural.neurons.FlatNetworkImpl;
+import jmul.neural.neurons.Network;
+
+import jmul.test.classification.UnitTest;
+
+import org.junit.After;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * This test suite tests the concurrent evaluation of a population.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+public class PopulationEvaluatorTest {
+
+    /**
+     * A fork join pool with several workers.
+     */
+    private ForkJoinPool pool;
+
+    /**
+     * Prepares the test setup.
+     */
+    @Before
+    public void setUp() {
+
+        pool = new ForkJoinPool(4);
+    }
+
+    /**
+     * Cleans up the test setup.
+     */
+    @After
+    public void tearDown() {
+
+        pool.shutdown();
+        pool = null;
+    }
+
+    /**
+     * Tests that the concurrent scores of mutated networks match the sequential scores.
+     */
+    @Test
+    public void testNetworkScores() {
+
+        DataEntry[] entries = new DataEntry[8];
+        for (int index = 0; index < entries.length; index++) {
+
+            double input = (index + 1) / 4.0d;
+            entries[index] =
+                new DataEntry(NumberConversionHelper.toNumber(input), NumberConversionHelper.toNumber(input * input));
+        }
+
+        NetworkEvaluator evaluator = new NetworkEvaluator(new TrainingData(entries));
+        NetworkMutator mutator = new NetworkMutator(5);
+
+        Network ancestor = new FlatNetworkImpl(1, 4, 4, 1);
+        List<Network> individuals = new ArrayList<>();
+        for (int index = 0; index < 16; index++) {
+
+            individuals.add(mutator.mutate(ancestor));
+        }
+
+        int[] expectedScores = new int[individuals.size()];
+        for (int index = 0; index < expectedScores.length; index++) {
+
+            expectedScores[index] = evaluator.calculateScore(individuals.get(index));
+        }
+
+        int[] actualScores = new PopulationEvaluator<>(evaluator, pool).calculateScores(individuals);
+
+        assertArrayEquals("scores", expectedScores, actualScores);
+    }
+
+    /**
+     * Tests that an individual which is contained several times is scored once.
+     */
+    @Test
+    public void testDuplicateIndividuals() {
+
+        AtomicInteger evaluations = new AtomicInteger();
+        Evaluator<String> evaluator = individual -> {
+
+            evaluations.incrementAndGet();
+
+            return individual.length();
+        };
+
+        String a = "a";
+        String b = "bb";
+
+        int[] scores = new PopulationEvaluator<>(evaluator, pool).calculateScores(Arrays.asList(a, b, a, a, b));
+
+        assertArrayEquals("scores", new int[] { 1, 2, 1, 1, 2 }, scores);
+        assertEquals("evaluations", 2, evaluations.get());
+    }
+
+    /**
+     * Tests that the fittest individuals are selected in ascending order of their scores.
+     */
+    @Test
+    public void testFittestIndividuals() {
+
+        Evaluator<String> evaluator = String::length;
+        PopulationEvaluator<String> populationEvaluator = new PopulationEvaluator<>(evaluator, pool);
+
+        Population<String> population =
+            new ParallelPopulationImpl<>(populationEvaluator, individual -> individual,
+                                         Arrays.asList("xxxxx", "x", "xxxxxxxxx", "xxx", "xxxxxxx"));
+        Population<String> fittest = population.getFittestIndividuals(3);
+
+        assertEquals("size", 3, fittest.getSize());
+        assertEquals("individual (0)", "xxxxx", fittest.getIndividual(0));
+        assertEquals("individual (1)", "xxxxxxx", fittest.getIndividual(1));
+        assertEquals("individual (2)", "xxxxxxxxx", fittest.getIndividual(2));
+    }
+
+    /**
+     * Tests selecting at least as many individuals as the population contains.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooManyFittestIndividuals() {
+
+        PopulationEvaluator<String> populationEvaluator = new PopulationEvaluator<>(String::length, pool);
+        Population<String> population =
+            new ParallelPopulationImpl<>(populationEvaluator, individual -> individual, 3, "x");
+
+        population.getFittestIndividuals(3);
+    }
+
+}
@@ -0,0 +1,197 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.neural.genetic;
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import jmul.data.DataEntry;
+import jmul.data.TrainingData;
+
+import jmul.genetic.Evaluator;
+import jmul.genetic.Population;
+
+import jmul.neural.NumberConversionHelper;
+import jmul.neural.genetic.NetworkEvaluator;
+import jmul.neural.genetic.NetworkMutator;
+import jmul.neural.genetic.ParallelPopulationImpl;
+import jmul.neural.genetic.PopulationEvaluator;
+import jmul.neural.neurons.FlatNetworkImpl;
+import jmul.neural.neurons.Network;
+
+import jmul.test.classification.UnitTest;
+
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * This test suite tests racing evaluations (i.e. evaluations which are aborted for weak individuals).
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+public class RacingEvaluatorTest {
+
+    /**
+     * A set of training data.
+     */
+    private TrainingData trainingData;
+
+    /**
+     * Mutated networks.
+     */
+    private List<Network> networks;
+
+    /**
+     * Prepares the test setup.
+     */
+    @Before
+    public void setUp() {
+
+        DataEntry[] entries = new DataEntry[12];
+        for (int index = 0; index < entries.length; index++) {
+
+            double input = (index + 1) / 4.0d;
+            entries[index] =
+                new DataEntry(NumberConversionHelper.toNumber(input), NumberConversionHelper.toNumber(input * input));
+        }
+
+        trainingData = new TrainingData(entries);
+
+        NetworkMutator mutator = new NetworkMutator(5);
+        Network ancestor = new FlatNetworkImpl(1, 4, 4, 1);
+
+        networks = new ArrayList<>();
+        for (int index = 0; index < 12; index++) {
+
+            networks.add(mutator.mutate(ancestor));
+        }
+    }
+
+    /**
+     * Cleans up the test setup.
+     */
+    @After
+    public void tearDown() {
+
+        trainingData = null;
+        networks = null;
+    }
+
+    /**
+     * Tests that a score which reaches the cutoff is exact and a score which doesn't is an upper bound below the
+     * cutoff.
+     */
+    @Test
+    public void testCutoff() {
+
+        NetworkEvaluator evaluator = new NetworkEvaluator(trainingData, 0);
+
+        for (Network network : networks) {
+
+            int score = evaluator.calculateScore(network);
+
+            assertEquals("score (cutoff 0)", score, evaluator.calculateScore(network, 0));
+            assertEquals("score (cutoff " + score + ")", score, evaluator.calculateScore(network, score));
+
+            int raced = evaluator.calculateScore(network, score + 1);
+            assertTrue("score (cutoff " + (score + 1) + ")", (raced >= score) && (raced < score + 1));
+
+            int cutoff = Integer.MAX_VALUE / 2;
+            raced = evaluator.calculateScore(network, cutoff);
+            assertTrue("score (cutoff " + cutoff + ")", (raced >= score) && (raced < cutoff));
+        }
+    }
+
+    /**
+     * Tests that the score of an aborted evaluation isn't cached.
+     */
+    @Test
+    public void testAbortedScoreIsNotCached() {
+
+        NetworkEvaluator evaluator = new NetworkEvaluator(trainingData);
+        NetworkEvaluator uncachedEvaluator = new NetworkEvaluator(trainingData, 0);
+
+        for (Network network : networks) {
+
+            evaluator.calculateScore(network, Integer.MAX_VALUE);
+
+            assertEquals("score", uncachedEvaluator.calculateScore(network), evaluator.calculateScore(network));
+        }
+
+        assertEquals("cached scores", networks.size(), evaluator.fitnessCache().size());
+    }
+
+    /**
+     * Tests that racing selects the same individuals as a complete evaluation.
+     */
+    @Test
+    public void testSelection() {
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+
+        try {
+
+            NetworkEvaluator racingEvaluator = new NetworkEvaluator(trainingData, 0);
+            NetworkEvaluator completeEvaluator = new NetworkEvaluator(trainingData, 0);
+            Evaluator<Network> evaluator = completeEvaluator::calculateScore;
+
+            Population<Network> raced =
+                new ParallelPopulationImpl<>(new PopulationEvaluator<>(racingEvaluator, pool), network -> network,
+                                             networks).getFittestIndividuals(4);
+            Population<Network> complete =
+                new ParallelPopulationImpl<>(new PopulationEvaluator<>(evaluator, pool), network -> network,
+                                             networks).getFittestIndividuals(4);
+
+            assertEquals("size", complete.getSize(), raced.getSize());
+
+            for (int index = 0; index < complete.getSize(); index++) {
+
+                assertSame("individual (" + index + ")", complete.getIndividual(index), raced.getIndividual(index));
+            }
+
+        } finally {
+
+            pool.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,263 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.neural.neurons;
+
+
+import jmul.backends.DoubleBackend;
+import jmul.backends.FixedPointBackend;
+import jmul.backends.NumberBackend;
+import jmul.backends.NumericBackend;
+import jmul.backends.NumericBackends;
+
+import jmul.neural.GlobalSettings;
+import jmul.neural.neurons.Activations;
+import jmul.neural.neurons.BackendNetwork;
+import jmul.neural.neurons.FlatNetworkImpl;
+import jmul.neural.neurons.NetworkHelper;
+
+import jmul.test.classification.UnitTest;
+
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * This test suite tests compiling a flat network with different numeric backends.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+public class BackendNetworkTest {
+
+    /**
+     * The maximum accepted relative deviation between a backend with reduced precision and the double backend.
+     */
+    private static final double MAX_RELATIVE_DEVIATION;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        MAX_RELATIVE_DEVIATION = 1e-3d;
+    }
+
+    /**
+     * A network of neurons.
+     */
+    private FlatNetworkImpl network;
+
+    /**
+     * Sets up the test setup.
+     */
+    @Before
+    public void setUp() {
+
+        network = new FlatNetworkImpl(1, 3, 3, 1);
+    }
+
+    /**
+     * Cleans up the test setup.
+     */
+    @After
+    public void tearDown() {
+
+        network = null;
+    }
+
+    /**
+     * Compares the output of a network compiled with the specified backend with the output of a network compiled
+     * with the double backend.
+     *
+     * @param backend
+     *        a numeric backend
+     * @param maxRelativeDeviation
+     *        the maximum accepted relative deviation
+     */
+    private void assertBackend(NumericBackend<?> backend, double maxRelativeDeviation) {
+
+        BackendNetwork<?> reference = NetworkHelper.compile(network, NumericBackends.DOUBLE);
+        BackendNetwork<?> compiledNetwork = NetworkHelper.compile(network, backend);
+
+        for (double input = 0.5d; input <= 1.5d; input += 0.5d) {
+
+            double expected = reference.send(input);
+            double actual = compiledNetwork.send(input);
+
+            double deviation = Math.abs(expected - actual);
+            double relativeDeviation = (expected == 0.0d) ? deviation : deviation / Math.abs(expected);
+
+            assertTrue("relative deviation (" + input + ")", relativeDeviation < maxRelativeDeviation);
+        }
+    }
+
+    /**
+     * Tests the number backend.
+     */
+    @Test
+    public void testNumberBackend() {
+
+        assertBackend(NumericBackends.NUMBER, 1e-9d);
+    }
+
+    /**
+     * Tests the float backend.
+     */
+    @Test
+    public void testFloatBackend() {
+
+        assertBackend(NumericBackends.FLOAT, MAX_RELATIVE_DEVIATION);
+    }
+
+    /**
+     * Tests the fixed point backend.
+     */
+    @Test
+    public void testFixedPointBackend() {
+
+        assertBackend(NumericBackends.FIXED_POINT, MAX_RELATIVE_DEVIATION);
+    }
+
+    /**
+     * Tests that changing a weight creates a new compiled network and leaves the original compiled network
+     * unchanged.
+     */
+    @Test
+    public void testWithWeight() {
+
+        BackendNetwork<Float> compiledNetwork = NetworkHelper.compile(network, NumericBackends.FLOAT);
+        float before = compiledNetwork.sendValue(1.0f);
+
+        int outputSynapseIndex = network.synapses().size() - 1;
+        float weight = compiledNetwork.weight(outputSynapseIndex);
+        BackendNetwork<Float> modifiedNetwork = compiledNetwork.withWeight(outputSynapseIndex, weight + 1.0f);
+
+        assertEquals("weight", weight, compiledNetwork.weight(outputSynapseIndex), 0.0f);
+        assertEquals("modified weight", weight + 1.0f, modifiedNetwork.weight(outputSynapseIndex), 0.0f);
+        assertEquals("output", before, compiledNetwork.sendValue(1.0f), 0.0f);
+        if (before != 0.0f) {
+
+            assertTrue("modified output", before != modifiedNetwork.sendValue(1.0f));
+        }
+    }
+
+    /**
+     * Compares probing each weight on cached activations with evaluating a network with the changed weight.
+     *
+     * @param <T>
+     *        the value type of the numeric backend
+     * @param backend
+     *        a numeric backend
+     * @param maxRelativeDeviation
+     *        the maximum accepted relative deviation
+     */
+    private <T> void assertProbeWeight(NumericBackend<T> backend, double maxRelativeDeviation) {
+
+        BackendNetwork<T> compiledNetwork = NetworkHelper.compile(network, backend);
+
+        T input = backend.valueOf(0.75d);
+        Activations<T> activations = compiledNetwork.activations(input);
+
+        assertEquals("output", backend.toDouble(compiledNetwork.sendValue(input)),
+                     backend.toDouble(activations.output()), 0.0d);
+
+        for (int synapseIndex = 0; synapseIndex < network.synapses().size(); synapseIndex++) {
+
+            T weight = backend.add(compiledNetwork.weight(synapseIndex), backend.valueOf(0.25d));
+
+            double expected = backend.toDouble(compiledNetwork.withWeight(synapseIndex, weight).sendValue(input));
+            double actual = backend.toDouble(compiledNetwork.probeWeight(activations, synapseIndex, weight));
+
+            double deviation = Math.abs(expected - actual);
+            double relativeDeviation = (expected == 0.0d) ? deviation : deviation / Math.abs(expected);
+
+            assertTrue("relative deviation (synapse " + synapseIndex + ")", relativeDeviation <= maxRelativeDeviation);
+        }
+    }
+
+    /**
+     * Tests probing weights with the double backend.
+     */
+    @Test
+    public void testProbeWeightDoubleBackend() {
+
+        assertProbeWeight(NumericBackends.DOUBLE, 1e-12d);
+    }
+
+    /**
+     * Tests probing weights with the number backend.
+     */
+    @Test
+    public void testProbeWeightNumberBackend() {
+
+        assertProbeWeight(NumericBackends.NUMBER, 1e-9d);
+    }
+
+    /**
+     * Tests probing weights with the fixed point backend.
+     */
+    @Test
+    public void testProbeWeightFixedPointBackend() {
+
+        assertProbeWeight(NumericBackends.FIXED_POINT, MAX_RELATIVE_DEVIATION);
+    }
+
+    /**
+     * Tests that backends with the same configuration are equal (i.e. they share the values which functions convert
+     * for a backend).
+     */
+    @Test
+    public void testEqualBackends() {
+
+        NumericBackend<Long> backend = new FixedPointBackend(16);
+
+        assertEquals("fixed point", backend, new FixedPointBackend(16));
+        assertEquals("fixed point", backend.hashCode(), new FixedPointBackend(16).hashCode());
+        assertNotEquals("fixed point", backend, new FixedPointBackend(12));
+        assertEquals("fixed point", NumericBackends.FIXED_POINT,
+                     new FixedPointBackend(GlobalSettings.DEFAULT_FRACTION_BITS));
+
+        assertEquals("double", NumericBackends.DOUBLE, new DoubleBackend());
+        assertEquals("double", NumericBackends.DOUBLE.hashCode(), new DoubleBackend().hashCode());
+        assertNotEquals("double", NumericBackends.DOUBLE, NumericBackends.FLOAT);
+
+        assertEquals("number", NumericBackends.NUMBER, new NumberBackend(GlobalSettings.DEFAULT_NUMBER_BASE));
+        assertNotEquals("number", new NumberBackend(2), new NumberBackend(10));
+    }
+
+}
@@ -0,0 +1,213 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.neural.neurons;
+
+
+import jmul.data.DataEntry;
+import jmul.data.DataEntryWithResult;
+import jmul.data.TrainingData;
+import jmul.data.TrainingDataWithResults;
+
+import jmul.math.numbers.Number;
+import static jmul.math.numbers.NumberHelper.createNumber;
+
+import jmul.neural.GlobalSettings;
+import jmul.neural.neurons.AccuracyReport;
+import jmul.neural.neurons.CompiledNetwork;
+import jmul.neural.neurons.FlatNetworkImpl;
+import jmul.neural.neurons.NetworkHelper;
+import jmul.neural.neurons.Synapse;
+
+import jmul.test.classification.UnitTest;
+
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * This test suite tests compiling a flat network into a primitive inference engine.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+public class CompiledNetworkTest {
+
+    /**
+     * The maximum accepted relative deviation between the compiled network and the original network.
+     */
+    private static final double MAX_RELATIVE_DEVIATION;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        MAX_RELATIVE_DEVIATION = 1e-9d;
+    }
+
+    /**
+     * A network of neurons.
+     */
+    private FlatNetworkImpl network;
+
+    /**
+     * Sets up the test setup.
+     */
+    @Before
+    public void setUp() {
+
+        network = new FlatNetworkImpl(1, 3, 3, 1);
+    }
+
+    /**
+     * Cleans up the test setup.
+     */
+    @After
+    public void tearDown() {
+
+        network = null;
+    }
+
+    /**
+     * Tests the accuracy of a compiled network.
+     */
+    @Test
+    public void testAccuracy() {
+
+        TrainingData data =
+            new TrainingData(new DataEntry(createNumber(GlobalSettings.DEFAULT_NUMBER_BASE, "0.5"),
+                                           createNumber(GlobalSettings.DEFAULT_NUMBER_BASE, "0")),
+                             new DataEntry(createNumber(GlobalSettings.DEFAULT_NUMBER_BASE, "1"),
+                                           createNumber(GlobalSettings.DEFAULT_NUMBER_BASE, "0")),
+                             new DataEntry(createNumber(GlobalSettings.DEFAULT_NUMBER_BASE, "1.5"),
+                                           createNumber(GlobalSettings.DEFAULT_NUMBER_BASE, "0")));
+
+        CompiledNetwork compiledNetwork = NetworkHelper.compile(network);
+        AccuracyReport report = new AccuracyReport(network, compiledNetwork, data);
+
+        assertEquals("compared entries", 3, report.entries());
+        assertTrue("relative deviation", report.maxRelativeDeviation() < MAX_RELATIVE_DEVIATION);
+    }
+
+    /**
+     * Tests that a compiled network is a snapshot of the original network.
+     */
+    @Test
+    public void testSnapshot() {
+
+        CompiledNetwork compiledNetwork = network.compile();
+        double before = compiledNetwork.send(1.0d);
+
+        Synapse synapse = network.synapses().get(network.synapses().size() - 1);
+        NetworkHelper.setWeight(synapse, synapse.weight().inc());
+
+        double after = compiledNetwork.send(1.0d);
+        assertEquals("output", before, after, 0.0d);
+
+        if (before != 0.0d) {
+
+            double recompiled = network.compile().send(1.0d);
+            assertTrue("recompiled output", before != recompiled);
+        }
+    }
+
+    /**
+     * Tests the number interface of a compiled network.
+     */
+    @Test
+    public void testNumberInterface() {
+
+        CompiledNetwork compiledNetwork = network.compile();
+
+        Number input = createNumber(GlobalSettings.DEFAULT_NUMBER_BASE, "1");
+        Number output = compiledNetwork.send(input);
+
+        assertEquals("output", compiledNetwork.send(1.0d), output.toPrimitiveDouble(), 1e-12d);
+    }
+
+    /**
+     * Tests that batch inference produces the same outputs as sending one input after another.
+     */
+    @Test
+    public void testBatch() {
+
+        CompiledNetwork compiledNetwork = network.compile();
+
+        double[] inputs = new double[100];
+        for (int index = 0; index < inputs.length; index++) {
+
+            inputs[index] = (index - 50) / 25.0d;
+        }
+
+        double[] outputs = network.sendBatch(inputs);
+
+        assertEquals("outputs", inputs.length, outputs.length);
+
+        for (int index = 0; index < inputs.length; index++) {
+
+            assertEquals("output #" + index, compiledNetwork.send(inputs[index]), outputs[index], 0.0d);
+        }
+    }
+
+    /**
+     * Tests batch inference with training data.
+     */
+    @Test
+    public void testTrainingDataBatch() {
+
+        TrainingData data =
+            new TrainingData(new DataEntry(createNumber(GlobalSettings.DEFAULT_NUMBER_BASE, "0.5"),
+                                           createNumber(GlobalSettings.DEFAULT_NUMBER_BASE, "0")),
+                             new DataEntry(createNumber(GlobalSettings.DEFAULT_NUMBER_BASE, "1.5"),
+                                           createNumber(GlobalSettings.DEFAULT_NUMBER_BASE, "0")));
+
+        TrainingDataWithResults results = network.sendBatch(data);
+
+        assertEquals("entries", 2, results.size());
+
+        for (DataEntryWithResult entry : results) {
+
+            double expected = network.send(entry.input).toPrimitiveDouble();
+            double actual = entry.actualOutput.toPrimitiveDouble();
+            double deviation = Math.abs(expected - actual);
+            double relativeDeviation = (expected == 0.0d) ? deviation : deviation / Math.abs(expected);
+
+            assertTrue("relative deviation", relativeDeviation < MAX_RELATIVE_DEVIATION);
+        }
+    }
+
+}
@@ -0,0 +1,180 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.neural.neurons;
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import jmul.math.numbers.Number;
+
+import jmul.neural.NumberConversionHelper;
+import jmul.neural.neurons.EvaluationContext;
+import jmul.neural.neurons.FlatNetworkImpl;
+
+import jmul.test.classification.UnitTest;
+
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * This test suite tests sending signals concurrently into the same network.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+public class ConcurrentSendTest {
+
+    /**
+     * The number of threads.
+     */
+    private static final int THREADS;
+
+    /**
+     * The number of inputs.
+     */
+    private static final int INPUTS;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        THREADS = 4;
+        INPUTS = 8;
+    }
+
+    /**
+     * A network of neurons.
+     */
+    private FlatNetworkImpl network;
+
+    /**
+     * An executor.
+     */
+    private ExecutorService executor;
+
+    /**
+     * Sets up the test setup.
+     */
+    @Before
+    public void setUp() {
+
+        network = new FlatNetworkImpl(1, 2, 2, 1);
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    /**
+     * Cleans up the test setup.
+     */
+    @After
+    public void tearDown() {
+
+        executor.shutdownNow();
+        executor = null;
+        network = null;
+    }
+
+    /**
+     * Tests that concurrent signals produce the same outputs as sequential signals.
+     *
+     * @throws Exception
+     *         is thrown if a thread fails
+     */
+    @Test
+    public void testConcurrentSend() throws Exception {
+
+        Number[] inputs = new Number[INPUTS];
+        Number[] expectedOutputs = new Number[INPUTS];
+
+        for (int index = 0; index < INPUTS; index++) {
+
+            inputs[index] = NumberConversionHelper.toNumber(0.25d * index);
+            expectedOutputs[index] = network.send(inputs[index]);
+        }
+
+        List<Future<Number[]>> futures = new ArrayList<>();
+
+        for (int thread = 0; thread < THREADS; thread++) {
+
+            Callable<Number[]> task = () -> {
+
+                Number[] outputs = new Number[INPUTS];
+
+                for (int index = 0; index < INPUTS; index++) {
+
+                    outputs[index] = network.send(inputs[index]);
+                }
+
+                return outputs;
+            };
+
+            futures.add(executor.submit(task));
+        }
+
+        for (Future<Number[]> future : futures) {
+
+            Number[] actualOutputs = future.get();
+
+            for (int index = 0; index < INPUTS; index++) {
+
+                assertEquals("output #" + index, expectedOutputs[index], actualOutputs[index]);
+            }
+        }
+    }
+
+    /**
+     * Tests sending a signal with an explicit evaluation context.
+     */
+    @Test
+    public void testExplicitContext() {
+
+        Number input = NumberConversionHelper.toNumber(0.5d);
+        EvaluationContext context = new EvaluationContext(network.neuronCount());
+
+        Number expectedOutput = network.send(input);
+        Number actualOutput = network.schedule().send(input, context);
+
+        assertEquals("output", expectedOutput, actualOutput);
+        assertEquals("released neuron output", null, context.output(0));
+    }
+
+}
@@ -0,0 +1,176 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.neural.neurons;
+
+
+import jmul.math.numbers.Number;
+import static jmul.math.numbers.NumberHelper.createNumber;
+
+import jmul.neural.GlobalSettings;
+import jmul.neural.neurons.FlatNetworkImpl;
+import jmul.neural.neurons.NetworkHelper;
+import jmul.neural.neurons.NetworkSchedule;
+import jmul.neural.neurons.SignalPropagations;
+import jmul.neural.neurons.Synapse;
+
+import jmul.test.classification.UnitTest;
+
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * This test suite tests the scheduled forward pass of a flat network.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+public class NetworkScheduleTest {
+
+    /**
+     * A network of neurons.
+     */
+    private FlatNetworkImpl network;
+
+    /**
+     * Sets up the test setup.
+     */
+    @Before
+    public void setUp() {
+
+        network = new FlatNetworkImpl(1, 3, 2, 1);
+    }
+
+    /**
+     * Cleans up the test setup.
+     */
+    @After
+    public void tearDown() {
+
+        network = null;
+    }
+
+    /**
+     * Tests that the schedule contains a topological order and all links of the network.
+     */
+    @Test
+    public void testSchedule() {
+
+        NetworkSchedule schedule = network.schedule();
+
+        assertEquals("neurons", 7, schedule.neuronCount());
+        assertEquals("synapses", 13, schedule.synapseCount());
+        assertEquals("input synapse", 0, schedule.inputSynapseIndex());
+        assertEquals("output synapse", 12, schedule.outputSynapseIndex());
+        assertEquals("input synapse source", NetworkSchedule.OUTSIDE, schedule.source(0));
+        assertEquals("output synapse target", NetworkSchedule.OUTSIDE, schedule.target(12));
+
+        int[] order = schedule.order();
+        int[] positions = new int[order.length];
+
+        for (int position = 0; position < order.length; position++) {
+
+            positions[order[position]] = position;
+        }
+
+        for (int neuronIndex = 0; neuronIndex < order.length; neuronIndex++) {
+
+            for (int synapseIndex : schedule.fanIn(neuronIndex)) {
+
+                int source = schedule.source(synapseIndex);
+
+                assertEquals("target", neuronIndex, schedule.target(synapseIndex));
+                assertTrue("topological order", (source == NetworkSchedule.OUTSIDE) ||
+                           (positions[source] < positions[neuronIndex]));
+            }
+        }
+
+        assertEquals("fan-in of the output neuron", 2, schedule.fanIn(6).length);
+        assertEquals("fan-out of the input neuron", 3, schedule.fanOut(0).length);
+    }
+
+    /**
+     * Tests that both signal propagations produce the same output.
+     */
+    @Test
+    public void testSignalPropagations() {
+
+        Number input = createNumber(GlobalSettings.DEFAULT_NUMBER_BASE, "0.5");
+
+        network.setSignalPropagation(SignalPropagations.LISTENERS);
+        Number expectedOutput = network.send(input);
+
+        network.setSignalPropagation(SignalPropagations.SCHEDULED);
+        Number actualOutput = network.send(input);
+
+        assertEquals("output", expectedOutput, actualOutput);
+    }
+
+    /**
+     * Tests that the scheduled forward pass reflects changed weights.
+     */
+    @Test
+    public void testChangedWeight() {
+
+        Number input = createNumber(GlobalSettings.DEFAULT_NUMBER_BASE, "1");
+
+        Synapse synapse = network.outputSynapse();
+        NetworkHelper.setWeight(synapse, synapse.weight().inc());
+
+        Number actualOutput = network.send(input);
+
+        network.setSignalPropagation(SignalPropagations.LISTENERS);
+        Number expectedOutput = network.send(input);
+
+        assertEquals("output", expectedOutput, actualOutput);
+    }
+
+    /**
+     * Tests that the primitive forward pass matches the compiled network and reflects changed weights.
+     */
+    @Test
+    public void testPrimitiveSend() {
+
+        assertEquals("output", network.compile().send(0.5d), network.send(0.5d), 0.0d);
+
+        Synapse synapse = network.outputSynapse();
+        NetworkHelper.setWeight(synapse, synapse.weight().inc());
+
+        assertEquals("changed weight", network.compile().send(0.5d), network.send(0.5d), 0.0d);
+    }
+
+}
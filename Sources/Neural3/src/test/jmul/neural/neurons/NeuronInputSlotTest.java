@@ -0,0 +1,240 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.neural.neurons;
+
+
+import jmul.functions.FunctionHelper;
+
+import jmul.math.numbers.Number;
+import static jmul.math.numbers.NumberHelper.createNumber;
+
+import jmul.neural.GlobalSettings;
+import jmul.neural.neurons.Layers;
+import jmul.neural.neurons.NetworkHelper;
+import jmul.neural.neurons.NeuronImpl;
+import jmul.neural.neurons.SynapseImpl;
+import jmul.neural.signals.Signal;
+import jmul.neural.signals.SignalImpl;
+import jmul.neural.signals.SignalListener;
+import jmul.neural.signals.SignalSource;
+
+import jmul.test.classification.UnitTest;
+
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * This test suite tests how a neuron collects the signals of its signal sources via input slots.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+public class NeuronInputSlotTest {
+
+    /**
+     * The first synapse which feeds the neuron.
+     */
+    private SynapseImpl firstSynapse;
+
+    /**
+     * The second synapse which feeds the neuron.
+     */
+    private SynapseImpl secondSynapse;
+
+    /**
+     * The neuron which is tested.
+     */
+    private NeuronImpl neuron;
+
+    /**
+     * The last signal which was sent by the neuron.
+     */
+    private Signal lastSignal;
+
+    /**
+     * Creates a number with the default number base.
+     *
+     * @param numberString
+     *        a number string
+     *
+     * @return a number
+     */
+    private static Number number(String numberString) {
+
+        return createNumber(GlobalSettings.DEFAULT_NUMBER_BASE, numberString);
+    }
+
+    /**
+     * Prepares the test setup (i.e. two synapses with weight 1 which feed a neuron with an identity function and
+     * a bias of 1).
+     */
+    @Before
+    public void setUp() {
+
+        SynapseImpl outputSynapse = new SynapseImpl(Layers.OUTPUT_LAYER);
+        outputSynapse.setWeight(number("1"));
+        outputSynapse.addListener(new SignalListener() {
+
+            @Override
+            public void receiveSignal(Signal signal) {
+
+                lastSignal = signal;
+            }
+        });
+
+        neuron = new NeuronImpl(Layers.INPUT_LAYER);
+        neuron.setActivationFunction(FunctionHelper.createPolynomialFunction(GlobalSettings.DEFAULT_NUMBER_BASE,
+                                                                             "0", "1"));
+        neuron.setBias(number("1"));
+        NetworkHelper.linkOutputNeuron(neuron, outputSynapse);
+
+        firstSynapse = new SynapseImpl(Layers.INPUT_LAYER);
+        firstSynapse.setWeight(number("1"));
+        NetworkHelper.linkInputNeuron(firstSynapse, neuron);
+
+        secondSynapse = new SynapseImpl(Layers.INPUT_LAYER);
+        secondSynapse.setWeight(number("1"));
+        NetworkHelper.linkInputNeuron(secondSynapse, neuron);
+
+        lastSignal = null;
+    }
+
+    /**
+     * Cleans up the test setup.
+     */
+    @After
+    public void tearDown() {
+
+        firstSynapse = null;
+        secondSynapse = null;
+        neuron = null;
+        lastSignal = null;
+    }
+
+    /**
+     * Sends the specified value to the specified synapse.
+     *
+     * @param synapse
+     *        a synapse
+     * @param value
+     *        a number string
+     */
+    private static void send(SynapseImpl synapse, String value) {
+
+        synapse.receiveSignal(new SignalImpl(new SignalSource() {
+        }, number(value)));
+    }
+
+    /**
+     * Tests that the neuron fires only after all input slots are filled and that the slots are reset afterwards.
+     */
+    @Test
+    public void testInputSlots() {
+
+        send(firstSynapse, "2");
+        assertNull("first round, one signal", lastSignal);
+
+        send(secondSynapse, "3");
+        assertEquals("first round", number("6"), lastSignal.value());
+
+        lastSignal = null;
+
+        send(secondSynapse, "4");
+        assertNull("second round, one signal", lastSignal);
+
+        send(firstSynapse, "5");
+        assertEquals("second round", number("10"), lastSignal.value());
+    }
+
+    /**
+     * Tests that a repeated signal of the same source replaces the previous signal value.
+     */
+    @Test
+    public void testRepeatedSignal() {
+
+        send(firstSynapse, "2");
+        send(firstSynapse, "7");
+        assertNull("one signal source", lastSignal);
+
+        send(secondSynapse, "3");
+        assertEquals("output", number("11"), lastSignal.value());
+    }
+
+    /**
+     * Tests that removing a signal source reassigns the input slots.
+     */
+    @Test
+    public void testRemovedSignalSource() {
+
+        neuron.removeSignalSource(firstSynapse);
+
+        send(secondSynapse, "3");
+        assertEquals("output", number("4"), lastSignal.value());
+    }
+
+    /**
+     * Tests that a signal of a source which isn't a synapse is stored in the input slot of the source, also after
+     * the input slots were reassigned.
+     */
+    @Test
+    public void testOtherSignalSource() {
+
+        SignalSource source = new SignalSource() {
+        };
+
+        neuron.addSignalSource(source);
+        neuron.removeSignalSource(firstSynapse);
+
+        send(secondSynapse, "3");
+        assertNull("one signal", lastSignal);
+
+        neuron.receiveSignal(new SignalImpl(source, number("2")));
+        assertEquals("output", number("6"), lastSignal.value());
+    }
+
+    /**
+     * Tests a signal of an unknown signal source.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownSignalSource() {
+
+        neuron.receiveSignal(new SignalImpl(new SignalSource() {
+        }, number("1")));
+    }
+
+}
@@ -0,0 +1,307 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.neural.neurons;
+
+
+import jmul.math.numbers.Number;
+import static jmul.math.numbers.NumberHelper.createNumber;
+
+import jmul.neural.GlobalSettings;
+import jmul.neural.neurons.FlatNetworkImpl;
+import jmul.neural.neurons.Network;
+import jmul.neural.neurons.NetworkHelper;
+import jmul.neural.neurons.Neuron;
+import jmul.neural.neurons.OverlayNetwork;
+import jmul.neural.neurons.Synapse;
+import jmul.neural.precision.PrecisionContext;
+import jmul.neural.precision.PrecisionContextImpl;
+import jmul.neural.signals.SignalImpl;
+import jmul.neural.signals.SignalSource;
+
+import jmul.test.classification.UnitTest;
+
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * This test suite tests overlay networks which share their topology and copy their weights on write.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+public class OverlayNetworkTest {
+
+    /**
+     * The maximum accepted deviation between outputs which are evaluated with primitive values.
+     */
+    private static final double DELTA;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        DELTA = 1e-12d;
+    }
+
+    /**
+     * The original network.
+     */
+    private FlatNetworkImpl network;
+
+    /**
+     * An overlay of the original network.
+     */
+    private OverlayNetwork overlay;
+
+    /**
+     * Sets up the test setup.
+     */
+    @Before
+    public void setUp() {
+
+        network = new FlatNetworkImpl(1, 3, 3, 1);
+        overlay = NetworkHelper.overlay(network);
+    }
+
+    /**
+     * Cleans up the test setup.
+     */
+    @After
+    public void tearDown() {
+
+        network = null;
+        overlay = null;
+    }
+
+    /**
+     * Creates a number with the default number base.
+     *
+     * @param numberString
+     *        a number string
+     *
+     * @return a number
+     */
+    private static Number number(String numberString) {
+
+        return createNumber(GlobalSettings.DEFAULT_NUMBER_BASE, numberString);
+    }
+
+    /**
+     * Tests that an overlay network has the same structure and produces the same outputs as the original network.
+     */
+    @Test
+    public void testSameOutput() {
+
+        assertEquals("layers", network.layers(), overlay.layers());
+        assertEquals("neurons", network.neurons().size(), overlay.neurons().size());
+        assertEquals("synapses", network.synapses().size(), overlay.synapses().size());
+
+        for (int index = 0; index < network.neurons().size(); index++) {
+
+            Neuron original = network.neurons().get(index);
+            Neuron view = overlay.neurons().get(index);
+
+            assertEquals("layer of neuron #" + index, original.layer(), view.layer());
+        }
+
+        for (int index = 0; index < network.synapses().size(); index++) {
+
+            Synapse original = network.synapses().get(index);
+            Synapse view = overlay.synapses().get(index);
+
+            assertEquals("layer of synapse #" + index, original.layer(), view.layer());
+        }
+
+        double[] inputs = { -1.0d, 0.0d, 0.5d, 2.0d };
+        double[] expectedOutputs = network.sendBatch(inputs);
+        double[] actualOutputs = overlay.sendBatch(inputs);
+
+        for (int index = 0; index < inputs.length; index++) {
+
+            assertEquals("output #" + index, expectedOutputs[index], actualOutputs[index], DELTA);
+            assertEquals("output #" + index, expectedOutputs[index], overlay.send(inputs[index]), DELTA);
+        }
+
+        Number expected = network.send(number("0.5"));
+        Number actual = overlay.send(number("0.5"));
+        assertEquals("number output", expected.toPrimitiveDouble(), actual.toPrimitiveDouble(), DELTA);
+    }
+
+    /**
+     * Tests that an overlay network limits its signal values with the precision context of the original network.
+     */
+    @Test
+    public void testPrecisionContext() {
+
+        PrecisionContext context = new PrecisionContextImpl(4);
+        NetworkHelper.setPrecisionContext(network, context);
+
+        OverlayNetwork copy = NetworkHelper.overlay(network).copy();
+        assertSame("precision context", context, copy.precisionContext());
+
+        Number expected = network.send(number("0.5"));
+        long signals = context.statistics().signals();
+
+        Number actual = copy.send(number("0.5"));
+        assertEquals("number output", expected.toPrimitiveDouble(), actual.toPrimitiveDouble(), 0.0d);
+        assertEquals("signals", 2L * signals, context.statistics().signals());
+
+        NetworkHelper.setPrecisionContext(copy, null);
+        copy.send(number("0.5"));
+        assertEquals("signals", 2L * signals, context.statistics().signals());
+    }
+
+    /**
+     * Tests that the neuron and synapse views of an overlay network process signals like a flat network.
+     */
+    @Test
+    public void testSignalPropagation() {
+
+        SignalSource outside = new SignalSource() {
+        };
+
+        for (String input : new String[] { "0.5", "-1.25" }) {
+
+            overlay.inputSynapse().receiveSignal(new SignalImpl(outside, number(input)));
+
+            Number expected = network.send(number(input));
+            assertEquals("output (" + input + ")", expected.toPrimitiveDouble(),
+                         overlay.lastSignal().value().toPrimitiveDouble(), DELTA);
+        }
+    }
+
+    /**
+     * Tests that a neuron view rejects signals of a synapse which isn't connected with the neuron.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownSignalSource() {
+
+        Synapse outputSynapse = overlay.outputSynapse();
+        overlay.neurons().get(1).receiveSignal(new SignalImpl(outputSynapse, number("1")));
+    }
+
+    /**
+     * Tests that modifying a copy affects neither the original overlay nor other copies.
+     */
+    @Test
+    public void testCopyOnWrite() {
+
+        OverlayNetwork first = overlay.copy();
+        OverlayNetwork second = overlay.copy();
+
+        double before = overlay.send(1.0d);
+
+        // the output synapse and the output neuron affect the output regardless of the random activation functions
+        int synapseIndex = first.synapses().size() - 1;
+        Synapse synapse = first.synapses().get(synapseIndex);
+        Number weight = synapse.weight();
+        NetworkHelper.setWeight(synapse, weight.inc());
+
+        int neuronIndex = second.neurons().size() - 1;
+        Neuron neuron = second.neurons().get(neuronIndex);
+        Number bias = neuron.bias();
+        NetworkHelper.setBias(neuron, bias.inc());
+
+        assertEquals("modified weight", weight.inc(), first.weight(synapseIndex));
+        assertEquals("original weight", weight, overlay.weight(synapseIndex));
+        assertEquals("original weight", weight, second.weight(synapseIndex));
+
+        assertEquals("modified bias", bias.inc(), second.bias(neuronIndex));
+        assertEquals("original bias", bias, overlay.bias(neuronIndex));
+        assertEquals("original bias", bias, first.bias(neuronIndex));
+
+        assertEquals("original output", before, overlay.send(1.0d), DELTA);
+        assertNotEquals("modified output", before, first.send(1.0d), DELTA);
+        assertNotEquals("modified output", before, second.send(1.0d), DELTA);
+        assertEquals("original network", before, network.send(1.0d), DELTA);
+    }
+
+    /**
+     * Tests that compiled snapshots are reused until the network is modified.
+     */
+    @Test
+    public void testCompiledSnapshot() {
+
+        assertSame("cached snapshot", overlay.compile(), overlay.compile());
+        assertSame("shared snapshot", overlay.compile(), overlay.copy().compile());
+
+        Object before = overlay.compile();
+        overlay.setBias(1, overlay.bias(1).inc());
+
+        assertTrue("new snapshot", before != overlay.compile());
+    }
+
+    /**
+     * Tests converting an overlay network back into a flat network and cloning an overlay network.
+     */
+    @Test
+    public void testRoundTrip() {
+
+        NetworkHelper.setWeight(overlay.synapses().get(2), number("0.25"));
+        NetworkHelper.setBias(overlay.neurons().get(2), number("-0.5"));
+
+        FlatNetworkImpl flatNetwork = overlay.toFlatNetwork();
+        Network clone = NetworkHelper.clone(overlay);
+        Network flatClone = NetworkHelper.clone(flatNetwork);
+
+        for (int index = 0; index < overlay.synapses().size(); index++) {
+
+            Number weight = overlay.weight(index);
+
+            assertEquals("weight #" + index, weight, flatNetwork.synapses().get(index).weight());
+            assertEquals("weight #" + index, weight, clone.synapses().get(index).weight());
+            assertEquals("weight #" + index, weight, flatClone.synapses().get(index).weight());
+        }
+
+        for (int index = 0; index < overlay.neurons().size(); index++) {
+
+            Number bias = overlay.bias(index);
+
+            assertEquals("bias #" + index, bias, flatNetwork.neurons().get(index).bias());
+            assertEquals("bias #" + index, bias, clone.neurons().get(index).bias());
+            assertEquals("bias #" + index, bias, flatClone.neurons().get(index).bias());
+        }
+
+        assertEquals("output", overlay.send(0.75d), flatNetwork.send(0.75d), DELTA);
+        assertEquals("output", overlay.send(0.75d), flatClone.send(0.75d), DELTA);
+    }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.neural.precision;
+
+
+import jmul.math.numbers.Number;
+import static jmul.math.numbers.NumberHelper.createNumber;
+
+import jmul.neural.GlobalSettings;
+import jmul.neural.neurons.FlatNetworkImpl;
+import jmul.neural.neurons.NetworkHelper;
+import jmul.neural.precision.PrecisionContext;
+import jmul.neural.precision.PrecisionContextImpl;
+import jmul.neural.precision.RoundingModes;
+
+import jmul.test.classification.UnitTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+
+/**
+ * This test suite tests limiting the precision of signal values.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+public class PrecisionContextTest {
+
+    /**
+     * Creates a number with the default number base.
+     *
+     * @param numberString
+     *        a number string
+     *
+     * @return a number
+     */
+    private static Number number(String numberString) {
+
+        return createNumber(GlobalSettings.DEFAULT_NUMBER_BASE, numberString);
+    }
+
+    /**
+     * Tests rounding values to a maximum number of significant digits.
+     */
+    @Test
+    public void testRounding() {
+
+        PrecisionContext context = new PrecisionContextImpl(5, RoundingModes.HALF_EVEN);
+
+        assertEquals("integer and fraction part", number("123.46"), context.apply(number("123.456789")));
+        assertEquals("fraction part", number("0.00012346"), context.apply(number("0.000123456789")));
+        assertEquals("negative value", number("-0.54322"), context.apply(number("-0.5432198")));
+        assertEquals("large value", number("1234568"), context.apply(number("1234567.89")));
+    }
+
+    /**
+     * Tests the rounding modes with half way values.
+     */
+    @Test
+    public void testRoundingModes() {
+
+        assertEquals("half even", number("1.2"),
+                     new PrecisionContextImpl(2, RoundingModes.HALF_EVEN).apply(number("1.25")));
+        assertEquals("half even (odd digit)", number("-1.4"),
+                     new PrecisionContextImpl(2, RoundingModes.HALF_EVEN).apply(number("-1.35")));
+        assertEquals("half up", number("1.3"),
+                     new PrecisionContextImpl(2, RoundingModes.HALF_UP).apply(number("1.25")));
+        assertEquals("half down", number("1.2"),
+                     new PrecisionContextImpl(2, RoundingModes.HALF_DOWN).apply(number("1.25")));
+        assertEquals("up", number("1.3"), new PrecisionContextImpl(2, RoundingModes.UP).apply(number("1.21")));
+        assertEquals("down", number("1.2"), new PrecisionContextImpl(2, RoundingModes.DOWN).apply(number("1.29")));
+    }
+
+    /**
+     * Tests that values which don't exceed the maximum number of significant digits are not changed.
+     */
+    @Test
+    public void testNoRounding() {
+
+        PrecisionContext context = new PrecisionContextImpl(5);
+
+        Number value = number("1.5");
+        assertSame("short value", value, context.apply(value));
+
+        Number zero = number("0");
+        assertSame("zero", zero, context.apply(zero));
+
+        assertEquals("signals", 2L, context.statistics().signals());
+        assertEquals("roundings", 0L, context.statistics().roundings());
+    }
+
+    /**
+     * Tests the digit length statistics.
+     */
+    @Test
+    public void testStatistics() {
+
+        PrecisionContext context = new PrecisionContextImpl(3);
+
+        context.apply(number("1.2"));
+        context.apply(number("1.23456"));
+
+        assertEquals("signals", 2L, context.statistics().signals());
+        assertEquals("roundings", 1L, context.statistics().roundings());
+        assertEquals("average digits", 2.5d, context.statistics().averageDigits(), 0.0d);
+        assertEquals("average digits before rounding", 4.0d, context.statistics().averageDigitsBeforeRounding(),
+                     0.0d);
+        assertEquals("max digits before rounding", 6L, context.statistics().maxDigitsBeforeRounding());
+
+        context.statistics().reset();
+        assertEquals("signals after reset", 0L, context.statistics().signals());
+    }
+
+    /**
+     * Tests a network with a precision context.
+     */
+    @Test
+    public void testNetwork() {
+
+        FlatNetworkImpl network = new FlatNetworkImpl(1, 2, 1);
+        Number input = number("0.5");
+
+        Number expectedOutput = network.send(input);
+
+        PrecisionContext context = new PrecisionContextImpl(20);
+        NetworkHelper.setPrecisionContext(network, context);
+
+        Number actualOutput = network.send(input);
+
+        double deviation = Math.abs(expectedOutput.toPrimitiveDouble() - actualOutput.toPrimitiveDouble());
+        double scale = Math.max(1.0d, Math.abs(expectedOutput.toPrimitiveDouble()));
+
+        assertTrue("deviation", deviation / scale < 1e-12d);
+        assertTrue("signals", context.statistics().signals() > 0L);
+        assertTrue("average digits", context.statistics().averageDigits() <= 20.0d + 20.0d);
+    }
+
+}
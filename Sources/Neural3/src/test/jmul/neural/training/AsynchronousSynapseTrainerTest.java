@@ -0,0 +1,215 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.neural.training;
+
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import jmul.backends.NumericBackends;
+
+import jmul.data.DataEntry;
+import jmul.data.TrainingData;
+
+import jmul.functions.Function;
+import jmul.functions.FunctionHelper;
+
+import jmul.math.numbers.Number;
+
+import jmul.neural.NumberConversionHelper;
+import jmul.neural.neurons.FlatNetworkImpl;
+import jmul.neural.neurons.Layers;
+import jmul.neural.neurons.Network;
+import jmul.neural.neurons.NetworkHelper;
+import jmul.neural.neurons.Neuron;
+import jmul.neural.neurons.Synapse;
+import jmul.neural.training.AsynchronousSynapseTrainer;
+import jmul.neural.training.StalenessStatistics;
+import jmul.neural.training.SynapseTrainer;
+import jmul.neural.training.TrainingHelper;
+
+import jmul.test.classification.UnitTest;
+
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * This test suite tests the asynchronous synapse trainer.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+public class AsynchronousSynapseTrainerTest {
+
+    /**
+     * A network of neurons.
+     */
+    private FlatNetworkImpl network;
+
+    /**
+     * A set of training data for the function f(x) = 0.5 * x.
+     */
+    private TrainingData trainingData;
+
+    /**
+     * An executor.
+     */
+    private ExecutorService executor;
+
+    /**
+     * Prepares the test setup.
+     */
+    @Before
+    public void setUp() {
+
+        network = new FlatNetworkImpl(1, 3, 2, 1);
+
+        // fixed initial parameters, since stale updates can increase the error of some random networks
+        Random random = new Random(7L);
+        Function activationFunction = FunctionHelper.createHyperbolicTangentFunction();
+
+        List<Neuron> neurons = network.neurons();
+        for (Neuron neuron : neurons.subList(1, neurons.size() - 1)) {
+
+            NetworkHelper.setActivationFunction(neuron, activationFunction);
+            NetworkHelper.setBias(neuron, NumberConversionHelper.toNumber(random.nextDouble() - 0.5d));
+        }
+
+        List<Synapse> synapses = network.synapses();
+        for (Synapse synapse : synapses.subList(1, synapses.size() - 1)) {
+
+            NetworkHelper.setWeight(synapse, NumberConversionHelper.toNumber(random.nextDouble() - 0.5d));
+        }
+
+        DataEntry[] entries = new DataEntry[50];
+        for (int index = 0; index < entries.length; index++) {
+
+            double input = (double) index / entries.length;
+            entries[index] =
+                new DataEntry(NumberConversionHelper.toNumber(input), NumberConversionHelper.toNumber(0.5d * input));
+        }
+
+        trainingData = new TrainingData(entries);
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    /**
+     * Cleans up the test setup.
+     */
+    @After
+    public void tearDown() {
+
+        executor.shutdownNow();
+
+        network = null;
+        trainingData = null;
+        executor = null;
+    }
+
+    /**
+     * Returns the number of synapses which are trained.
+     *
+     * @return a number of synapses
+     */
+    private int hiddenSynapses() {
+
+        int count = 0;
+        for (Synapse synapse : network.synapses()) {
+
+            if (synapse.layer() == Layers.HIDDEN_LAYER) {
+
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Tests that a single worker trains the synapses like the sequential synapse trainer (i.e. without stale
+     * updates).
+     */
+    @Test
+    public void testSingleWorker() {
+
+        Network copy = NetworkHelper.clone(network);
+
+        AsynchronousSynapseTrainer trainer =
+            new AsynchronousSynapseTrainer(SynapseTrainer.DEFAULT_LINE_SEARCH, executor, 1);
+        trainer.trainNetwork(network, trainingData);
+
+        SynapseTrainer sequentialTrainer = new SynapseTrainer(NumericBackends.DOUBLE);
+        sequentialTrainer.trainNetwork(copy, trainingData);
+
+        for (int index = 0; index < network.synapses().size(); index++) {
+
+            double expected = copy.synapses().get(index).weight().toPrimitiveDouble();
+            double actual = network.synapses().get(index).weight().toPrimitiveDouble();
+
+            assertEquals("weight #" + index, expected, actual, 1e-9d * Math.max(1.0d, Math.abs(expected)));
+        }
+
+        StalenessStatistics staleness = trainer.staleness();
+
+        assertEquals("updates", hiddenSynapses(), staleness.updates());
+        assertEquals("stale updates", 0L, staleness.staleUpdates());
+        assertEquals("evaluations", sequentialTrainer.evaluations(), trainer.evaluations());
+    }
+
+    /**
+     * Tests that several workers train every synapse once and don't increase the error.
+     */
+    @Test
+    public void testSeveralWorkers() {
+
+        double initialError = TrainingHelper.meanSquaredError(network, trainingData).toPrimitiveDouble();
+
+        AsynchronousSynapseTrainer trainer =
+            new AsynchronousSynapseTrainer(SynapseTrainer.DEFAULT_LINE_SEARCH, executor, 4);
+        Number error = trainer.trainNetwork(network, trainingData);
+
+        StalenessStatistics staleness = trainer.staleness();
+
+        assertEquals("updates", hiddenSynapses(), staleness.updates());
+        assertTrue("max staleness", staleness.maxStaleness() < hiddenSynapses());
+        assertTrue("error", error.toPrimitiveDouble() <= initialError * 1.5d);
+    }
+
+}
@@ -0,0 +1,405 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.neural.training;
+
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jmul.backends.NumericBackends;
+
+import jmul.data.DataEntry;
+import jmul.data.TrainingData;
+
+import jmul.functions.Function;
+import jmul.functions.FunctionHelper;
+
+import jmul.math.numbers.Number;
+import static jmul.math.numbers.NumberHelper.createNumber;
+
+import jmul.neural.GlobalSettings;
+import jmul.neural.NumberConversionHelper;
+import jmul.neural.neurons.FlatNetworkImpl;
+import jmul.neural.neurons.NetworkHelper;
+import jmul.neural.neurons.Neuron;
+import jmul.neural.neurons.Synapse;
+import jmul.neural.training.Backpropagation;
+import jmul.neural.training.AdamOptimizer;
+import jmul.neural.training.BackpropagationTrainer;
+import jmul.neural.training.GradientTrainer;
+import jmul.neural.training.MiniBatchTrainer;
+import jmul.neural.training.NetworkTrainer;
+import jmul.neural.training.NeuronTrainer;
+import jmul.neural.training.RpropTrainer;
+import jmul.neural.training.TrainingHelper;
+
+import jmul.test.classification.UnitTest;
+
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * This test suite tests the gradients which are calculated by backpropagation and the gradient based trainers.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+public class BackpropagationTest {
+
+    /**
+     * The step size of the finite differences.
+     */
+    private static final double STEP;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        STEP = 1e-6d;
+    }
+
+    /**
+     * A network of neurons.
+     */
+    private FlatNetworkImpl network;
+
+    /**
+     * Creates a number with the default number base.
+     *
+     * @param numberString
+     *        a number string
+     *
+     * @return a number
+     */
+    private static Number number(String numberString) {
+
+        return createNumber(GlobalSettings.DEFAULT_NUMBER_BASE, numberString);
+    }
+
+    /**
+     * Prepares the test setup (i.e. a network where all neurons use the same smooth activation function).
+     */
+    @Before
+    public void setUp() {
+
+        network = new FlatNetworkImpl(1, 3, 2, 1);
+
+        Function activationFunction =
+            FunctionHelper.createPolynomialFunction(GlobalSettings.DEFAULT_NUMBER_BASE, "0.1", "1", "-0.2");
+
+        for (Neuron neuron : network.neurons()) {
+
+            NetworkHelper.setActivationFunction(neuron, activationFunction);
+        }
+    }
+
+    /**
+     * Cleans up the test setup.
+     */
+    @After
+    public void tearDown() {
+
+        network = null;
+    }
+
+    /**
+     * Calculates the squared error of the network for the specified sample.
+     *
+     * @param input
+     *        an input
+     * @param expectedOutput
+     *        the expected output
+     *
+     * @return a squared error
+     */
+    private double squaredError(double input, double expectedOutput) {
+
+        double error = network.compile().send(input) - expectedOutput;
+
+        return error * error;
+    }
+
+    /**
+     * Compares a gradient with a gradient which is approximated by finite differences.
+     *
+     * @param message
+     *        a message
+     * @param expected
+     *        the approximated gradient
+     * @param actual
+     *        the calculated gradient
+     */
+    private static void assertGradient(String message, double expected, double actual) {
+
+        double tolerance = 1e-4d * Math.max(1.0d, Math.abs(expected));
+
+        assertEquals(message, expected, actual, tolerance);
+    }
+
+    /**
+     * Tests the gradients of all weights and biases against finite differences.
+     */
+    @Test
+    public void testGradients() {
+
+        final double INPUT = 0.5d;
+        final double EXPECTED_OUTPUT = 0.3d;
+
+        Backpropagation<Double> backpropagation = new Backpropagation<>(NumericBackends.DOUBLE, network);
+        double squaredError = backpropagation.accumulate(INPUT, EXPECTED_OUTPUT);
+
+        assertEquals("squared error", squaredError(INPUT, EXPECTED_OUTPUT), squaredError, 1e-12d);
+
+        List<Synapse> synapses = network.synapses();
+
+        for (int index = 0; index < synapses.size(); index++) {
+
+            Synapse synapse = synapses.get(index);
+            Number weight = synapse.weight();
+            double primitiveWeight = weight.toPrimitiveDouble();
+
+            NetworkHelper.setWeight(synapse, NumberConversionHelper.toNumber(primitiveWeight + STEP));
+            double upper = squaredError(INPUT, EXPECTED_OUTPUT);
+
+            NetworkHelper.setWeight(synapse, NumberConversionHelper.toNumber(primitiveWeight - STEP));
+            double lower = squaredError(INPUT, EXPECTED_OUTPUT);
+
+            NetworkHelper.setWeight(synapse, weight);
+
+            assertGradient("weight gradient (" + index + ")", (upper - lower) / (2.0d * STEP),
+                           backpropagation.weightGradient(index));
+        }
+
+        List<Neuron> neurons = network.neurons();
+
+        for (int index = 0; index < neurons.size(); index++) {
+
+            Neuron neuron = neurons.get(index);
+            Number bias = neuron.bias();
+            double primitiveBias = (bias == null) ? 0.0d : bias.toPrimitiveDouble();
+
+            NetworkHelper.setBias(neuron, NumberConversionHelper.toNumber(primitiveBias + STEP));
+            double upper = squaredError(INPUT, EXPECTED_OUTPUT);
+
+            NetworkHelper.setBias(neuron, NumberConversionHelper.toNumber(primitiveBias - STEP));
+            double lower = squaredError(INPUT, EXPECTED_OUTPUT);
+
+            NetworkHelper.setBias(neuron, bias);
+
+            assertGradient("bias gradient (" + index + ")", (upper - lower) / (2.0d * STEP),
+                           backpropagation.biasGradient(index));
+        }
+    }
+
+    /**
+     * Tests the flattened gradient of a network with hyperbolic tangents against finite differences of the flattened
+     * parameters.
+     */
+    @Test
+    public void testFlattenedGradient() {
+
+        final double INPUT = 0.5d;
+        final double EXPECTED_OUTPUT = 0.3d;
+
+        Function activationFunction = FunctionHelper.createHyperbolicTangentFunction();
+
+        for (Neuron neuron : network.neurons()) {
+
+            NetworkHelper.setActivationFunction(neuron, activationFunction);
+        }
+
+        Backpropagation<Double> backpropagation = new Backpropagation<>(NumericBackends.DOUBLE, network);
+        backpropagation.accumulate(INPUT, EXPECTED_OUTPUT);
+
+        int parameterCount = backpropagation.parameterCount();
+        double[] parameters = new double[parameterCount];
+        double[] gradient = new double[parameterCount];
+        backpropagation.parameters(parameters);
+        backpropagation.gradient(gradient);
+
+        for (int index = 0; index < parameterCount; index++) {
+
+            double parameter = parameters[index];
+
+            parameters[index] = parameter + STEP;
+            backpropagation.setParameters(parameters);
+            backpropagation.updateNetwork(network);
+            double upper = squaredError(INPUT, EXPECTED_OUTPUT);
+
+            parameters[index] = parameter - STEP;
+            backpropagation.setParameters(parameters);
+            backpropagation.updateNetwork(network);
+            double lower = squaredError(INPUT, EXPECTED_OUTPUT);
+
+            parameters[index] = parameter;
+
+            assertGradient("gradient (" + index + ")", (upper - lower) / (2.0d * STEP), gradient[index]);
+        }
+    }
+
+    /**
+     * Creates training data for the function f(x) = 0.5 * x + 0.25.
+     *
+     * @return a set of training data
+     */
+    private static TrainingData linearTrainingData() {
+
+        List<DataEntry> entries = new ArrayList<>();
+
+        for (int index = 0; index <= 10; index++) {
+
+            double input = index / 10.0d;
+            entries.add(new DataEntry(number(String.valueOf(input)), number(String.valueOf(0.5d * input + 0.25d))));
+        }
+
+        return new TrainingData(entries.toArray(new DataEntry[entries.size()]));
+    }
+
+    /**
+     * Tests that the backpropagation trainer returns the mean squared error and reduces it.
+     */
+    @Test
+    public void testBackpropagationTrainer() {
+
+        TrainingData trainingData = linearTrainingData();
+        BackpropagationTrainer trainer = new BackpropagationTrainer(NumericBackends.DOUBLE, number("0.05"));
+
+        Number initialError = TrainingHelper.meanSquaredError(network, trainingData);
+        Number firstError = trainer.trainNetwork(network, trainingData);
+
+        assertEquals("mean squared error", initialError.toPrimitiveDouble(), firstError.toPrimitiveDouble(),
+                     1e-12d);
+
+        for (int epoch = 0; epoch < 50; epoch++) {
+
+            trainer.trainNetwork(network, trainingData);
+        }
+
+        Number finalError = TrainingHelper.meanSquaredError(network, trainingData);
+
+        assertTrue("reduced error", finalError.toPrimitiveDouble() < initialError.toPrimitiveDouble());
+    }
+
+    /**
+     * Tests that the neuron trainer adjusts only biases.
+     */
+    @Test
+    public void testNeuronTrainer() {
+
+        TrainingData trainingData = linearTrainingData();
+        NeuronTrainer trainer = new NeuronTrainer(NumericBackends.DOUBLE, number("0.05"));
+
+        List<Number> weights = new ArrayList<>();
+        for (Synapse synapse : network.synapses()) {
+
+            weights.add(synapse.weight());
+        }
+
+        Number initialError = trainer.trainNetwork(network, trainingData);
+
+        for (int epoch = 0; epoch < 20; epoch++) {
+
+            trainer.trainNetwork(network, trainingData);
+        }
+
+        for (int index = 0; index < weights.size(); index++) {
+
+            assertEquals("weight (" + index + ")", weights.get(index), network.synapses()
+                                                                               .get(index)
+                                                                               .weight());
+        }
+
+        Number finalError = TrainingHelper.meanSquaredError(network, trainingData);
+
+        assertTrue("reduced error", finalError.toPrimitiveDouble() < initialError.toPrimitiveDouble());
+    }
+
+    /**
+     * Returns the bias of the specified neuron as primitive value.
+     *
+     * @param neuron
+     *        a neuron
+     *
+     * @return a bias
+     */
+    private static double primitiveBias(Neuron neuron) {
+
+        Number bias = neuron.bias();
+
+        return (bias == null) ? 0.0d : bias.toPrimitiveDouble();
+    }
+
+    /**
+     * Tests that the gradient based trainers adjust only the biases of the hidden layers, i.e. the biases of the
+     * input and output neuron remain 0.
+     */
+    @Test
+    public void testFixedBiases() {
+
+        TrainingData trainingData = linearTrainingData();
+
+        NetworkTrainer[] trainers = {
+            new BackpropagationTrainer(NumericBackends.DOUBLE, number("0.05")),
+            new NeuronTrainer(NumericBackends.DOUBLE, number("0.05")),
+            new MiniBatchTrainer(NumericBackends.DOUBLE, number("0.05"), 4), new RpropTrainer(),
+            new GradientTrainer(new AdamOptimizer())
+        };
+
+        for (NetworkTrainer trainer : trainers) {
+
+            String name = trainer.getClass().getSimpleName();
+
+            FlatNetworkImpl copy = (FlatNetworkImpl) NetworkHelper.clone(network);
+            Neuron hiddenNeuron = copy.neurons().get(1);
+            double hiddenBias = primitiveBias(hiddenNeuron);
+
+            for (int epoch = 0; epoch < 5; epoch++) {
+
+                trainer.trainNetwork(copy, trainingData);
+            }
+
+            assertEquals(name + " input bias", 0.0d, primitiveBias(copy.neurons().get(0)), 0.0d);
+            assertEquals(name + " output bias", 0.0d, primitiveBias(copy.neurons().get(copy.neuronCount() - 1)),
+                         0.0d);
+            assertNotEquals(name + " hidden bias", hiddenBias, primitiveBias(hiddenNeuron), 0.0d);
+        }
+    }
+
+}
@@ -0,0 +1,209 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.neural.training;
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import jmul.backends.NumericBackends;
+
+import jmul.data.DataEntry;
+import jmul.data.TrainingData;
+
+import jmul.math.numbers.Number;
+
+import jmul.neural.NumberConversionHelper;
+import jmul.neural.neurons.FlatNetworkImpl;
+import jmul.neural.neurons.NetworkHelper;
+import jmul.neural.neurons.Synapse;
+import jmul.neural.training.ConcurrentSynapseTrainer;
+
+import jmul.test.classification.UnitTest;
+
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * This test suite tests the concurrent synapse trainer.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+public class ConcurrentSynapseTrainerTest {
+
+    /**
+     * A network of neurons.
+     */
+    private FlatNetworkImpl network;
+
+    /**
+     * The initial weights of the network.
+     */
+    private List<Number> weights;
+
+    /**
+     * An executor.
+     */
+    private ExecutorService executor;
+
+    /**
+     * Prepares the test setup.
+     */
+    @Before
+    public void setUp() {
+
+        network = new FlatNetworkImpl(1, 3, 2, 1);
+
+        weights = new ArrayList<>();
+        for (Synapse synapse : network.synapses()) {
+
+            weights.add(synapse.weight());
+        }
+
+        executor = Executors.newFixedThreadPool(3);
+    }
+
+    /**
+     * Cleans up the test setup.
+     */
+    @After
+    public void tearDown() {
+
+        executor.shutdownNow();
+
+        network = null;
+        weights = null;
+        executor = null;
+    }
+
+    /**
+     * Creates training data for the function f(x) = 0.5 * x.
+     *
+     * @param size
+     *        the number of entries
+     *
+     * @return a set of training data
+     */
+    private static TrainingData trainingData(int size) {
+
+        DataEntry[] entries = new DataEntry[size];
+
+        for (int index = 0; index < size; index++) {
+
+            double input = (double) index / size;
+            entries[index] =
+                new DataEntry(NumberConversionHelper.toNumber(input), NumberConversionHelper.toNumber(0.5d * input));
+        }
+
+        return new TrainingData(entries);
+    }
+
+    /**
+     * Returns the current weights of the network.
+     *
+     * @return all weights
+     */
+    private List<Number> currentWeights() {
+
+        List<Number> currentWeights = new ArrayList<>();
+        for (Synapse synapse : network.synapses()) {
+
+            currentWeights.add(synapse.weight());
+        }
+
+        return currentWeights;
+    }
+
+    /**
+     * Tests that the new weights don't depend on the executor and the chunk size.
+     */
+    @Test
+    public void testChunks() {
+
+        TrainingData trainingData = trainingData(5);
+
+        ConcurrentSynapseTrainer trainer1 =
+            new ConcurrentSynapseTrainer(NumericBackends.DOUBLE, null, 1, ConcurrentSynapseTrainer.NO_TIMEOUT,
+                                         TimeUnit.SECONDS);
+        trainer1.trainNetwork(network, trainingData);
+        List<Number> weights1 = currentWeights();
+
+        for (int index = 0; index < weights.size(); index++) {
+
+            NetworkHelper.setWeight(network.synapses().get(index), weights.get(index));
+        }
+
+        ConcurrentSynapseTrainer trainer2 =
+            new ConcurrentSynapseTrainer(NumericBackends.DOUBLE, executor, 4, 1L, TimeUnit.MINUTES);
+        trainer2.trainNetwork(network, trainingData);
+        List<Number> weights2 = currentWeights();
+
+        assertEquals("weights", weights1, weights2);
+        assertFalse("executor", executor.isShutdown());
+    }
+
+    /**
+     * Tests that a training which exceeds the timeout is cancelled and leaves the network unchanged.
+     */
+    @Test
+    public void testTimeout() {
+
+        TrainingData trainingData = trainingData(50);
+
+        ConcurrentSynapseTrainer trainer =
+            new ConcurrentSynapseTrainer(NumericBackends.NUMBER, executor, 1, 10L, TimeUnit.MILLISECONDS);
+
+        try {
+
+            trainer.trainNetwork(network, trainingData);
+            fail("The training should have been cancelled!");
+
+        } catch (IllegalStateException e) {
+
+            // expected
+        }
+
+        assertEquals("weights", weights, currentWeights());
+    }
+
+}
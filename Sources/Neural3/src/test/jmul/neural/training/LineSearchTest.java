@@ -0,0 +1,175 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.neural.training;
+
+
+import java.util.function.DoubleUnaryOperator;
+
+import jmul.neural.training.BracketingSearch;
+import jmul.neural.training.BrentSearch;
+import jmul.neural.training.FixedStepSearch;
+import jmul.neural.training.GoldenSectionSearch;
+import jmul.neural.training.LineSearch;
+import jmul.neural.training.LineSearchResult;
+
+import jmul.test.classification.UnitTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+
+/**
+ * This test suite tests the line searches which are used to train single synapses.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+public class LineSearchTest {
+
+    /**
+     * A smooth objective function with a minimum at 3.
+     */
+    private static final DoubleUnaryOperator PARABOLA;
+
+    /**
+     * The accepted deviation from the minimum.
+     */
+    private static final double DELTA;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        PARABOLA = (double x) -> (x - 3.0d) * (x - 3.0d) + 1.0d;
+        DELTA = 1e-3d;
+    }
+
+    /**
+     * Tests that golden section search and Brent's method find the minimum of a parabola and that Brent's method
+     * needs fewer evaluations.
+     */
+    @Test
+    public void testParabola() {
+
+        LineSearchResult golden = new GoldenSectionSearch().minimize(PARABOLA, 0.0d, 0.5d);
+        LineSearchResult brent = new BrentSearch().minimize(PARABOLA, 0.0d, 0.5d);
+
+        assertEquals("golden section minimum", 3.0d, golden.argument(), DELTA);
+        assertEquals("golden section value", 1.0d, golden.value(), DELTA);
+        assertEquals("Brent minimum", 3.0d, brent.argument(), DELTA);
+        assertEquals("Brent value", 1.0d, brent.value(), DELTA);
+
+        assertTrue("fewer evaluations", brent.evaluations() < golden.evaluations());
+    }
+
+    /**
+     * Tests that a search starts in the other direction if the first step leads uphill.
+     */
+    @Test
+    public void testWrongDirection() {
+
+        LineSearchResult result = new BrentSearch().minimize(PARABOLA, 5.0d, 0.5d);
+
+        assertEquals("minimum", 3.0d, result.argument(), DELTA);
+    }
+
+    /**
+     * Tests that bracketing stops as soon as the values increase and returns the best probed argument.
+     */
+    @Test
+    public void testBracketing() {
+
+        LineSearchResult result = new BracketingSearch().minimize(PARABOLA, 0.0d, 0.5d);
+
+        // 0, 0.5, 1.31, 2.62, 4.74
+        assertEquals("evaluations", 5, result.evaluations());
+        assertEquals("best argument", 2.618d, result.argument(), DELTA);
+    }
+
+    /**
+     * Tests that all searches stop as soon as the target value is reached.
+     */
+    @Test
+    public void testTargetValue() {
+
+        DoubleUnaryOperator objective = (double x) -> Math.abs(x - 1.0d);
+
+        LineSearch[] searches = { new BracketingSearch(), new GoldenSectionSearch(), new BrentSearch() };
+
+        for (LineSearch search : searches) {
+
+            LineSearchResult result = search.minimize(objective, 1.0d, 0.5d);
+
+            assertEquals(search.getClass().getSimpleName() + " evaluations", 1, result.evaluations());
+            assertEquals(search.getClass().getSimpleName() + " argument", 1.0d, result.argument(), 0.0d);
+        }
+    }
+
+    /**
+     * Tests that a flat objective function (e.g. a synapse which doesn't influence the output) keeps the start
+     * argument.
+     */
+    @Test
+    public void testFlatObjective() {
+
+        DoubleUnaryOperator objective = (double x) -> 2.0d;
+
+        LineSearch[] searches = { new BracketingSearch(), new GoldenSectionSearch(), new BrentSearch() };
+
+        for (LineSearch search : searches) {
+
+            LineSearchResult result = search.minimize(objective, 0.25d, 0.5d);
+
+            assertEquals(search.getClass().getSimpleName() + " argument", 0.25d, result.argument(), 0.0d);
+            assertTrue(search.getClass().getSimpleName() + " evaluations", result.evaluations() <= 3);
+        }
+    }
+
+    /**
+     * Tests that the fixed step search picks the probed argument with the smallest value.
+     */
+    @Test
+    public void testFixedSteps() {
+
+        DoubleUnaryOperator objective = (double x) -> Math.abs(x - 1.0d);
+
+        LineSearchResult result = new FixedStepSearch().minimize(objective, 0.0d, 0.3d);
+
+        assertEquals("evaluations", 21, result.evaluations());
+        assertEquals("best argument", 0.9d, result.argument(), 1e-9d);
+    }
+
+}
@@ -0,0 +1,270 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.neural.training;
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import jmul.backends.NumericBackends;
+
+import jmul.data.DataEntry;
+import jmul.data.TrainingData;
+
+import jmul.functions.Function;
+import jmul.functions.FunctionHelper;
+
+import jmul.math.numbers.Number;
+import static jmul.math.numbers.NumberHelper.createNumber;
+
+import jmul.neural.GlobalSettings;
+import jmul.neural.NumberConversionHelper;
+import jmul.neural.neurons.FlatNetworkImpl;
+import jmul.neural.neurons.NetworkHelper;
+import jmul.neural.neurons.Neuron;
+import jmul.neural.neurons.Synapse;
+import jmul.neural.training.BackpropagationTrainer;
+import jmul.neural.training.MiniBatchTrainer;
+
+import jmul.test.classification.UnitTest;
+
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * This test suite tests the mini-batch trainer.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+public class MiniBatchTrainerTest {
+
+    /**
+     * A network of neurons.
+     */
+    private FlatNetworkImpl network;
+
+    /**
+     * The initial weights of the network.
+     */
+    private List<Number> weights;
+
+    /**
+     * The initial biases of the network.
+     */
+    private List<Number> biases;
+
+    /**
+     * A set of training data.
+     */
+    private TrainingData trainingData;
+
+    /**
+     * Creates a number with the default number base.
+     *
+     * @param numberString
+     *        a number string
+     *
+     * @return a number
+     */
+    private static Number number(String numberString) {
+
+        return createNumber(GlobalSettings.DEFAULT_NUMBER_BASE, numberString);
+    }
+
+    /**
+     * Prepares the test setup (i.e. a network where all neurons use the same smooth activation function and
+     * training data for the function f(x) = 0.5 * x + 0.25).
+     */
+    @Before
+    public void setUp() {
+
+        network = new FlatNetworkImpl(1, 3, 2, 1);
+
+        Function activationFunction =
+            FunctionHelper.createPolynomialFunction(GlobalSettings.DEFAULT_NUMBER_BASE, "0.1", "1", "-0.2");
+
+        for (Neuron neuron : network.neurons()) {
+
+            NetworkHelper.setActivationFunction(neuron, activationFunction);
+        }
+
+        weights = new ArrayList<>();
+        for (Synapse synapse : network.synapses()) {
+
+            weights.add(synapse.weight());
+        }
+
+        biases = new ArrayList<>();
+        for (Neuron neuron : network.neurons()) {
+
+            biases.add(neuron.bias());
+        }
+
+        List<DataEntry> entries = new ArrayList<>();
+        for (int index = 0; index < 1000; index++) {
+
+            double input = index / 1000.0d;
+            entries.add(new DataEntry(NumberConversionHelper.toNumber(input),
+                                      NumberConversionHelper.toNumber(0.5d * input + 0.25d)));
+        }
+
+        trainingData = new TrainingData(entries.toArray(new DataEntry[entries.size()]));
+    }
+
+    /**
+     * Cleans up the test setup.
+     */
+    @After
+    public void tearDown() {
+
+        network = null;
+        weights = null;
+        biases = null;
+        trainingData = null;
+    }
+
+    /**
+     * Restores the initial weights and biases of the network.
+     */
+    private void restoreNetwork() {
+
+        for (int index = 0; index < weights.size(); index++) {
+
+            NetworkHelper.setWeight(network.synapses().get(index), weights.get(index));
+        }
+
+        for (int index = 0; index < biases.size(); index++) {
+
+            NetworkHelper.setBias(network.neurons().get(index), biases.get(index));
+        }
+    }
+
+    /**
+     * Returns the primitive weights and biases of the network.
+     *
+     * @return all weights followed by all biases
+     */
+    private double[] parameters() {
+
+        List<Synapse> synapses = network.synapses();
+        List<Neuron> neurons = network.neurons();
+
+        double[] parameters = new double[synapses.size() + neurons.size()];
+
+        for (int index = 0; index < synapses.size(); index++) {
+
+            parameters[index] = synapses.get(index)
+                                        .weight()
+                                        .toPrimitiveDouble();
+        }
+
+        for (int index = 0; index < neurons.size(); index++) {
+
+            Number bias = neurons.get(index).bias();
+            parameters[synapses.size() + index] = (bias == null) ? 0.0d : bias.toPrimitiveDouble();
+        }
+
+        return parameters;
+    }
+
+    /**
+     * Tests that the result doesn't depend on the number of threads.
+     */
+    @Test
+    public void testDeterministicReduction() {
+
+        ForkJoinPool singleThread = new ForkJoinPool(1);
+        ForkJoinPool fourThreads = new ForkJoinPool(4);
+
+        try {
+
+            MiniBatchTrainer trainer1 =
+                new MiniBatchTrainer(NumericBackends.DOUBLE, number("0.05"), 300, 16, singleThread);
+            Number error1 = trainer1.trainNetwork(network, trainingData);
+            double[] parameters1 = parameters();
+
+            restoreNetwork();
+
+            MiniBatchTrainer trainer2 =
+                new MiniBatchTrainer(NumericBackends.DOUBLE, number("0.05"), 300, 16, fourThreads);
+            Number error2 = trainer2.trainNetwork(network, trainingData);
+            double[] parameters2 = parameters();
+
+            assertEquals("mean squared error", error1, error2);
+
+            for (int index = 0; index < parameters1.length; index++) {
+
+                assertEquals("parameter (" + index + ")", parameters1[index], parameters2[index], 0.0d);
+            }
+
+        } finally {
+
+            singleThread.shutdown();
+            fourThreads.shutdown();
+        }
+    }
+
+    /**
+     * Tests that one mini-batch which covers the whole training data corresponds to one step of the
+     * backpropagation trainer.
+     */
+    @Test
+    public void testFullBatch() {
+
+        BackpropagationTrainer trainer1 = new BackpropagationTrainer(NumericBackends.DOUBLE, number("0.05"));
+        Number error1 = trainer1.trainNetwork(network, trainingData);
+        double[] parameters1 = parameters();
+
+        restoreNetwork();
+
+        MiniBatchTrainer trainer2 =
+            new MiniBatchTrainer(NumericBackends.DOUBLE, number("0.05"), trainingData.size(), 64,
+                                 ForkJoinPool.commonPool());
+        Number error2 = trainer2.trainNetwork(network, trainingData);
+        double[] parameters2 = parameters();
+
+        assertEquals("mean squared error", error1.toPrimitiveDouble(), error2.toPrimitiveDouble(), 1e-12d);
+
+        for (int index = 0; index < parameters1.length; index++) {
+
+            assertEquals("parameter (" + index + ")", parameters1[index], parameters2[index], 1e-9d);
+        }
+    }
+
+}
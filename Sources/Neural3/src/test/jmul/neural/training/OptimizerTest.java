@@ -0,0 +1,365 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.neural.training;
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import jmul.data.DataEntry;
+import jmul.data.TrainingData;
+
+import jmul.functions.Function;
+import jmul.functions.FunctionHelper;
+
+import jmul.neural.NumberConversionHelper;
+import jmul.neural.neurons.FlatNetworkImpl;
+import jmul.neural.neurons.NetworkHelper;
+import jmul.neural.neurons.Neuron;
+import jmul.neural.neurons.Synapse;
+import jmul.neural.training.AdamOptimizer;
+import jmul.neural.training.DifferentiableObjective;
+import jmul.neural.training.GradientTrainer;
+import jmul.neural.training.LbfgsOptimizer;
+import jmul.neural.training.MomentumOptimizer;
+import jmul.neural.training.Optimizer;
+import jmul.neural.training.OptimizerState;
+import jmul.neural.training.TrainingHelper;
+
+import jmul.test.classification.UnitTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+
+/**
+ * This test suite tests the gradient based optimizers and the gradient trainer.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+public class OptimizerTest {
+
+    /**
+     * A quadratic function f(x) = sum((i + 1) * (x<sub>i</sub> - i)<sup>2</sup>) with the minimum 0 at x<sub>i</sub> =
+     * i.
+     */
+    private static final DifferentiableObjective QUADRATIC = (parameters, gradient) -> {
+
+        double value = 0.0d;
+
+        for (int index = 0; index < parameters.length; index++) {
+
+            double difference = parameters[index] - index;
+
+            value += (index + 1) * difference * difference;
+            gradient[index] = 2.0d * (index + 1) * difference;
+        }
+
+        return value;
+    };
+
+    /**
+     * The Rosenbrock function f(x, y) = (1 - x)<sup>2</sup> + 100 * (y - x<sup>2</sup>)<sup>2</sup> with the minimum 0
+     * at (1, 1).
+     */
+    private static final DifferentiableObjective ROSENBROCK = (parameters, gradient) -> {
+
+        double x = parameters[0];
+        double y = parameters[1];
+
+        gradient[0] = -2.0d * (1.0d - x) - 400.0d * x * (y - x * x);
+        gradient[1] = 200.0d * (y - x * x);
+
+        return (1.0d - x) * (1.0d - x) + 100.0d * (y - x * x) * (y - x * x);
+    };
+
+    /**
+     * Performs the specified number of steps.
+     *
+     * @param optimizer
+     *        an optimizer
+     * @param objective
+     *        an objective function
+     * @param parameters
+     *        the start parameters
+     * @param steps
+     *        the number of steps
+     *
+     * @return the value of the objective function at the final parameters
+     */
+    private static double minimize(Optimizer optimizer, DifferentiableObjective objective, double[] parameters,
+                                   int steps) {
+
+        OptimizerState state = optimizer.createState(parameters.length);
+
+        for (int step = 0; step < steps; step++) {
+
+            optimizer.step(objective, parameters, state);
+        }
+
+        assertEquals("iterations", steps, state.iterations());
+
+        return objective.evaluate(parameters, new double[parameters.length]);
+    }
+
+    /**
+     * Creates a network with tanh neurons and fixed initial parameters.
+     *
+     * @return a network
+     */
+    private static FlatNetworkImpl newNetwork() {
+
+        FlatNetworkImpl network = new FlatNetworkImpl(1, 4, 4, 1);
+
+        Function activationFunction = FunctionHelper.createHyperbolicTangentFunction();
+
+        // fixed initial parameters, since a random network may converge too slowly with momentum
+        Random random = new Random(42L);
+
+        for (Neuron neuron : network.neurons()) {
+
+            NetworkHelper.setActivationFunction(neuron, activationFunction);
+        }
+
+        for (Neuron neuron : network.neurons().subList(1, network.neuronCount() - 1)) {
+
+            NetworkHelper.setBias(neuron, NumberConversionHelper.toNumber(random.nextDouble() - 0.5d));
+        }
+
+        List<Synapse> synapses = network.synapses();
+        for (Synapse synapse : synapses.subList(1, synapses.size() - 1)) {
+
+            NetworkHelper.setWeight(synapse, NumberConversionHelper.toNumber(random.nextDouble() - 0.5d));
+        }
+
+        return network;
+    }
+
+    /**
+     * Creates training data for a linear function within the interval [-1, 1].
+     *
+     * @param slope
+     *        the slope of the linear function
+     * @param intercept
+     *        the intercept of the linear function
+     *
+     * @return training data
+     */
+    private static TrainingData linearTrainingData(double slope, double intercept) {
+
+        List<DataEntry> entries = new ArrayList<>();
+        for (int index = 0; index <= 20; index++) {
+
+            double input = index / 10.0d - 1.0d;
+            entries.add(new DataEntry(NumberConversionHelper.toNumber(input),
+                                      NumberConversionHelper.toNumber(slope * input + intercept)));
+        }
+
+        return new TrainingData(entries.toArray(new DataEntry[entries.size()]));
+    }
+
+    /**
+     * Tests that all optimizers find the minimum of a quadratic function.
+     */
+    @Test
+    public void testQuadratic() {
+
+        Optimizer[] optimizers = {
+            new MomentumOptimizer(0.02d, 0.9d), new AdamOptimizer(0.1d, 0.9d, 0.999d, 1e-8d), new LbfgsOptimizer()
+        };
+
+        for (Optimizer optimizer : optimizers) {
+
+            double value = minimize(optimizer, QUADRATIC, new double[5], 500);
+
+            assertEquals(optimizer.getClass().getSimpleName(), 0.0d, value, 1e-6d);
+        }
+    }
+
+    /**
+     * Tests that L-BFGS finds the minimum of the Rosenbrock function within a few dozen steps.
+     */
+    @Test
+    public void testLbfgsRosenbrock() {
+
+        double[] parameters = { -1.2d, 1.0d };
+        double value = minimize(new LbfgsOptimizer(), ROSENBROCK, parameters, 60);
+
+        assertEquals("value", 0.0d, value, 1e-8d);
+        assertEquals("x", 1.0d, parameters[0], 1e-4d);
+        assertEquals("y", 1.0d, parameters[1], 1e-4d);
+    }
+
+    /**
+     * Tests that a step returns the value before the parameters were adjusted.
+     */
+    @Test
+    public void testReturnedValue() {
+
+        Optimizer[] optimizers = { new MomentumOptimizer(), new AdamOptimizer(), new LbfgsOptimizer() };
+
+        for (Optimizer optimizer : optimizers) {
+
+            double[] parameters = new double[3];
+            double expected = QUADRATIC.evaluate(parameters, new double[3]);
+
+            OptimizerState state = optimizer.createState(parameters.length);
+            double actual = optimizer.step(QUADRATIC, parameters, state);
+
+            assertEquals(optimizer.getClass().getSimpleName(), expected, actual, 0.0d);
+        }
+    }
+
+    /**
+     * Tests that a cleared state behaves like a new state.
+     */
+    @Test
+    public void testClearedState() {
+
+        AdamOptimizer optimizer = new AdamOptimizer();
+        OptimizerState state = optimizer.createState(4);
+
+        double[] first = new double[4];
+        for (int step = 0; step < 10; step++) {
+
+            optimizer.step(QUADRATIC, first, state);
+        }
+
+        state.clear();
+
+        double[] second = new double[4];
+        double[] third = new double[4];
+        OptimizerState newState = optimizer.createState(4);
+
+        for (int step = 0; step < 10; step++) {
+
+            optimizer.step(QUADRATIC, second, state);
+            optimizer.step(QUADRATIC, third, newState);
+        }
+
+        for (int index = 0; index < 4; index++) {
+
+            assertEquals("parameter (" + index + ")", third[index], second[index], 0.0d);
+        }
+    }
+
+    /**
+     * Tests a state which doesn't match the parameters.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testMismatchedState() {
+
+        MomentumOptimizer optimizer = new MomentumOptimizer();
+
+        optimizer.step(QUADRATIC, new double[3], optimizer.createState(4));
+    }
+
+    /**
+     * Tests that the gradient trainer reduces the error of a network with every optimizer.
+     */
+    @Test
+    public void testGradientTrainer() {
+
+        FlatNetworkImpl network = newNetwork();
+        TrainingData trainingData = linearTrainingData(0.5d, 0.25d);
+
+        double initialError = TrainingHelper.meanSquaredError(network, trainingData).toPrimitiveDouble();
+
+        Optimizer[] optimizers = { new MomentumOptimizer(), new AdamOptimizer(), new LbfgsOptimizer() };
+
+        for (Optimizer optimizer : optimizers) {
+
+            FlatNetworkImpl copy = (FlatNetworkImpl) NetworkHelper.clone(network);
+            GradientTrainer trainer = new GradientTrainer(optimizer);
+
+            double firstError = trainer.trainNetwork(copy, trainingData).toPrimitiveDouble();
+            assertEquals("mean squared error", initialError, firstError, 1e-12d);
+
+            for (int step = 1; step < 200; step++) {
+
+                trainer.trainNetwork(copy, trainingData);
+            }
+
+            double finalError = TrainingHelper.meanSquaredError(copy, trainingData).toPrimitiveDouble();
+            double relativeError = finalError / initialError;
+
+            assertTrue(optimizer.getClass().getSimpleName() + " reduced error (" + relativeError + ")",
+                       relativeError < 0.05d);
+        }
+    }
+
+    /**
+     * Tests that the gradient trainer evaluates the current training data if the training data changes between the
+     * calls.
+     */
+    @Test
+    public void testChangedTrainingData() {
+
+        TrainingData first = linearTrainingData(0.5d, 0.25d);
+        TrainingData second = linearTrainingData(-0.75d, -0.5d);
+
+        Optimizer[] optimizers = { new MomentumOptimizer(), new AdamOptimizer(), new LbfgsOptimizer() };
+
+        for (Optimizer optimizer : optimizers) {
+
+            String name = optimizer.getClass().getSimpleName();
+
+            FlatNetworkImpl network = newNetwork();
+            GradientTrainer trainer = new GradientTrainer(optimizer);
+
+            for (int step = 0; step < 5; step++) {
+
+                TrainingData trainingData = ((step % 2) == 0) ? first : second;
+
+                double expectedError = TrainingHelper.meanSquaredError(network, trainingData).toPrimitiveDouble();
+                double actualError = trainer.trainNetwork(network, trainingData).toPrimitiveDouble();
+
+                assertEquals(name + " mean squared error (step " + step + ")", expectedError, actualError, 1e-12d);
+            }
+
+            double errorBefore = TrainingHelper.meanSquaredError(network, second).toPrimitiveDouble();
+            for (int step = 0; step < 20; step++) {
+
+                trainer.trainNetwork(network, second);
+            }
+
+            double errorAfter = TrainingHelper.meanSquaredError(network, second).toPrimitiveDouble();
+            assertTrue(name + " reduced error (" + errorBefore + " -> " + errorAfter + ")", errorAfter < errorBefore);
+        }
+    }
+
+}
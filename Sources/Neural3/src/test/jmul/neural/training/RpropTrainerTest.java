@@ -0,0 +1,224 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.neural.training;
+
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jmul.backends.NumericBackends;
+
+import jmul.data.DataEntry;
+import jmul.data.TrainingData;
+
+import jmul.functions.Function;
+import jmul.functions.FunctionHelper;
+
+import jmul.math.numbers.Number;
+
+import jmul.neural.NumberConversionHelper;
+import jmul.neural.neurons.FlatNetworkImpl;
+import jmul.neural.neurons.NetworkHelper;
+import jmul.neural.neurons.Neuron;
+import jmul.neural.training.RpropTrainer;
+import jmul.neural.training.RpropVariant;
+import jmul.neural.training.RpropVariants;
+import jmul.neural.training.TrainingHelper;
+
+import jmul.test.classification.UnitTest;
+
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * This test suite tests the resilient propagation trainer.
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+public class RpropTrainerTest {
+
+    /**
+     * A network of neurons.
+     */
+    private FlatNetworkImpl network;
+
+    /**
+     * A set of training data.
+     */
+    private TrainingData trainingData;
+
+    /**
+     * Prepares the test setup (i.e. a network with hyperbolic tangents and training data for the function
+     * f(x) = 0.5 * x + 0.25).
+     */
+    @Before
+    public void setUp() {
+
+        network = new FlatNetworkImpl(1, 4, 4, 1);
+
+        Function activationFunction = FunctionHelper.createHyperbolicTangentFunction();
+
+        for (Neuron neuron : network.neurons()) {
+
+            NetworkHelper.setActivationFunction(neuron, activationFunction);
+        }
+
+        List<DataEntry> entries = new ArrayList<>();
+        for (int index = 0; index <= 20; index++) {
+
+            double input = index / 10.0d - 1.0d;
+            entries.add(new DataEntry(NumberConversionHelper.toNumber(input),
+                                      NumberConversionHelper.toNumber(0.5d * input + 0.25d)));
+        }
+
+        trainingData = new TrainingData(entries.toArray(new DataEntry[entries.size()]));
+    }
+
+    /**
+     * Cleans up the test setup.
+     */
+    @After
+    public void tearDown() {
+
+        network = null;
+        trainingData = null;
+    }
+
+    /**
+     * Trains a copy of the network with the specified variant and returns the error relative to the initial error.
+     *
+     * @param variant
+     *        a variant
+     *
+     * @return the final error divided by the initial error
+     */
+    private double relativeError(RpropVariant variant) {
+
+        FlatNetworkImpl copy = (FlatNetworkImpl) NetworkHelper.clone(network);
+        RpropTrainer trainer = new RpropTrainer(variant);
+
+        double initialError = TrainingHelper.meanSquaredError(copy, trainingData).toPrimitiveDouble();
+
+        for (int epoch = 0; epoch < 200; epoch++) {
+
+            trainer.trainNetwork(copy, trainingData);
+        }
+
+        double finalError = TrainingHelper.meanSquaredError(copy, trainingData).toPrimitiveDouble();
+
+        return finalError / initialError;
+    }
+
+    /**
+     * Tests that the trainer returns the mean squared error before the adjustment.
+     */
+    @Test
+    public void testReturnedError() {
+
+        RpropTrainer trainer = new RpropTrainer();
+
+        Number initialError = TrainingHelper.meanSquaredError(network, trainingData);
+        Number firstError = trainer.trainNetwork(network, trainingData);
+
+        assertEquals("mean squared error", initialError.toPrimitiveDouble(), firstError.toPrimitiveDouble(),
+                     1e-12d);
+    }
+
+    /**
+     * Tests that all variants reduce the error significantly within a few hundred epochs.
+     */
+    @Test
+    public void testVariants() {
+
+        for (RpropVariants variant : RpropVariants.values()) {
+
+            double relativeError = relativeError(variant);
+
+            assertTrue(variant + " reduced error (" + relativeError + ")", relativeError < 0.05d);
+        }
+    }
+
+    /**
+     * Tests that a reset trainer behaves like a new trainer.
+     */
+    @Test
+    public void testReset() {
+
+        FlatNetworkImpl first = (FlatNetworkImpl) NetworkHelper.clone(network);
+        FlatNetworkImpl second = (FlatNetworkImpl) NetworkHelper.clone(network);
+
+        RpropTrainer trainer = new RpropTrainer();
+
+        for (int epoch = 0; epoch < 10; epoch++) {
+
+            trainer.trainNetwork(first, trainingData);
+        }
+
+        trainer.reset();
+        RpropTrainer newTrainer = new RpropTrainer();
+
+        for (int epoch = 0; epoch < 10; epoch++) {
+
+            trainer.trainNetwork(network, trainingData);
+            newTrainer.trainNetwork(second, trainingData);
+        }
+
+        assertEquals("mean squared error", TrainingHelper.meanSquaredError(second, trainingData).toPrimitiveDouble(),
+                     TrainingHelper.meanSquaredError(network, trainingData).toPrimitiveDouble(), 0.0d);
+    }
+
+    /**
+     * Tests the construction of a trainer with invalid step sizes.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidStepSizes() {
+
+        new RpropTrainer(NumericBackends.DOUBLE, RpropVariants.IRPROP_PLUS, 0.1d, 1.0d, 0.5d);
+    }
+
+    /**
+     * Tests the construction of a trainer without variant.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullVariant() {
+
+        new RpropTrainer(null);
+    }
+
+}
@@ -0,0 +1,273 @@
+/*
+ * SPDX-License-Identifier: GPL-3.0
+ *
+ *
+ * (J)ava (M)iscellaneous (U)tilities (L)ibrary
+ *
+ * JMUL is a central repository for utilities which are used in my
+ * other public and private repositories.
+ *
+ * Copyright (C) 2025  Kristian Kutin
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * e-mail: kristian.kutin@arcor.de
+ */
+
+/*
+ * This section contains meta informations.
+ *
+ * $Id$
+ */
+
+package test.jmul.neural.training;
+
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import jmul.data.DataEntry;
+import jmul.data.TrainingData;
+
+import jmul.math.numbers.Number;
+import static jmul.math.numbers.NumberHelper.createNumber;
+
+import jmul.metainfo.annotations.Modified;
+
+import jmul.neural.GlobalSettings;
+import jmul.neural.NumberConversionHelper;
+import jmul.neural.neurons.FlatNetworkImpl;
+import jmul.neural.neurons.Network;
+import jmul.neural.neurons.NetworkHelper;
+import jmul.neural.neurons.Synapse;
+import jmul.neural.training.MeanSquaredError;
+import jmul.neural.training.NetworkTrainer;
+import jmul.neural.training.StopReasons;
+import jmul.neural.training.TrainingHelper;
+import jmul.neural.training.TrainingLoop;
+import jmul.neural.training.TrainingReport;
+
+import jmul.test.classification.UnitTest;
+
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * This test suite tests the training loop (i.e. stop criteria and keeping the best weights).
+ *
+ * @author Kristian Kutin
+ */
+@UnitTest
+public class TrainingLoopTest {
+
+    /**
+     * The index of the synapse which is modified by the test trainers.
+     */
+    private static final int SYNAPSE_INDEX;
+
+    /*
+     * The static initializer.
+     */
+    static {
+
+        SYNAPSE_INDEX = 1;
+    }
+
+    /**
+     * A network of neurons.
+     */
+    private FlatNetworkImpl network;
+
+    /**
+     * The outputs of the original network (i.e. the error of the original network is 0).
+     */
+    private TrainingData trainingData;
+
+    /**
+     * Creates a number with the default number base.
+     *
+     * @param numberString
+     *        a number string
+     *
+     * @return a number
+     */
+    private static Number number(String numberString) {
+
+        return createNumber(GlobalSettings.DEFAULT_NUMBER_BASE, numberString);
+    }
+
+    /**
+     * Prepares the test setup (i.e. a network and training data which consists of the outputs of the network).
+     */
+    @Before
+    public void setUp() {
+
+        network = new FlatNetworkImpl(1, 3, 3, 1);
+
+        DataEntry[] entries = new DataEntry[2000];
+        for (int index = 0; index < entries.length; index++) {
+
+            double input = index / 1000.0d - 1.0d;
+            double output = network.send(input);
+
+            entries[index] =
+                new DataEntry(NumberConversionHelper.toNumber(input), NumberConversionHelper.toNumber(output));
+        }
+
+        trainingData = new TrainingData(entries);
+    }
+
+    /**
+     * Cleans up the test setup.
+     */
+    @After
+    public void tearDown() {
+
+        network = null;
+        trainingData = null;
+    }
+
+    /**
+     * Returns a trainer which adds the specified value to the weight of a synapse in each epoch.
+     *
+     * @param shift
+     *        a value
+     *
+     * @return a trainer
+     */
+    private static NetworkTrainer shiftingTrainer(Number shift) {
+
+        return (@Modified Network trainedNetwork, TrainingData data) -> {
+
+            Synapse synapse = trainedNetwork.synapses().get(SYNAPSE_INDEX);
+            NetworkHelper.setWeight(synapse, synapse.weight().add(shift));
+
+            return null;
+        };
+    }
+
+    /**
+     * Tests that the training stops as soon as the target error is reached.
+     */
+    @Test
+    public void testTargetError() {
+
+        Synapse synapse = network.synapses().get(SYNAPSE_INDEX);
+        Number weight = synapse.weight();
+        NetworkHelper.setWeight(synapse, weight.add(number("3")));
+
+        TrainingLoop loop =
+            new TrainingLoop(shiftingTrainer(number("-1")), 1e-20d, TrainingLoop.DEFAULT_PATIENCE,
+                             TrainingLoop.DEFAULT_MIN_IMPROVEMENT, TrainingLoop.DEFAULT_MAX_EPOCHS,
+                             TrainingLoop.NO_TIME_BUDGET, TimeUnit.MILLISECONDS, ForkJoinPool.commonPool());
+        TrainingReport report = loop.train(network, trainingData);
+
+        assertEquals("stop reason", StopReasons.TARGET_ERROR_REACHED, report.stopReason());
+        assertEquals("epochs", 3, report.epochs());
+        assertEquals("best epoch", 3, report.bestEpoch());
+        assertEquals("weight", weight, network.synapses().get(SYNAPSE_INDEX).weight());
+        assertTrue("improvement", report.error(0) > report.error(1));
+    }
+
+    /**
+     * Tests that the training stops on a plateau and that the network is reset to the best weights.
+     */
+    @Test
+    public void testPlateauKeepsBestWeights() {
+
+        Number weight = network.synapses().get(SYNAPSE_INDEX).weight();
+
+        TrainingLoop loop =
+            new TrainingLoop(shiftingTrainer(number("1")), -1.0d, 5, TrainingLoop.DEFAULT_MIN_IMPROVEMENT,
+                             TrainingLoop.DEFAULT_MAX_EPOCHS, TrainingLoop.NO_TIME_BUDGET, TimeUnit.MILLISECONDS,
+                             ForkJoinPool.commonPool());
+        Number error = loop.trainNetwork(network, trainingData);
+
+        TrainingReport report = loop.lastReport();
+
+        assertEquals("stop reason", StopReasons.PLATEAU_REACHED, report.stopReason());
+        assertEquals("epochs", 5, report.epochs());
+        assertEquals("best epoch", 0, report.bestEpoch());
+        assertEquals("error", 0.0d, error.toPrimitiveDouble(), 0.0d);
+        assertEquals("weight", weight, network.synapses().get(SYNAPSE_INDEX).weight());
+    }
+
+    /**
+     * Tests that the training stops when the time budget is exhausted.
+     */
+    @Test
+    public void testTimeBudget() {
+
+        NetworkTrainer slowTrainer = (@Modified Network trainedNetwork, TrainingData data) -> {
+
+            try {
+
+                Thread.sleep(20L);
+
+            } catch (InterruptedException e) {
+
+                Thread.currentThread().interrupt();
+            }
+
+            return null;
+        };
+
+        TrainingLoop loop =
+            new TrainingLoop(slowTrainer, -1.0d, Integer.MAX_VALUE, TrainingLoop.DEFAULT_MIN_IMPROVEMENT,
+                             Integer.MAX_VALUE, 100L, TimeUnit.MILLISECONDS, ForkJoinPool.commonPool());
+        TrainingReport report = loop.train(network, trainingData);
+
+        assertEquals("stop reason", StopReasons.TIME_BUDGET_EXHAUSTED, report.stopReason());
+        assertTrue("epochs", report.epochs() >= 1);
+        assertTrue("duration", report.duration() >= 100L);
+    }
+
+    /**
+     * Tests that the training stops after the maximum number of epochs.
+     */
+    @Test
+    public void testMaxEpochs() {
+
+        TrainingLoop loop =
+            new TrainingLoop(shiftingTrainer(number("1")), -1.0d, Integer.MAX_VALUE, 0.0d, 3,
+                             TrainingLoop.NO_TIME_BUDGET, TimeUnit.MILLISECONDS, ForkJoinPool.commonPool());
+        TrainingReport report = loop.train(network, trainingData);
+
+        assertEquals("stop reason", StopReasons.MAX_EPOCHS_REACHED, report.stopReason());
+        assertEquals("epochs", 3, report.epochs());
+    }
+
+    /**
+     * Tests that the mean squared error doesn't depend on the number of threads.
+     */
+    @Test
+    public void testParallelError() {
+
+        NetworkHelper.setWeight(network.synapses().get(SYNAPSE_INDEX), number("0.5"));
+
+        MeanSquaredError errorFunction = new MeanSquaredError(trainingData);
+
+        double sequentialError = errorFunction.evaluate(network);
+        double parallelError = errorFunction.evaluate(network, new ForkJoinPool(4));
+        double batchError = TrainingHelper.meanSquaredError(network, trainingData).toPrimitiveDouble();
+
+        assertEquals("parallel error", sequentialError, parallelError, 0.0d);
+        assertEquals("batch error", sequentialError, batchError, 0.0d);
+    }
+
+}